@@ -20,12 +20,19 @@ repositories {
     mavenCentral()
 }
 
+// the annotation processor that writes META-INF/force/components.idx, compiled before the main sources
+sourceSets {
+    create("processor")
+}
+
 dependencies {
     implementation("io.jsonwebtoken:jjwt:0.9.1")
     implementation("javax.xml.bind:jaxb-api:2.3.1")
     implementation("org.postgresql:postgresql:42.7.2")
     implementation("com.mysql:mysql-connector-j:9.0.0")
     implementation("com.fasterxml.jackson.core:jackson-databind:2.15.2")
+    annotationProcessor(sourceSets["processor"].output)
+    testImplementation(sourceSets["processor"].output)
 
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.8.1")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
@@ -1,6 +1,7 @@
 package br.com.schumaker.force.app.model;
 
 import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.EntityCache;
 import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
 import br.com.schumaker.force.framework.ioc.annotations.db.Table;
 
@@ -13,11 +14,13 @@ import java.math.BigInteger;
  * @see Pk
  * @see Table
  * @see Column
+ * @see EntityCache
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 @Table
+@EntityCache(ttl = 300, maxEntries = 10000)
 public class Product {
 
     @Pk("id")
@@ -1,9 +1,6 @@
 package br.com.schumaker.force.app.service;
 
 import br.com.schumaker.force.app.model.Product;
-import br.com.schumaker.force.app.model.db.ProductRepository;
-import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
-import br.com.schumaker.force.framework.model.PatchHelper;
 import br.com.schumaker.force.framework.web.view.Page;
 
 import java.math.BigInteger;
@@ -11,73 +8,31 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * The ProductService class.
- * It is responsible for controlling the product operations.
+ * The ProductService interface.
+ * It is responsible for defining the product operations.
  *
- * @see Service
+ * @see ProductServiceImpl
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
-@Service
-public class ProductService {
+public interface ProductService {
 
-    private final ProductRepository productRepository;
+    Long count();
 
-    public ProductService(ProductRepository productRepository) {
-        this.productRepository = productRepository;
-    }
+    Product getById(BigInteger id);
 
-    public Long count() {
-        return productRepository.count();
-    }
+    Product getByName(String name);
 
-    public Product getById(BigInteger id) {
-        return productRepository.findById(id).orElse(null);
-    }
+    List<Product> getByPrice(Double price);
 
-    public Product getByName(String name) {
-        return productRepository.findByName(name).orElse(null);
-    }
+    Page<Product> list();
 
-    public List<Product> getByPrice(Double price) {
-        return productRepository.findByPriceGreaterThan(price);
-    }
+    BigInteger save(Product product);
 
-    public Page<Product> list() {
-        return productRepository.findAll();
-    }
+    Product update(BigInteger id, Product newProduct);
 
-    public BigInteger save(Product product) {
-       return productRepository.save(product).orElse(null);
-    }
+    Product patch(BigInteger id, Map<String, Object> patch);
 
-    public Product update(BigInteger id, Product newProduct) {
-        var oldProduct = productRepository.findById(id).orElse(null);
-        if (oldProduct == null) {
-            return null;
-        }
-
-        oldProduct.setName(newProduct.getName());
-        oldProduct.setDescription(newProduct.getDescription());
-        oldProduct.setPrice(newProduct.getPrice());
-
-        productRepository.update(oldProduct);
-        return productRepository.findById(id).orElse(null);
-    }
-
-    public Product patch(BigInteger id, Map<String, Object> patch) {
-        var oldProduct = productRepository.findById(id).orElse(null);
-        if (oldProduct == null) {
-            return null;
-        }
-
-        PatchHelper.applyPatch(oldProduct, patch);
-        productRepository.update(oldProduct);
-        return productRepository.findById(id).orElse(null);
-    }
-
-    public void delete(Product product) {
-        productRepository.delete(product);
-    }
+    void delete(Product product);
 }
@@ -0,0 +1,97 @@
+package br.com.schumaker.force.app.service;
+
+import br.com.schumaker.force.app.model.Product;
+import br.com.schumaker.force.app.model.db.ProductRepository;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.ioc.annotations.db.Transactional;
+import br.com.schumaker.force.framework.model.PatchHelper;
+import br.com.schumaker.force.framework.web.view.Page;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ProductServiceImpl class.
+ * It is responsible for controlling the product operations.
+ * The read-modify-write operations run in a transaction, on one connection.
+ *
+ * @see Service
+ * @see Transactional
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+@Service
+public class ProductServiceImpl implements ProductService {
+
+    private final ProductRepository productRepository;
+
+    public ProductServiceImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public Long count() {
+        return productRepository.count();
+    }
+
+    @Override
+    public Product getById(BigInteger id) {
+        return productRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public Product getByName(String name) {
+        return productRepository.findByName(name).orElse(null);
+    }
+
+    @Override
+    public List<Product> getByPrice(Double price) {
+        return productRepository.findByPriceGreaterThan(price);
+    }
+
+    @Override
+    public Page<Product> list() {
+        return productRepository.findAll();
+    }
+
+    @Override
+    public BigInteger save(Product product) {
+       return productRepository.save(product).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public Product update(BigInteger id, Product newProduct) {
+        var oldProduct = productRepository.findById(id).orElse(null);
+        if (oldProduct == null) {
+            return null;
+        }
+
+        oldProduct.setName(newProduct.getName());
+        oldProduct.setDescription(newProduct.getDescription());
+        oldProduct.setPrice(newProduct.getPrice());
+
+        productRepository.update(oldProduct);
+        return productRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public Product patch(BigInteger id, Map<String, Object> patch) {
+        var oldProduct = productRepository.findById(id).orElse(null);
+        if (oldProduct == null) {
+            return null;
+        }
+
+        PatchHelper.applyPatch(oldProduct, patch);
+        productRepository.update(oldProduct);
+        return productRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public void delete(Product product) {
+        productRepository.delete(product);
+    }
+}
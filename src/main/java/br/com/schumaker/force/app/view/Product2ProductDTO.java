@@ -27,7 +27,7 @@ import java.util.stream.Collectors;
  * @see ModelViewMapper
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 @Component
 public class Product2ProductDTO implements ModelViewMapper<Product, ProductDTO> {
@@ -49,7 +49,9 @@ public class Product2ProductDTO implements ModelViewMapper<Product, ProductDTO>
                 content,
                 productPage.getPageNumber(),
                 productPage.getPageSize(),
-                productPage.getTotalElements()
+                productPage.getTotalElements(),
+                productPage.hasNext(),
+                productPage.getNextCursor()
         );
     }
 }
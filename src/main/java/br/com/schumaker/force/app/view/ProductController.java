@@ -3,6 +3,8 @@ package br.com.schumaker.force.app.view;
 import br.com.schumaker.force.app.model.Product;
 import br.com.schumaker.force.app.service.ProductService;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Value;
+import br.com.schumaker.force.framework.ioc.annotations.controller.CacheEvict;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Cacheable;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Delete;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Get;
@@ -15,7 +17,6 @@ import br.com.schumaker.force.framework.ioc.annotations.controller.QueryParam;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Secured;
 import br.com.schumaker.force.framework.ioc.annotations.validations.Validate;
 import br.com.schumaker.force.framework.model.Mapper;
-import br.com.schumaker.force.framework.web.http.HttpRequestHeader;
 import br.com.schumaker.force.framework.web.view.Page;
 import br.com.schumaker.force.framework.web.view.ResponseView;
 
@@ -36,9 +37,11 @@ import java.util.Map;
  * @see Payload
  * @see Validate
  * @see PathVariable
+ * @see Cacheable
+ * @see CacheEvict
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.3.0
  */
 @Controller("/product")
 public class ProductController {
@@ -54,21 +57,23 @@ public class ProductController {
     }
 
     @Get
-    public ResponseView<Page<ProductDTO>> list(HttpRequestHeader headers) {
+    @Cacheable(ttl = 30)
+    public ResponseView<Page<ProductDTO>> list() {
         var productPage = service.list();
         var productDTOPage = mapper.from(productPage);
 
-        System.out.println(headers.headers().get("User-agent"));
         return ResponseView.ok().body(productDTOPage).headers("info", name).build();
     }
 
     @Get("/count")
+    @Cacheable(ttl = 30)
     public ResponseView<Long> count() {
         var count = service.count();
         return ResponseView.ok().body(count).build();
     }
 
     @Get("/{id}")
+    @Cacheable(ttl = 30)
     public ResponseView<ProductView> getById(@PathVariable("id") int key) {
         var product = service.getById(BigInteger.valueOf(key));
         if (product == null) {
@@ -121,6 +126,7 @@ public class ProductController {
     }
 
     @Post
+    @CacheEvict
     public ResponseView<ProductView> create(@Payload @Validate ProductDTO dto) {
         Mapper<ProductDTO, Product> mapper = new Mapper<>();
         var product = mapper.map(dto, Product.class);
@@ -136,6 +142,7 @@ public class ProductController {
     }
 
     @Put("/{id}")
+    @CacheEvict
     public ResponseView<ProductView> update(@PathVariable("id") int id, @Payload @Validate ProductDTO dto) {
         Mapper<ProductDTO, Product> mapper = new Mapper<>();
         var product = mapper.map(dto, Product.class);
@@ -155,6 +162,7 @@ public class ProductController {
     }
 
     @Patch("/{id}")
+    @CacheEvict
     public ResponseView<ProductView> patch(@PathVariable("id") BigInteger id, @Payload Map<String, Object> patch) throws IOException {
         var patched = service.patch(id, patch);
 
@@ -168,6 +176,7 @@ public class ProductController {
     }
 
     @Delete("/{id}")
+    @CacheEvict
     @Secured
     public ResponseView<Void> delete(@PathVariable("id") int id) {
         var product = service.getById(BigInteger.valueOf(id));
@@ -0,0 +1,228 @@
+package br.com.schumaker.force.framework.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The BoundedCache class is an in-memory cache with a maximum number of entries and a time to live.
+ * When the cache is full the least recently used entry is evicted; an entry older than the time to live
+ * is dropped the next time it is read. Hits, misses and evictions are counted for the health endpoint.
+ * A value loaded while its key is invalidated must not be cached: the loader takes a stamp of the key before
+ * the load and puts the value with putIfUnchanged, which drops it if the key was invalidated since the stamp.
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * BoundedCache<String, String> cache = new BoundedCache<>("products", 1000, 60_000);
+ * cache.put("/product/1", "{\"id\":1}");
+ * cache.get("/product/1");  // "{\"id\":1}"
+ *
+ * long stamp = cache.stamp("/product/2");
+ * String body = load("/product/2");
+ * cache.putIfUnchanged("/product/2", body, stamp);  // false if "/product/2" was invalidated meanwhile
+ * }
+ * </pre>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ *
+ * @see CacheRegistry
+ * @see CacheStats
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public final class BoundedCache<K, V> {
+    private static final int STRIPES = 64;
+    private final String name;
+    private final int maxEntries;
+    private final long ttl;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Map<K, Entry<V>> entries;
+    // the invalidations of the keys of each stripe, a key is invalidated when its stripe changes
+    private final long[] generations = new long[STRIPES];
+
+    /**
+     * Constructs a new BoundedCache.
+     *
+     * @param name the cache name, as shown in the statistics.
+     * @param maxEntries the maximum number of entries.
+     * @param ttlMillis the time to live of each entry, in milliseconds.
+     */
+    public BoundedCache(String name, int maxEntries, long ttlMillis) {
+        this(name, maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    BoundedCache(String name, int maxEntries, long ttlMillis, LongSupplier clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero.");
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the value cached for the specified key.
+     *
+     * @param key the key.
+     * @return the value, or null if it is absent or expired.
+     */
+    public V get(K key) {
+        lock.lock();
+        try {
+            var entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (clock.getAsLong() - entry.createdAt >= ttl) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a value, evicting the least recently used entry if the cache is full.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, clock.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a stamp of a key, before its value is loaded.
+     *
+     * @param key the key.
+     * @return the stamp, to be given to putIfUnchanged.
+     */
+    public long stamp(K key) {
+        lock.lock();
+        try {
+            return generations[stripe(key)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a value loaded after the stamp was taken, unless the key was invalidated since; an invalidation of
+     * another key of the same stripe drops the value too, which only costs a miss.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @param stamp the stamp of the key taken before the value was loaded.
+     * @return true if the value was cached.
+     */
+    public boolean putIfUnchanged(K key, V value, long stamp) {
+        lock.lock();
+        try {
+            if (generations[stripe(key)] != stamp) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, clock.getAsLong()));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value cached for the specified key.
+     *
+     * @param key the key.
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+            generations[stripe(key)]++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            for (int i = 0; i < STRIPES; i++) {
+                generations[i]++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves a snapshot of the cache counters.
+     *
+     * @return the cache statistics.
+     */
+    public CacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long reads = hitCount + missCount;
+        return new CacheStats(name, size(), maxEntries, hitCount, missCount, evictions.sum(),
+                reads == 0 ? 0 : (double) hitCount / reads);
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private record Entry<V>(V value, long createdAt) {}
+}
@@ -0,0 +1,81 @@
+package br.com.schumaker.force.framework.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The CacheRegistry class keeps every BoundedCache created by the framework.
+ * Caches are grouped, e.g. by controller, so a group can be evicted as a whole or cache by cache.
+ *
+ * @see BoundedCache
+ * @see CacheStats
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class CacheRegistry {
+    private static final CacheRegistry INSTANCE = new CacheRegistry();
+    private final Map<String, Map<String, BoundedCache<?, ?>>> groups = new ConcurrentHashMap<>();
+
+    private CacheRegistry() {}
+
+    public static CacheRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the cache registered under the specified group and key, creating it if absent.
+     *
+     * @param group the cache group.
+     * @param key the cache key within the group.
+     * @param name the cache name, as shown in the statistics.
+     * @param maxEntries the maximum number of entries.
+     * @param ttlMillis the time to live of each entry, in milliseconds.
+     * @return the cache.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> BoundedCache<K, V> getOrCreate(String group, String key, String name, int maxEntries, long ttlMillis) {
+        return (BoundedCache<K, V>) groups.computeIfAbsent(group, it -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, it -> new BoundedCache<>(name, maxEntries, ttlMillis));
+    }
+
+    /**
+     * Clears the caches of a group.
+     *
+     * @param group the cache group.
+     * @param keys the keys of the caches to clear, every cache of the group if empty.
+     */
+    public void evict(String group, String... keys) {
+        var caches = groups.get(group);
+        if (caches == null) {
+            return;
+        }
+
+        if (keys.length == 0) {
+            caches.values().forEach(BoundedCache::clear);
+            return;
+        }
+
+        for (var key : keys) {
+            var cache = caches.get(key);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the statistics of every registered cache.
+     *
+     * @return the cache statistics.
+     */
+    public List<CacheStats> getStats() {
+        var stats = new ArrayList<CacheStats>();
+        groups.values().forEach(caches -> caches.values().forEach(cache -> stats.add(cache.getStats())));
+        return stats;
+    }
+}
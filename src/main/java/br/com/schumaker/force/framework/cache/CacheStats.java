@@ -0,0 +1,14 @@
+package br.com.schumaker.force.framework.cache;
+
+/**
+ * Snapshot of the counters of a BoundedCache.
+ * The hit ratio is the share of the reads served by the cache, 0 before the first read.
+ *
+ * @see BoundedCache
+ * @see CacheRegistry
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public record CacheStats(String name, int size, int maxEntries, long hits, long misses, long evictions,
+                         double hitRatio) {}
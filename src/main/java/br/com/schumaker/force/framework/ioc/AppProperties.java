@@ -6,7 +6,7 @@ package br.com.schumaker.force.framework.ioc;
  * The class is designed to be used as a centralized place for accessing application properties.
  *
  * @author Hudson Schumaker
- * @version 1.1.0
+ * @version 1.13.0
  */
 public class AppProperties {
     // Framework properties
@@ -25,6 +25,23 @@ public class AppProperties {
     public static final String DB_USER = "force.db.user";
     public static final String DB_PASSWORD = "force.db.password";
     public static final String DB_MAX_POOL_SIZE = "force.db.max.pool.size";
+    public static final String DB_MIN_IDLE = "force.db.min.idle";
+    public static final String DB_CONNECTION_TIMEOUT = "force.db.connection.timeout";
+    public static final String DB_IDLE_TIMEOUT = "force.db.idle.timeout";
+    public static final String DB_MAX_LIFETIME = "force.db.max.lifetime";
+    public static final String DB_KEEPALIVE_TIME = "force.db.keepalive.time";
+    public static final String DB_VALIDATION_TIMEOUT = "force.db.validation.timeout";
+    public static final String DB_LEAK_DETECTION_THRESHOLD = "force.db.leak.detection.threshold";
+    public static final String DB_STATEMENT_CACHE_SIZE = "force.db.statement.cache.size";
+    public static final String DB_SHOW_SQL = "force.db.show.sql";
+    public static final String DB_BATCH_SIZE = "force.db.batch.size";
+    public static final String DB_REPLICA_URLS = "force.db.replica.urls";
+    public static final String DB_REPLICA_USER = "force.db.replica.user";
+    public static final String DB_REPLICA_PASSWORD = "force.db.replica.password";
+    public static final String DB_REPLICA_BALANCING = "force.db.replica.balancing";
+
+    // IoC properties
+    public static final String IOC_LAZY = "force.ioc.lazy";
 
     // JWT properties
     public static final String JWT_SECRET = "force.jwt.secret";
@@ -33,6 +50,23 @@ public class AppProperties {
     // Server properties
     protected static final String SERVER_PORT = "force.server.port";
     protected static final String SERVER_CONTEXT = "force.server.context";
+    protected static final String SERVER_EXECUTOR = "force.server.executor";
+    protected static final String SERVER_THREADS = "force.server.threads";
+    protected static final String SERVER_MAX_CONCURRENCY = "force.server.max.concurrency";
+    protected static final String SERVER_QUEUE_TIMEOUT = "force.server.queue.timeout";
+    protected static final String SERVER_ENGINE = "force.server.engine";
+    protected static final String SERVER_BACKLOG = "force.server.backlog";
+    protected static final String SERVER_TCP_NODELAY = "force.server.tcp.nodelay";
+    protected static final String SERVER_RESPONSE_THRESHOLD = "force.server.response.threshold";
+    protected static final String SERVER_MAX_BODY_SIZE = "force.server.max.body.size";
+    protected static final String SERVER_COMPRESSION = "force.server.compression";
+    protected static final String SERVER_COMPRESSION_MIN_SIZE = "force.server.compression.min.size";
+    protected static final String SERVER_COMPRESSION_TYPES = "force.server.compression.types";
+    protected static final String SERVER_CORS_ORIGINS = "force.server.cors.origins";
+    protected static final String SERVER_CORS_METHODS = "force.server.cors.methods";
+    protected static final String SERVER_CORS_HEADERS = "force.server.cors.headers";
+    protected static final String SERVER_CORS_MAX_AGE = "force.server.cors.max.age";
+    protected static final String SERVER_HEADER_PREFIX = "force.server.header.";
 
     private AppProperties() {}
 }
@@ -0,0 +1,201 @@
+package br.com.schumaker.force.framework.ioc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Bean;
+import br.com.schumaker.force.framework.ioc.managed.ManagedService;
+import br.com.schumaker.force.framework.ioc.reflection.ClassReflection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * The BeanGraph class is the dependency graph of the managed classes.
+ * Its edges come from the constructor parameters and the @Inject fields of each class, resolved to the class
+ * that provides them: a component or a repository provides its own type, a service its type and its interfaces,
+ * and a configuration the types of its @Bean methods. An interface implemented by two services is ambiguous and
+ * is rejected before anything is instantiated. Types provided by no managed class are not edges: such a
+ * constructor parameter fails with a ForceException when the class is instantiated, and such an @Inject field
+ * is left unset.
+ * The classes are instantiated in topological order, each one as soon as its dependencies are, in parallel, so
+ * every managed type has one instance. A cycle is rejected before anything is instantiated.
+ *
+ * @see IoCContainer
+ * @see ClassReflection
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public final class BeanGraph {
+
+    /**
+     * The stereotype of a managed class, which tells how it is registered.
+     */
+    public enum Kind {
+        GLOBAL_EXCEPTION_HANDLER, CONFIGURATION, COMPONENT, REPOSITORY, SERVICE, FILTER, CONTROLLER
+    }
+
+    /**
+     * Instantiates and registers a managed class.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        void create(Kind kind, Class<?> clazz);
+    }
+
+    private final Map<Class<?>, Kind> nodes = new LinkedHashMap<>();
+
+    /**
+     * Adds managed classes to the graph, a class already in the graph keeps its kind.
+     *
+     * @param kind the stereotype of the classes.
+     * @param classes the classes.
+     * @return this graph.
+     */
+    public BeanGraph add(Kind kind, List<Class<?>> classes) {
+        classes.forEach(it -> nodes.putIfAbsent(it, kind));
+        return this;
+    }
+
+    /**
+     * Sorts the classes so each one comes after its dependencies.
+     *
+     * @return the classes in topological order.
+     * @throws ForceException if the dependencies have a cycle.
+     */
+    public List<Class<?>> sort() {
+        return sort(dependencies());
+    }
+
+    /**
+     * Instantiates the classes in topological order: a class is created once all its dependencies are, and the
+     * classes that do not depend on each other are created in parallel.
+     *
+     * @param executor the executor of the instantiations, e.g. a ForkJoinPool.
+     * @param factory the factory of the managed classes.
+     * @throws ForceException if the dependencies have a cycle, or rethrows the first failure of the factory.
+     */
+    public void instantiate(Executor executor, Factory factory) {
+        var dependencies = dependencies();
+        Map<Class<?>, CompletableFuture<Void>> created = new HashMap<>();
+        for (var clazz : sort(dependencies)) {
+            var ready = dependencies.get(clazz).stream().map(created::get).toArray(CompletableFuture[]::new);
+            created.put(clazz, CompletableFuture.allOf(ready)
+                    .thenRunAsync(() -> factory.create(nodes.get(clazz), clazz), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(created.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ForceException(ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+
+    /**
+     * Resolves the managed classes each class depends on.
+     *
+     * @return the dependencies of each class, in the order they were added.
+     * @throws ForceException if an interface is implemented by two services.
+     */
+    Map<Class<?>, Set<Class<?>>> dependencies() {
+        Map<String, Class<?>> providers = new HashMap<>();
+        nodes.forEach((clazz, kind) -> provides(clazz, kind).forEach(type -> {
+            var provider = providers.putIfAbsent(type, clazz);
+            if (provider != null && kind == Kind.SERVICE && nodes.get(provider) == Kind.SERVICE) {
+                throw new ForceException("Ambiguous injection of " + type + ", it is implemented by "
+                        + provider.getName() + " and " + clazz.getName() + ".");
+            }
+        }));
+
+        var reflection = ClassReflection.getInstance();
+        Map<Class<?>, Set<Class<?>>> dependencies = new LinkedHashMap<>();
+        nodes.forEach((clazz, kind) -> dependencies.put(clazz, kind == Kind.REPOSITORY
+                ? Set.of()
+                : reflection.getDependencies(clazz).stream()
+                        .map(it -> providers.get(it.getName()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(LinkedHashSet::new))));
+        return dependencies;
+    }
+
+    /**
+     * The names of the types a managed class can be injected as, like the IoCContainer registers them.
+     */
+    private static List<String> provides(Class<?> clazz, Kind kind) {
+        return switch (kind) {
+            case COMPONENT, REPOSITORY -> List.of(clazz.getName());
+            case SERVICE -> {
+                List<String> types = new ArrayList<>(List.of(clazz.getName()));
+                ManagedService.getInterfaces(clazz).stream().map(Class::getName).forEach(types::add);
+                yield types;
+            }
+            case CONFIGURATION -> Arrays.stream(clazz.getDeclaredMethods())
+                    .filter(it -> it.isAnnotationPresent(Bean.class))
+                    .map(it -> it.getReturnType().getName())
+                    .toList();
+            default -> List.of();
+        };
+    }
+
+    private List<Class<?>> sort(Map<Class<?>, Set<Class<?>>> dependencies) {
+        Map<Class<?>, Integer> pending = new LinkedHashMap<>();
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        dependencies.forEach((clazz, required) -> {
+            pending.put(clazz, required.size());
+            required.forEach(it -> dependents.computeIfAbsent(it, key -> new ArrayList<>()).add(clazz));
+        });
+
+        List<Class<?>> sorted = new ArrayList<>();
+        var ready = new ArrayDeque<Class<?>>();
+        pending.forEach((clazz, count) -> {
+            if (count == 0) {
+                ready.add(clazz);
+            }
+        });
+        while (!ready.isEmpty()) {
+            var clazz = ready.poll();
+            sorted.add(clazz);
+            for (var dependent : dependents.getOrDefault(clazz, List.of())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (sorted.size() < nodes.size()) {
+            sorted.forEach(pending::remove);
+            throw new ForceException("Dependency cycle between managed classes: " + cycle(pending.keySet(), dependencies));
+        }
+        return sorted;
+    }
+
+    /**
+     * Finds a cycle among the classes left by the sort, each of which has a dependency left as well.
+     */
+    private static String cycle(Set<Class<?>> left, Map<Class<?>, Set<Class<?>>> dependencies) {
+        List<Class<?>> path = new ArrayList<>();
+        var clazz = left.iterator().next();
+        while (!path.contains(clazz)) {
+            path.add(clazz);
+            clazz = dependencies.get(clazz).stream().filter(left::contains).findFirst().orElseThrow();
+        }
+
+        var cycle = new ArrayList<>(path.subList(path.indexOf(clazz), path.size()));
+        cycle.add(clazz);
+        return cycle.stream().map(Class::getName).collect(Collectors.joining(" -> "));
+    }
+}
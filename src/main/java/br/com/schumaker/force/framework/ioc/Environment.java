@@ -1,11 +1,45 @@
 package br.com.schumaker.force.framework.ioc;
 
+import br.com.schumaker.force.framework.hardware.Machine;
+
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_BATCH_SIZE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_CONNECTION_TIMEOUT;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_IDLE_TIMEOUT;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_KEEPALIVE_TIME;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_LEAK_DETECTION_THRESHOLD;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_MAX_LIFETIME;
 import static br.com.schumaker.force.framework.ioc.AppProperties.DB_MAX_POOL_SIZE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_MIN_IDLE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_REPLICA_BALANCING;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_REPLICA_URLS;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_SHOW_SQL;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_STATEMENT_CACHE_SIZE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.DB_VALIDATION_TIMEOUT;
 import static br.com.schumaker.force.framework.ioc.AppProperties.DEFAULT_VALUE_NAME;
+import static br.com.schumaker.force.framework.ioc.AppProperties.IOC_LAZY;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_BACKLOG;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_COMPRESSION;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_COMPRESSION_MIN_SIZE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_COMPRESSION_TYPES;
 import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_CONTEXT;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_CORS_HEADERS;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_CORS_MAX_AGE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_CORS_METHODS;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_CORS_ORIGINS;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_ENGINE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_EXECUTOR;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_HEADER_PREFIX;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_MAX_BODY_SIZE;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_MAX_CONCURRENCY;
 import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_PORT;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_QUEUE_TIMEOUT;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_RESPONSE_THRESHOLD;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_TCP_NODELAY;
+import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_THREADS;
 
 /**
  * The Environment class represents the environment configuration within the IoC container.
@@ -14,14 +48,42 @@ import static br.com.schumaker.force.framework.ioc.AppProperties.SERVER_PORT;
  * @see PropertiesReader
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.13.0
  */
 public class Environment {
     private static final String DEFAULT_VALUE_VALUE = "0";
     private static final String SERVER_PORT_DEFAULT = "8080";
     private static final String SERVER_CONTEXT_DEFAULT = "/";
+    private static final String SERVER_EXECUTOR_DEFAULT = "fixed";
+    private static final String SERVER_MAX_CONCURRENCY_DEFAULT = "1000";
+    private static final String SERVER_QUEUE_TIMEOUT_DEFAULT = "1000";
+    private static final String SERVER_ENGINE_DEFAULT = "jdk";
+    private static final String SERVER_BACKLOG_DEFAULT = "4096";
+    private static final String SERVER_TCP_NODELAY_DEFAULT = "true";
+    private static final String SERVER_RESPONSE_THRESHOLD_DEFAULT = "8192";
+    private static final String SERVER_MAX_BODY_SIZE_DEFAULT = "10485760";
+    private static final String SERVER_COMPRESSION_DEFAULT = "true";
+    private static final String SERVER_COMPRESSION_MIN_SIZE_DEFAULT = "1024";
+    private static final String SERVER_COMPRESSION_TYPES_DEFAULT = "application/json,application/xml,text/html,text/plain,text/xml,text/csv";
+    private static final String SERVER_CORS_ORIGINS_DEFAULT = "*";
+    private static final String SERVER_CORS_METHODS_DEFAULT = "GET, POST, PUT, PATCH, DELETE, HEAD, OPTIONS";
+    private static final String SERVER_CORS_HEADERS_DEFAULT = "Content-Type, Authorization";
+    private static final String SERVER_CORS_MAX_AGE_DEFAULT = "3600";
     private static final String JWT_EXPIRATION_DEFAULT = "3600";
     private static final String DB_MX_CONNECTIONS_DEFAULT = "8";
+    private static final String DB_MIN_IDLE_DEFAULT = "2";
+    private static final String DB_CONNECTION_TIMEOUT_DEFAULT = "30000";
+    private static final String DB_IDLE_TIMEOUT_DEFAULT = "600000";
+    private static final String DB_MAX_LIFETIME_DEFAULT = "1800000";
+    private static final String DB_KEEPALIVE_TIME_DEFAULT = "120000";
+    private static final String DB_VALIDATION_TIMEOUT_DEFAULT = "5000";
+    private static final String DB_LEAK_DETECTION_THRESHOLD_DEFAULT = "0";
+    private static final String DB_STATEMENT_CACHE_SIZE_DEFAULT = "64";
+    private static final String DB_SHOW_SQL_DEFAULT = "false";
+    private static final String DB_BATCH_SIZE_DEFAULT = "500";
+    private static final String DB_REPLICA_URLS_DEFAULT = "";
+    private static final String DB_REPLICA_BALANCING_DEFAULT = "round-robin";
+    private static final String IOC_LAZY_DEFAULT = "false";
 
     private static final Environment INSTANCE = new Environment();
     private final Properties properties;
@@ -74,6 +136,134 @@ public class Environment {
         properties.putIfAbsent(key, value);
     }
 
+    /**
+     * Retrieves the maximum number of connections of the connection pool.
+     *
+     * @return the connection pool maximum size.
+     */
+    public Integer getDbMaxPoolSize() {
+        return Integer.parseInt(properties.getProperty(DB_MAX_POOL_SIZE, DB_MX_CONNECTIONS_DEFAULT));
+    }
+
+    /**
+     * Retrieves the number of connections the pool keeps open when it is idle.
+     *
+     * @return the connection pool minimum idle size.
+     */
+    public Integer getDbMinIdle() {
+        return Integer.parseInt(properties.getProperty(DB_MIN_IDLE, DB_MIN_IDLE_DEFAULT));
+    }
+
+    /**
+     * Retrieves how long, in milliseconds, a caller waits for a connection before giving up.
+     *
+     * @return the connection acquire timeout.
+     */
+    public Long getDbConnectionTimeout() {
+        return Long.parseLong(properties.getProperty(DB_CONNECTION_TIMEOUT, DB_CONNECTION_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Retrieves how long, in milliseconds, a connection above the minimum idle size may stay unused.
+     *
+     * @return the connection idle timeout, 0 to keep idle connections.
+     */
+    public Long getDbIdleTimeout() {
+        return Long.parseLong(properties.getProperty(DB_IDLE_TIMEOUT, DB_IDLE_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Retrieves how long, in milliseconds, a connection is used before it is retired.
+     *
+     * @return the connection maximum lifetime.
+     */
+    public Long getDbMaxLifetime() {
+        return Long.parseLong(properties.getProperty(DB_MAX_LIFETIME, DB_MAX_LIFETIME_DEFAULT));
+    }
+
+    /**
+     * Retrieves how often, in milliseconds, an idle connection is validated.
+     *
+     * @return the connection keepalive time, 0 to disable.
+     */
+    public Long getDbKeepaliveTime() {
+        return Long.parseLong(properties.getProperty(DB_KEEPALIVE_TIME, DB_KEEPALIVE_TIME_DEFAULT));
+    }
+
+    /**
+     * Retrieves how long, in milliseconds, a connection validation may take.
+     *
+     * @return the connection validation timeout.
+     */
+    public Long getDbValidationTimeout() {
+        return Long.parseLong(properties.getProperty(DB_VALIDATION_TIMEOUT, DB_VALIDATION_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Retrieves how long, in milliseconds, a connection may be held before it is reported as a leak.
+     *
+     * @return the leak detection threshold, 0 to disable.
+     */
+    public Long getDbLeakDetectionThreshold() {
+        return Long.parseLong(properties.getProperty(DB_LEAK_DETECTION_THRESHOLD, DB_LEAK_DETECTION_THRESHOLD_DEFAULT));
+    }
+
+    /**
+     * Retrieves the number of prepared statements cached per pooled connection.
+     *
+     * @return the statement cache size, 0 to disable the cache.
+     */
+    public Integer getDbStatementCacheSize() {
+        return Integer.parseInt(properties.getProperty(DB_STATEMENT_CACHE_SIZE, DB_STATEMENT_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Retrieves whether the generated SQL statements are printed to the console.
+     *
+     * @return true if the SQL statements are printed.
+     */
+    public Boolean getDbShowSql() {
+        return Boolean.parseBoolean(properties.getProperty(DB_SHOW_SQL, DB_SHOW_SQL_DEFAULT));
+    }
+
+    /**
+     * Retrieves the number of rows sent per batch, and committed per transaction, by the batch operations.
+     *
+     * @return the batch size.
+     */
+    public Integer getDbBatchSize() {
+        return Integer.parseInt(properties.getProperty(DB_BATCH_SIZE, DB_BATCH_SIZE_DEFAULT));
+    }
+
+    /**
+     * Retrieves the comma separated JDBC urls of the read replicas, empty when there are none.
+     *
+     * @return the replica urls.
+     */
+    public String getDbReplicaUrls() {
+        return properties.getProperty(DB_REPLICA_URLS, DB_REPLICA_URLS_DEFAULT);
+    }
+
+    /**
+     * Retrieves how the reads are balanced between the replicas.
+     * Supported values are round-robin and least-busy.
+     *
+     * @return the replica balancing.
+     */
+    public String getDbReplicaBalancing() {
+        return properties.getProperty(DB_REPLICA_BALANCING, DB_REPLICA_BALANCING_DEFAULT);
+    }
+
+    /**
+     * Retrieves whether every service, repository, component and controller is created on first use,
+     * as if annotated with @Lazy.
+     *
+     * @return true if the managed classes are lazy.
+     */
+    public Boolean getIocLazy() {
+        return Boolean.parseBoolean(properties.getProperty(IOC_LAZY, IOC_LAZY_DEFAULT));
+    }
+
     /**
      * Retrieves the server port from the environment properties.
      *
@@ -92,6 +282,170 @@ public class Environment {
         return properties.getProperty(SERVER_CONTEXT, SERVER_CONTEXT_DEFAULT);
     }
 
+    /**
+     * Retrieves the server executor mode from the environment properties.
+     * Supported values are fixed, virtual and bounded-virtual.
+     *
+     * @return the server executor mode.
+     */
+    public String getServerExecutor() {
+        return properties.getProperty(SERVER_EXECUTOR, SERVER_EXECUTOR_DEFAULT);
+    }
+
+    /**
+     * Retrieves the number of platform threads used by the fixed server executor.
+     * Defaults to twice the number of processors.
+     *
+     * @return the number of server threads.
+     */
+    public Integer getServerThreads() {
+        var threads = properties.getProperty(SERVER_THREADS);
+        return threads == null ? Machine.getNumberProcessors() * 2 : Integer.parseInt(threads);
+    }
+
+    /**
+     * Retrieves the maximum number of requests handled at once by the bounded-virtual server executor.
+     *
+     * @return the maximum server concurrency.
+     */
+    public Integer getServerMaxConcurrency() {
+        return Integer.parseInt(properties.getProperty(SERVER_MAX_CONCURRENCY, SERVER_MAX_CONCURRENCY_DEFAULT));
+    }
+
+    /**
+     * Retrieves the maximum time in milliseconds a request waits to run on the bounded-virtual server executor.
+     * A request that waits longer is answered with 503.
+     *
+     * @return the server queue timeout in milliseconds.
+     */
+    public Long getServerQueueTimeout() {
+        return Long.parseLong(properties.getProperty(SERVER_QUEUE_TIMEOUT, SERVER_QUEUE_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Retrieves the server engine from the environment properties.
+     * Supported values are jdk and nio.
+     *
+     * @return the server engine.
+     */
+    public String getServerEngine() {
+        return properties.getProperty(SERVER_ENGINE, SERVER_ENGINE_DEFAULT);
+    }
+
+    /**
+     * Retrieves the maximum number of pending connections on the server socket.
+     *
+     * @return the server socket backlog.
+     */
+    public Integer getServerBacklog() {
+        return Integer.parseInt(properties.getProperty(SERVER_BACKLOG, SERVER_BACKLOG_DEFAULT));
+    }
+
+    /**
+     * Retrieves whether TCP_NODELAY is enabled on the server connections.
+     *
+     * @return true if Nagle's algorithm is disabled.
+     */
+    public Boolean getServerTcpNoDelay() {
+        return Boolean.parseBoolean(properties.getProperty(SERVER_TCP_NODELAY, SERVER_TCP_NODELAY_DEFAULT));
+    }
+
+    /**
+     * Retrieves the largest response body, in bytes, buffered and sent with a Content-Length.
+     * Larger bodies are streamed with the chunked transfer coding.
+     *
+     * @return the response buffer threshold.
+     */
+    public Integer getServerResponseThreshold() {
+        return Integer.parseInt(properties.getProperty(SERVER_RESPONSE_THRESHOLD, SERVER_RESPONSE_THRESHOLD_DEFAULT));
+    }
+
+    /**
+     * Retrieves the largest request body, in bytes, accepted by the server.
+     * A larger body is rejected with 413 Payload Too Large.
+     *
+     * @return the request body size limit.
+     */
+    public Long getServerMaxBodySize() {
+        return Long.parseLong(properties.getProperty(SERVER_MAX_BODY_SIZE, SERVER_MAX_BODY_SIZE_DEFAULT));
+    }
+
+    /**
+     * Retrieves whether responses are compressed when the client accepts gzip or deflate.
+     *
+     * @return true if response compression is enabled.
+     */
+    public Boolean getServerCompression() {
+        return Boolean.parseBoolean(properties.getProperty(SERVER_COMPRESSION, SERVER_COMPRESSION_DEFAULT));
+    }
+
+    /**
+     * Retrieves the smallest response body, in bytes, that is compressed.
+     *
+     * @return the compression minimum size.
+     */
+    public Integer getServerCompressionMinSize() {
+        return Integer.parseInt(properties.getProperty(SERVER_COMPRESSION_MIN_SIZE, SERVER_COMPRESSION_MIN_SIZE_DEFAULT));
+    }
+
+    /**
+     * Retrieves the comma separated content types that are compressed.
+     *
+     * @return the compressible content types.
+     */
+    public String getServerCompressionTypes() {
+        return properties.getProperty(SERVER_COMPRESSION_TYPES, SERVER_COMPRESSION_TYPES_DEFAULT);
+    }
+
+    /**
+     * Retrieves the comma separated origins allowed by CORS, "*" allows any origin.
+     *
+     * @return the allowed origins.
+     */
+    public String getServerCorsOrigins() {
+        return properties.getProperty(SERVER_CORS_ORIGINS, SERVER_CORS_ORIGINS_DEFAULT);
+    }
+
+    /**
+     * Retrieves the methods allowed by CORS, as sent in Access-Control-Allow-Methods.
+     *
+     * @return the allowed methods.
+     */
+    public String getServerCorsMethods() {
+        return properties.getProperty(SERVER_CORS_METHODS, SERVER_CORS_METHODS_DEFAULT);
+    }
+
+    /**
+     * Retrieves the request headers allowed by CORS, as sent in Access-Control-Allow-Headers.
+     *
+     * @return the allowed headers.
+     */
+    public String getServerCorsHeaders() {
+        return properties.getProperty(SERVER_CORS_HEADERS, SERVER_CORS_HEADERS_DEFAULT);
+    }
+
+    /**
+     * Retrieves how long, in seconds, browsers may cache a preflight response.
+     *
+     * @return the preflight max age.
+     */
+    public Integer getServerCorsMaxAge() {
+        return Integer.parseInt(properties.getProperty(SERVER_CORS_MAX_AGE, SERVER_CORS_MAX_AGE_DEFAULT));
+    }
+
+    /**
+     * Retrieves the headers added to every response, declared as force.server.header.&lt;name&gt;=&lt;value&gt;.
+     *
+     * @return the default response headers, by name.
+     */
+    public Map<String, String> getServerHeaders() {
+        Map<String, String> headers = new TreeMap<>();
+        properties.stringPropertyNames().stream()
+                .filter(it -> it.startsWith(SERVER_HEADER_PREFIX) && it.length() > SERVER_HEADER_PREFIX.length())
+                .forEach(it -> headers.put(it.substring(SERVER_HEADER_PREFIX.length()), properties.getProperty(it)));
+        return headers;
+    }
+
     /**
      * Retrieves the JWT expiration time from the environment properties.
      *
@@ -1,6 +1,9 @@
 package br.com.schumaker.force.framework.ioc;
 
 import br.com.schumaker.force.framework.ioc.managed.*;
+import br.com.schumaker.force.framework.web.http.HttpFilter;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 import java.util.List;
 
@@ -17,9 +20,10 @@ import java.util.List;
  * @see ManagedRepository
  * @see ManagedConfiguration
  * @see ManagedGlobalExceptionHandler
+ * @see ManagedFilter
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 public interface IoC {
 
@@ -38,6 +42,22 @@ public interface IoC {
      */
     ManagedController getController(String url);
 
+    /**
+     * Resolve the controller method mapped to the given verb and path.
+     *
+     * @param verb the HTTP verb of the request
+     * @param path the request path, relative to the server context
+     * @return the matched route and its path variables, or null if no route matches
+     */
+    RouteMatch<Endpoint> getRoute(String verb, String path);
+
+    /**
+     * Get the filters, in the order they are called.
+     *
+     * @return the filter instances, sorted by their @Filter order
+     */
+    List<HttpFilter> getFilters();
+
     /**
      * Get a ManagedConfiguration by its fully qualified name.
      *
@@ -78,6 +98,14 @@ public interface IoC {
      */
     ManagedComponent getComponent(String fqn);
 
+    /**
+     * Register a managed class of the given kind.
+     *
+     * @param kind the stereotype of the class
+     * @param clazz the class to register
+     */
+    void register(BeanGraph.Kind kind, Class<?> clazz);
+
     /**
      * Register a global exception handler.
      *
@@ -120,6 +148,13 @@ public interface IoC {
      */
     void registerService(List<Class<?>> services);
 
+    /**
+     * Register a list of filters.
+     *
+     * @param filters the list of filter classes to register
+     */
+    void registerFilter(List<Class<?>> filters);
+
     /**
      * Register a list of controllers.
      *
@@ -1,23 +1,35 @@
 package br.com.schumaker.force.framework.ioc;
 
+import br.com.schumaker.force.framework.exception.ForceException;
 import br.com.schumaker.force.framework.ioc.managed.ManagedBean;
 import br.com.schumaker.force.framework.ioc.managed.ManagedClass;
 import br.com.schumaker.force.framework.ioc.managed.ManagedComponent;
 import br.com.schumaker.force.framework.ioc.managed.ManagedConfiguration;
 import br.com.schumaker.force.framework.ioc.managed.ManagedController;
+import br.com.schumaker.force.framework.ioc.managed.ManagedFilter;
 import br.com.schumaker.force.framework.ioc.managed.ManagedGlobalExceptionHandler;
 import br.com.schumaker.force.framework.ioc.managed.ManagedRepository;
 import br.com.schumaker.force.framework.ioc.managed.ManagedService;
+import br.com.schumaker.force.framework.jdbc.TransactionInterceptor;
+import br.com.schumaker.force.framework.web.http.HttpFilter;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
+import br.com.schumaker.force.framework.web.route.RouteTrie;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The IoCContainer class represents the Inversion of Control (IoC) container.
  * It manages the lifecycle and dependencies of various managed classes, including controllers, services, repositories, and more.
  * The container provides methods to retrieve and register these managed classes.
+ * The managed classes of an application are registered from a BeanGraph, in dependency order and in parallel,
+ * so the registrations are thread safe.
+ * An interface implemented by two services is ambiguous and fails the startup, so which service is injected
+ * never depends on the order of the registrations.
  *
  * @see ManagedBean
  * @see ManagedClass
@@ -27,14 +39,19 @@ import java.util.Map;
  * @see ManagedRepository
  * @see ManagedConfiguration
  * @see ManagedGlobalExceptionHandler
+ * @see ManagedFilter
+ * @see RouteTrie
+ * @see BeanGraph
  *
  * @author Hudson Schumaker
- * @version 1.2.0
+ * @version 1.10.0
  */
 public final class IoCContainer implements IoC {
     private static final IoCContainer INSTANCE = new IoCContainer();
-    private final Map<String, ManagedClass<?>> managedClasses = new HashMap<>();
+    private final Map<String, ManagedClass<?>> managedClasses = new ConcurrentHashMap<>();
     private final List<ManagedController> managedController = new ArrayList<>();
+    private final RouteTrie<Endpoint> routes = new RouteTrie<>();
+    private final List<ManagedFilter> managedFilters = new ArrayList<>();
     private ManagedGlobalExceptionHandler globalExceptionHandler;
 
     private IoCContainer() {}
@@ -57,6 +74,16 @@ public final class IoCContainer implements IoC {
         return controller.orElse(null);
     }
 
+    @Override
+    public RouteMatch<Endpoint> getRoute(String verb, String path) {
+        return routes.match(verb, path);
+    }
+
+    @Override
+    public List<HttpFilter> getFilters() {
+        return managedFilters.stream().map(ManagedFilter::getInstance).toList();
+    }
+
     @Override
     public ManagedConfiguration getConfiguration(String fqn) {
         return getManagedClass(fqn, ManagedConfiguration.class);
@@ -82,6 +109,20 @@ public final class IoCContainer implements IoC {
         return getManagedClass(fqn, ManagedComponent.class);
     }
 
+    @Override
+    public void register(BeanGraph.Kind kind, Class<?> clazz) {
+        var classes = List.<Class<?>>of(clazz);
+        switch (kind) {
+            case GLOBAL_EXCEPTION_HANDLER -> registerGlobalExceptionHandler(classes);
+            case CONFIGURATION -> registerConfiguration(classes);
+            case COMPONENT -> registerComponent(classes);
+            case REPOSITORY -> registerRepository(classes);
+            case SERVICE -> registerService(classes);
+            case FILTER -> registerFilter(classes);
+            case CONTROLLER -> registerController(classes);
+        }
+    }
+
     @Override
     public void registerGlobalExceptionHandler(List<Class<?>> clazz) {
         if (!clazz.isEmpty() && clazz.getFirst() != null) {
@@ -111,12 +152,43 @@ public final class IoCContainer implements IoC {
 
     @Override
     public void registerService(List<Class<?>> services) {
-        services.forEach(it -> this.managedClasses.put(it.getName(), ManagedService.builder(it)));
+        services.forEach(it -> {
+            var service = ManagedService.builder(it);
+            // a service is also injected by its interfaces, a transactional service only by them, as it is a proxy
+            if (!TransactionInterceptor.isTransactional(it)) {
+                this.managedClasses.put(it.getName(), service);
+            }
+            for (var type : ManagedService.getInterfaces(it)) {
+                var registered = this.managedClasses.putIfAbsent(type.getName(), service);
+                if (registered instanceof ManagedService other && !other.getFqn().equals(service.getFqn())) {
+                    throw new ForceException("Ambiguous injection of " + type.getName() + ", it is implemented by "
+                            + other.getFqn() + " and " + service.getFqn() + ".");
+                }
+            }
+        });
+    }
+
+    @Override
+    public void registerFilter(List<Class<?>> filters) {
+        filters.stream().filter(it -> !this.managedClasses.containsKey(it.getName())).forEach(it -> {
+            var filter = ManagedFilter.builder(it);
+            this.managedClasses.put(filter.getFqn(), filter);
+            synchronized (this.managedFilters) {
+                this.managedFilters.add(filter);
+                this.managedFilters.sort(Comparator.comparingInt(ManagedFilter::getOrder).thenComparing(ManagedFilter::getFqn));
+            }
+        });
     }
 
     @Override
     public void registerController(List<Class<?>> controllers) {
-        controllers.forEach(it -> this.managedController.add(ManagedController.builder(it)));
+        controllers.forEach(it -> {
+            var controller = ManagedController.builder(it);
+            synchronized (this.routes) {
+                controller.registerRoutes(this.routes);
+                this.managedController.add(controller);
+            }
+        });
     }
 
     /**
@@ -0,0 +1,37 @@
+package br.com.schumaker.force.framework.ioc.annotations.bean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @Lazy annotation is used to create a service, repository, component or controller on first use,
+ * instead of at startup. Setting force.ioc.lazy=true makes all of them lazy.
+ * <p>
+ * A lazy class injected as an interface gets a proxy that creates it on its first call, so injecting it does
+ * not create it; injected as a class, it is created when injected.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Lazy
+ * @Service
+ * public class ReportServiceImpl implements ReportService {
+ * }
+ * }
+ * </pre>
+ *
+ * @see Service
+ * @see Component
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {}
@@ -0,0 +1,48 @@
+package br.com.schumaker.force.framework.ioc.annotations.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @CacheEvict annotation is used to clear the @Cacheable responses of the same controller
+ * after a method completes without an exception.
+ *
+ * <p>
+ * The value attribute lists the mappings of the cached methods to clear, as declared in their @Get annotation.
+ * If no value is provided, every cached method of the controller is cleared.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Controller("/product")
+ * public class ProductController {
+ *
+ *     @Put("/{id}")
+ *     @CacheEvict({"/", "/{id}"})
+ *     public ResponseView<ProductView> update(@PathVariable("id") int id, @Payload ProductDTO dto) {
+ *         return ResponseView.ok().body(service.update(id, dto)).build();
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @see Cacheable
+ * @see Post
+ * @see Put
+ * @see Patch
+ * @see Delete
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+    String[] value() default {};
+}
@@ -0,0 +1,53 @@
+package br.com.schumaker.force.framework.ioc.annotations.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @Cacheable annotation is used to cache the responses of a HTTP_GET method.
+ * Responses are cached per request path and query string, so each combination of path variables and
+ * query parameters has its own entry, and are served with an ETag: a request whose If-None-Match
+ * matches is answered with HTTP 304 without invoking the method.
+ * Only String results and ResponseView results with HTTP 200 are cached.
+ *
+ * <p>
+ * The ttl attribute specifies how long, in seconds, an entry is served. The maxEntries attribute specifies
+ * how many entries are kept, the least recently used entry is evicted first. The vary attribute lists the
+ * request headers that are part of the key: a method with an HttpRequestHeader parameter must list the ones
+ * its response depends on, and a @Secured method must list Authorization, otherwise the controller is rejected
+ * when it is registered.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Controller("/product")
+ * public class ProductController {
+ *
+ *     @Get("/{id}")
+ *     @Cacheable(ttl = 30, maxEntries = 500)
+ *     public ResponseView<ProductView> getById(@PathVariable("id") int id) {
+ *         return ResponseView.ok().body(service.getById(id)).build();
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @see CacheEvict
+ * @see Get
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+    long ttl() default 60;
+    int maxEntries() default 1000;
+    String[] vary() default {};
+}
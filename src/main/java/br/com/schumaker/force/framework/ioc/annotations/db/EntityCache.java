@@ -0,0 +1,48 @@
+package br.com.schumaker.force.framework.ioc.annotations.db;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @EntityCache annotation is used to cache the entities read by findById.
+ * This annotation can be applied to a @Table entity; its repository keeps the entities it reads by primary key
+ * and drops an entity when it is updated or deleted through the repository. Every caller gets its own copy,
+ * so changing a returned entity does not change the cache. The fields of the entity must be of immutable types,
+ * such as String, the boxed primitives, BigDecimal, enums and java.time types, or arrays, dates or calendars,
+ * which are copied; any other type fails at startup with a ForceException.
+ *
+ * <p>
+ * The ttl attribute specifies how long, in seconds, an entity is served. The maxEntries attribute specifies
+ * how many entities are kept, the least recently used entity is evicted first. The counters of the cache
+ * are shown by /health/cache.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Table("product")
+ * @EntityCache(ttl = 300, maxEntries = 10000)
+ * public class Product {
+ *     @Pk
+ *     private Long id;
+ * }
+ * }
+ * </pre>
+ *
+ * @see Table
+ * @see Repository
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityCache {
+    long ttl() default 60;
+    int maxEntries() default 1000;
+}
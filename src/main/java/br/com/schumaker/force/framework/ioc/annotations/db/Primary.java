@@ -0,0 +1,35 @@
+package br.com.schumaker.force.framework.ioc.annotations.db;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @Primary annotation is used to route the queries of a repository method to the primary database.
+ * It can be applied to the methods of a repository, or to the repository to route all of its methods,
+ * e.g. for reads that must see the latest writes, which a replica may not have applied yet.
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Repository
+ * public interface MyRepository extends SqlCrud<Long, MyEntity> {
+ *      @Primary
+ *      public Optional<MyEntity> findByName(String name);
+ * }
+ * }
+ * </pre>
+ *
+ * @see ReadOnly
+ * @see Repository
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Primary {}
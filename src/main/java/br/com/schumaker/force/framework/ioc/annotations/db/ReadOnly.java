@@ -0,0 +1,36 @@
+package br.com.schumaker.force.framework.ioc.annotations.db;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The @ReadOnly annotation is used to route the queries of a repository method to a read replica.
+ * It can be applied to the methods of a repository, or to the repository to route all of its methods.
+ * The reads of a repository, findById, findAll, count and the SELECT query methods, go to a replica by default.
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Repository
+ * public interface MyRepository extends SqlCrud<Long, MyEntity> {
+ *      @ReadOnly
+ *      @Query("SELECT * FROM table_name")
+ *      public List<MyEntity> find();
+ * }
+ * }
+ * </pre>
+ *
+ * @see Primary
+ * @see Repository
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnly {}
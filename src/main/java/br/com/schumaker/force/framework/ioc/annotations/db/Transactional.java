@@ -0,0 +1,73 @@
+package br.com.schumaker.force.framework.ioc.annotations.db;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.sql.Connection;
+
+/**
+ * The @Transactional annotation is used to run a service method in a database transaction.
+ * This annotation can be applied to the methods of a @Service, or to the service to make all of its methods
+ * transactional. The repository calls made by the method share one connection, bound to the current thread,
+ * and are committed when the method returns or rolled back when it throws. A transactional method called
+ * from another one joins its transaction.
+ *
+ * <p>
+ * The service must implement an interface and be injected by it, the container wraps it in a proxy.
+ * The isolation attribute sets the JDBC isolation level, and readOnly marks the connection read-only and
+ * takes it from a read replica when there is one.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Service
+ * public class MyServiceImpl implements MyService {
+ *
+ *     @Transactional
+ *     public MyEntity update(Long id, MyEntity entity) {
+ *         var old = repository.findById(id).orElseThrow();
+ *         repository.update(entity);
+ *         return repository.findById(id).orElseThrow();
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @see ReadOnly
+ * @see Repository
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Transactional {
+    Isolation isolation() default Isolation.DEFAULT;
+    boolean readOnly() default false;
+
+    /**
+     * The JDBC isolation levels, DEFAULT keeps the level of the connection.
+     */
+    enum Isolation {
+        DEFAULT(-1),
+        READ_UNCOMMITTED(Connection.TRANSACTION_READ_UNCOMMITTED),
+        READ_COMMITTED(Connection.TRANSACTION_READ_COMMITTED),
+        REPEATABLE_READ(Connection.TRANSACTION_REPEATABLE_READ),
+        SERIALIZABLE(Connection.TRANSACTION_SERIALIZABLE);
+
+        private final int level;
+
+        Isolation(int level) {
+            this.level = level;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+    }
+}
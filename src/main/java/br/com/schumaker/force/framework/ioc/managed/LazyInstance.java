@@ -0,0 +1,93 @@
+package br.com.schumaker.force.framework.ioc.managed;
+
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Lazy;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * The LazyInstance class holds the instance of a managed class, created once by its factory.
+ * An eager managed class creates it when it is built, a lazy one on the first getInstance; concurrent first
+ * calls create it once. The creation is guarded by a ReentrantLock, not a monitor, so the virtual threads
+ * waiting for a lazy instance do not pin their carrier threads while its factory runs.
+ *
+ * @param <T> the type of the instance.
+ *
+ * @see Lazy
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public final class LazyInstance<T> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private Supplier<T> factory;
+    private volatile T instance;
+
+    /**
+     * Constructs a new LazyInstance.
+     *
+     * @param factory the factory of the instance, called once.
+     */
+    public LazyInstance(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a LazyInstance of a managed class, created now unless the class is lazy.
+     *
+     * @param clazz the managed class.
+     * @param factory the factory of the instance.
+     * @param <T> the type of the instance.
+     * @return the LazyInstance.
+     */
+    public static <T> LazyInstance<T> of(Class<?> clazz, Supplier<T> factory) {
+        var lazyInstance = new LazyInstance<>(factory);
+        if (!isLazy(clazz)) {
+            lazyInstance.get();
+        }
+        return lazyInstance;
+    }
+
+    /**
+     * Tells whether a managed class is created on first use.
+     *
+     * @param clazz the managed class.
+     * @return true if the class is annotated with @Lazy or force.ioc.lazy is true.
+     */
+    public static boolean isLazy(Class<?> clazz) {
+        return clazz.isAnnotationPresent(Lazy.class) || Environment.getInstance().getIocLazy();
+    }
+
+    /**
+     * Returns the instance, creating it on the first call.
+     *
+     * @return the instance.
+     */
+    public T get() {
+        var result = instance;
+        if (result == null) {
+            lock.lock();
+            try {
+                result = instance;
+                if (result == null) {
+                    result = factory.get();
+                    instance = result;
+                    factory = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether the instance was created.
+     *
+     * @return true if the instance exists.
+     */
+    public boolean isCreated() {
+        return instance != null;
+    }
+}
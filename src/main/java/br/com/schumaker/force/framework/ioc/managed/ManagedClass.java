@@ -7,7 +7,7 @@ package br.com.schumaker.force.framework.ioc.managed;
  * @param <T> the type of the managed class
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface ManagedClass<T> {
 
@@ -36,4 +36,13 @@ public interface ManagedClass<T> {
      * @return the instance of the managed class.
      */
     Object getInstance();
+
+    /**
+     * Tells whether the instance was created, a lazy managed class creates it on the first getInstance.
+     *
+     * @return true if the instance exists.
+     */
+    default boolean isCreated() {
+        return true;
+    }
 }
@@ -6,15 +6,17 @@ import br.com.schumaker.force.framework.ioc.reflection.ClassReflection;
  * The ManagedComponent class represents a managed component within the IoC container.
  * It implements the ManagedClass interface and provides methods to retrieve the fully qualified name (FQN)
  * and the instance of the managed component.
+ * A @Lazy component is created on first use.
  *
  * @see ManagedClass
+ * @see LazyInstance
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class ManagedComponent implements ManagedClass<ManagedComponent> {
     private final String fqn;
-    private Object instance;
+    private LazyInstance<Object> instance;
 
     private ManagedComponent(String fqn) {
         this.fqn = fqn;
@@ -22,7 +24,7 @@ public final class ManagedComponent implements ManagedClass<ManagedComponent> {
 
     /**
      * Creates a new ManagedComponent instance using the specified component class.
-     * The instance is created using reflection.
+     * The instance is created using reflection, now or, for a lazy component, on first use.
      *
      * @param component the component class.
      * @return a new @ManagedComponent instance.
@@ -30,7 +32,7 @@ public final class ManagedComponent implements ManagedClass<ManagedComponent> {
     public static ManagedComponent builder(Class<?> component) {
         var fqn = component.getName();
         var managedComponent = new ManagedComponent(fqn);
-        managedComponent.instance = ClassReflection.getInstance().instantiate(component);
+        managedComponent.instance = LazyInstance.of(component, () -> ClassReflection.getInstance().instantiate(component));
 
         return managedComponent;
     }
@@ -42,6 +44,11 @@ public final class ManagedComponent implements ManagedClass<ManagedComponent> {
 
     @Override
     public Object getInstance() {
-        return instance;
+        return instance.get();
+    }
+
+    @Override
+    public boolean isCreated() {
+        return instance.isCreated();
     }
 }
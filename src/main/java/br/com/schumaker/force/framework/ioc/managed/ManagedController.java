@@ -4,6 +4,8 @@ import br.com.schumaker.force.framework.ioc.reflection.ControllerReflection;
 import br.com.schumaker.force.framework.ioc.reflection.ClassReflection;
 import br.com.schumaker.force.framework.model.Triple;
 import br.com.schumaker.force.framework.web.http.Http;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteTrie;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -16,17 +18,21 @@ import java.util.Map;
  * The ManagedController class represents a managed controller within the IoC container.
  * It provides methods to retrieve the fully qualified name (FQN), route, and instance of the managed controller.
  * Additionally, it provides methods to retrieve specific HTTP methods based on the mapping and type.
+ * The routes of a @Lazy controller are registered at startup, its instance is created on the first request.
  *
  * @see ManagedClass
+ * @see RouteTrie
+ * @see Endpoint
+ * @see LazyInstance
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.2.0
  */
 public final class ManagedController {
     private final String fqn;
     private final String route;
     private final Map<String, List<Triple<String, Method, List<Parameter>>>> methods;  // <VERB, List<Triple<mapping, method, List<parameters>>>>
-    private Object instance;
+    private LazyInstance<Object> instance;
 
     private ManagedController(String fqn, String route, Map<String, List<Triple<String, Method, List<Parameter>>>> methods) {
         this.fqn = fqn;
@@ -46,11 +52,24 @@ public final class ManagedController {
         var methods = ControllerReflection.getMethods(controller);
 
         var managedController = new ManagedController(fqn, route, methods);
-        managedController.instance = ClassReflection.getInstance().instantiate(controller);
+        managedController.instance = LazyInstance.of(controller, () -> ClassReflection.getInstance().instantiate(controller));
 
         return managedController;
     }
 
+    /**
+     * Compiles the controller methods into endpoints and adds them to the specified route trie.
+     * Each method is registered under the controller route followed by the method mapping.
+     *
+     * @param routes the route trie.
+     */
+    public void registerRoutes(RouteTrie<Endpoint> routes) {
+        methods.forEach((verb, mappings) -> mappings.forEach(it -> {
+            var pattern = route + "/" + it.first();
+            routes.add(verb, pattern, Endpoint.builder(this, verb, pattern, it.first(), it.second()));
+        }));
+    }
+
     public Triple<String, Method, List<Parameter>> getMethod(String mapping, String type) {
         return search(mapping, type.toUpperCase());
         // TODO: add array of supported methods to the exception message
@@ -125,6 +144,6 @@ public final class ManagedController {
     }
 
     public Object getInstance() {
-        return instance;
+        return instance.get();
     }
 }
@@ -0,0 +1,62 @@
+package br.com.schumaker.force.framework.ioc.managed;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Filter;
+import br.com.schumaker.force.framework.ioc.reflection.ClassReflection;
+import br.com.schumaker.force.framework.web.http.HttpFilter;
+
+/**
+ * The ManagedFilter class represents a managed filter within the IoC container.
+ * It implements the ManagedClass interface and provides methods to retrieve the fully qualified name (FQN),
+ * the order declared in @Filter and the instance of the managed filter.
+ *
+ * @see ManagedClass
+ * @see HttpFilter
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class ManagedFilter implements ManagedClass<ManagedFilter> {
+    private final String fqn;
+    private final int order;
+    private HttpFilter instance;
+
+    private ManagedFilter(String fqn, int order) {
+        this.fqn = fqn;
+        this.order = order;
+    }
+
+    /**
+     * Creates a new ManagedFilter instance using the specified filter class.
+     * The instance is created using reflection.
+     *
+     * @param filter the filter class.
+     * @return a new ManagedFilter instance.
+     * @throws ForceException if the class does not implement HttpFilter.
+     */
+    public static ManagedFilter builder(Class<?> filter) {
+        if (!HttpFilter.class.isAssignableFrom(filter)) {
+            throw new ForceException("Filter " + filter.getName() + " must implement " + HttpFilter.class.getSimpleName());
+        }
+
+        var annotation = filter.getAnnotation(Filter.class);
+        var managedFilter = new ManagedFilter(filter.getName(), annotation == null ? 0 : annotation.order());
+        managedFilter.instance = (HttpFilter) ClassReflection.getInstance().instantiate(filter);
+
+        return managedFilter;
+    }
+
+    @Override
+    public String getFqn() {
+        return fqn;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    @Override
+    public HttpFilter getInstance() {
+        return instance;
+    }
+}
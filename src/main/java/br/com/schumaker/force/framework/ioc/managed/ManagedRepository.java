@@ -10,16 +10,18 @@ import java.lang.reflect.ParameterizedType;
  * The ManagedRepository class represents a managed repository within the IoC container.
  * It implements the ManagedClass interface and provides methods to retrieve the fully qualified name (FQN)
  * and the instance of the managed repository.
+ * A @Lazy repository builds its proxy, and the metadata of its entity, on first use.
  *
  * @see ManagedClass
+ * @see LazyInstance
  *
  * @author Hudson Schumaker
- * @version 1.1.0
+ * @version 1.2.0
  */
 public final class ManagedRepository implements ManagedClass<ManagedRepository> {
     private static final String SQL_CRUD_INTERFACE = "br.com.schumaker.force.framework.jdbc.SqlCrud";
     private final String fqn;
-    private Object instance;
+    private LazyInstance<Object> instance;
 
     private ManagedRepository(String fqn) {
         this.fqn = fqn;
@@ -27,7 +29,7 @@ public final class ManagedRepository implements ManagedClass<ManagedRepository>
 
     /**
      * Creates a new ManagedRepository instance using the specified repository class.
-     * The instance is created using reflection.
+     * The instance is created using reflection, now or, for a lazy repository, on first use.
      *
      * @param repository the repository class.
      * @return a new ManagedRepository instance.
@@ -42,10 +44,10 @@ public final class ManagedRepository implements ManagedClass<ManagedRepository>
                 if (parameterizedType.getRawType().getTypeName().equals(SQL_CRUD_INTERFACE)) {
                     var pk = (Class<?>) parameterizedType.getActualTypeArguments()[0];
                     var clazz = (Class<?>) parameterizedType.getActualTypeArguments()[1];
-                    var sqlCrudImpl = SqlCrudImpl.create(pk, clazz);
-
-                    var proxy = SqlCrudInterceptor.createProxy(sqlCrudImpl, repository);
-                    managedRepository.instance = repository.cast(proxy);
+                    managedRepository.instance = LazyInstance.of(repository, () -> {
+                        var sqlCrudImpl = SqlCrudImpl.create(pk, clazz);
+                        return repository.cast(SqlCrudInterceptor.createProxy(sqlCrudImpl, repository));
+                    });
                     return managedRepository;
                 }
             }
@@ -61,6 +63,11 @@ public final class ManagedRepository implements ManagedClass<ManagedRepository>
 
     @Override
     public Object getInstance() {
-        return instance;
+        return instance.get();
+    }
+
+    @Override
+    public boolean isCreated() {
+        return instance.isCreated();
     }
 }
@@ -1,20 +1,32 @@
 package br.com.schumaker.force.framework.ioc.managed;
 
 import br.com.schumaker.force.framework.ioc.reflection.ClassReflection;
+import br.com.schumaker.force.framework.jdbc.TransactionInterceptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * The ManagedService class represents a managed service within the IoC container.
  * It implements the ManagedClass interface and provides methods to retrieve the fully qualified name (FQN)
  * and the instance of the managed service.
+ * A service with @Transactional methods is wrapped in a proxy of its interfaces, see TransactionInterceptor.
+ * A @Lazy service is created on first use.
+ * A service is injected by the interfaces of the application it implements, the interfaces of the JDK and of
+ * the framework, e.g. java.io.Serializable, are not injection keys.
  *
  * @see ManagedClass
+ * @see TransactionInterceptor
+ * @see LazyInstance
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.3.0
  */
 public final class ManagedService implements ManagedClass<ManagedService> {
+    private static final String FRAMEWORK_PACKAGE = "br.com.schumaker.force.framework.";
     private final String fqn;
-    private Object instance;
+    private LazyInstance<Object> instance;
 
     private ManagedService(String fqn) {
         this.fqn = fqn;
@@ -22,7 +34,8 @@ public final class ManagedService implements ManagedClass<ManagedService> {
 
     /**
      * Creates a new ManagedService instance using the specified service class.
-     * The instance is created using reflection.
+     * The instance is created using reflection, and wrapped in a transaction proxy if it has @Transactional methods,
+     * now or, for a lazy service, on first use.
      *
      * @param service the service class.
      * @return a new ManagedService instance.
@@ -30,10 +43,38 @@ public final class ManagedService implements ManagedClass<ManagedService> {
     public static ManagedService builder(Class<?> service) {
         var fqn = service.getName();
         var managedService = new ManagedService(fqn);
-        managedService.instance = ClassReflection.getInstance().instantiate(service);
+        managedService.instance = LazyInstance.of(service, () -> {
+            var instance = ClassReflection.getInstance().instantiate(service);
+            return TransactionInterceptor.isTransactional(service)
+                    ? TransactionInterceptor.createProxy(instance)
+                    : instance;
+        });
         return managedService;
     }
 
+    /**
+     * Retrieves the interfaces a service is injected as, its direct interfaces but those of the JDK and of the framework.
+     *
+     * @param service the service class.
+     * @return the interfaces of the service.
+     */
+    public static List<Class<?>> getInterfaces(Class<?> service) {
+        return Arrays.stream(service.getInterfaces()).filter(it -> !isPlatform(it)).toList();
+    }
+
+    /**
+     * Checks if an interface belongs to the JDK, loaded by the boot or the platform class loader,
+     * or to the framework itself.
+     */
+    private static boolean isPlatform(Class<?> type) {
+        var loader = type.getClassLoader();
+        if (loader == null || loader == ClassLoader.getPlatformClassLoader()) {
+            return true;
+        }
+        return type.getName().startsWith(FRAMEWORK_PACKAGE)
+                && Objects.equals(type.getProtectionDomain().getCodeSource(), ManagedService.class.getProtectionDomain().getCodeSource());
+    }
+
     @Override
     public String getFqn() {
         return fqn;
@@ -41,6 +82,11 @@ public final class ManagedService implements ManagedClass<ManagedService> {
 
     @Override
     public Object getInstance() {
-        return instance;
+        return instance.get();
+    }
+
+    @Override
+    public boolean isCreated() {
+        return instance.isCreated();
     }
 }
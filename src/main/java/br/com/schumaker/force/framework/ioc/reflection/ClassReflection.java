@@ -1,12 +1,17 @@
 package br.com.schumaker.force.framework.ioc.reflection;
 
 import br.com.schumaker.force.framework.ioc.annotations.bean.Inject;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Value;
 import br.com.schumaker.force.framework.exception.ForceException;
 import br.com.schumaker.force.framework.ioc.IoCContainer;
+import br.com.schumaker.force.framework.ioc.managed.ManagedClass;
+import br.com.schumaker.force.framework.jdbc.TransactionInterceptor;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -17,9 +22,14 @@ import java.util.stream.Stream;
  * The ClassReflection class provides utility methods for instantiating classes and handling dependency injection.
  * It uses reflection to create instances of classes, inject field values, and handle constructor parameters.
  * This class is a singleton and provides a global point of access to its instance.
+ * A lazy managed class that is not created yet is injected as a proxy of the parameter interface, which creates
+ * it on its first call.
+ * A constructor parameter must be provided by a managed class, a @Bean method or a @Value, so every managed type
+ * has one instance; an unmanaged type is rejected instead of being instantiated. A @Transactional service is
+ * injected by its interfaces only.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 public final class ClassReflection {
     private static final ClassReflection INSTANCE = new ClassReflection();
@@ -61,7 +71,12 @@ public final class ClassReflection {
                         var value = this.handleParameterValueAnnotation(parameter);
                         parameters.add(value);
                     } else {
-                        parameters.add(this.getManagedInstance(parameterType));
+                        var managedInstance = this.getManagedInstance(parameterType);
+                        if (managedInstance == null) {
+                            throw new ForceException("No managed class or @Bean provides " + parameterType.getName()
+                                    + ", required by the constructor of " + clazz.getName() + ".");
+                        }
+                        parameters.add(managedInstance);
                     }
                 }
 
@@ -73,6 +88,31 @@ public final class ClassReflection {
         }
     }
 
+    /**
+     * Retrieves the types a class needs injected when it is instantiated: the parameters of the constructor
+     * instantiate uses, except the @Value ones, and the @Inject fields.
+     *
+     * @param clazz the class.
+     * @return the types of the dependencies, in declaration order.
+     */
+    public List<Class<?>> getDependencies(Class<?> clazz) {
+        List<Class<?>> dependencies = new ArrayList<>();
+        if (this.getDefaultConstructor(clazz).isEmpty()) {
+            for (Parameter parameter : this.getParameters(this.getFirstAvailableConstructor(clazz))) {
+                if (parameter.getAnnotation(Value.class) == null) {
+                    dependencies.add(parameter.getType());
+                }
+            }
+        }
+
+        for (var field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Inject.class)) {
+                dependencies.add(field.getType());
+            }
+        }
+        return dependencies;
+    }
+
     /**
      * Handles the @Value annotation for a constructor parameter.
      *
@@ -95,28 +135,60 @@ public final class ClassReflection {
     }
 
     /**
-     * Retrieves a managed instance of a class.
+     * Retrieves the instance of a managed type to inject: a @Bean, a repository, a service or a component.
      *
-     * @param parameterType the class type.
-     * @return the managed instance.
+     * @param type the type of the injection point.
+     * @return the managed instance, or null if no managed class provides the type.
+     * @throws ForceException if the type is the class of a @Transactional service.
      */
-    private Object getManagedInstance(Class<?> parameterType) {
-        var repository = iocContainer.getRepository(parameterType.getName());
+    Object getManagedInstance(Class<?> type) {
+        if (!type.isInterface() && type.isAnnotationPresent(Service.class) && TransactionInterceptor.isTransactional(type)) {
+            throw new ForceException("The @Transactional service " + type.getName()
+                    + " is injected as a proxy of its interfaces, inject one of them instead of the class.");
+        }
+
+        var bean = iocContainer.getBean(type.getName());
+        if (bean != null) {
+            return bean.getInstance();
+        }
+
+        var repository = iocContainer.getRepository(type.getName());
         if (repository != null) {
-            return repository.getInstance();
+            return inject(type, repository);
         }
 
-        var service = iocContainer.getService(parameterType.getName());
+        var service = iocContainer.getService(type.getName());
         if (service != null) {
-            return service.getInstance();
+            return inject(type, service);
         }
 
-        var component = iocContainer.getComponent(parameterType.getName());
+        var component = iocContainer.getComponent(type.getName());
         if (component != null) {
-            return component.getInstance();
+            return inject(type, component);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the instance of a managed class to inject, or a proxy that creates it on first call if it is lazy.
+     *
+     * @param type the type of the injection point.
+     * @param managedClass the managed class.
+     * @return the instance, or a proxy of the type if it is an interface and the instance is not created yet.
+     */
+    private Object inject(Class<?> type, ManagedClass<?> managedClass) {
+        if (managedClass.isCreated() || !type.isInterface()) {
+            return managedClass.getInstance();
         }
 
-        return instantiate(parameterType);
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return method.invoke(managedClass.getInstance(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
     }
 
     /**
@@ -26,7 +26,7 @@ import java.util.Map;
  * It retrieves the route of the controller and maps HTTP verbs to their corresponding methods and parameters.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class ControllerReflection {
     private static final Map<Class<? extends Annotation>, HttpVerb> annotationMap = new HashMap<>();
@@ -101,18 +101,46 @@ public final class ControllerReflection {
     }
 
     /**
-     * Retrieves the value of the specified route mapping annotation.
+     * Retrieves the route mapping annotation of the specified method for the specified HTTP verb.
+     *
+     * @param method the controller method.
+     * @param verb the HTTP verb.
+     * @return the route mapping annotation, or null if the method is not mapped to the verb.
+     */
+    public static Annotation getMappingAnnotation(Method method, String verb) {
+        for (var entry : annotationMap.entrySet()) {
+            if (entry.getValue().name().equals(verb)) {
+                return method.getAnnotation(entry.getKey());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value of the specified attribute of a route mapping annotation.
      *
      * @param routeMapping the route mapping annotation.
+     * @param attribute the attribute name, e.g. "httpCode" or "type".
      * @throws ForceException if an error occurs while retrieving the annotation value.
-     * @return the value of the route mapping annotation.
+     * @return the value of the attribute.
      */
-    private static String getAnnotationValue(Annotation routeMapping) {
+    public static Object getAnnotationValue(Annotation routeMapping, String attribute) {
         try {
-            Method valueMethod = routeMapping.annotationType().getMethod("value");
-            return (String) valueMethod.invoke(routeMapping);
+            Method valueMethod = routeMapping.annotationType().getMethod(attribute);
+            return valueMethod.invoke(routeMapping);
         } catch (Exception e) {
             throw new ForceException("Failed to retrieve annotation value.", e);
         }
     }
+
+    /**
+     * Retrieves the value of the specified route mapping annotation.
+     *
+     * @param routeMapping the route mapping annotation.
+     * @throws ForceException if an error occurs while retrieving the annotation value.
+     * @return the value of the route mapping annotation.
+     */
+    private static String getAnnotationValue(Annotation routeMapping) {
+        return (String) getAnnotationValue(routeMapping, "value");
+    }
 }
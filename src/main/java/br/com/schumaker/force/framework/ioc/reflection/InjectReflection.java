@@ -2,15 +2,16 @@ package br.com.schumaker.force.framework.ioc.reflection;
 
 import br.com.schumaker.force.framework.ioc.annotations.bean.Inject;
 import br.com.schumaker.force.framework.exception.ForceException;
-import br.com.schumaker.force.framework.ioc.IoCContainer;
 
 /**
  * The InjectReflection class provides utility methods for injecting dependencies into fields annotated with @Inject.
  * It uses reflection to set the field values of an instance with the corresponding beans from the IoC container.
+ * A field is resolved like a constructor parameter, to a @Bean, a repository, a service or a component, which
+ * are the dependencies the BeanGraph orders; a field no managed class provides is left unset.
  * This class is a singleton and provides a global point of access to its instance.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class InjectReflection {
     private static final InjectReflection INSTANCE = new InjectReflection();
@@ -34,10 +35,9 @@ public final class InjectReflection {
             for (var field : fields) {
                 if (field.isAnnotationPresent(Inject.class)) {
                     field.setAccessible(true);
-                    var type = field.getType();
-                    var value = IoCContainer.getInstance().getBean(type.getName());
-                    if (value != null && value.getInstance() != null) {
-                        field.set(instance, value.getInstance());
+                    var value = ClassReflection.getInstance().getManagedInstance(field.getType());
+                    if (value != null) {
+                        field.set(instance, value);
                     }
                 }
             }
@@ -11,7 +11,7 @@ import br.com.schumaker.force.framework.ioc.managed.ManagedBean;
  * This class is a singleton and provides a global point of access to its instance.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class MethodReflection {
     private static final MethodReflection INSTANCE = new MethodReflection();
@@ -24,6 +24,7 @@ public final class MethodReflection {
 
     /**
      * Instantiates beans for methods annotated with @Bean in the specified instance and registers them with the IoC container.
+     * A bean is registered under its class and under the return type of its method.
      *
      * @param instance the instance whose methods are to be processed.
      * @throws ForceException if an error occurs during bean instantiation.
@@ -34,8 +35,10 @@ public final class MethodReflection {
             for (var method : methods) {
                 if (method.isAnnotationPresent(Bean.class)) {
                     Object bean = method.invoke(instance);
-                    var managedBean = ManagedBean.builder(bean.getClass(), bean);
-                    IoCContainer.getInstance().registerBean(managedBean);
+                    IoCContainer.getInstance().registerBean(ManagedBean.builder(bean.getClass(), bean));
+                    if (method.getReturnType() != bean.getClass()) {
+                        IoCContainer.getInstance().registerBean(ManagedBean.builder(method.getReturnType(), bean));
+                    }
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,156 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.http.Http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The Cursor class encodes the sort key of the last element of a page into an opaque, URL safe token.
+ * The token holds a fingerprint of the key columns with their directions and the typed values of the key,
+ * a token decoded with other key columns or directions, or one that cannot be read, is answered with HTTP 400.
+ *
+ * @see EntityMetadata.Keyset
+ * @see SqlCrudImpl
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class Cursor {
+    private static final int VERSION = 1;
+
+    private Cursor() {}
+
+    /**
+     * Encodes the key of an element.
+     *
+     * @param columns the key columns with their directions, e.g. "price DESC".
+     * @param values the key values, in the order of the columns.
+     * @return the cursor token.
+     */
+    static String encode(List<String> columns, List<Object> values) {
+        var bytes = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(fingerprint(columns));
+            out.writeByte(values.size());
+            for (var value : values) {
+                write(out, value);
+            }
+        } catch (IOException ex) {
+            throw new ForceException("Cannot encode the cursor.", ex);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a cursor token.
+     *
+     * @param token the cursor token.
+     * @param columns the key columns of the current sort, with their directions.
+     * @return the key values, in the order of the columns.
+     * @throws ForceException with HTTP 400 if the token is invalid or was made for other columns.
+     */
+    static List<Object> decode(String token, List<String> columns) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION || in.readInt() != fingerprint(columns)) {
+                throw invalid();
+            }
+            int size = in.readByte();
+            if (size != columns.size()) {
+                throw invalid();
+            }
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(read(in));
+            }
+            return values;
+        } catch (ForceException ex) {
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            // the cause is not kept, the request is answered with the status of the exception
+            throw invalid();
+        }
+    }
+
+    private static void write(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case null -> out.writeByte('N');
+            case Long number -> writeLong(out, number);
+            case Integer number -> writeLong(out, number);
+            case Short number -> writeLong(out, number);
+            case Byte number -> writeLong(out, number);
+            case Double number -> {
+                out.writeByte('D');
+                out.writeDouble(number);
+            }
+            case Float number -> {
+                out.writeByte('D');
+                out.writeDouble(number);
+            }
+            case Boolean bool -> {
+                out.writeByte('Z');
+                out.writeBoolean(bool);
+            }
+            case BigDecimal number -> writeText(out, 'M', number.toString());
+            case BigInteger number -> writeText(out, 'I', number.toString());
+            case Timestamp timestamp -> writeText(out, 'T', timestamp.toString());
+            case Date date -> writeText(out, 'd', date.toString());
+            case LocalDateTime dateTime -> writeText(out, 'L', dateTime.toString());
+            case LocalDate date -> writeText(out, 'A', date.toString());
+            case UUID uuid -> writeText(out, 'U', uuid.toString());
+            default -> writeText(out, 'S', value.toString());
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        var tag = in.readByte();
+        return switch (tag) {
+            case 'N' -> null;
+            case 'J' -> in.readLong();
+            case 'D' -> in.readDouble();
+            case 'Z' -> in.readBoolean();
+            case 'M' -> new BigDecimal(in.readUTF());
+            case 'I' -> new BigInteger(in.readUTF());
+            case 'T' -> Timestamp.valueOf(in.readUTF());
+            case 'd' -> Date.valueOf(in.readUTF());
+            case 'L' -> LocalDateTime.parse(in.readUTF());
+            case 'A' -> LocalDate.parse(in.readUTF());
+            case 'U' -> UUID.fromString(in.readUTF());
+            case 'S' -> in.readUTF();
+            default -> throw new IOException("Unknown cursor value type " + tag);
+        };
+    }
+
+    private static void writeLong(DataOutputStream out, long value) throws IOException {
+        out.writeByte('J');
+        out.writeLong(value);
+    }
+
+    private static void writeText(DataOutputStream out, char tag, String value) throws IOException {
+        out.writeByte(tag);
+        out.writeUTF(value);
+    }
+
+    private static int fingerprint(List<String> columns) {
+        return String.join(",", columns).hashCode();
+    }
+
+    private static ForceException invalid() {
+        return new ForceException("Invalid cursor.", Http.HTTP_400);
+    }
+}
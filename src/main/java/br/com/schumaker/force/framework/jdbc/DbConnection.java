@@ -3,40 +3,75 @@ package br.com.schumaker.force.framework.jdbc;
 import br.com.schumaker.force.framework.exception.ForceException;
 import br.com.schumaker.force.framework.ioc.AppProperties;
 import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.jdbc.pool.ConnectionPool;
+import br.com.schumaker.force.framework.jdbc.pool.PoolRouter;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 
 /**
  * The DbConnection class provides a method to establish a connection to the database.
  * It uses the database configuration properties defined in the AppProperties class and retrieves
  * the values from the Environment instance.
+ * The connections go to the primary database, unless the current thread is routed to the read replicas,
+ * as the SqlCrudInterceptor does for the reads of a repository. Inside a @Transactional method every call
+ * gets the connection of the transaction bound to the thread.
  *
  * @see Environment
  * @see AppProperties
- * @see SimpleConnectionPool
+ * @see ConnectionPool
+ * @see PoolRouter
+ * @see Transaction
  *
  * @author Hudson Schumaker
- * @version 2.0.0
+ * @version 2.3.0
  */
 public final class DbConnection {
-    private static final SimpleConnectionPool simpleConnectionPool = SimpleConnectionPool.getInstance();
+    private static final ThreadLocal<Boolean> replica = new ThreadLocal<>();
 
     /**
      * Establishes and returns a connection to the database using the configured properties.
      *
-     * @return a Connection object to the database.
+     * @return a Connection object to the primary database, or to a replica if the thread is routed to the replicas.
      * @throws ForceException if an error occurs while establishing the connection.
      */
     public static Connection getConnection() {
-        return simpleConnectionPool.getConnection();
+        var transaction = Transaction.current();
+        if (transaction != null) {
+            return transaction.getConnection();
+        }
+        var router = PoolRouter.getInstance();
+        return Boolean.TRUE.equals(replica.get()) ? router.getReadConnection() : router.getConnection();
+    }
+
+    /**
+     * Routes the connections of the current thread.
+     *
+     * @param toReplica true to read from the replicas, false to use the primary database.
+     * @return the previous route of the thread, to be restored.
+     */
+    static boolean route(boolean toReplica) {
+        boolean previous = Boolean.TRUE.equals(replica.get());
+        if (toReplica) {
+            replica.set(Boolean.TRUE);
+        } else {
+            replica.remove();
+        }
+        return previous;
     }
 
     /**
      * Releases the connection back to the pool.
+     * Closing a pooled connection returns it to the pool, a connection released twice is returned once.
+     * The connection of a transaction stays bound until the transaction ends.
      *
      * @param connection the Connection object to be released.
      */
     public static void releaseConnection(Connection connection) {
-        simpleConnectionPool.releaseConnection(connection);
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            throw new ForceException("Error releasing connection back to pool.", ex);
+        }
     }
 }
@@ -0,0 +1,473 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+import br.com.schumaker.force.framework.ioc.reflection.TableReflection;
+import br.com.schumaker.force.framework.web.http.Http;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The EntityMetadata class holds the mapping of an entity and its SQL statements, built once per repository.
+ * The annotations are read and the statements are built when the repository is created, a CRUD call only
+ * picks a statement and binds its parameters. Every statement takes its values as parameters, the pagination
+ * included, so each one is prepared once per connection by the statement cache.
+ *
+ * <p>
+ * A page query depends on its sort, the page queries are cached by sort. Only known columns may be sorted on,
+ * an unknown sort property is answered with HTTP 400 instead of being written into the SQL. The primary key
+ * is appended to a sort that does not have it, so the order of the rows, and a keyset cursor, is unique.
+ * </p>
+ *
+ * <p>
+ * A keyset query reads the rows after the sort key of a cursor instead of skipping an offset; its parameters
+ * are bound by Keyset.bind() and then the number of rows. A sort column that may be NULL, one mapped to
+ * a non primitive field other than the primary key, is compared with NULL-aware terms that follow where
+ * the dialect sorts NULL, so a page that ends on a NULL key is followed by the right rows.
+ * </p>
+ *
+ * @param <T> the type of the entity.
+ *
+ * @see SqlCrudImpl
+ * @see TableReflection
+ * @see RdbEnum
+ *
+ * @author Hudson Schumaker
+ * @version 1.4.0
+ */
+public final class EntityMetadata<T> {
+    private static final int MAX_PAGE_QUERIES = 256;
+    private static final TableReflection tableReflection = TableReflection.getInstance();
+
+    private final Class<T> type;
+    private final String tableName;
+    private final String primaryKey;
+    private final Field primaryKeyField;
+    private final List<Field> columnFields;
+    private final List<Field> selectFields;
+    private final List<String> selectColumns;
+    private final Map<String, String> sortColumns;
+    private final Set<String> nullableColumns;
+    private final boolean nullsFirst;
+    private final String pagination;
+    private final String limit;
+    private final String estimatedCount;
+    private final String selectAll;
+    private final String selectById;
+    private final String count;
+    private final String insert;
+    private final String update;
+    private final String deleteById;
+    private final Sort defaultSort;
+    private final Map<Sort, String> pageQueries = new ConcurrentHashMap<>();
+    private final Map<Sort, Keyset> keysets = new ConcurrentHashMap<>();
+
+    private EntityMetadata(Class<T> type, RdbEnum dialect) {
+        this.type = type;
+        this.tableName = tableReflection.getTableName(type);
+        this.primaryKey = tableReflection.getPrimaryKey(type);
+        this.pagination = dialect.getPagination();
+        this.limit = dialect.getLimit();
+        this.estimatedCount = dialect.getEstimatedCount();
+        this.nullsFirst = dialect.isNullsFirst();
+
+        var columnNames = tableReflection.getColumnNames(type);
+        this.columnFields = List.copyOf(tableReflection.getColumnFields(type));
+        Map<Field, String> columns = new HashMap<>();
+        for (int i = 0; i < columnFields.size(); i++) {
+            columns.put(columnFields.get(i), columnNames.get(i));
+        }
+
+        Field pkField = null;
+        List<Field> fields = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (var field : tableReflection.getFields(type)) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (field.isAnnotationPresent(Pk.class)) {
+                pkField = field;
+            }
+            fields.add(field);
+            names.add(field.isAnnotationPresent(Pk.class) ? primaryKey : columns.getOrDefault(field, field.getName()));
+        }
+        this.primaryKeyField = pkField;
+        this.selectFields = List.copyOf(fields);
+        this.selectColumns = List.copyOf(names);
+
+        Map<String, String> sortable = new HashMap<>();
+        Set<String> nullable = new HashSet<>();
+        for (int i = 0; i < fields.size(); i++) {
+            sortable.put(fields.get(i).getName(), names.get(i));
+            sortable.put(names.get(i), names.get(i));
+            if (!fields.get(i).getType().isPrimitive() && !names.get(i).equals(primaryKey)) {
+                nullable.add(names.get(i));
+            }
+        }
+        this.sortColumns = Map.copyOf(sortable);
+        this.nullableColumns = Set.copyOf(nullable);
+
+        this.selectAll = "SELECT " + String.join(", ", selectColumns) + " FROM " + tableName;
+        this.selectById = selectAll + " WHERE " + primaryKey + " = ?";
+        this.count = "SELECT COUNT(*) FROM " + tableName;
+        this.insert = "INSERT INTO " + tableName + " (" + String.join(", ", columnNames) + ") VALUES ("
+                + columnNames.stream().map(it -> "?").collect(Collectors.joining(", ")) + ")";
+        this.update = "UPDATE " + tableName + " SET "
+                + columnNames.stream().map(it -> it + " = ?").collect(Collectors.joining(", "))
+                + " WHERE " + primaryKey + " = ?";
+        this.deleteById = "DELETE FROM " + tableName + " WHERE " + primaryKey + " = ?";
+        this.defaultSort = new Sort(List.of(new Sort.Order(Sort.Direction.ASC, primaryKey)));
+    }
+
+    /**
+     * Builds the metadata of an entity.
+     *
+     * @param type the entity class, annotated with @Table.
+     * @param dialect the RDBMS dialect.
+     * @param <T> the type of the entity.
+     * @return a new EntityMetadata.
+     */
+    public static <T> EntityMetadata<T> of(Class<T> type, RdbEnum dialect) {
+        return new EntityMetadata<>(type, dialect);
+    }
+
+    /**
+     * Returns the query of a page, ordered by the given sort; its parameters are the page size and the offset.
+     *
+     * @param sort the sort, may be null or empty.
+     * @return the page query.
+     * @throws ForceException with HTTP 400 if a sort property is not a column of the entity.
+     */
+    public String getSelectPage(Sort sort) {
+        if (sort == null || sort.orders().isEmpty()) {
+            return selectAll + pagination;
+        }
+
+        var query = pageQueries.get(sort);
+        if (query != null) {
+            return query;
+        }
+
+        query = selectAll + orderBy(orders(sort)) + pagination;
+        if (pageQueries.size() < MAX_PAGE_QUERIES) {
+            pageQueries.putIfAbsent(sort, query);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the keyset query of a sort, it reads the rows after a cursor in the order of the sort.
+     *
+     * @param sort the sort, may be null or empty to sort by primary key.
+     * @return the keyset of the sort.
+     * @throws ForceException with HTTP 400 if a sort property is not a column of the entity.
+     */
+    public Keyset getKeyset(Sort sort) {
+        var key = sort == null || sort.orders().isEmpty() ? defaultSort : sort;
+        var keyset = keysets.get(key);
+        if (keyset != null) {
+            return keyset;
+        }
+
+        var orders = orders(key);
+        List<Integer> positions = new ArrayList<>(orders.size());
+        List<Boolean> nullable = new ArrayList<>(orders.size());
+        for (var order : orders) {
+            positions.add(selectColumns.indexOf(order.property()) + 1);
+            nullable.add(nullableColumns.contains(order.property()));
+        }
+
+        keyset = new Keyset(orders, List.copyOf(positions), List.copyOf(nullable), nullsFirst, selectAll,
+                orderBy(orders) + limit);
+        if (keysets.size() < MAX_PAGE_QUERIES) {
+            keysets.putIfAbsent(key, keyset);
+        }
+        return keyset;
+    }
+
+    /**
+     * Reads the primary key value of an entity.
+     *
+     * @param entity the entity.
+     * @return the primary key value, or null if the entity has no @Pk field.
+     * @throws IllegalAccessException if the field cannot be read.
+     */
+    public Object getPrimaryKeyValue(T entity) throws IllegalAccessException {
+        return primaryKeyField == null ? null : primaryKeyField.get(entity);
+    }
+
+    private List<Sort.Order> orders(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>(sort.orders().size() + 1);
+        boolean unique = false;
+        for (var order : sort.orders()) {
+            var column = sortColumn(order.property());
+            unique |= column.equals(primaryKey);
+            orders.add(new Sort.Order(order.direction() == null ? Sort.Direction.ASC : order.direction(), column));
+        }
+        if (!unique) {
+            orders.add(new Sort.Order(Sort.Direction.ASC, primaryKey));
+        }
+        return orders;
+    }
+
+    private static String orderBy(List<Sort.Order> orders) {
+        return " ORDER BY " + orders.stream()
+                .map(order -> order.property() + " " + order.direction())
+                .collect(Collectors.joining(", "));
+    }
+
+    private String sortColumn(String property) {
+        var column = getColumn(property);
+        if (column == null) {
+            throw new ForceException("Unknown sort property: " + property, Http.HTTP_400);
+        }
+        return column;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getPrimaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * Returns the column of a property.
+     *
+     * @param property the field name or the column name.
+     * @return the column name, or null if the property is not mapped.
+     */
+    public String getColumn(String property) {
+        return sortColumns.get(property);
+    }
+
+    /**
+     * Returns the fields bound by the insert and update statements, in parameter order.
+     *
+     * @return the @Column fields, accessible.
+     */
+    public List<Field> getColumnFields() {
+        return columnFields;
+    }
+
+    /**
+     * Returns the fields read by the select statements, in column order.
+     *
+     * @return the mapped fields, accessible.
+     */
+    public List<Field> getSelectFields() {
+        return selectFields;
+    }
+
+    /**
+     * Returns the columns of the select statements, in the order of getSelectFields().
+     *
+     * @return the selected column names.
+     */
+    public List<String> getSelectColumns() {
+        return selectColumns;
+    }
+
+    public String getSelectAll() {
+        return selectAll;
+    }
+
+    public String getSelectById() {
+        return selectById;
+    }
+
+    public String getCount() {
+        return count;
+    }
+
+    public String getInsert() {
+        return insert;
+    }
+
+    public String getUpdate() {
+        return update;
+    }
+
+    public String getDeleteById() {
+        return deleteById;
+    }
+
+    public Sort getDefaultSort() {
+        return defaultSort;
+    }
+
+    /**
+     * Returns the query of the row estimate of the table, its parameter is the table name.
+     *
+     * @return the estimated count query.
+     */
+    public String getEstimatedCount() {
+        return estimatedCount;
+    }
+
+    /**
+     * The keyset of a sort: its columns, their positions in the select statements and the query of the rows
+     * after a cursor. The key of a cursor is the columns with their directions, so a cursor is only accepted
+     * by the sort it was made for.
+     */
+    public static final class Keyset {
+        private final List<Sort.Order> orders;
+        private final List<String> columns;
+        private final List<String> key;
+        private final List<Integer> positions;
+        private final List<Boolean> nullable;
+        private final boolean nullsFirst;
+        private final String select;
+        private final String orderBy;
+        private final String query;
+
+        /**
+         * Constructs a new Keyset.
+         *
+         * @param orders the key columns with their directions, the sort columns followed by the primary key.
+         * @param positions the index of each key column in the select statements, starting at 1.
+         * @param nullable whether each key column may be NULL.
+         * @param nullsFirst whether the dialect sorts NULL first in ascending order.
+         * @param select the select statement, without a where clause.
+         * @param orderBy the order by and limit clauses.
+         */
+        Keyset(List<Sort.Order> orders, List<Integer> positions, List<Boolean> nullable, boolean nullsFirst,
+               String select, String orderBy) {
+            this.orders = List.copyOf(orders);
+            this.columns = orders.stream().map(Sort.Order::property).toList();
+            this.key = orders.stream().map(order -> order.property() + " " + order.direction()).toList();
+            this.positions = positions;
+            this.nullable = nullable;
+            this.nullsFirst = nullsFirst;
+            this.select = select;
+            this.orderBy = orderBy;
+            this.query = build(new boolean[orders.size()]);
+        }
+
+        public List<String> columns() {
+            return columns;
+        }
+
+        /**
+         * Returns the key of the cursors of this keyset, each column followed by its direction, e.g. "price DESC".
+         *
+         * @return the cursor key.
+         */
+        public List<String> key() {
+            return key;
+        }
+
+        public List<Integer> positions() {
+            return positions;
+        }
+
+        /**
+         * Returns the query of the rows after a key without NULL values.
+         *
+         * @return the keyset query.
+         */
+        public String query() {
+            return query;
+        }
+
+        /**
+         * Returns the query of the rows after a key, a key with NULL values gets IS NULL terms.
+         *
+         * @param values the key values, in the order of the columns.
+         * @return the keyset query.
+         */
+        public String query(List<Object> values) {
+            var nulls = new boolean[values.size()];
+            boolean any = false;
+            for (int i = 0; i < nulls.length; i++) {
+                nulls[i] = values.get(i) == null;
+                any |= nulls[i];
+            }
+            return any ? build(nulls) : query;
+        }
+
+        /**
+         * Binds the key of a cursor to the keyset query, NULL values have no parameter.
+         *
+         * @param statement the prepared keyset query.
+         * @param values the key values, in the order of the columns.
+         * @return the index of the next parameter, the number of rows.
+         * @throws SQLException if a parameter cannot be set.
+         */
+        public int bind(PreparedStatement statement, List<Object> values) throws SQLException {
+            int index = 1;
+            for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) == null && isNullLast(i)) {
+                    continue;
+                }
+                for (int j = 0; j <= i; j++) {
+                    if (values.get(j) != null) {
+                        statement.setObject(index++, values.get(j));
+                    }
+                }
+            }
+            return index;
+        }
+
+        private String build(boolean[] nulls) {
+            // (c0 > ?) OR (c0 = ? AND c1 > ?) OR ..., with < for a descending column
+            List<String> terms = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                var after = after(i, nulls[i]);
+                if (after == null) {
+                    continue;
+                }
+
+                var term = new StringBuilder("(");
+                for (int j = 0; j < i; j++) {
+                    term.append(columns.get(j)).append(nulls[j] ? " IS NULL AND " : " = ? AND ");
+                }
+                terms.add(i == 0 && after.startsWith("(") ? after : term.append(after).append(')').toString());
+            }
+            return select + " WHERE (" + String.join(" OR ", terms) + ")" + orderBy;
+        }
+
+        /**
+         * Returns the term of the rows after a value of a key column.
+         *
+         * @param index the index of the key column.
+         * @param isNull whether the value is NULL.
+         * @return the term, null if no row sorts after the value in this column.
+         */
+        private String after(int index, boolean isNull) {
+            var column = columns.get(index);
+            var greater = column + (orders.get(index).direction() == Sort.Direction.DESC ? " < ?" : " > ?");
+            if (isNull) {
+                return isNullLast(index) ? null : column + " IS NOT NULL";
+            }
+            return nullable.get(index) && isNullLast(index) ? "(" + greater + " OR " + column + " IS NULL)" : greater;
+        }
+
+        /**
+         * Checks if NULL sorts after the other values of a key column, in the direction of the sort.
+         *
+         * @param index the index of the key column.
+         * @return true if NULL sorts last.
+         */
+        private boolean isNullLast(int index) {
+            return nullsFirst == (orders.get(index).direction() == Sort.Direction.DESC);
+        }
+    }
+}
@@ -1,172 +1,244 @@
 package br.com.schumaker.force.framework.jdbc;
 
 import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Query;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * The QueryBuilder class.
- * It is responsible for building SQL queries based on method names.
+ * It is responsible for compiling the query methods of a repository into query plans.
+ *
+ * <p>
+ * A method annotated with @Query runs its SQL, where 1?, 2? ... are the first, second ... method arguments
+ * and a plain ? is the next one. A findBy method is derived from its name: the conditions are joined by And
+ * or Or and end with an operator keyword, e.g. findByNameAndPriceGreaterThan or findByNameIgnoreCase,
+ * and an optional OrderBy clause sorts the rows, e.g. findByPriceLessThanOrderByNameDesc or, with several
+ * properties, each with its direction, OrderByNameAscPriceDesc.
+ * The properties are the fields or the columns of the entity.
+ * </p>
+ *
+ * <p>
+ * The arguments are bound as statement parameters, never written into the SQL, and a method is compiled once:
+ * an invocation only binds and executes its plan.
+ * </p>
+ *
+ * @see QueryPlan
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
-public class QueryBuilder {
-    private static final Map<String, String> keywordMap = new HashMap<>();
-
-    static {
-        keywordMap.put("Distinct", "DISTINCT");
-        keywordMap.put("And", "AND");
-        keywordMap.put("Or", "OR");
-        keywordMap.put("Is", "=");
-        keywordMap.put("Equals", "=");
-        keywordMap.put("Between", "BETWEEN");
-        keywordMap.put("LessThan", "<");
-        keywordMap.put("LessThanEqual", "<=");
-        keywordMap.put("GreaterThan", ">");
-        keywordMap.put("GreaterThanEqual", ">=");
-        keywordMap.put("After", ">");
-        keywordMap.put("Before", "<");
-        keywordMap.put("IsNull", "IS NULL");
-        keywordMap.put("NotNull", "IS NOT NULL");
-        keywordMap.put("Like", "LIKE");
-        keywordMap.put("NotLike", "NOT LIKE");
-        keywordMap.put("StartingWith", "LIKE");
-        keywordMap.put("EndingWith", "LIKE");
-        keywordMap.put("Containing", "LIKE");
-        keywordMap.put("OrderBy", "ORDER BY");
-        keywordMap.put("Not", "<>");
-        keywordMap.put("In", "IN");
-        keywordMap.put("NotIn", "NOT IN");
-        keywordMap.put("True", "= TRUE");
-        keywordMap.put("False", "= FALSE");
-        keywordMap.put("IgnoreCase", "UPPER");
-    }
+public final class QueryBuilder {
+    private static final String FIND_BY = "findBy";
+    private static final String ORDER_BY = "OrderBy";
+    private static final Pattern CONNECTOR = Pattern.compile("(?<=[a-z0-9])(And|Or)(?=[A-Z])");
+    private static final Pattern ORDER = Pattern.compile("([A-Z][A-Za-z0-9]*?)(Asc|Desc)(?=[A-Z]|$)");
+    private static final Pattern PLACEHOLDER = Pattern.compile("(\\d*)\\?");
+    private static final List<Operator> OPERATORS = Arrays.stream(Operator.values())
+            .sorted(Comparator.comparingInt((Operator it) -> it.keyword.length()).reversed())
+            .toList();
 
     /**
-     * Builds a SQL query based on the method name.
-     *
-     * @param tableName the table name.
-     * @param method    the method.
-     * @param args      the method arguments.
-     * @return the SQL query.
+     * The operators of a condition, by the keyword that ends it.
      */
-    public static String buildQuery(String tableName, Method method, Object[] args) {
-        var methodName = method.getName();
-        if (methodName.startsWith("findBy")) {
-            return buildSelectQuery(tableName, method, args);
+    private enum Operator {
+        IS_NULL("IsNull", "%s IS NULL", 0),
+        IS_NOT_NULL("IsNotNull", "%s IS NOT NULL", 0),
+        NOT_NULL("NotNull", "%s IS NOT NULL", 0),
+        TRUE("True", "%s = TRUE", 0),
+        FALSE("False", "%s = FALSE", 0),
+        BETWEEN("Between", "%s BETWEEN ? AND ?", 2),
+        LESS_THAN("LessThan", "%s < ?", 1),
+        LESS_THAN_EQUAL("LessThanEqual", "%s <= ?", 1),
+        GREATER_THAN("GreaterThan", "%s > ?", 1),
+        GREATER_THAN_EQUAL("GreaterThanEqual", "%s >= ?", 1),
+        AFTER("After", "%s > ?", 1),
+        BEFORE("Before", "%s < ?", 1),
+        LIKE("Like", "%s LIKE ?", 1),
+        NOT_LIKE("NotLike", "%s NOT LIKE ?", 1),
+        STARTING_WITH("StartingWith", "%s LIKE ?", 1, value -> value + "%"),
+        ENDING_WITH("EndingWith", "%s LIKE ?", 1, value -> "%" + value),
+        CONTAINING("Containing", "%s LIKE ?", 1, value -> "%" + value + "%"),
+        IGNORE_CASE("IgnoreCase", "UPPER(%s) = UPPER(?)", 1),
+        NOT("Not", "%s <> ?", 1),
+        IS("Is", "%s = ?", 1),
+        EQUALS("Equals", "%s = ?", 1);
+
+        private final String keyword;
+        private final String template;
+        private final int arguments;
+        private final UnaryOperator<Object> transform;
+
+        Operator(String keyword, String template, int arguments) {
+            this(keyword, template, arguments, null);
         }
-        return "";
-    }
 
-    /**
-     * Builds a SELECT query based on the method name.
-     *
-     * @param tableName the table name.
-     * @param method    the method.
-     * @param args      the method arguments.
-     * @return the SELECT query.
-     */
-    private static String buildSelectQuery(String tableName, Method method, Object[] args) {
-        var query = new StringBuilder("SELECT * FROM ");
-        query.append(tableName);
-        query.append(" WHERE ");
-
-        var methodName = method.getName().substring(6); // Remove "findBy"
-        var conditions = methodName.split("And|Or");
-        var argsIndex = 1;
-
-        for (int i = 0; i < conditions.length; i++) {
-            var condition = conditions[i];
-            var keyword = getKeyword(condition);
-            if (keyword.equals("UPPER")) {
-                query.append(keyword).append("(")
-                        .append(toSnakeCase(getFieldName(condition)))
-                        .append(") = UPPER(")
-                        .append(argsIndex)
-                        .append("?)");
-            } else {
-                query.append(toSnakeCase(getFieldName(condition)))
-                        .append(" ")
-                        .append(keyword)
-                        .append(" ")
-                        .append(argsIndex)
-                        .append("?");
-            }
+        Operator(String keyword, String template, int arguments, UnaryOperator<Object> transform) {
+            this.keyword = keyword;
+            this.template = template;
+            this.arguments = arguments;
+            this.transform = transform;
+        }
 
-            if (i < conditions.length - 1) {
-                if (methodName.contains("And")) {
-                    query.append(" AND ");
-                } else if (methodName.contains("Or")) {
-                    query.append(" OR ");
-                }
+        private QueryPlan.Parameter parameter(int argument) {
+            if (transform == null) {
+                return QueryPlan.Parameter.of(argument);
             }
-            argsIndex++;
+            return new QueryPlan.Parameter(argument, value -> value == null ? null : transform.apply(value));
         }
-        System.out.println("SQL: " + query);
-
-        return replacePlaceholders(query.toString(), args);
     }
 
+    private QueryBuilder() {}
+
     /**
-     * Gets the keyword based on the condition.
+     * Compiles a query method of a repository.
      *
-     * @param condition the condition.
-     * @return the keyword.
+     * @param metadata the metadata of the entity of the repository.
+     * @param method the method, annotated with @Query or named findBy...
+     * @return the query plan of the method.
+     * @throws ForceException if the method is not a query method or does not match its arguments.
      */
-    private static String getKeyword(String condition) {
-        for (String key : keywordMap.keySet()) {
-            if (condition.endsWith(key)) {
-                return keywordMap.get(key);
-            }
+    static QueryPlan compile(EntityMetadata<?> metadata, Method method) {
+        var query = method.getAnnotation(Query.class);
+        if (query != null) {
+            return compileQuery(metadata, method, query.value());
+        }
+        if (method.getName().startsWith(FIND_BY)) {
+            return compileDerived(metadata, method);
         }
-        return "="; // Default to equals if no keyword is found
+        throw new ForceException("Method " + method + " is not a query method, use findBy... or @Query.");
     }
 
     /**
-     * Gets the field name based on the condition.
+     * Compiles the SQL of a @Query method, the numbered placeholders become ? parameters.
      *
-     * @param condition the condition.
-     * @return the field name.
+     * @param metadata the metadata of the entity.
+     * @param method the method.
+     * @param sql the SQL of the @Query.
+     * @return the query plan.
      */
-    private static String getFieldName(String condition) {
-        for (String key : keywordMap.keySet()) {
-            if (condition.endsWith(key)) {
-                return condition.substring(0, condition.length() - key.length());
+    private static QueryPlan compileQuery(EntityMetadata<?> metadata, Method method, String sql) {
+        List<QueryPlan.Parameter> parameters = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(sql);
+        StringBuilder result = new StringBuilder();
+        int next = 0;
+        while (matcher.find()) {
+            int argument = matcher.group(1).isEmpty() ? next++ : Integer.parseInt(matcher.group(1)) - 1;
+            if (argument < 0 || argument >= method.getParameterCount()) {
+                throw new ForceException("Placeholder " + matcher.group() + " of " + method + " has no argument.");
             }
+            parameters.add(QueryPlan.Parameter.of(argument));
+            matcher.appendReplacement(result, "?");
         }
-        return condition;
+        matcher.appendTail(result);
+        return new QueryPlan(result.toString(), parameters, metadata.getType(), result(method));
     }
 
     /**
-     * Replaces the placeholders in the query with the parameters.
+     * Compiles a findBy method from its name.
      *
-     * @param query  the query.
-     * @param params the parameters.
-     * @return the query with the placeholders replaced.
+     * @param metadata the metadata of the entity.
+     * @param method the method.
+     * @return the query plan.
      */
-    public static String replacePlaceholders(String query, Object[] params) {
-        Pattern pattern = Pattern.compile("(\\d+)\\?");
-        Matcher matcher = pattern.matcher(query);
-        StringBuilder result = new StringBuilder();
-        int paramIndex = 0;
+    private static QueryPlan compileDerived(EntityMetadata<?> metadata, Method method) {
+        var name = method.getName().substring(FIND_BY.length());
+        var orderBy = "";
+        int order = name.indexOf(ORDER_BY);
+        if (order >= 0) {
+            orderBy = orderBy(metadata, method, name.substring(order + ORDER_BY.length()));
+            name = name.substring(0, order);
+        }
 
-        while (matcher.find()) {
-            if (paramIndex < params.length) {
-                Object param = params[paramIndex];
-                String replacement = param instanceof String ? "'" + param + "'" : param.toString();
-                matcher.appendReplacement(result, replacement);
-                paramIndex++;
-            } else {
-                throw new ForceException("Not enough parameters provided for the query.");
+        var sql = new StringBuilder(metadata.getSelectAll());
+        List<QueryPlan.Parameter> parameters = new ArrayList<>();
+        int argument = 0;
+        if (!name.isEmpty()) {
+            sql.append(" WHERE ");
+            Matcher connectors = CONNECTOR.matcher(name);
+            int start = 0;
+            while (true) {
+                boolean more = connectors.find();
+                var condition = name.substring(start, more ? connectors.start() : name.length());
+                var operator = operator(condition);
+                var property = condition.substring(0, condition.length() - keywordLength(condition, operator));
+                sql.append(operator.template.formatted(column(metadata, method, property)));
+                for (int i = 0; i < operator.arguments; i++) {
+                    parameters.add(operator.parameter(argument++));
+                }
+                if (!more) {
+                    break;
+                }
+                sql.append(' ').append(connectors.group(1).toUpperCase()).append(' ');
+                start = connectors.end();
             }
         }
-        matcher.appendTail(result);
-        return result.toString();
+        if (argument != method.getParameterCount()) {
+            throw new ForceException("Method " + method + " needs " + argument + " arguments.");
+        }
+        return new QueryPlan(sql.append(orderBy).toString(), parameters, metadata.getType(), result(method));
+    }
+
+    private static String orderBy(EntityMetadata<?> metadata, Method method, String clause) {
+        List<String> orders = new ArrayList<>();
+        Matcher matcher = ORDER.matcher(clause);
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            var direction = "Desc".equals(matcher.group(2)) ? Sort.Direction.DESC : Sort.Direction.ASC;
+            orders.add(column(metadata, method, matcher.group(1)) + " " + direction);
+            end = matcher.end();
+        }
+        if (orders.isEmpty() && !clause.isEmpty()) {
+            // a single property without direction
+            orders.add(column(metadata, method, clause) + " " + Sort.Direction.ASC);
+            end = clause.length();
+        }
+        if (end != clause.length()) {
+            throw new ForceException("Method " + method + " has an invalid OrderBy clause: " + clause);
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static Operator operator(String condition) {
+        for (var operator : OPERATORS) {
+            if (condition.endsWith(operator.keyword) && condition.length() > operator.keyword.length()) {
+                return operator;
+            }
+        }
+        return Operator.EQUALS;
+    }
+
+    private static int keywordLength(String condition, Operator operator) {
+        return condition.endsWith(operator.keyword) ? operator.keyword.length() : 0;
+    }
+
+    private static String column(EntityMetadata<?> metadata, Method method, String property) {
+        var field = Character.toLowerCase(property.charAt(0)) + property.substring(1);
+        var column = metadata.getColumn(field);
+        if (column == null) {
+            column = metadata.getColumn(toSnakeCase(property));
+        }
+        if (column == null) {
+            throw new ForceException("Method " + method + " uses an unknown property: " + field);
+        }
+        return column;
+    }
+
+    private static QueryPlan.Result result(Method method) {
+        var returnType = method.getReturnType();
+        if (Collection.class.isAssignableFrom(returnType)) {
+            return QueryPlan.Result.LIST;
+        }
+        return Optional.class.equals(returnType) ? QueryPlan.Result.OPTIONAL : QueryPlan.Result.SINGLE;
     }
 
     /**
@@ -176,6 +248,6 @@ public class QueryBuilder {
      * @return the snake_case string.
      */
     private static String toSnakeCase(String camelCase) {
-        return camelCase.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
+        return camelCase.replaceAll("([a-z0-9])([A-Z]+)", "$1_$2").toLowerCase();
     }
 }
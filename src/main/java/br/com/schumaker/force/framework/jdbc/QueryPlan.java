@@ -0,0 +1,126 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.jdbc.mapper.EntityMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * The QueryPlan class is a repository query compiled once per method by QueryBuilder.
+ * It holds the SQL with ? parameters, the method argument bound to each parameter and the mapper of the rows,
+ * so an invocation only binds the arguments and executes the prepared statement. The arguments are never
+ * written into the SQL text.
+ *
+ * @see QueryBuilder
+ * @see SqlCrudInterceptor
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class QueryPlan {
+
+    /**
+     * The shape of the value returned by the method.
+     */
+    enum Result { LIST, OPTIONAL, SINGLE }
+
+    /**
+     * A parameter of the SQL, bound from a method argument.
+     *
+     * @param argument the index of the method argument.
+     * @param transform the transformation of the argument, e.g. the wildcards of a LIKE.
+     */
+    record Parameter(int argument, UnaryOperator<Object> transform) {
+
+        static Parameter of(int argument) {
+            return new Parameter(argument, UnaryOperator.identity());
+        }
+    }
+
+    private final String sql;
+    private final List<Parameter> parameters;
+    private final EntityMapper<?> mapper;
+    private final Result result;
+
+    QueryPlan(String sql, List<Parameter> parameters, Class<?> type, Result result) {
+        this.sql = sql;
+        this.parameters = List.copyOf(parameters);
+        this.mapper = EntityMapper.of(type);
+        this.result = result;
+    }
+
+    /**
+     * Executes the query with the arguments of an invocation.
+     *
+     * @param args the method arguments, may be null.
+     * @return a List, an Optional or an entity, as declared by the method.
+     * @throws ForceException if the query fails.
+     */
+    Object execute(Object[] args) {
+        Connection connection = null;
+        List<Object> results = new ArrayList<>();
+        try {
+            connection = DbConnection.getConnection();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bind(statement, args);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    var rowMapper = mapper.bind(resultSet.getMetaData());
+                    while (resultSet.next()) {
+                        results.add(rowMapper.map(resultSet));
+                        if (result != Result.LIST) {
+                            break;
+                        }
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            throw new ForceException(ex.getMessage(), ex);
+        } finally {
+            if (connection != null) {
+                DbConnection.releaseConnection(connection);
+            }
+        }
+
+        return switch (result) {
+            case LIST -> results;
+            case OPTIONAL -> results.isEmpty() ? Optional.empty() : Optional.of(results.getFirst());
+            case SINGLE -> results.isEmpty() ? null : results.getFirst();
+        };
+    }
+
+    /**
+     * Binds the arguments of an invocation to the parameters of the statement.
+     *
+     * @param statement the statement of the query.
+     * @param args the method arguments, may be null.
+     * @throws SQLException if a parameter cannot be set.
+     */
+    void bind(PreparedStatement statement, Object[] args) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            var parameter = parameters.get(i);
+            var value = parameter.transform().apply(args[parameter.argument()]);
+            statement.setObject(i + 1, value instanceof Enum<?> constant ? constant.name() : value);
+        }
+    }
+
+    /**
+     * Tells whether the query only reads, so it can run on a replica.
+     *
+     * @return true if the SQL is a SELECT.
+     */
+    boolean isSelect() {
+        var statement = sql.stripLeading();
+        return statement.regionMatches(true, 0, "SELECT", 0, 6) || statement.regionMatches(true, 0, "WITH", 0, 4);
+    }
+
+    String getSql() {
+        return sql;
+    }
+}
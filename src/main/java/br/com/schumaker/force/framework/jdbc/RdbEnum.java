@@ -1,24 +1,102 @@
 package br.com.schumaker.force.framework.jdbc;
 
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * The RdbEnum class.
  * This class is responsible for RDBMS enumeration.
- * It is used to define the RDBMS driver.
+ * It is used to define the RDBMS driver and the driver properties that make it prepare statements on the server,
+ * which the statement cache of the connection pool then reuses, the driver properties that make it rewrite
+ * a batch of inserts into multi-row statements, the pagination clauses of the dialect, the query that
+ * reads the row estimate of a table from the statistics of the database and where NULL values sort.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.5.0
  */
 public enum RdbEnum {
-    MYSQL("com.mysql.cj.jdbc.Driver"),
-    POSTGRESQL("org.postgresql.Driver");
+    MYSQL("com.mysql.cj.jdbc.Driver", Map.of("useServerPrepStmts", "true"),
+            Map.of("rewriteBatchedStatements", "true"), " LIMIT ? OFFSET ?", " LIMIT ?",
+            "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?", true),
+    POSTGRESQL("org.postgresql.Driver", Map.of("prepareThreshold", "1"),
+            Map.of("reWriteBatchedInserts", "true"), " LIMIT ? OFFSET ?", " LIMIT ?",
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", false);
 
     private final String driver;
+    private final Map<String, String> serverPrepareProperties;
+    private final Map<String, String> batchProperties;
+    private final String pagination;
+    private final String limit;
+    private final String estimatedCount;
+    private final boolean nullsFirst;
 
-    RdbEnum(String driver) {
+    RdbEnum(String driver, Map<String, String> serverPrepareProperties, Map<String, String> batchProperties,
+            String pagination, String limit, String estimatedCount, boolean nullsFirst) {
         this.driver = driver;
+        this.serverPrepareProperties = serverPrepareProperties;
+        this.batchProperties = batchProperties;
+        this.pagination = pagination;
+        this.limit = limit;
+        this.estimatedCount = estimatedCount;
+        this.nullsFirst = nullsFirst;
+    }
+
+    /**
+     * Returns the dialect of a force.db.type value, MYSQL when it is not set.
+     *
+     * @param type the RDBMS type, may be null.
+     * @return the RdbEnum of the type.
+     */
+    public static RdbEnum of(String type) {
+        return type == null || type.isBlank() ? MYSQL : valueOf(type.trim().toUpperCase(Locale.ROOT));
     }
 
     public String getDriver() {
         return driver;
     }
+
+    public Map<String, String> getServerPrepareProperties() {
+        return serverPrepareProperties;
+    }
+
+    public Map<String, String> getBatchProperties() {
+        return batchProperties;
+    }
+
+    /**
+     * Returns the pagination clause, its parameters are the page size and the offset.
+     *
+     * @return the pagination clause.
+     */
+    public String getPagination() {
+        return pagination;
+    }
+
+    /**
+     * Returns the limit clause, its parameter is the number of rows.
+     *
+     * @return the limit clause.
+     */
+    public String getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the query of the row estimate of a table, its parameter is the table name.
+     * The estimate is null or negative when the table has no statistics yet.
+     *
+     * @return the estimated count query.
+     */
+    public String getEstimatedCount() {
+        return estimatedCount;
+    }
+
+    /**
+     * Checks if NULL values sort before the other values in ascending order, and after them in descending order.
+     *
+     * @return true if NULL sorts first in ascending order, false if it sorts last.
+     */
+    public boolean isNullsFirst() {
+        return nullsFirst;
+    }
 }
@@ -0,0 +1,117 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The SqlBatch class runs one statement for many items with addBatch/executeBatch.
+ * The items are sent in chunks of batchSize, each chunk in a transaction of its own: a failed chunk is
+ * rolled back and reported, the chunks before it stay committed. The statement is prepared once for all chunks.
+ * With generated keys, the keys are read after each chunk and returned in the order of the items.
+ *
+ * @see SqlCrudImpl
+ * @see RdbEnum
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class SqlBatch {
+
+    private SqlBatch() {}
+
+    /**
+     * Binds the parameters of one item.
+     *
+     * @param <T> the type of the item.
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement statement, T item) throws Exception;
+    }
+
+    /**
+     * Executes a statement for each item, in chunks of batchSize.
+     *
+     * @param connection the connection, its auto-commit mode is restored at the end.
+     * @param sql the statement.
+     * @param items the items.
+     * @param batchSize the number of items per chunk and per transaction.
+     * @param generatedKeys true to return the generated keys.
+     * @param binder the binder of the parameters of an item.
+     * @param <T> the type of the items.
+     * @return the generated keys in the order of the items, or an empty list.
+     * @throws ForceException if a chunk fails, after rolling it back.
+     */
+    static <T> List<Object> execute(Connection connection, String sql, Collection<? extends T> items, int batchSize,
+                                    boolean generatedKeys, Binder<? super T> binder) {
+        List<Object> keys = new ArrayList<>(generatedKeys ? items.size() : 0);
+        int chunkSize = Math.max(1, batchSize);
+        int chunk = 0;
+        boolean autoCommit = true;
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = generatedKeys
+                    ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                    : connection.prepareStatement(sql)) {
+
+                int pending = 0;
+                for (T item : items) {
+                    binder.bind(statement, item);
+                    statement.addBatch();
+                    if (++pending == chunkSize) {
+                        flush(connection, statement, generatedKeys, keys);
+                        pending = 0;
+                        chunk++;
+                    }
+                }
+                if (pending > 0) {
+                    flush(connection, statement, generatedKeys, keys);
+                }
+            }
+        } catch (Exception ex) {
+            rollback(connection, ex);
+            throw new ForceException("Batch failed at chunk " + chunk + " of " + chunkSize + " items: "
+                    + ex.getMessage(), ex);
+        } finally {
+            restore(connection, autoCommit);
+        }
+        return keys;
+    }
+
+    private static void flush(Connection connection, PreparedStatement statement, boolean generatedKeys,
+                              List<Object> keys) throws SQLException {
+        statement.executeBatch();
+        if (generatedKeys) {
+            try (var resultSet = statement.getGeneratedKeys()) {
+                while (resultSet.next()) {
+                    keys.add(resultSet.getObject(1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private static void rollback(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    private static void restore(Connection connection, boolean autoCommit) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException ignored) {
+            // the pool restores the connection settings when it is released
+        }
+    }
+}
@@ -3,6 +3,8 @@ package br.com.schumaker.force.framework.jdbc;
 import br.com.schumaker.force.framework.web.view.Page;
 import br.com.schumaker.force.framework.web.view.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -49,7 +51,7 @@ import java.util.Optional;
  * @param <T> entity type.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.2.0
  */
 public interface SqlCrud <K, T> {
     /**
@@ -90,9 +92,10 @@ public interface SqlCrud <K, T> {
 
     /**
      * Finds all entities.
+     * With a cursor, the page starts after the element the cursor was made for, instead of at the page number.
      *
      * @param pageable the pageable.
-     * @return a page of entities.
+     * @return a page of entities, with the cursor of the next page.
      */
     Page<T> findAll(Pageable pageable);
 
@@ -104,6 +107,14 @@ public interface SqlCrud <K, T> {
      */
     Optional<K> save(T entity);
 
+    /**
+     * Saves entities with batched inserts, force.db.batch.size rows per batch and per transaction.
+     *
+     * @param entities the entities.
+     * @return the generated keys, in the order of the entities.
+     */
+    List<K> saveAll(Collection<T> entities);
+
     /**
      * Updates an entity.
      *
@@ -111,6 +122,13 @@ public interface SqlCrud <K, T> {
      */
     void update(T entity);
 
+    /**
+     * Updates entities with batched updates, force.db.batch.size rows per batch and per transaction.
+     *
+     * @param entities the entities.
+     */
+    void updateAll(Collection<T> entities);
+
     /**
      * Deletes an entity.
      *
@@ -124,4 +142,11 @@ public interface SqlCrud <K, T> {
      * @param id the entity ID.
      */
     void deleteById(K id);
+
+    /**
+     * Deletes entities by their IDs with batched deletes, force.db.batch.size rows per batch and per transaction.
+     *
+     * @param ids the entity IDs.
+     */
+    void deleteAllById(Collection<K> ids);
 }
@@ -1,65 +1,81 @@
 package br.com.schumaker.force.framework.jdbc;
 
+import br.com.schumaker.force.framework.cache.BoundedCache;
+import br.com.schumaker.force.framework.cache.CacheRegistry;
+import br.com.schumaker.force.framework.ioc.AppProperties;
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.ioc.annotations.db.EntityCache;
 import br.com.schumaker.force.framework.ioc.annotations.db.Table;
 import br.com.schumaker.force.framework.exception.ForceException;
-import br.com.schumaker.force.framework.ioc.reflection.TableReflection;
+import br.com.schumaker.force.framework.jdbc.mapper.EntityMapper;
+import br.com.schumaker.force.framework.web.view.CountMode;
 import br.com.schumaker.force.framework.web.view.Page;
 import br.com.schumaker.force.framework.web.view.PageImpl;
 import br.com.schumaker.force.framework.web.view.PageRequest;
 import br.com.schumaker.force.framework.web.view.Pageable;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The SqlCrudImpl class provides generic implementations for CRUD (Create, Read, Update, Delete) operations for database entities.
  * It uses reflection to dynamically map entity fields to database columns and vice versa.
+ * The mapping and the SQL statements are built once, in the EntityMetadata of the repository;
+ * the statements are printed to the console when force.db.show.sql is true.
+ * Rows are mapped by the EntityMapper of the entity, which resolves the columns once per query.
+ * The saveAll, updateAll and deleteAllById operations send force.db.batch.size rows per batch, see SqlBatch.
+ * A page is read by offset or, with a cursor, by keyset; the next cursor is the key of the last row of the page,
+ * and the total is counted, estimated or skipped as asked by the Pageable, see CountMode.
+ * The entities of an @EntityCache class are cached by findById and dropped from the cache when they are
+ * updated or deleted; the cache holds its own instances and every caller gets a copy, so the fields of
+ * such a class must be of immutable types or of types that EntityMapper.copy() clones. A cache miss is read from
+ * the primary database, as a replica may lag behind a write, and the entity is not cached if it was dropped
+ * while it was read.
  *
  * @param <K> the type of the primary key.
  * @param <T> the type of the entity.
  *
  * @see SqlCrud
  * @see Table
- * @see TableReflection
+ * @see EntityMetadata
+ * @see EntityMapper
+ * @see SqlBatch
+ * @see EntityCache
  * @see DbConnection
  *
  * @author Hudson Schumaker
- * @version 1.1.0
+ * @version 1.10.0
  */
 public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
-    private final TableReflection tableReflection = TableReflection.getInstance();
     private final Class<K> pk;
     private final Class<T> clazz;
-    private final String tableName;
-
-    // SQL keywords
-    private static final String SELECT = "SELECT ";
-    private static final String UPDATE = "UPDATE ";
-    private static final String FROM = " FROM ";
-    private static final String WHERE = " WHERE ";
-    private static final String SET = " SET ";
-    private static final String INSERT = "INSERT INTO ";
-    private static final String DELETE = "DELETE FROM ";
-    private static final String VALUES = ") VALUES (";
-    private static final String LIMIT = " LIMIT ";
-    private static final String OFFSET = " OFFSET ";
-    private static final String ORDER_BY = " ORDER BY ";
-    private static final String SELECT_COUNT = "SELECT COUNT(*) FROM ";
+    private final EntityMetadata<T> metadata;
+    private final EntityMapper<T> mapper;
+    private final boolean showSql;
+    private final int batchSize;
+    private final BoundedCache<Object, T> cache;
 
     public static final int DEFAULT_PAGE_SIZE = 16;
     public static final int DEFAULT_PAGE_NUMBER = 0;
 
     private SqlCrudImpl(Class<K> pk, Class<T> clazz) {
+        var environment = Environment.getInstance();
         this.pk = pk;
         this.clazz = clazz;
-        this.tableName = tableReflection.getTableName(clazz);
+        this.metadata = EntityMetadata.of(clazz, RdbEnum.of(environment.getKey(AppProperties.DB_TYPE)));
+        this.mapper = EntityMapper.of(clazz);
+        this.showSql = environment.getDbShowSql();
+        this.batchSize = environment.getDbBatchSize();
+        this.cache = entityCache(clazz, metadata, mapper);
     }
 
     /**
@@ -80,25 +96,19 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
 
     @Override
     public String getTableName() {
-        return tableName;
+        return metadata.getTableName();
+    }
+
+    public EntityMetadata<T> getMetadata() {
+        return metadata;
     }
 
     @Override
     public Long count() {
-        StringBuilder sql = new StringBuilder(SELECT_COUNT);
-        sql.append(tableName);
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
-
         Connection connection = null;
         try {
             connection = DbConnection.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
-                 ResultSet resultSet = preparedStatement.executeQuery()) {
-
-                if (resultSet.next()) {
-                    return resultSet.getLong(1);
-                }
-            }
+            return count(connection, CountMode.EXACT);
         } catch (Exception ex) {
             throw new ForceException(ex.getMessage(), ex);
         } finally {
@@ -106,41 +116,38 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
                 DbConnection.releaseConnection(connection);
             }
         }
-
-        return 0L;
     }
 
     @Override
     public Optional<T> findById(K id) {
-        var primaryKey = tableReflection.getPrimaryKey(clazz);
-        var columnFields = tableReflection.getFields(clazz);
-
-        StringBuilder sql = new StringBuilder(SELECT);
-        for (Field field : columnFields) {
-            sql.append(field.getName()).append(", ");
+        var cached = cache != null && id != null;
+        long stamp = 0;
+        if (cached) {
+            var entity = cache.get(id);
+            if (entity != null) {
+                return Optional.of(mapper.copy(entity));
+            }
+            stamp = cache.stamp(id);
         }
-        sql.setLength(sql.length() - 2); // Remove the trailing comma and space
-        sql.append(FROM).append(tableName).append(WHERE).append(primaryKey).append(" = ?");
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
+
+        var sql = metadata.getSelectById();
+        showSql(sql);
 
         Connection connection = null;
+        // an entity to cache is read from the primary database
+        var replica = cached && DbConnection.route(false);
         try {
             connection = DbConnection.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString())) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 preparedStatement.setObject(1, id);
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     if (resultSet.next()) {
-                        T entity = clazz.getDeclaredConstructor().newInstance();
-                        for (Field field : columnFields) {
-                            field.setAccessible(true);
-                            Object value = resultSet.getObject(field.getName());
-
-                            if (field.getType().equals(java.math.BigInteger.class) && value instanceof Long) {
-                                value = java.math.BigInteger.valueOf((Long) value);
-                            }
-                            field.set(entity, value);
+                        var entity = mapper.map(resultSet);
+                        if (!cached) {
+                            return Optional.of(entity);
                         }
-                        return Optional.of(entity);
+                        cache.putIfUnchanged(id, entity, stamp);
+                        return Optional.of(mapper.copy(entity));
                     }
                 }
             }
@@ -150,6 +157,9 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
             if (connection != null) {
                 DbConnection.releaseConnection(connection);
             }
+            if (replica) {
+                DbConnection.route(true);
+            }
         }
         return Optional.empty();
 
@@ -157,67 +167,52 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
 
     @Override
     public Page<T> findAll() {
-        var idColumName = tableReflection.getPrimaryKey(clazz);
-        Sort sort = new Sort(List.of(new Sort.Order(Sort.Direction.ASC, idColumName)));
-        return this.findAll(new PageRequest(DEFAULT_PAGE_NUMBER, DEFAULT_PAGE_SIZE, sort));
+        return this.findAll(new PageRequest(DEFAULT_PAGE_NUMBER, DEFAULT_PAGE_SIZE, metadata.getDefaultSort()));
     }
 
     @Override
     public Page<T> findAll(Pageable pageable) {
-        var columnFields = tableReflection.getFields(clazz);
-
-        StringBuilder sql = new StringBuilder(SELECT);
-        for (Field field : columnFields) {
-            sql.append(field.getName()).append(", ");
-        }
-        sql.setLength(sql.length() - 2); // Remove the trailing comma and space
-        sql.append(FROM).append(tableName);
-
-        Sort sort = pageable.sort(); // Add sorting
-        if (sort != null && !sort.orders().isEmpty()) {
-            sql.append(ORDER_BY);
-            for (Sort.Order order : sort.orders()) {
-                sql.append(order.property()).append(" ").append(order.direction()).append(", ");
-            }
-            sql.setLength(sql.length() - 2); // Remove the trailing comma and space
-        }
-
-        sql.append(LIMIT).append(pageable.pageSize());  // Add pagination
-        sql.append(OFFSET).append(pageable.pageNumber() * pageable.pageSize());
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
-
-        long totalElements = 0;
+        var sort = pageable.sort() == null || pageable.sort().orders().isEmpty() ? metadata.getDefaultSort() : pageable.sort();
+        var keyset = metadata.getKeyset(sort);
+        var after = pageable.cursor() == null ? null : Cursor.decode(pageable.cursor(), keyset.key());
+        var sql = after == null ? metadata.getSelectPage(sort) : keyset.query(after);
+        showSql(sql);
+
+        int pageSize = Math.max(1, pageable.pageSize());
+        long totalElements;
+        boolean hasNext = false;
+        String nextCursor = null;
         Connection connection = null;
-        List<T> results = new ArrayList<>();
+        List<T> results = new ArrayList<>(pageSize);
         try {
             connection = DbConnection.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
-                 ResultSet resultSet = preparedStatement.executeQuery()) {
-
-                while (resultSet.next()) {
-                    T entity = clazz.getDeclaredConstructor().newInstance();
-                    for (Field field : columnFields) {
-                        field.setAccessible(true);
-                        Object value = resultSet.getObject(field.getName());
-
-                        if (field.getType().equals(java.math.BigInteger.class) && value instanceof Long) {
-                            value = java.math.BigInteger.valueOf((Long) value);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                // one row more than the page tells whether there is a next page
+                if (after == null) {
+                    preparedStatement.setInt(1, pageSize + 1);
+                    preparedStatement.setLong(2, (long) pageable.pageNumber() * pageSize);
+                } else {
+                    preparedStatement.setInt(keyset.bind(preparedStatement, after), pageSize + 1);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    var rowMapper = mapper.bind(resultSet.getMetaData());
+                    List<Object> lastKey = null;
+                    while (resultSet.next()) {
+                        if (results.size() == pageSize) {
+                            hasNext = true;
+                            break;
+                        }
+                        results.add(rowMapper.map(resultSet));
+                        if (results.size() == pageSize) {
+                            lastKey = readKey(resultSet, keyset);
                         }
-
-                        field.set(entity, value);
                     }
-                    results.add(entity);
-                }
-
-                String countSql = SELECT_COUNT + tableName;  // Count total elements
-                System.out.println("SQL: " + countSql); // Debug statement to print the SQL value
-                try (PreparedStatement countStatement = connection.prepareStatement(countSql);
-                     ResultSet countResultSet = countStatement.executeQuery()) {
-                    if (countResultSet.next()) {
-                        totalElements = countResultSet.getLong(1);
+                    if (hasNext) {
+                        nextCursor = Cursor.encode(keyset.key(), lastKey);
                     }
                 }
             }
+            totalElements = count(connection, pageable.countMode());
         } catch (Exception ex) {
             throw new ForceException(ex.getMessage(), ex);
         } finally {
@@ -225,41 +220,22 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
                 DbConnection.releaseConnection(connection);
             }
         }
-        return new PageImpl<>(results, pageable.pageNumber(), pageable.pageSize(), totalElements);
+        return new PageImpl<>(results, pageable.pageNumber(), pageSize, totalElements, hasNext, nextCursor);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Optional<K> save(T entity) {
-        var columnFields = tableReflection.getColumnNames(clazz);
-
-        StringBuilder sql = new StringBuilder(INSERT);
-        sql.append(tableName).append(" (");
-
-        StringBuilder placeholders = new StringBuilder();
-        for (var columnName : columnFields) {
-            sql.append(columnName).append(", ");
-            placeholders.append("?, ");
-        }
-
-        sql.setLength(sql.length() - 2); // Remove the trailing comma and space
-        placeholders.setLength(placeholders.length() - 2);
-
-        sql.append(VALUES).append(placeholders).append(")");
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
+        var sql = metadata.getInsert();
+        showSql(sql);
 
         Connection connection = null;
         try {
             connection = DbConnection.getConnection();
             try (PreparedStatement preparedStatement =
-                         connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
-
-                int index = 1; // index of the prepared statement parameter starting at 1
-                for (Field field : tableReflection.getColumnFields(clazz)) {
-                    field.setAccessible(true);
-                    preparedStatement.setObject(index++, field.get(entity));
-                }
+                         connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
+                bindColumns(preparedStatement, entity);
                 preparedStatement.executeUpdate();
                 try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
                     if (resultSet.next()) {
@@ -279,34 +255,32 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
     }
 
     @Override
-    public void update(T entity) {
-        var primaryKey = tableReflection.getPrimaryKey(clazz);
-        var columnFields = tableReflection.getColumnFields(clazz);
-        var primaryKeyValue = tableReflection.getPrimaryKeyValue(entity);
-
-        StringBuilder sql = new StringBuilder(UPDATE);
-        sql.append(tableName).append(SET);
-
-        for (Field field : columnFields) {
-            sql.append(field.getName()).append(" = ?, ");
+    @SuppressWarnings("unchecked")
+    public List<K> saveAll(Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
         }
 
-        sql.setLength(sql.length() - 2); // Remove the trailing comma and space
-        sql.append(WHERE).append(primaryKey).append(" = ?");
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
+        var sql = metadata.getInsert();
+        showSql(sql);
+        var keys = executeBatch(sql, entities, true, this::bindColumns);
+        return (List<K>) (List<?>) keys;
+    }
+
+    @Override
+    public void update(T entity) {
+        var sql = metadata.getUpdate();
+        showSql(sql);
 
         Connection connection = null;
         try {
             connection = DbConnection.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString())) {
-                int index = 1; // index of the prepared statement parameter starting at 1
-                for (Field field : columnFields) {
-                    field.setAccessible(true);
-                    preparedStatement.setObject(index++, field.get(entity));
-                }
-
-                preparedStatement.setObject(index, primaryKeyValue);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                var id = metadata.getPrimaryKeyValue(entity);
+                int index = bindColumns(preparedStatement, entity);
+                preparedStatement.setObject(index, id);
                 preparedStatement.executeUpdate();
+                evict(id);
             }
         } catch (Exception ex) {
             throw new ForceException(ex.getMessage(), ex);
@@ -317,27 +291,47 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
         }
     }
 
+    @Override
+    public void updateAll(Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        var sql = metadata.getUpdate();
+        showSql(sql);
+        executeBatch(sql, entities, false, (preparedStatement, entity) -> {
+            int index = bindColumns(preparedStatement, entity);
+            preparedStatement.setObject(index, metadata.getPrimaryKeyValue(entity));
+        });
+        if (cache != null) {
+            for (var entity : entities) {
+                evict(primaryKey(entity));
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void delete(T entity) {
-        var id = tableReflection.getPrimaryKeyValue(entity);
-        this.deleteById((K) id);
+        try {
+            this.deleteById((K) metadata.getPrimaryKeyValue(entity));
+        } catch (IllegalAccessException ex) {
+            throw new ForceException(ex.getMessage(), ex);
+        }
     }
 
     @Override
     public void deleteById(K id) {
-        var primaryKey = tableReflection.getPrimaryKey(clazz);
-
-        StringBuilder sql = new StringBuilder(DELETE);
-        sql.append(tableName).append(WHERE).append(primaryKey).append(" = ?");
-        System.out.println("SQL: " + sql); // Debug statement to print the SQL value
+        var sql = metadata.getDeleteById();
+        showSql(sql);
 
         Connection connection = null;
         try {
             connection = DbConnection.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString())) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 preparedStatement.setObject(1, id);
                 preparedStatement.executeUpdate();
+                evict(id);
             }
         } catch (Exception ex) {
             throw new ForceException(ex.getMessage(), ex);
@@ -347,4 +341,150 @@ public final class SqlCrudImpl<K, T> implements SqlCrud<K, T> {
             }
         }
     }
+
+    @Override
+    public void deleteAllById(Collection<K> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        var sql = metadata.getDeleteById();
+        showSql(sql);
+        executeBatch(sql, ids, false, (preparedStatement, id) -> preparedStatement.setObject(1, id));
+        ids.forEach(this::evict);
+    }
+
+    /**
+     * Drops an entity from the entity cache.
+     *
+     * @param id the primary key of the entity.
+     */
+    private void evict(Object id) {
+        if (cache != null && id != null) {
+            cache.invalidate(id);
+            var transaction = Transaction.current();
+            if (transaction != null) {
+                // a read made before the commit may cache the old entity again
+                transaction.afterCompletion(() -> cache.invalidate(id));
+            }
+        }
+    }
+
+    private Object primaryKey(T entity) {
+        try {
+            return metadata.getPrimaryKeyValue(entity);
+        } catch (IllegalAccessException ex) {
+            throw new ForceException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Returns the entity cache of an @EntityCache class, shared by the repositories of the class.
+     *
+     * @param clazz the entity class.
+     * @param metadata the metadata of the entity.
+     * @param mapper the mapper of the entity, which copies the cached entities.
+     * @return the cache, or null if the class is not annotated with @EntityCache.
+     * @throws ForceException if a field of the class is of a mutable type that the mapper does not copy.
+     */
+    private static <T> BoundedCache<Object, T> entityCache(Class<T> clazz, EntityMetadata<T> metadata,
+                                                           EntityMapper<T> mapper) {
+        var entityCache = clazz.getAnnotation(EntityCache.class);
+        if (entityCache == null) {
+            return null;
+        }
+        mapper.requireCopyable();
+        return CacheRegistry.getInstance().getOrCreate("entity", clazz.getName(), "entity:" + metadata.getTableName(),
+                entityCache.maxEntries(), TimeUnit.SECONDS.toMillis(entityCache.ttl()));
+    }
+
+    /**
+     * Counts the rows of the table.
+     *
+     * @param connection the connection.
+     * @param countMode EXACT to count, ESTIMATED to read the estimate of the database statistics, NONE to skip.
+     * @return the number of rows, or -1 with NONE.
+     * @throws SQLException if a count query fails.
+     */
+    private long count(Connection connection, CountMode countMode) throws SQLException {
+        if (countMode == CountMode.NONE) {
+            return -1;
+        }
+
+        if (countMode == CountMode.ESTIMATED) {
+            var sql = metadata.getEstimatedCount();
+            showSql(sql);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                preparedStatement.setString(1, metadata.getTableName());
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        long estimate = resultSet.getLong(1);
+                        if (!resultSet.wasNull() && estimate >= 0) {
+                            return estimate;
+                        }
+                    }
+                }
+            }
+            // no statistics yet, count exactly
+        }
+
+        var sql = metadata.getCount();
+        showSql(sql);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+
+    /**
+     * Reads the key of the current row, the values of the keyset columns.
+     *
+     * @param resultSet the result set, positioned on a row.
+     * @param keyset the keyset of the query.
+     * @return the key values, in the order of the keyset columns.
+     * @throws SQLException if a column cannot be read.
+     */
+    private static List<Object> readKey(ResultSet resultSet, EntityMetadata.Keyset keyset) throws SQLException {
+        List<Object> key = new ArrayList<>(keyset.positions().size());
+        for (int position : keyset.positions()) {
+            key.add(resultSet.getObject(position));
+        }
+        return key;
+    }
+
+    /**
+     * Binds the @Column fields of an entity, in the order of the insert and update statements.
+     *
+     * @param preparedStatement the statement.
+     * @param entity the entity.
+     * @return the index of the next parameter.
+     * @throws SQLException if a parameter cannot be set.
+     * @throws IllegalAccessException if a field cannot be read.
+     */
+    private int bindColumns(PreparedStatement preparedStatement, T entity) throws SQLException, IllegalAccessException {
+        int index = 1; // index of the prepared statement parameter starting at 1
+        for (Field field : metadata.getColumnFields()) {
+            preparedStatement.setObject(index++, field.get(entity));
+        }
+        return index;
+    }
+
+    private <E> List<Object> executeBatch(String sql, Collection<E> items, boolean generatedKeys,
+                                          SqlBatch.Binder<E> binder) {
+        Connection connection = null;
+        try {
+            connection = DbConnection.getConnection();
+            return SqlBatch.execute(connection, sql, items, batchSize, generatedKeys, binder);
+        } finally {
+            if (connection != null) {
+                DbConnection.releaseConnection(connection);
+            }
+        }
+    }
+
+    private void showSql(String sql) {
+        if (showSql) {
+            System.out.println("SQL: " + sql);
+        }
+    }
 }
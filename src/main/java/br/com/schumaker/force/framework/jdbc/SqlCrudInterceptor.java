@@ -1,29 +1,65 @@
 package br.com.schumaker.force.framework.jdbc;
 
-import br.com.schumaker.force.framework.ioc.annotations.db.Query;
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.ioc.annotations.db.Primary;
+import br.com.schumaker.force.framework.ioc.annotations.db.ReadOnly;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The SqlCrudInterceptor class.
  * It is responsible for intercepting the CRUD operations.
+ * Each method of the repository is resolved once: the SqlCrud methods are invoked on the target and the
+ * query methods are compiled by QueryBuilder into a query plan, so a call is a map lookup and the
+ * execution of a prepared statement.
+ * The reads, findById, findAll, count and the SELECT query methods, run on a read replica and the writes on the
+ * primary database; @ReadOnly and @Primary on a method, or on the repository, override the route.
  *
  * @param <K> entity key.
  * @param <T> entity type.
  *
+ * @see QueryBuilder
+ * @see DbConnection
+ *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.3.0
  */
 public final class SqlCrudInterceptor<K, T> implements InvocationHandler {
+    private static final Set<String> READS = Set.of("findById", "findAll", "count");
+
     private final SqlCrudImpl<K, T> target;
+    private final Class<?> repository;
+    private final boolean showSql = Environment.getInstance().getDbShowSql();
+    private final Map<Method, Invocation> invocations = new ConcurrentHashMap<>();
 
     public SqlCrudInterceptor(SqlCrudImpl<K, T> target) {
+        this(target, null);
+    }
+
+    /**
+     * Constructs a new SqlCrudInterceptor.
+     *
+     * @param target the CRUD implementation of the entity.
+     * @param repository the repository interface, its @ReadOnly or @Primary routes its methods; may be null.
+     */
+    public SqlCrudInterceptor(SqlCrudImpl<K, T> target, Class<?> repository) {
         this.target = target;
+        this.repository = repository;
+    }
+
+    /**
+     * The resolved call of a repository method.
+     */
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Object proxy, Object[] args) throws Throwable;
     }
 
     /**
@@ -37,39 +73,95 @@ public final class SqlCrudInterceptor<K, T> implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        var list = Arrays.stream(target.getClass().getMethods()).map(Method::getName).toList();
-        List<?> result;
-
-        if (list.contains(method.getName())) {
-            return method.invoke(target, args);
-        } else {
-            if (method.isAnnotationPresent(Query.class)) {
-                var rawQuery = method.getAnnotation(Query.class).value();
-                System.out.println("SQL: " + rawQuery);
-                var query  = QueryBuilder.replacePlaceholders(rawQuery, args);
-                result = SqlExecutor.executeQuery(query, target.getEntityClass());
-            } else {
-                var tableName = target.getTableName();
-                var query = QueryBuilder.buildQuery(tableName, method, args);
-                result = SqlExecutor.executeQuery(query, target.getEntityClass());
-            }
+        var invocation = invocations.get(method);
+        if (invocation == null) {
+            invocation = invocations.computeIfAbsent(method, this::resolve);
+        }
+        return invocation.invoke(proxy, args);
+    }
 
-            return handleReturnType(method, result);
+    /**
+     * Resolves the methods of a repository interface, so an invalid query method fails at startup.
+     *
+     * @param interfaceType the repository interface.
+     */
+    void prepare(Class<?> interfaceType) {
+        for (var method : interfaceType.getMethods()) {
+            invocations.computeIfAbsent(method, this::resolve);
         }
     }
 
     /**
-     * Handles the return type of the method.
+     * Resolves a method to the target, to its default implementation or to a query plan.
      *
-     * @param method the method.
-     * @param result the result.
-     * @return the result wrapped.
+     * @param method the method of the repository interface.
+     * @return the invocation of the method.
      */
-    private Object handleReturnType(Method method, List<?> result) {
-        if (method.getReturnType().equals(List.class)) {
-            return result;
-        } else {
-            return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    private Invocation resolve(Method method) {
+        var implementation = implementation(method);
+        if (implementation != null) {
+            return routed(toReplica(method, READS.contains(method.getName())), (proxy, args) -> {
+                try {
+                    return implementation.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            });
+        }
+        if (method.isDefault()) {
+            return (proxy, args) -> InvocationHandler.invokeDefault(proxy, method, args);
+        }
+
+        var plan = QueryBuilder.compile(target.getMetadata(), method);
+        return routed(toReplica(method, plan.isSelect()), (proxy, args) -> {
+            if (showSql) {
+                System.out.println("SQL: " + plan.getSql());
+            }
+            return plan.execute(args);
+        });
+    }
+
+    /**
+     * Tells whether a method runs on a read replica.
+     *
+     * @param method the method of the repository interface.
+     * @param read true if the method only reads.
+     * @return true for a replica, false for the primary database.
+     */
+    boolean toReplica(Method method, boolean read) {
+        var route = route(method);
+        if (route == null && repository != null) {
+            route = route(repository);
+        }
+        return route == null ? read : route;
+    }
+
+    private static Boolean route(AnnotatedElement element) {
+        if (element.isAnnotationPresent(Primary.class)) {
+            return false;
+        }
+        return element.isAnnotationPresent(ReadOnly.class) ? true : null;
+    }
+
+    private static Invocation routed(boolean toReplica, Invocation invocation) {
+        return (proxy, args) -> {
+            boolean previous = DbConnection.route(toReplica);
+            try {
+                return invocation.invoke(proxy, args);
+            } finally {
+                DbConnection.route(previous);
+            }
+        };
+    }
+
+    private Method implementation(Method method) {
+        if (method.getDeclaringClass().isInstance(target)) {
+            return method;
+        }
+        try {
+            return target.getClass().getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException ex) {
+            return null;
         }
     }
 
@@ -83,10 +175,12 @@ public final class SqlCrudInterceptor<K, T> implements InvocationHandler {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createProxy(T target, Class<? extends T> interfaceType) {
+        var interceptor = new SqlCrudInterceptor<>((SqlCrudImpl<?, ?>) target, interfaceType);
+        interceptor.prepare(interfaceType);
         return (T) Proxy.newProxyInstance(
                 interfaceType.getClassLoader(),
                 new Class<?>[]{interfaceType},
-                new SqlCrudInterceptor<>((SqlCrudImpl<?, ?>)target)
+                interceptor
         );
     }
 }
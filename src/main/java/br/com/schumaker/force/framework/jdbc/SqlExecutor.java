@@ -1,11 +1,13 @@
 package br.com.schumaker.force.framework.jdbc;
 
 import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.jdbc.mapper.EntityMapper;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -15,9 +17,11 @@ import java.util.stream.Collectors;
 /**
  * The SQLExecutor class.
  * It is responsible for executing DDL and DML statements from a file.
+ * Queries are prepared, so they are reused from the statement cache of the pooled connection,
+ * and their rows are mapped by the EntityMapper of the result type.
  *
  * @author Hudson Schumaker
- * @version 1.1.0
+ * @version 1.3.0
  */
 public final class SqlExecutor {
     private SqlExecutor() {}
@@ -66,22 +70,12 @@ public final class SqlExecutor {
 
         try {
             connection = DbConnection.getConnection();
-            try (Statement statement = connection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(sql)) {
+            try (PreparedStatement statement = connection.prepareStatement(sql);
+                 ResultSet resultSet = statement.executeQuery()) {
 
-                var columnFields = type.getDeclaredFields();
+                var rowMapper = EntityMapper.of(type).bind(resultSet.getMetaData());
                 while (resultSet.next()) {
-                    T instance = type.getDeclaredConstructor().newInstance();
-                    for (var field : columnFields) {
-                        field.setAccessible(true);
-                        Object value = resultSet.getObject(field.getName());
-
-                        if (field.getType().equals(java.math.BigInteger.class) && value instanceof Long) {
-                            value = java.math.BigInteger.valueOf((Long) value);
-                        }
-                        field.set(instance, value);
-                    }
-                    results.add(instance);
+                    results.add(rowMapper.map(resultSet));
                 }
             }
         } catch (Exception ex) {
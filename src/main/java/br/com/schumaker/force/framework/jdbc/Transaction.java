@@ -0,0 +1,149 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Transaction class is a database transaction bound to the current thread.
+ * While it is bound, DbConnection hands out its connection to every repository call of the thread. The handed
+ * out connection ignores close(), commit(), rollback() and setAutoCommit(), which belong to the transaction,
+ * so the code written for an auto-commit connection runs unchanged inside it.
+ *
+ * @see TransactionInterceptor
+ * @see DbConnection
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class Transaction {
+    private static final ThreadLocal<Transaction> current = new ThreadLocal<>();
+    private static final Class<?>[] INTERFACES = {Connection.class};
+
+    private final Connection connection;
+    private final Connection bound;
+    private final List<Runnable> afterCompletion = new ArrayList<>();
+
+    private Transaction(Connection connection) {
+        this.connection = connection;
+        this.bound = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), INTERFACES, this::invoke);
+    }
+
+    /**
+     * Returns the transaction bound to the current thread.
+     *
+     * @return the transaction, or null if there is none.
+     */
+    static Transaction current() {
+        return current.get();
+    }
+
+    /**
+     * Begins a transaction on a connection and binds it to the current thread.
+     *
+     * @param connection the pooled connection, returned to the pool when the transaction ends.
+     * @param isolation the JDBC isolation level, -1 to keep the level of the connection.
+     * @param readOnly true to mark the connection read-only.
+     * @return the transaction.
+     * @throws SQLException if the connection cannot be set up, the connection is then returned to the pool.
+     */
+    static Transaction begin(Connection connection, int isolation, boolean readOnly) throws SQLException {
+        try {
+            connection.setAutoCommit(false);
+            if (isolation != -1) {
+                connection.setTransactionIsolation(isolation);
+            }
+            if (readOnly) {
+                connection.setReadOnly(true);
+            }
+        } catch (SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+
+        var transaction = new Transaction(connection);
+        current.set(transaction);
+        return transaction;
+    }
+
+    /**
+     * Returns the connection of the transaction, as handed out to the repositories.
+     *
+     * @return the bound connection.
+     */
+    Connection getConnection() {
+        return bound;
+    }
+
+    /**
+     * Runs a task when the transaction ends, after the commit or the rollback.
+     *
+     * @param task the task.
+     */
+    void afterCompletion(Runnable task) {
+        afterCompletion.add(task);
+    }
+
+    void commit() throws SQLException {
+        connection.commit();
+    }
+
+    /**
+     * Rolls back the transaction.
+     *
+     * @param cause the failure of the transaction, a failed rollback is added to it.
+     */
+    void rollback(Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Unbinds the transaction and returns its connection to the pool, which restores its settings.
+     */
+    void end() {
+        current.remove();
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // the pool retires a connection it cannot reset
+        }
+        afterCompletion.forEach(Runnable::run);
+    }
+
+    private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close", "commit", "setAutoCommit" -> {
+                return null;
+            }
+            case "rollback" -> {
+                if (args == null) {
+                    return null;
+                }
+            }
+            case "getAutoCommit" -> {
+                return false;
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            default -> { }
+        }
+
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
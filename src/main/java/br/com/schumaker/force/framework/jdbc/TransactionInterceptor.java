@@ -0,0 +1,167 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Transactional;
+import br.com.schumaker.force.framework.jdbc.pool.PoolRouter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The TransactionInterceptor class.
+ * It is responsible for running the @Transactional methods of a service in a transaction.
+ * The attributes of each method are resolved once, when the proxy is created. A transactional method takes one
+ * connection, binds it to the thread for the repository calls it makes, and commits when it returns or rolls
+ * back when it throws; a transactional method called inside a transaction joins it. The other methods are
+ * invoked on the service directly.
+ *
+ * @see Transactional
+ * @see Transaction
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class TransactionInterceptor implements InvocationHandler {
+    private final Object target;
+    private final Map<Method, Transactional> transactional;
+    private final Function<Boolean, Connection> connections;
+
+    /**
+     * Constructs a new TransactionInterceptor.
+     *
+     * @param target the service.
+     * @param connections the source of the connections, given true for a read-only transaction.
+     */
+    TransactionInterceptor(Object target, Function<Boolean, Connection> connections) {
+        this.target = target;
+        this.connections = connections;
+        this.transactional = resolve(target.getClass());
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @param proxy  the proxy.
+     * @param method the method.
+     * @param args   the arguments.
+     * @return the result.
+     * @throws Throwable if an error occurs.
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        var attributes = transactional.get(method);
+        if (attributes == null || Transaction.current() != null) {
+            return call(method, args);
+        }
+
+        Transaction transaction;
+        try {
+            transaction = Transaction.begin(connections.apply(attributes.readOnly()),
+                    attributes.isolation().getLevel(), attributes.readOnly());
+        } catch (SQLException ex) {
+            throw new ForceException("Cannot begin the transaction: " + ex.getMessage(), ex);
+        }
+
+        try {
+            Object result;
+            try {
+                result = call(method, args);
+            } catch (Throwable ex) {
+                transaction.rollback(ex);
+                throw ex;
+            }
+            try {
+                transaction.commit();
+            } catch (SQLException ex) {
+                transaction.rollback(ex);
+                throw new ForceException("Cannot commit the transaction: " + ex.getMessage(), ex);
+            }
+            return result;
+        } finally {
+            transaction.end();
+        }
+    }
+
+    /**
+     * Tells whether a service has @Transactional methods.
+     *
+     * @param type the service class.
+     * @return true if the class, or one of its public methods, is annotated with @Transactional.
+     */
+    public static boolean isTransactional(Class<?> type) {
+        return type.isAnnotationPresent(Transactional.class)
+                || Arrays.stream(type.getMethods()).anyMatch(it -> it.isAnnotationPresent(Transactional.class));
+    }
+
+    /**
+     * Creates a proxy of a service that implements its interfaces.
+     *
+     * @param target the service.
+     * @return the proxy.
+     * @throws ForceException if the service does not implement an interface.
+     */
+    public static Object createProxy(Object target) {
+        var interfaces = interfaces(target.getClass());
+        if (interfaces.isEmpty()) {
+            throw new ForceException("The @Transactional service " + target.getClass().getName()
+                    + " must implement an interface.");
+        }
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(Class<?>[]::new),
+                new TransactionInterceptor(target, readOnly -> readOnly
+                        ? PoolRouter.getInstance().getReadConnection()
+                        : PoolRouter.getInstance().getConnection()));
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Resolves the attributes of the interface methods of a service, from its method or else from its class.
+     *
+     * @param type the service class.
+     * @return the attributes of the transactional methods.
+     */
+    private static Map<Method, Transactional> resolve(Class<?> type) {
+        Map<Method, Transactional> attributes = new HashMap<>();
+        for (var interfaceType : interfaces(type)) {
+            for (var method : interfaceType.getMethods()) {
+                try {
+                    var implementation = type.getMethod(method.getName(), method.getParameterTypes());
+                    var annotation = implementation.getAnnotation(Transactional.class);
+                    if (annotation == null) {
+                        annotation = type.getAnnotation(Transactional.class);
+                    }
+                    if (annotation != null) {
+                        attributes.put(method, annotation);
+                    }
+                } catch (NoSuchMethodException ex) {
+                    // every interface method has a public implementation, default methods included
+                }
+            }
+        }
+        return Map.copyOf(attributes);
+    }
+
+    private static Set<Class<?>> interfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (var current = type; current != null; current = current.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        return interfaces;
+    }
+}
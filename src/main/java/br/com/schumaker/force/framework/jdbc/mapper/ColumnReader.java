@@ -0,0 +1,29 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The ColumnReader interface reads one column of the current row, by index, as a value of a Java type.
+ * A reader of a reference type returns null for a SQL NULL.
+ *
+ * @param <T> the Java type of the value.
+ *
+ * @see ColumnReaders
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ColumnReader<T> {
+
+    /**
+     * Reads a column of the current row.
+     *
+     * @param resultSet the result set, positioned on a row.
+     * @param column the column index, starting at 1.
+     * @return the value, or null for a SQL NULL.
+     * @throws SQLException if the column cannot be read.
+     */
+    T read(ResultSet resultSet, int column) throws SQLException;
+}
@@ -0,0 +1,170 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The ColumnReaders class is the registry of the column readers and type converters used by the row mappers.
+ * The primitive types, their wrappers, String, BigDecimal and byte[] are read with the typed getters of the
+ * result set; a SQL NULL reads as null for a wrapper and as zero or false for a primitive, as in JDBC.
+ * Any other type is read with getObject() and, when the driver returns another type, converted by the
+ * converter registered for the pair of types, e.g. Long to BigInteger or Timestamp to LocalDateTime.
+ * Readers and converters of application types can be registered at startup.
+ * This class is a singleton and provides a global point of access to its instance.
+ *
+ * @see ColumnReader
+ * @see EntityMapper
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class ColumnReaders {
+    private static final ColumnReaders INSTANCE = new ColumnReaders();
+
+    private final Map<Class<?>, ColumnReader<?>> readers = new ConcurrentHashMap<>();
+    private final Map<Conversion, Function<Object, Object>> converters = new ConcurrentHashMap<>();
+
+    private ColumnReaders() {
+        register(long.class, ResultSet::getLong);
+        register(Long.class, ColumnReaders::readLong);
+        register(int.class, ResultSet::getInt);
+        register(Integer.class, ColumnReaders::readInt);
+        register(double.class, ResultSet::getDouble);
+        register(Double.class, ColumnReaders::readDouble);
+        register(float.class, ResultSet::getFloat);
+        register(Float.class, ColumnReaders::readFloat);
+        register(short.class, ResultSet::getShort);
+        register(Short.class, ColumnReaders::readShort);
+        register(byte.class, ResultSet::getByte);
+        register(Byte.class, ColumnReaders::readByte);
+        register(boolean.class, ResultSet::getBoolean);
+        register(Boolean.class, ColumnReaders::readBoolean);
+        register(String.class, ResultSet::getString);
+        register(BigDecimal.class, ResultSet::getBigDecimal);
+        register(byte[].class, ResultSet::getBytes);
+
+        register(Number.class, BigInteger.class, value -> value instanceof BigDecimal decimal
+                ? decimal.toBigInteger()
+                : BigInteger.valueOf(value.longValue()));
+        register(Timestamp.class, LocalDateTime.class, Timestamp::toLocalDateTime);
+        register(Timestamp.class, Instant.class, Timestamp::toInstant);
+        register(Date.class, LocalDate.class, Date::toLocalDate);
+        register(Time.class, LocalTime.class, Time::toLocalTime);
+    }
+
+    public static ColumnReaders getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the reader of a Java type, replacing the current one.
+     *
+     * @param type the Java type.
+     * @param reader the reader.
+     * @param <T> the Java type.
+     */
+    public <T> void register(Class<T> type, ColumnReader<? extends T> reader) {
+        readers.put(type, reader);
+    }
+
+    /**
+     * Registers the converter from the value returned by the driver to a Java type, replacing the current one.
+     * A converter applies to the subclasses of its source type.
+     *
+     * @param source the type of the value returned by getObject().
+     * @param target the Java type.
+     * @param converter the converter.
+     * @param <S> the source type.
+     * @param <T> the target type.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> void register(Class<S> source, Class<T> target, Function<? super S, ? extends T> converter) {
+        converters.put(new Conversion(source, target), (Function<Object, Object>) converter);
+    }
+
+    /**
+     * Returns the reader of a Java type.
+     *
+     * @param type the Java type.
+     * @return the registered reader, or a reader that converts the value of getObject().
+     */
+    public ColumnReader<?> getReader(Class<?> type) {
+        return readers.computeIfAbsent(type, this::objectReader);
+    }
+
+    private ColumnReader<?> objectReader(Class<?> type) {
+        return (resultSet, column) -> {
+            var value = resultSet.getObject(column);
+            if (value == null || type.isInstance(value)) {
+                return value;
+            }
+            return convert(resultSet, column, value, type);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object convert(ResultSet resultSet, int column, Object value, Class<?> type) throws SQLException {
+        for (Class<?> source = value.getClass(); source != null; source = source.getSuperclass()) {
+            var converter = converters.get(new Conversion(source, type));
+            if (converter != null) {
+                return converter.apply(value);
+            }
+        }
+        if (type.isEnum() && value instanceof String name) {
+            return Enum.valueOf((Class<? extends Enum>) type, name);
+        }
+        return resultSet.getObject(column, type);
+    }
+
+    private static Long readLong(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Integer readInt(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getInt(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Double readDouble(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getDouble(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Float readFloat(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getFloat(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Short readShort(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getShort(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Byte readByte(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getByte(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Boolean readBoolean(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getBoolean(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    /**
+     * The key of a converter, the type returned by the driver and the Java type.
+     */
+    private record Conversion(Class<?> source, Class<?> target) {}
+}
@@ -0,0 +1,325 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The EntityMapper class maps the rows of a result set to new instances of a class, without reflection per row.
+ * The fields of the class are resolved once per class: each one gets a method handle setter and is matched by
+ * its column name, from @Pk or @Column, or by its field name, ignoring case. The columns of a result set are
+ * resolved once per query by bind(), which returns the row mapper of its column layout: a single method handle
+ * that creates the instance, then reads each mapped column by index with its typed reader and sets its field.
+ * Columns without a field are ignored.
+ *
+ * <p>
+ * The row mappers are cached by column layout, so the JIT compiles the method handle of a query once
+ * and reuses it for every execution. A SQL NULL sets a reference field to null and a primitive field to
+ * zero or false. The readers are taken from ColumnReaders when a layout is first bound, they should be
+ * registered at startup.
+ * </p>
+ *
+ * <p>
+ * copy() copies an instance with the same setters. The mutable JDK values the mapper reads are copied too:
+ * arrays and java.util.Date, with its java.sql subclasses, are cloned, so a Timestamp keeps its nanos, and so is
+ * a Calendar. Any other value is shared with the copy, requireCopyable() checks that every field is of a type
+ * whose values are immutable or copied.
+ * </p>
+ *
+ * @param <T> the type of the mapped class.
+ *
+ * @see RowMapper
+ * @see ColumnReaders
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public final class EntityMapper<T> {
+    private static final int MAX_LAYOUTS = 64;
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType FILL_TYPE = MethodType.methodType(void.class, Object.class, ResultSet.class);
+    private static final MethodHandle READ;
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class,
+            BigInteger.class, UUID.class);
+    private static final ClassValue<EntityMapper<?>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected EntityMapper<?> computeValue(Class<?> type) {
+            return new EntityMapper<>(type);
+        }
+    };
+
+    static {
+        try {
+            READ = MethodHandles.lookup().findVirtual(ColumnReader.class, "read",
+                    MethodType.methodType(Object.class, ResultSet.class, int.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final Map<String, Property> properties;
+    private final List<Property> fields;
+    private final Map<List<String>, RowMapper<T>> layouts = new ConcurrentHashMap<>();
+
+    private EntityMapper(Class<T> type) {
+        this.type = type;
+        var lookup = MethodHandles.lookup();
+        try {
+            var declared = type.getDeclaredConstructor();
+            declared.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException ex) {
+            throw new ForceException("Class " + type.getName() + " needs a no-argument constructor.", ex);
+        }
+
+        Map<String, Property> byName = new HashMap<>();
+        Map<String, Property> byColumn = new HashMap<>();
+        List<Property> mapped = new ArrayList<>();
+        for (var field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            var property = property(lookup, field);
+            if (property == null) {
+                continue;
+            }
+            mapped.add(property);
+            byName.put(key(field.getName()), property);
+            var column = columnName(field);
+            if (column != null) {
+                byColumn.put(key(column), property);
+            }
+        }
+        byName.putAll(byColumn);
+        this.properties = Map.copyOf(byName);
+        this.fields = List.copyOf(mapped);
+    }
+
+    /**
+     * Returns the mapper of a class, built on first use.
+     *
+     * @param type the mapped class, with a no-argument constructor.
+     * @param <T> the type of the mapped class.
+     * @return the mapper of the class.
+     * @throws ForceException if the class has no no-argument constructor.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityMapper<T> of(Class<T> type) {
+        return (EntityMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * Resolves the columns of a result set and returns the row mapper of its rows.
+     *
+     * @param metaData the metadata of the result set.
+     * @return a row mapper bound to the columns of the result set.
+     * @throws SQLException if the metadata cannot be read.
+     */
+    public RowMapper<T> bind(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        List<String> labels = new ArrayList<>(count);
+        for (int column = 1; column <= count; column++) {
+            labels.add(key(metaData.getColumnLabel(column)));
+        }
+
+        var mapper = layouts.get(labels);
+        if (mapper == null) {
+            mapper = compose(labels);
+            if (layouts.size() < MAX_LAYOUTS) {
+                layouts.putIfAbsent(labels, mapper);
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * Resolves the columns of a result set and maps its current row.
+     *
+     * @param resultSet the result set, positioned on a row.
+     * @return the mapped object.
+     * @throws SQLException if a column cannot be read.
+     */
+    public T map(ResultSet resultSet) throws SQLException {
+        return bind(resultSet.getMetaData()).map(resultSet);
+    }
+
+    /**
+     * Copies an instance, field by field.
+     *
+     * @param source the instance to copy.
+     * @return a new instance with the values of the source, arrays, dates and calendars are cloned.
+     * @throws ForceException if a field cannot be copied.
+     */
+    public T copy(T source) {
+        try {
+            var copy = (Object) constructor.invokeExact();
+            for (var field : fields) {
+                var value = (Object) field.getter().invokeExact((Object) source);
+                field.setter().invokeExact(copy, copyValue(value));
+            }
+            return type.cast(copy);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ForceException("Cannot copy " + type.getName() + ".", ex);
+        }
+    }
+
+    /**
+     * Checks that copy() makes an independent copy, i.e. that every field is of an immutable type,
+     * such as a String, a boxed primitive, a BigDecimal, an enum or a java.time type, or of a type that copy() clones.
+     *
+     * @throws ForceException naming the first field whose values would be shared with the copy.
+     */
+    public void requireCopyable() {
+        for (var field : fields) {
+            var fieldType = field.type();
+            var copied = Date.class.isAssignableFrom(fieldType) || Calendar.class.isAssignableFrom(fieldType)
+                    || (fieldType.isArray() && isImmutable(fieldType.getComponentType()));
+            if (!copied && !isImmutable(fieldType)) {
+                throw new ForceException("Field " + field.name() + " of " + type.getName() + " is of the mutable type "
+                        + fieldType.getName() + ", it cannot be copied.");
+            }
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    private RowMapper<T> compose(List<String> labels) {
+        var readers = ColumnReaders.getInstance();
+        var seen = new HashSet<Property>();
+        List<MethodHandle> steps = new ArrayList<>();
+        for (int column = 1; column <= labels.size(); column++) {
+            var property = properties.get(labels.get(column - 1));
+            if (property != null && seen.add(property)) {
+                // step(entity, resultSet) reads the column and sets its field
+                var reader = MethodHandles.insertArguments(READ.bindTo(readers.getReader(property.type())), 1, column);
+                steps.add(MethodHandles.filterArguments(property.setter(), 1, reader));
+            }
+        }
+
+        // fill(entity, resultSet) runs the steps in column order
+        var fill = MethodHandles.empty(FILL_TYPE);
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            fill = MethodHandles.foldArguments(fill, steps.get(i));
+        }
+
+        // map(resultSet) creates the entity, fills it and returns it
+        var fillAndReturn = MethodHandles.foldArguments(
+                MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, ResultSet.class), fill);
+        var map = MethodHandles.foldArguments(fillAndReturn, MethodHandles.dropArguments(constructor, 0, ResultSet.class));
+        return new BoundMapper<>(type, map);
+    }
+
+    private static Property property(MethodHandles.Lookup lookup, Field field) {
+        try {
+            field.setAccessible(true);
+            return new Property(field.getName(), field.getType(), lookup.unreflectSetter(field).asType(SETTER_TYPE),
+                    lookup.unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException ex) {
+            // a field that cannot be written, e.g. a final field of a record, is not mapped
+            return null;
+        }
+    }
+
+    private static String columnName(Field field) {
+        var pk = field.getAnnotation(Pk.class);
+        if (pk != null && !pk.value().isBlank()) {
+            return pk.value();
+        }
+        var column = field.getAnnotation(Column.class);
+        if (column != null && !column.value().isBlank()) {
+            return column.value();
+        }
+        return null;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Date date) {
+            // Object.clone keeps the runtime class and the fields of a subclass, e.g. the nanos of a Timestamp
+            return date.clone();
+        }
+        if (value instanceof Calendar calendar) {
+            return calendar.clone();
+        }
+        if (value != null && value.getClass().isArray()) {
+            return cloneArray(value);
+        }
+        return value;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)
+                || "java.time".equals(type.getPackageName());
+    }
+
+    private static Object cloneArray(Object array) {
+        int length = Array.getLength(array);
+        var copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A mapped field, its name, its type, its setter of type (Object, Object)void and its getter of type (Object)Object.
+     */
+    private record Property(String name, Class<?> type, MethodHandle setter, MethodHandle getter) {}
+
+    /**
+     * The row mapper of one result set.
+     */
+    private static final class BoundMapper<T> implements RowMapper<T> {
+        private final Class<T> type;
+        private final MethodHandle mapper;
+
+        private BoundMapper(Class<T> type, MethodHandle mapper) {
+            this.type = type;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T map(ResultSet resultSet) throws SQLException {
+            try {
+                return type.cast((Object) mapper.invokeExact(resultSet));
+            } catch (SQLException | RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new ForceException("Cannot map the row to " + type.getName() + ".", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The RowMapper interface maps the current row of a result set to an object.
+ * A row mapper is bound to the columns of one result set, see EntityMapper.bind().
+ *
+ * @param <T> the type of the mapped object.
+ *
+ * @see EntityMapper
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row of the result set.
+     *
+     * @param resultSet the result set, positioned on a row.
+     * @return the mapped object.
+     * @throws SQLException if a column cannot be read.
+     */
+    T map(ResultSet resultSet) throws SQLException;
+}
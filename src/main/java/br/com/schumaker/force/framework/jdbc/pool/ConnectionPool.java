@@ -0,0 +1,456 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.jdbc.RdbEnum;
+import br.com.schumaker.force.framework.web.http.Http;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ConnectionPool class is a bounded JDBC connection pool.
+ * It opens minIdle connections at startup and grows on demand up to maxSize. A caller waits at most
+ * connectionTimeout for a connection and then gets a ForceException with HTTP 503.
+ *
+ * <p>
+ * A connection is handed out without a lock: the last connection used by the thread is tried first, then the
+ * idle connections, most recently used first; the state of a connection only changes by compare and set.
+ * A semaphore counts the connections in use, waiting callers park on it, which does not pin virtual threads.
+ * A connection unused for more than half a second is validated with isValid before it is handed out.
+ * Each connection caches statementCacheSize prepared statements, and the driver is asked to prepare them
+ * on the server and to rewrite batched inserts, see RdbEnum.
+ * </p>
+ *
+ * <p>
+ * The housekeeper retires idle connections past idleTimeout, above minIdle, and connections past maxLifetime,
+ * validates idle connections every keepaliveTime, reports connections held longer than leakDetectionThreshold
+ * with the stack of the caller that acquired them, and opens connections back up to minIdle.
+ * </p>
+ *
+ * @see PoolConfig
+ * @see PoolStats
+ * @see PooledConnection
+ * @see StatementCache
+ *
+ * @author Hudson Schumaker
+ * @version 1.4.0
+ */
+public final class ConnectionPool {
+    private static final long ALIVE_BYPASS_WINDOW = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long HOUSEKEEPING_PERIOD = TimeUnit.SECONDS.toMillis(30);
+    private static final long RETRY_PARK = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final PoolConfig config;
+    private final ConnectionFactory factory;
+    private final CopyOnWriteArrayList<PooledConnection> connections = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final ThreadLocal<PooledConnection> lastUsed = new ThreadLocal<>();
+    private final Semaphore permits;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+    private final LongAdder statementEvictions = new LongAdder();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new ConnectionPool that opens its connections with the DriverManager.
+     *
+     * @param config the pool settings.
+     */
+    public ConnectionPool(PoolConfig config) {
+        this(config, driverManager(config));
+    }
+
+    /**
+     * Constructs a new ConnectionPool.
+     *
+     * @param config the pool settings.
+     * @param factory the factory of the physical connections.
+     */
+    ConnectionPool(PoolConfig config, ConnectionFactory factory) {
+        this.config = config;
+        this.factory = factory;
+        this.permits = new Semaphore(config.maxSize());
+
+        try {
+            fill();
+        } catch (SQLException ex) {
+            throw new ForceException("Error initializing connection pool: " + ex.getMessage(), ex);
+        }
+
+        long period = HOUSEKEEPING_PERIOD;
+        if (config.idleTimeout() > 0) {
+            period = Math.min(period, Math.max(config.idleTimeout() / 2, 1));
+        }
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, "force-pool-" + config.name());
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public static ConnectionPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns a connection from the pool, its close() method returns it to the pool.
+     *
+     * @return a Connection object from the pool.
+     * @throws ForceException with HTTP 503 if no connection is available within the connection timeout.
+     */
+    public Connection getConnection() {
+        if (closed) {
+            throw new ForceException("Connection pool " + config.name() + " is closed.", Http.HTTP_503);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.connectionTimeout());
+        acquirePermit(start, deadline);
+
+        try {
+            var entry = borrow(deadline);
+            long now = System.nanoTime();
+            recordWait(now - start);
+            lastUsed.set(entry);
+            return entry.open(now, config.leakDetectionThreshold() > 0);
+        } catch (RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Tests the connection by performing a simple query.
+     *
+     * @return true if the connection is successful, false otherwise.
+     */
+    public boolean testConnection() {
+        try (Connection connection = getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("SELECT 1");
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next();
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool gauges and counters.
+     *
+     * @return the pool statistics.
+     */
+    public PoolStats getStats() {
+        int active = 0;
+        int available = 0;
+        for (var entry : connections) {
+            switch (entry.getState()) {
+                case PooledConnection.IN_USE -> active++;
+                case PooledConnection.IDLE -> available++;
+                default -> { }
+            }
+        }
+
+        long count = acquired.sum();
+        double averageWait = count == 0 ? 0 : waitNanos.sum() / (double) count / 1_000_000;
+        return new PoolStats(config.name(), total.get(), active, available, waiting.get(), config.maxSize(),
+                count, timeouts.sum(), averageWait, maxWaitNanos.get() / 1_000_000.0,
+                created.sum(), removed.sum(), leaks.sum(),
+                statementHits.sum(), statementMisses.sum(), statementEvictions.sum());
+    }
+
+    /**
+     * Returns the number of connections in use, without scanning the pool.
+     *
+     * @return the number of borrowed connections.
+     */
+    public int getActive() {
+        return config.maxSize() - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return the size of the connection pool.
+     */
+    public int getSize() {
+        return total.get();
+    }
+
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Closes the idle connections and stops the housekeeper.
+     * A connection in use is closed when it is returned.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            if (entry.tryReserve()) {
+                remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns a connection to the pool, called by the close() method of the connection proxy.
+     *
+     * @param entry the connection being returned.
+     */
+    void release(PooledConnection entry) {
+        try {
+            long now = System.nanoTime();
+            if (closed || isExpired(entry, now) || !entry.reset(now)) {
+                remove(entry);
+            } else if (entry.markQueued()) {
+                idle.offerFirst(entry);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Retires idle and expired connections, validates idle connections, reports leaks and opens connections
+     * back up to minIdle. It runs on the housekeeper thread.
+     */
+    void housekeep() {
+        long now = System.nanoTime();
+        long idleTimeout = TimeUnit.MILLISECONDS.toNanos(config.idleTimeout());
+        long keepalive = TimeUnit.MILLISECONDS.toNanos(config.keepaliveTime());
+        long leakThreshold = TimeUnit.MILLISECONDS.toNanos(config.leakDetectionThreshold());
+
+        for (var entry : connections) {
+            if (entry.getState() == PooledConnection.IN_USE) {
+                if (leakThreshold > 0 && now - entry.getBorrowedAt() > leakThreshold && entry.markLeakReported()) {
+                    reportLeak(entry, now);
+                }
+            } else if (entry.tryReserve()) {
+                boolean retire = isExpired(entry, now)
+                        || (idleTimeout > 0 && now - entry.getLastUsed() > idleTimeout && total.get() > config.minIdle())
+                        || (keepalive > 0 && now - entry.getLastUsed() > keepalive && !entry.isValid(validationSeconds()));
+                if (retire) {
+                    remove(entry);
+                } else {
+                    entry.setIdle();
+                    if (entry.markQueued()) {
+                        idle.offerFirst(entry);
+                    }
+                }
+            }
+        }
+
+        try {
+            fill();
+        } catch (SQLException ex) {
+            System.err.println("Connection pool " + config.name() + " cannot open a connection: " + ex.getMessage());
+        }
+    }
+
+    private void acquirePermit(long start, long deadline) {
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(deadline - start, TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                throw timeout();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ForceException("Interrupted while waiting for a connection.", ex);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private PooledConnection borrow(long deadline) {
+        while (true) {
+            var entry = lastUsed.get();
+            if (entry == null || !entry.tryReserve()) {
+                entry = pollIdle();
+            }
+
+            if (entry == null) {
+                try {
+                    entry = create(PooledConnection.IN_USE);
+                } catch (SQLException ex) {
+                    throw new ForceException("Error opening a connection: " + ex.getMessage(), ex);
+                }
+                if (entry != null) {
+                    return entry;
+                }
+                // an idle connection is being returned or validated by the housekeeper
+                if (System.nanoTime() - deadline > 0) {
+                    timeouts.increment();
+                    throw timeout();
+                }
+                LockSupport.parkNanos(RETRY_PARK);
+                continue;
+            }
+
+            if (isAlive(entry)) {
+                return entry;
+            }
+            remove(entry);
+        }
+    }
+
+    private PooledConnection pollIdle() {
+        PooledConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            entry.clearQueued();
+            if (entry.tryReserve()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private PooledConnection create(int state) throws SQLException {
+        int count;
+        do {
+            count = total.get();
+            if (count >= config.maxSize()) {
+                return null;
+            }
+        } while (!total.compareAndSet(count, count + 1));
+
+        try {
+            var statements = config.statementCacheSize() > 0
+                    ? new StatementCache(config.statementCacheSize(), statementHits, statementMisses, statementEvictions)
+                    : null;
+            var entry = new PooledConnection(this, factory.create(), System.nanoTime(), state, statements);
+            connections.add(entry);
+            created.increment();
+            return entry;
+        } catch (SQLException | RuntimeException ex) {
+            total.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private void fill() throws SQLException {
+        while (!closed && total.get() < config.minIdle()) {
+            var entry = create(PooledConnection.IDLE);
+            if (entry == null) {
+                return;
+            }
+            if (entry.markQueued()) {
+                idle.offerLast(entry);
+            }
+        }
+    }
+
+    private void remove(PooledConnection entry) {
+        if (connections.remove(entry)) {
+            total.decrementAndGet();
+            removed.increment();
+        }
+        entry.close();
+    }
+
+    private boolean isAlive(PooledConnection entry) {
+        long now = System.nanoTime();
+        if (isExpired(entry, now)) {
+            return false;
+        }
+        return now - entry.getLastUsed() < ALIVE_BYPASS_WINDOW || entry.isValid(validationSeconds());
+    }
+
+    private boolean isExpired(PooledConnection entry, long now) {
+        return config.maxLifetime() > 0 && now - entry.getCreatedAt() >= TimeUnit.MILLISECONDS.toNanos(config.maxLifetime());
+    }
+
+    private int validationSeconds() {
+        return (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.validationTimeout()));
+    }
+
+    private void recordWait(long nanos) {
+        acquired.increment();
+        waitNanos.add(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void reportLeak(PooledConnection entry, long now) {
+        leaks.increment();
+        System.err.println("Connection pool " + config.name() + ": possible connection leak, held for "
+                + TimeUnit.NANOSECONDS.toMillis(now - entry.getBorrowedAt()) + " ms.");
+        var trace = entry.getLeakTrace();
+        if (trace != null) {
+            trace.printStackTrace();
+        }
+    }
+
+    private ForceException timeout() {
+        return new ForceException("Connection pool " + config.name() + ": no connection available after "
+                + config.connectionTimeout() + " ms.", Http.HTTP_503);
+    }
+
+    private static ConnectionFactory driverManager(PoolConfig config) {
+        return () -> {
+            var rdb = RdbEnum.of(config.type());
+            try {
+                Class.forName(rdb.getDriver());
+            } catch (ClassNotFoundException ex) {
+                throw new SQLException("Driver not found for " + config.type(), ex);
+            }
+
+            var properties = new Properties();
+            properties.putAll(rdb.getBatchProperties());
+            if (config.statementCacheSize() > 0) {
+                // the url wins over these, a setting made there is kept
+                properties.putAll(rdb.getServerPrepareProperties());
+            }
+            if (config.user() != null) {
+                properties.put("user", config.user());
+            }
+            if (config.password() != null) {
+                properties.put("password", config.password());
+            }
+            return DriverManager.getConnection(config.url(), properties);
+        };
+    }
+
+    /**
+     * Holds the primary pool, it connects on first use, once the environment is loaded.
+     */
+    private static final class Holder {
+        private static final ConnectionPool INSTANCE = new ConnectionPool(PoolConfig.of(Environment.getInstance()));
+    }
+
+    /**
+     * Opens a physical connection.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+}
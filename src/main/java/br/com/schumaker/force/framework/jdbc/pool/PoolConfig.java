@@ -0,0 +1,93 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.ioc.AppProperties;
+import br.com.schumaker.force.framework.ioc.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The PoolConfig record holds the settings of a ConnectionPool.
+ * Every duration is in milliseconds.
+ *
+ * @param name the pool name, primary or replica-N, used in the statistics and in the log.
+ * @param type the RDBMS type, as in force.db.type.
+ * @param url the JDBC url.
+ * @param user the database user.
+ * @param password the database password.
+ * @param minIdle the number of connections kept open when the pool is idle.
+ * @param maxSize the maximum number of connections.
+ * @param connectionTimeout how long a caller waits for a connection.
+ * @param idleTimeout how long a connection above minIdle may stay unused, 0 to keep it.
+ * @param maxLifetime how long a connection is used before it is retired.
+ * @param keepaliveTime how often an idle connection is validated, 0 to disable.
+ * @param validationTimeout how long a validation may take.
+ * @param leakDetectionThreshold how long a connection may be held before it is reported, 0 to disable.
+ * @param statementCacheSize the number of prepared statements cached per connection, 0 to disable.
+ *
+ * @see ConnectionPool
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public record PoolConfig(String name, String type, String url, String user, String password,
+                         int minIdle, int maxSize, long connectionTimeout, long idleTimeout, long maxLifetime,
+                         long keepaliveTime, long validationTimeout, long leakDetectionThreshold,
+                         int statementCacheSize) {
+
+    public PoolConfig {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pool maximum size must be at least 1.");
+        }
+        minIdle = Math.max(0, Math.min(minIdle, maxSize));
+        statementCacheSize = Math.max(0, statementCacheSize);
+    }
+
+    /**
+     * Builds the configuration of the primary pool from the force.db.* properties.
+     *
+     * @param environment the environment.
+     * @return a new PoolConfig.
+     */
+    public static PoolConfig of(Environment environment) {
+        return new PoolConfig("primary",
+                environment.getKey(AppProperties.DB_TYPE),
+                environment.getKey(AppProperties.DB_URL),
+                environment.getKey(AppProperties.DB_USER),
+                environment.getKey(AppProperties.DB_PASSWORD),
+                environment.getDbMinIdle(),
+                environment.getDbMaxPoolSize(),
+                environment.getDbConnectionTimeout(),
+                environment.getDbIdleTimeout(),
+                environment.getDbMaxLifetime(),
+                environment.getDbKeepaliveTime(),
+                environment.getDbValidationTimeout(),
+                environment.getDbLeakDetectionThreshold(),
+                environment.getDbStatementCacheSize());
+    }
+
+    /**
+     * Builds the configurations of the replica pools, one per url of force.db.replica.urls.
+     * The replicas use the settings of the primary pool, and its user and password unless
+     * force.db.replica.user and force.db.replica.password are set.
+     *
+     * @param environment the environment.
+     * @return the replica configurations, empty if there are no replicas.
+     */
+    public static List<PoolConfig> replicas(Environment environment) {
+        var primary = of(environment);
+        var user = environment.getKey(AppProperties.DB_REPLICA_USER);
+        var password = environment.getKey(AppProperties.DB_REPLICA_PASSWORD);
+        List<PoolConfig> replicas = new ArrayList<>();
+        for (var url : environment.getDbReplicaUrls().split(",")) {
+            if (!url.isBlank()) {
+                replicas.add(new PoolConfig("replica-" + (replicas.size() + 1), primary.type(), url.trim(),
+                        user == null ? primary.user() : user, password == null ? primary.password() : password,
+                        primary.minIdle(), primary.maxSize(), primary.connectionTimeout(), primary.idleTimeout(),
+                        primary.maxLifetime(), primary.keepaliveTime(), primary.validationTimeout(),
+                        primary.leakDetectionThreshold(), primary.statementCacheSize()));
+            }
+        }
+        return replicas;
+    }
+}
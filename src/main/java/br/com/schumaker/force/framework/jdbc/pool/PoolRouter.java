@@ -0,0 +1,129 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.Environment;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The PoolRouter class routes the connections between the primary pool and the replica pools.
+ * Writes, and reads when there are no replicas, use the primary pool; reads are balanced between the replicas,
+ * round-robin or to the replica with the fewest connections in use, as set by force.db.replica.balancing.
+ * Each replica has a pool of its own, with the settings of the primary pool.
+ *
+ * @see ConnectionPool
+ * @see PoolConfig
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class PoolRouter {
+    private final ConnectionPool primary;
+    private final List<ConnectionPool> replicas;
+    private final Balancing balancing;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * How the reads are balanced between the replicas.
+     */
+    public enum Balancing {
+        ROUND_ROBIN, LEAST_BUSY;
+
+        /**
+         * Parses a balancing as in force.db.replica.balancing.
+         *
+         * @param value round-robin or least-busy.
+         * @return the balancing.
+         * @throws ForceException if the value is not supported.
+         */
+        public static Balancing of(String value) {
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "round-robin" -> ROUND_ROBIN;
+                case "least-busy" -> LEAST_BUSY;
+                default -> throw new ForceException("Unsupported replica balancing: " + value);
+            };
+        }
+    }
+
+    /**
+     * Constructs a new PoolRouter.
+     *
+     * @param primary the pool of the primary database.
+     * @param replicas the pools of the replicas, may be empty.
+     * @param balancing how the reads are balanced between the replicas.
+     */
+    PoolRouter(ConnectionPool primary, List<ConnectionPool> replicas, Balancing balancing) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.balancing = balancing;
+    }
+
+    public static PoolRouter getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns a connection to the primary database.
+     *
+     * @return a Connection object from the primary pool.
+     * @throws ForceException with HTTP 503 if no connection is available within the connection timeout.
+     */
+    public Connection getConnection() {
+        return primary.getConnection();
+    }
+
+    /**
+     * Returns a connection for reads, to a replica or, if there are none, to the primary database.
+     *
+     * @return a Connection object from a replica pool.
+     * @throws ForceException with HTTP 503 if no connection is available within the connection timeout.
+     */
+    public Connection getReadConnection() {
+        return replicas.isEmpty() ? primary.getConnection() : nextReplica().getConnection();
+    }
+
+    /**
+     * Chooses the replica of the next read.
+     *
+     * @return the pool of the replica.
+     */
+    ConnectionPool nextReplica() {
+        if (replicas.size() == 1) {
+            return replicas.getFirst();
+        }
+        if (balancing == Balancing.LEAST_BUSY) {
+            // ties go round-robin, so idle replicas share the reads
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            var chosen = replicas.get(start);
+            for (int i = 1; i < replicas.size(); i++) {
+                var replica = replicas.get((start + i) % replicas.size());
+                if (replica.getActive() < chosen.getActive()) {
+                    chosen = replica;
+                }
+            }
+            return chosen;
+        }
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    public ConnectionPool getPrimary() {
+        return primary;
+    }
+
+    public List<ConnectionPool> getReplicas() {
+        return replicas;
+    }
+
+    private static final class Holder {
+        private static final PoolRouter INSTANCE = create(Environment.getInstance());
+
+        private static PoolRouter create(Environment environment) {
+            var replicas = PoolConfig.replicas(environment).stream().map(ConnectionPool::new).toList();
+            return new PoolRouter(ConnectionPool.getInstance(), replicas,
+                    Balancing.of(environment.getDbReplicaBalancing()));
+        }
+    }
+}
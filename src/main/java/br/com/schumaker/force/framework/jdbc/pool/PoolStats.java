@@ -0,0 +1,31 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+/**
+ * Snapshot of the gauges and counters of a ConnectionPool.
+ *
+ * @param name the pool name.
+ * @param total the open connections.
+ * @param active the connections in use.
+ * @param idle the connections ready to be used.
+ * @param waiting the callers waiting for a connection.
+ * @param maxSize the maximum number of connections.
+ * @param acquired the connections handed out since startup.
+ * @param timeouts the callers that gave up waiting.
+ * @param averageWaitMillis the average time a caller waited for a connection.
+ * @param maxWaitMillis the longest time a caller waited for a connection.
+ * @param created the connections opened since startup.
+ * @param removed the connections closed since startup, broken, expired or idle.
+ * @param leaks the connections reported as leaked.
+ * @param statementHits the prepared statements reused from the statement cache.
+ * @param statementMisses the prepared statements prepared by the driver.
+ * @param statementEvictions the prepared statements closed to make room in the statement cache.
+ *
+ * @see ConnectionPool
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public record PoolStats(String name, int total, int active, int idle, int waiting, int maxSize,
+                        long acquired, long timeouts, double averageWaitMillis, double maxWaitMillis,
+                        long created, long removed, long leaks,
+                        long statementHits, long statementMisses, long statementEvictions) {}
@@ -0,0 +1,253 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The PooledConnection class is a physical connection owned by a ConnectionPool, with its state and timestamps.
+ * Callers never see it: each borrow gets a new proxy whose close() returns the connection to the pool,
+ * a proxy is unusable once closed. Prepared statements go through the StatementCache of the connection, when
+ * there is one.
+ * The state only changes by compare and set, that is what lets the pool hand out a connection without a lock.
+ *
+ * @see ConnectionPool
+ * @see StatementCache
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class PooledConnection {
+    static final int IDLE = 0;
+    static final int IN_USE = 1;
+    static final int REMOVED = 2;
+    private static final Class<?>[] INTERFACES = {Connection.class};
+
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statements;
+    private final long createdAt;
+    private final int isolation;
+    private final AtomicInteger state;
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private volatile long lastUsed;
+    private volatile long borrowedAt;
+    private volatile Throwable leakTrace;
+    private volatile boolean leakReported;
+    private volatile boolean dirty;
+
+    /**
+     * Constructs a new PooledConnection.
+     *
+     * @param pool the pool that owns the connection.
+     * @param connection the physical connection.
+     * @param now the creation time, in nanoseconds.
+     * @param state the initial state, IDLE or IN_USE.
+     * @param statements the statement cache of the connection, null to disable it.
+     * @throws SQLException if the transaction isolation cannot be read.
+     */
+    PooledConnection(ConnectionPool pool, Connection connection, long now, int state, StatementCache statements) throws SQLException {
+        this.pool = pool;
+        this.connection = connection;
+        this.statements = statements;
+        this.createdAt = now;
+        this.lastUsed = now;
+        this.isolation = connection.getTransactionIsolation();
+        this.state = new AtomicInteger(state);
+    }
+
+    /**
+     * Reserves an idle connection.
+     *
+     * @return true if the connection was idle and is now in use by the caller.
+     */
+    boolean tryReserve() {
+        return state.compareAndSet(IDLE, IN_USE);
+    }
+
+    /**
+     * Marks the connection as queued in the idle deque.
+     *
+     * @return true if it was not queued yet, the caller must then add it.
+     */
+    boolean markQueued() {
+        return queued.compareAndSet(false, true);
+    }
+
+    void clearQueued() {
+        queued.set(false);
+    }
+
+    /**
+     * Hands the connection out to a caller.
+     *
+     * @param now the current time, in nanoseconds.
+     * @param trackLeak whether the stack of the caller is captured for leak detection.
+     * @return a new proxy of the connection.
+     */
+    Connection open(long now, boolean trackLeak) {
+        borrowedAt = now;
+        leakReported = false;
+        leakTrace = trackLeak ? new Throwable("Connection acquired here") : null;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), INTERFACES, new Handle());
+    }
+
+    /**
+     * Makes the connection idle again, rolling back an open transaction and restoring the settings changed
+     * by the last caller.
+     *
+     * @param now the current time, in nanoseconds.
+     * @return false if the connection is broken and must be removed.
+     */
+    boolean reset(long now) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (dirty) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                connection.setReadOnly(false);
+                connection.setTransactionIsolation(isolation);
+                dirty = false;
+            }
+            if (statements != null) {
+                statements.closeInUse();
+            }
+        } catch (SQLException ex) {
+            return false;
+        }
+
+        lastUsed = now;
+        leakTrace = null;
+        state.set(IDLE);
+        return true;
+    }
+
+    /**
+     * Checks whether the physical connection is still usable.
+     *
+     * @param timeoutSeconds how long the validation may take.
+     * @return true if the database answered in time.
+     */
+    boolean isValid(int timeoutSeconds) {
+        try {
+            return connection.isValid(timeoutSeconds);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Marks the connection as removed and closes its cached statements and the physical connection.
+     */
+    void close() {
+        state.set(REMOVED);
+        if (statements != null) {
+            statements.closeAll();
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // the connection is discarded either way
+        }
+    }
+
+    /**
+     * Marks the connection as reported by the leak detection.
+     *
+     * @return true the first time, for the current borrow.
+     */
+    boolean markLeakReported() {
+        if (leakReported) {
+            return false;
+        }
+        leakReported = true;
+        return true;
+    }
+
+    void setIdle() {
+        state.set(IDLE);
+    }
+
+    int getState() {
+        return state.get();
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    long getBorrowedAt() {
+        return borrowedAt;
+    }
+
+    Throwable getLeakTrace() {
+        return leakTrace;
+    }
+
+    /**
+     * The handler of one borrow: close() releases the connection once, any other call after it fails.
+     */
+    private final class Handle implements InvocationHandler {
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    if (closed) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + connection + "]";
+                }
+                case "setAutoCommit", "setReadOnly", "setTransactionIsolation" -> dirty = true;
+                default -> { }
+            }
+
+            if (closed) {
+                throw new SQLException("Connection is closed.");
+            }
+            if (statements != null && "prepareStatement".equals(method.getName()) && isCacheable(method)) {
+                int autoGeneratedKeys = args.length == 1 ? StatementCache.NO_GENERATED_KEYS : (int) args[1];
+                return statements.prepare((Connection) proxy, connection, (String) args[0], autoGeneratedKeys);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    private static boolean isCacheable(Method method) {
+        var types = method.getParameterTypes();
+        return types.length == 1 || (types.length == 2 && types[1] == int.class);
+    }
+}
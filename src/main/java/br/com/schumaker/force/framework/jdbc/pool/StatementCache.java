@@ -0,0 +1,254 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The StatementCache class is the LRU cache of the prepared statements of one pooled connection, keyed by SQL text.
+ * A cached statement is handed out as a proxy whose close() clears its parameters and its batch and returns
+ * it to the cache, so the driver prepares each SQL text once per connection. A statement already handed out, or one whose
+ * settings were changed by the caller, is not shared: the caller gets a statement of its own.
+ * Statements are closed when they are evicted and when the connection is retired.
+ *
+ * <p>
+ * A pooled connection is used by one caller at a time, the cache is not thread safe.
+ * </p>
+ *
+ * @see PooledConnection
+ * @see ConnectionPool
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class StatementCache {
+    static final int NO_GENERATED_KEYS = -1;
+    private static final Class<?>[] INTERFACES = {PreparedStatement.class};
+    private static final Set<String> SETTINGS = Set.of("setMaxRows", "setLargeMaxRows", "setFetchSize",
+            "setFetchDirection", "setQueryTimeout", "setMaxFieldSize", "setEscapeProcessing", "setPoolable",
+            "setCursorName", "closeOnCompletion");
+
+    private final LinkedHashMap<Key, Entry> statements;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new StatementCache.
+     *
+     * @param maxSize the maximum number of cached statements.
+     * @param hits the counter of statements reused.
+     * @param misses the counter of statements prepared.
+     * @param evictions the counter of statements evicted.
+     */
+    StatementCache(int maxSize, LongAdder hits, LongAdder misses, LongAdder evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                StatementCache.this.evictions.increment();
+                evict(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for a SQL text, reusing the cached one when it is free.
+     *
+     * @param connection the connection proxy, returned by the getConnection() method of the statement.
+     * @param physical the physical connection that prepares the statement.
+     * @param sql the SQL text.
+     * @param autoGeneratedKeys the Statement.RETURN_GENERATED_KEYS flag, or NO_GENERATED_KEYS.
+     * @return a prepared statement proxy.
+     * @throws SQLException if the driver cannot prepare the statement.
+     */
+    PreparedStatement prepare(Connection connection, Connection physical, String sql, int autoGeneratedKeys) throws SQLException {
+        var key = new Key(sql, autoGeneratedKeys);
+        var entry = statements.get(key);
+        if (entry != null && !entry.inUse) {
+            hits.increment();
+            entry.inUse = true;
+            return entry.open(connection);
+        }
+
+        misses.increment();
+        var statement = autoGeneratedKeys == NO_GENERATED_KEYS
+                ? physical.prepareStatement(sql)
+                : physical.prepareStatement(sql, autoGeneratedKeys);
+        if (entry != null) {
+            // the cached statement is in use by the same caller
+            return statement;
+        }
+
+        entry = new Entry(key, statement);
+        entry.inUse = true;
+        statements.put(key, entry);
+        return entry.open(connection);
+    }
+
+    /**
+     * Closes every cached statement, called when the connection is retired.
+     */
+    void closeAll() {
+        var entries = new ArrayList<>(statements.values());
+        statements.clear();
+        entries.forEach(StatementCache::closeQuietly);
+    }
+
+    /**
+     * Closes the statements the last caller did not close, called when the connection returns to the pool.
+     */
+    void closeInUse() {
+        statements.values().removeIf(entry -> {
+            if (entry.inUse) {
+                entry.evicted = true;
+                closeQuietly(entry);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    private void checkIn(Entry entry, boolean dirty) {
+        if (entry.evicted) {
+            closeQuietly(entry);
+            return;
+        }
+        if (dirty || !reset(entry.statement)) {
+            statements.remove(entry.key, entry);
+            closeQuietly(entry);
+            return;
+        }
+        entry.inUse = false;
+    }
+
+    private void evict(Entry entry) {
+        entry.evicted = true;
+        if (!entry.inUse) {
+            closeQuietly(entry);
+        }
+    }
+
+    private static boolean reset(PreparedStatement statement) {
+        try {
+            var resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+            return true;
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Entry entry) {
+        try {
+            entry.statement.close();
+        } catch (SQLException ignored) {
+            // the statement is discarded either way
+        }
+    }
+
+    /**
+     * The cache key, the SQL text and the generated keys flag it was prepared with.
+     */
+    private record Key(String sql, int autoGeneratedKeys) {}
+
+    /**
+     * A cached statement.
+     */
+    private final class Entry {
+        private final Key key;
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        private Entry(Key key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        private PreparedStatement open(Connection connection) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), INTERFACES,
+                    new Handle(this, connection));
+        }
+    }
+
+    /**
+     * The handler of one checkout: close() returns the statement to the cache once, any other call after it fails.
+     */
+    private final class Handle implements InvocationHandler {
+        private final Entry entry;
+        private final Connection connection;
+        private boolean closed;
+        private boolean dirty;
+
+        private Handle(Entry entry, Connection connection) {
+            this.entry = entry;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            switch (name) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        checkIn(entry, dirty);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    if (closed) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "CachedStatement[" + entry.key.sql() + "]";
+                }
+                default -> dirty |= SETTINGS.contains(name);
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed.");
+            }
+            if ("getConnection".equals(name)) {
+                return connection;
+            }
+            try {
+                return method.invoke(entry.statement, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
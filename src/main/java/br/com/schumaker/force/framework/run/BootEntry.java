@@ -0,0 +1,12 @@
+package br.com.schumaker.force.framework.run;
+
+/**
+ * The measures of a startup phase or of the creation of a managed class.
+ * The allocated bytes are -1 when the JVM does not measure allocations.
+ *
+ * @see BootProfiler
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public record BootEntry(String name, double millis, long allocatedBytes, long classesLoaded) {}
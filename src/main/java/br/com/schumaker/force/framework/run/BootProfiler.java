@@ -0,0 +1,158 @@
+package br.com.schumaker.force.framework.run;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The BootProfiler class measures the startup, per phase and per managed class.
+ * Each measure has the wall time, the bytes allocated and the classes loaded, read from the ThreadMXBean and the
+ * ClassLoadingMXBean. A phase counts the allocations of every thread, a managed class those of the thread that
+ * creates it; the classes loaded are counted for the whole JVM, so they overlap between classes created in parallel.
+ * The report is served by /health/boot, and printed and written as JSON with the -boot-report argument.
+ * This class is a singleton and provides a global point of access to its instance.
+ *
+ * @see BootReport
+ * @see Force
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class BootProfiler {
+    private static final BootProfiler INSTANCE = new BootProfiler();
+    private static final Comparator<BootEntry> SLOWEST_FIRST = Comparator.comparingDouble(BootEntry::millis).reversed();
+    private final com.sun.management.ThreadMXBean threads;
+    private final ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+    private final Queue<BootEntry> phases = new ConcurrentLinkedQueue<>();
+    private final Queue<BootEntry> beans = new ConcurrentLinkedQueue<>();
+    private volatile Snapshot start;
+    private volatile BootEntry total;
+
+    /**
+     * A task of the startup.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private record Snapshot(long nanos, long allocatedBytes, long classesLoaded) {}
+
+    BootProfiler() {
+        var bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean it && it.isThreadAllocatedMemorySupported()
+                && it.isThreadAllocatedMemoryEnabled() ? it : null;
+        this.start = snapshot(true);
+    }
+
+    public static BootProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts the measure of the startup, the totals are measured from here.
+     */
+    public void start() {
+        this.start = snapshot(true);
+        this.total = null;
+    }
+
+    /**
+     * Runs and measures a phase of the startup. A phase that fails is measured as well.
+     *
+     * @param name the name of the phase.
+     * @param task the phase.
+     * @throws Exception if the phase fails.
+     */
+    public void phase(String name, Task task) throws Exception {
+        var before = snapshot(true);
+        try {
+            task.run();
+        } finally {
+            phases.add(measure(name, before, snapshot(true)));
+        }
+    }
+
+    /**
+     * Runs and measures the creation of a managed class, on the current thread.
+     *
+     * @param clazz the managed class.
+     * @param task the creation.
+     */
+    public void bean(Class<?> clazz, Runnable task) {
+        var before = snapshot(false);
+        try {
+            task.run();
+        } finally {
+            beans.add(measure(clazz.getName(), before, snapshot(false)));
+        }
+    }
+
+    /**
+     * Ends the measure of the startup.
+     */
+    public void finish() {
+        this.total = measure("Total", start, snapshot(true));
+    }
+
+    /**
+     * Returns the report of the startup, with the totals so far if it has not finished.
+     *
+     * @return the report.
+     */
+    public BootReport getReport() {
+        var totals = total != null ? total : measure("Total", start, snapshot(true));
+        return new BootReport(totals.millis(), totals.allocatedBytes(), totals.classesLoaded(),
+                phases.stream().sorted(SLOWEST_FIRST).toList(), beans.stream().sorted(SLOWEST_FIRST).toList());
+    }
+
+    /**
+     * Formats the report as a table of the phases and of the managed classes, slowest first.
+     *
+     * @param report the report.
+     * @return the table.
+     */
+    public static String toTable(BootReport report) {
+        var table = new StringBuilder(String.format(Locale.ROOT, "Boot report: %.1f ms, %s allocated, %d classes loaded%n",
+                report.totalMillis(), kilobytes(report.allocatedBytes()), report.classesLoaded()));
+        appendRows(table, "Phase", report.phases());
+        appendRows(table, "Managed class", report.beans());
+        return table.toString();
+    }
+
+    private static void appendRows(StringBuilder table, String title, List<BootEntry> entries) {
+        var width = Math.max(title.length(), entries.stream().mapToInt(it -> it.name().length()).max().orElse(0));
+        table.append(String.format(Locale.ROOT, "%-" + width + "s %12s %16s %10s%n", title, "Time (ms)", "Allocated", "Classes"));
+        for (var entry : entries) {
+            table.append(String.format(Locale.ROOT, "%-" + width + "s %12.1f %16s %10d%n",
+                    entry.name(), entry.millis(), kilobytes(entry.allocatedBytes()), entry.classesLoaded()));
+        }
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes < 0 ? "n/a" : String.format(Locale.ROOT, "%,d KB", bytes / 1024);
+    }
+
+    private BootEntry measure(String name, Snapshot before, Snapshot after) {
+        var allocated = before.allocatedBytes() < 0 ? -1 : after.allocatedBytes() - before.allocatedBytes();
+        return new BootEntry(name, (after.nanos() - before.nanos()) / 1_000_000.0, allocated,
+                after.classesLoaded() - before.classesLoaded());
+    }
+
+    /**
+     * Reads the clock and the counters.
+     *
+     * @param allThreads true to read the allocations of every thread, false for the current thread.
+     */
+    private Snapshot snapshot(boolean allThreads) {
+        long allocated = -1;
+        if (threads != null) {
+            allocated = allThreads ? threads.getTotalThreadAllocatedBytes() : threads.getCurrentThreadAllocatedBytes();
+        }
+        return new Snapshot(System.nanoTime(), allocated, classes.getTotalLoadedClassCount());
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.schumaker.force.framework.run;
+
+import java.util.List;
+
+/**
+ * The report of the startup: the totals, the phases and the managed classes, each sorted by time, slowest first.
+ *
+ * @see BootProfiler
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public record BootReport(double totalMillis, long allocatedBytes, long classesLoaded, List<BootEntry> phases,
+                         List<BootEntry> beans) {}
@@ -0,0 +1,139 @@
+package br.com.schumaker.force.framework.run;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The ClassFileReader class reads the annotations of a class from its class file, without loading the class.
+ * It walks the constant pool and skips the fields and methods to reach the RuntimeVisibleAnnotations attribute
+ * of the class, so the scanner only loads the classes that carry a stereotype and no static initializer runs.
+ * Annotations with CLASS or SOURCE retention are not in that attribute, as they are not visible by reflection.
+ *
+ * @see ClassScanner
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class ClassFileReader {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private ClassFileReader() {
+    }
+
+    /**
+     * Reads the runtime visible annotations declared on a class.
+     *
+     * @param classFile the bytes of the class file, the stream is not closed.
+     * @return the binary names of the annotation types, e.g. br.com.schumaker.force.framework.ioc.annotations.bean.Service.
+     * @throws IOException if the stream cannot be read or is not a class file.
+     */
+    static Set<String> getAnnotations(InputStream classFile) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file.");
+        }
+        in.skipNBytes(4); // minor and major version
+
+        var strings = readConstantPool(in);
+        in.skipNBytes(6); // access flags, this class and super class
+        in.skipNBytes(2L * in.readUnsignedShort()); // interfaces
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        Set<String> annotations = new LinkedHashSet<>();
+        int attributes = in.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            var name = strings[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipNBytes(length);
+                continue;
+            }
+
+            int count = in.readUnsignedShort();
+            for (int j = 0; j < count; j++) {
+                annotations.add(toClassName(strings[in.readUnsignedShort()]));
+                skipElementValuePairs(in);
+            }
+        }
+        return annotations;
+    }
+
+    /**
+     * Reads the constant pool, keeping only the UTF-8 entries, the others are skipped.
+     *
+     * @param in the class file, positioned at the constant pool count.
+     * @return the UTF-8 entries by constant pool index, null for the other entries.
+     * @throws IOException if the stream cannot be read or has an unknown constant.
+     */
+    private static String[] readConstantPool(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        var strings = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> strings[i] = in.readUTF();
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    i++; // a long or a double takes two entries
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag + ".");
+            }
+        }
+        return strings;
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.skipNBytes(6); // access flags, name and descriptor
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                in.skipNBytes(2);
+                in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipNBytes(2); // element name
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> in.skipNBytes(2);
+            case 'e' -> in.skipNBytes(4);
+            case '@' -> {
+                in.skipNBytes(2);
+                skipElementValuePairs(in);
+            }
+            case '[' -> {
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+            }
+            default -> throw new IOException("Unknown element value tag " + (char) tag + ".");
+        }
+    }
+
+    /**
+     * Converts a field descriptor, e.g. Lbr/com/Service;, to a binary class name, e.g. br.com.Service.
+     */
+    private static String toClassName(String descriptor) {
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.schumaker.force.framework.run;
+
+import br.com.schumaker.force.framework.ioc.annotations.bean.Component;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Configuration;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Filter;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
+import br.com.schumaker.force.framework.ioc.annotations.db.Repository;
+import br.com.schumaker.force.framework.ioc.annotations.exception.GlobalExceptionHandler;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ClassIndex class holds the classes of the framework stereotypes, bucketed by stereotype.
+ * It is built in a single pass, by the ClassScanner or from the components.idx written at build time by the
+ * ComponentIndexProcessor, so the registration of each stereotype does not scan the classpath again.
+ *
+ * @see ClassScanner
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class ClassIndex {
+
+    /**
+     * The location of the component index in the classpath.
+     */
+    public static final String LOCATION = "META-INF/force/components.idx";
+
+    /**
+     * The stereotypes of the managed classes.
+     */
+    public static final List<Class<? extends Annotation>> STEREOTYPES = List.of(GlobalExceptionHandler.class,
+            Configuration.class, Component.class, Repository.class, Service.class, Filter.class, Controller.class);
+
+    private final Map<Class<? extends Annotation>, List<Class<?>>> classes = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new ClassIndex.
+     *
+     * @param candidates the classes to index, the ones without a stereotype are ignored.
+     */
+    ClassIndex(Collection<Class<?>> candidates) {
+        STEREOTYPES.forEach(it -> classes.put(it, new ArrayList<>()));
+        for (var clazz : candidates) {
+            for (var stereotype : STEREOTYPES) {
+                if (clazz.isAnnotationPresent(stereotype)) {
+                    classes.get(stereotype).add(clazz);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the classes annotated with a stereotype.
+     *
+     * @param stereotype one of the STEREOTYPES.
+     * @return the classes, in the order they were found.
+     * @throws IllegalArgumentException if the annotation is not a stereotype.
+     */
+    public List<Class<?>> get(Class<? extends Annotation> stereotype) {
+        var list = classes.get(stereotype);
+        if (list == null) {
+            throw new IllegalArgumentException("Not a stereotype: " + stereotype.getName());
+        }
+        return List.copyOf(list);
+    }
+}
@@ -1,97 +1,187 @@
 package br.com.schumaker.force.framework.run;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.lang.annotation.Annotation;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /**
  * The ClassScanner class provides utility methods for scanning classes within a specified package.
- * It can retrieve classes with a specific annotation and all classes within a package.
+ * The managed classes of a package are indexed in a single pass: from the components.idx written at build time
+ * into the same classpath root as the package, otherwise by scanning the package once. The scan reads the annotations from the
+ * class files, so only the classes with a stereotype are loaded, and none is initialized.
+ *
+ * @see ClassIndex
+ * @see ClassFileReader
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 public final class ClassScanner {
+    private static final Set<String> STEREOTYPES = ClassIndex.STEREOTYPES.stream().map(Class::getName)
+            .collect(Collectors.toUnmodifiableSet());
 
     /**
-     * Retrieves the classes within the specified package that are annotated with the specified annotation.
+     * Indexes the managed classes within the specified package.
+     * Each classpath root that holds the package is read from its own component index when that index lists
+     * classes of the package, so nothing is scanned there; the other roots are scanned. An index is never trusted
+     * for the classes of another root, e.g. a jar built with the processor next to classes compiled without it.
      *
-     * @param packageName the name of the package to scan.
-     * @param annotation the annotation to look for.
-     * @return a list of classes annotated with the specified annotation.
+     * @param packageName the name of the package.
+     * @return the classes of the package, bucketed by stereotype.
      * @throws Exception if an error occurs during class scanning.
      */
-    public static List<Class<?>> getClassesWithAnnotation(String packageName, Class<? extends Annotation> annotation) throws Exception {
-        List<Class<?>> annotatedClasses = new ArrayList<>();
-        List<Class<?>> classes = getClasses(packageName);
+    public static ClassIndex index(String packageName) throws Exception {
+        return index(packageName, Index.ROOTS);
+    }
 
-        for (Class<?> clazz : classes) {
-            if (clazz.isAnnotationPresent(annotation)) {
-                annotatedClasses.add(clazz);
+    /**
+     * Indexes the managed classes within the specified package, from the given component indexes.
+     *
+     * @param packageName the name of the package.
+     * @param indexes the class names of each component index, by the classpath root that contains it.
+     * @return the classes of the package, bucketed by stereotype.
+     * @throws Exception if an error occurs during class scanning.
+     */
+    static ClassIndex index(String packageName, Map<String, List<String>> indexes) throws Exception {
+        var loader = Thread.currentThread().getContextClassLoader();
+        var path = packageName.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        Enumeration<URL> resources = loader.getResources(path);
+        while (resources.hasMoreElements()) {
+            var resource = resources.nextElement();
+            var indexed = indexes.getOrDefault(getRoot(resource, path), List.of()).stream()
+                    .filter(it -> it.startsWith(packageName + "."))
+                    .toList();
+            if (indexed.isEmpty()) {
+                classNames.addAll(getClassNames(resource, packageName, ClassScanner::isStereotype));
+            } else {
+                classNames.addAll(indexed);
             }
         }
 
-        return annotatedClasses;
+        List<Class<?>> classes = new ArrayList<>();
+        for (var className : classNames) {
+            classes.add(Class.forName(className, false, loader));
+        }
+        return new ClassIndex(classes);
     }
 
     /**
-     * Retrieves all classes within the specified package.
+     * Scans the specified package once and indexes its managed classes.
+     * Only the classes with a stereotype in their class file are loaded, without being initialized; they are
+     * initialized when registered.
      *
      * @param packageName the name of the package to scan.
-     * @return a list of classes within the specified package.
+     * @return the classes of the package, bucketed by stereotype.
      * @throws Exception if an error occurs during class scanning.
      */
-    public static List<Class<?>> getClasses(String packageName) throws Exception{
+    static ClassIndex scan(String packageName) throws Exception {
+        var loader = Thread.currentThread().getContextClassLoader();
         List<Class<?>> classes = new ArrayList<>();
+        for (var className : getClassNames(packageName, ClassScanner::isStereotype)) {
+            classes.add(Class.forName(className, false, loader));
+        }
+        return new ClassIndex(classes);
+    }
+
+    /**
+     * Retrieves the names of the classes within the specified package, without loading them.
+     *
+     * @param packageName the name of the package to scan.
+     * @param filter the filter of the classes.
+     * @return the names of the classes within the specified package accepted by the filter.
+     * @throws Exception if an error occurs during class scanning.
+     */
+    private static Set<String> getClassNames(String packageName, ClassFilter filter) throws Exception {
+        Set<String> classes = new LinkedHashSet<>();
         String path = packageName.replace('.', '/');
         Enumeration<URL> resources = Thread.currentThread().getContextClassLoader().getResources(path);
 
         while (resources.hasMoreElements()) {
-            URL resource = resources.nextElement();
-            String filePath = URLDecoder.decode(resource.getFile(), StandardCharsets.UTF_8);
-
-            if (filePath.startsWith("file:") && filePath.contains("!")) {
-                String jarPath = filePath.substring("file:".length(), filePath.indexOf("!"));
-                classes.addAll(getClassesFromJarFile(jarPath, path));
-            } else {
-                classes.addAll(findClasses(new File(filePath), packageName));
-            }
+            classes.addAll(getClassNames(resources.nextElement(), packageName, filter));
         }
 
         return classes;
     }
 
+    /**
+     * Retrieves the names of the classes of a package within one classpath root, without loading them.
+     *
+     * @param resource the package resource, a directory or a jar entry.
+     * @param packageName the name of the package to scan.
+     * @param filter the filter of the classes.
+     * @return the names of the classes within the package resource accepted by the filter.
+     * @throws Exception if an error occurs during class scanning.
+     */
+    private static List<String> getClassNames(URL resource, String packageName, ClassFilter filter) throws Exception {
+        String path = packageName.replace('.', '/');
+        String filePath = URLDecoder.decode(resource.getFile(), StandardCharsets.UTF_8);
+
+        if (filePath.startsWith("file:") && filePath.contains("!")) {
+            String jarPath = filePath.substring("file:".length(), filePath.indexOf("!"));
+            return getClassesFromJarFile(jarPath, path, filter);
+        }
+        return findClasses(new File(filePath), packageName, filter);
+    }
+
+    /**
+     * Retrieves the classpath root of a resource, e.g. file:/app/classes/ or jar:file:/app.jar!/.
+     *
+     * @param resource the resource.
+     * @param name the name of the resource, relative to its root.
+     * @return the root, or null if the URL does not end with the name.
+     */
+    static String getRoot(URL resource, String name) {
+        var url = resource.toExternalForm();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(name) ? url.substring(0, url.length() - name.length()) : null;
+    }
+
     /**
      * Retrieves classes from a JAR file within the specified package path.
      *
      * @param jarFilePath the path to the JAR file.
      * @param packagePath the package path to scan within the JAR file.
-     * @return a list of classes within the specified package path in the JAR file.
+     * @param filter the filter of the classes.
+     * @return the names of the classes within the specified package path in the JAR file.
      * @throws Exception if an error occurs during class scanning.
      */
-    private static List<Class<?>> getClassesFromJarFile(String jarFilePath, String packagePath) throws Exception {
-        List<Class<?>> classes = new ArrayList<>();
-        JarFile jarFile = new JarFile(jarFilePath);
-
-        Enumeration<JarEntry> entries = jarFile.entries();
-        while (entries.hasMoreElements()) {
-            JarEntry entry = entries.nextElement();
-            String entryName = entry.getName();
+    private static List<String> getClassesFromJarFile(String jarFilePath, String packagePath, ClassFilter filter) throws Exception {
+        List<String> classes = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jarFilePath)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
 
-            if (entryName.startsWith(packagePath) && entryName.endsWith(".class")) {
-                String className = entryName.replace('/', '.').substring(0, entryName.length() - ".class".length());
-                classes.add(Class.forName(className));
+                if (entryName.startsWith(packagePath + "/") && entryName.endsWith(".class")) {
+                    String className = entryName.replace('/', '.').substring(0, entryName.length() - ".class".length());
+                    if (filter.accept(className, () -> jarFile.getInputStream(entry))) {
+                        classes.add(className);
+                    }
+                }
             }
         }
 
-        jarFile.close();
         return classes;
     }
 
@@ -100,11 +190,12 @@ public final class ClassScanner {
      *
      * @param directory the directory to scan.
      * @param packageName the package name to scan.
-     * @return a list of classes within the specified directory and package name.
+     * @param filter the filter of the classes.
+     * @return the names of the classes within the specified directory and package name.
      * @throws Exception if an error occurs during class scanning.
      */
-    private static List<Class<?>> findClasses(File directory, String packageName) throws Exception {
-        List<Class<?>> classes = new ArrayList<>();
+    private static List<String> findClasses(File directory, String packageName, ClassFilter filter) throws Exception {
+        List<String> classes = new ArrayList<>();
         if (!directory.exists()) {
             return classes;
         }
@@ -113,14 +204,66 @@ public final class ClassScanner {
         if (files != null) {
             for (File file : files) {
                 if (file.isDirectory()) {
-                    classes.addAll(findClasses(file, packageName + "." + file.getName()));
+                    classes.addAll(findClasses(file, packageName + "." + file.getName(), filter));
                 } else if (file.getName().endsWith(".class")) {
                     String className = packageName + '.' + file.getName().substring(0, file.getName().length() - ".class".length());
-                    classes.add(Class.forName(className));
+                    if (filter.accept(className, () -> new FileInputStream(file))) {
+                        classes.add(className);
+                    }
                 }
             }
         }
 
         return classes;
     }
+
+    /**
+     * Tells whether a class file carries a stereotype, reading its annotations without loading it.
+     *
+     * @param className the name of the class.
+     * @param classFile the source of the class file.
+     * @return true if the class is annotated with one of the STEREOTYPES.
+     * @throws IOException if the class file cannot be read.
+     */
+    private static boolean isStereotype(String className, ClassFile classFile) throws IOException {
+        try (InputStream in = classFile.open()) {
+            return ClassFileReader.getAnnotations(in).stream().anyMatch(STEREOTYPES::contains);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClassFile {
+        InputStream open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ClassFilter {
+        boolean accept(String className, ClassFile classFile) throws IOException;
+    }
+
+    /**
+     * The class names of the component indexes in the classpath, read once, by the root that contains each index.
+     */
+    private static final class Index {
+        private static final Map<String, List<String>> ROOTS = read();
+
+        private static Map<String, List<String>> read() {
+            try {
+                Map<String, List<String>> roots = new HashMap<>();
+                var resources = Thread.currentThread().getContextClassLoader().getResources(ClassIndex.LOCATION);
+                while (resources.hasMoreElements()) {
+                    var resource = resources.nextElement();
+                    try (var reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                            StandardCharsets.UTF_8))) {
+                        roots.put(getRoot(resource, ClassIndex.LOCATION), reader.lines().map(String::strip)
+                                .filter(it -> !it.isEmpty() && !it.startsWith("#"))
+                                .toList());
+                    }
+                }
+                return Map.copyOf(roots);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot read " + ClassIndex.LOCATION, ex);
+            }
+        }
+    }
 }
@@ -6,13 +6,15 @@ import java.util.Map;
 /**
  * The CommandLineArgs class provides utility methods for parsing and retrieving command-line arguments.
  * It stores the arguments in a map for easy access and retrieval.
+ * A flag without a value, e.g. -boot-report, is stored as "true".
  * This class is a singleton and provides a global point of access to its instance.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class CommandLineArgs {
     public static final String ENV = "-env";
+    public static final String BOOT_REPORT = "-boot-report";
     private static final CommandLineArgs INSTANCE = new CommandLineArgs();
     private final Map<String, String> argsMap = new HashMap<>();
 
@@ -24,7 +26,7 @@ public final class CommandLineArgs {
 
     /**
      * Parses and stores the command-line arguments in a map.
-     * Arguments should be in the format "-key=value".
+     * Arguments should be in the format "-key=value", or "-key" for a flag.
      *
      * @param args the command-line arguments to parse.
      */
@@ -32,9 +34,7 @@ public final class CommandLineArgs {
         for (String arg : args) {
             if (arg.startsWith("-")) {
                 String[] parts = arg.split("=", 2);
-                if (parts.length == 2) {
-                    argsMap.put(parts[0], parts[1]);
-                }
+                argsMap.put(parts[0], parts.length == 2 ? parts[1] : "true");
             }
         }
     }
@@ -3,6 +3,7 @@ package br.com.schumaker.force.framework.run;
 import br.com.schumaker.force.framework.ioc.annotations.ForceApp;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Component;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Configuration;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Filter;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
 import br.com.schumaker.force.framework.ioc.annotations.db.Repository;
@@ -10,28 +11,40 @@ import br.com.schumaker.force.framework.ioc.annotations.exception.GlobalExceptio
 import br.com.schumaker.force.framework.exception.ExceptionCodes;
 import br.com.schumaker.force.framework.exception.ForceException;
 import br.com.schumaker.force.framework.ioc.AppProperties;
-import br.com.schumaker.force.framework.jdbc.SimpleConnectionPool;
+import br.com.schumaker.force.framework.jdbc.pool.ConnectionPool;
 import br.com.schumaker.force.framework.jdbc.SqlExecutor;
 import br.com.schumaker.force.framework.web.WebServer;
+import br.com.schumaker.force.framework.ioc.BeanGraph;
 import br.com.schumaker.force.framework.ioc.Environment;
 import br.com.schumaker.force.framework.ioc.IoCContainer;
 
-import java.lang.annotation.Annotation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The Force class is the main entry point for the Force framework.
  * It initializes the web server, handles command-line arguments, and registers various components, services, and controllers with the IoC container.
  * This class is responsible for bootstrapping the application and starting the web server.
+ * Each phase of the startup, and the creation of each managed class, is measured by the BootProfiler; with the
+ * -boot-report argument the report is printed and written as JSON.
+ *
+ * @see BootProfiler
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.5.0
  */
 public final class Force {
     private static final String HEALTH_PACKAGE = "br.com.schumaker.force.framework.web.health";
+    private static final String SECURITY_PACKAGE = "br.com.schumaker.force.framework.security";
+    private static final String BOOT_REPORT_FILE = "boot-report.json";
     private static final IoCContainer container = IoCContainer.getInstance();
     private static final Environment environment = Environment.getInstance();
     private static final CommandLineArgs commandLineArgs = CommandLineArgs.getInstance();
+    private static final BootProfiler profiler = BootProfiler.getInstance();
     private static WebServer webServer;
 
     /**
@@ -43,11 +56,35 @@ public final class Force {
      * @throws Exception if an error occurs during the application startup.
      */
     public static void run(Class<?> clazz, String[] args) throws Exception {
+        profiler.start();
         handleCommandLineArgs(args);
         printBanner();
-        executeSqlScripts();
+        profiler.phase("Connection pool", Force::startConnectionPool);
+        profiler.phase("schema.sql", () -> executeSqlScript("/schema.sql"));
+        profiler.phase("data.sql", () -> executeSqlScript("/data.sql"));
         createManagedClasses(clazz);
-        startWebServer();
+        profiler.phase("Web server", Force::startWebServer);
+        profiler.finish();
+        reportBoot();
+    }
+
+    /**
+     * Prints the boot report and writes it as JSON, if asked by the -boot-report argument.
+     * The argument may give the path of the JSON file, boot-report.json by default.
+     *
+     * @throws IOException if the report cannot be written.
+     */
+    private static void reportBoot() throws IOException {
+        var path = commandLineArgs.getArg(CommandLineArgs.BOOT_REPORT);
+        if (path == null) {
+            return;
+        }
+
+        var report = profiler.getReport();
+        System.out.print(BootProfiler.toTable(report));
+        var file = Path.of("true".equals(path) ? BOOT_REPORT_FILE : path);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        System.out.println("Boot report written to " + file.toAbsolutePath());
     }
 
     /**
@@ -64,48 +101,51 @@ public final class Force {
 
     /**
      * Registers various components, services, and controllers with the IoC container.
+     * Each package is indexed once, and the classes of each stereotype are taken from its index into a BeanGraph,
+     * which instantiates them in dependency order, in parallel. The scan and the creation of the managed classes
+     * are measured as phases, and the creation of each class on its own.
      *
      * @param clazz the application class to run.
      * @throws Exception if an error occurs during the registration of components, services, and controllers.
      */
     private static void createManagedClasses(Class<?> clazz) throws Exception {
         ForceApp app = clazz.getAnnotation(ForceApp.class);
-        var packageName = app.root();
-
-        int totalTasks = 8;
+        int totalTasks = 4;
         ProgressBar progressBar = new ProgressBar(totalTasks, 50);
-
-        registerClassesWithAnnotation(packageName, GlobalExceptionHandler.class, container::registerGlobalExceptionHandler, progressBar, "GlobalExceptionHandler");
-        registerClassesWithAnnotation(packageName, Configuration.class, container::registerConfiguration, progressBar, "Configurations");
-        registerClassesWithAnnotation(packageName, Component.class, container::registerComponent, progressBar, "Components");
-        registerClassesWithAnnotation(packageName, Repository.class, container::registerRepository, progressBar, "Repositories");
-        registerClassesWithAnnotation(packageName, Service.class, container::registerService, progressBar, "Services");
-        registerClassesWithAnnotation(packageName, Controller.class, container::registerController, progressBar, "Controllers");
-
-        // health package
-        registerClassesWithAnnotation(HEALTH_PACKAGE, Service.class, container::registerService, progressBar, "HealthService");
-        registerClassesWithAnnotation(HEALTH_PACKAGE, Controller.class, container::registerController, progressBar, "HealthController");
+        var graph = new BeanGraph();
+
+        profiler.phase("Class scan", () -> {
+            var index = ClassScanner.index(app.root());
+            // only the first global exception handler is used
+            var handlers = index.get(GlobalExceptionHandler.class);
+            graph.add(BeanGraph.Kind.GLOBAL_EXCEPTION_HANDLER, handlers.isEmpty() ? List.of() : List.of(handlers.getFirst()))
+                    .add(BeanGraph.Kind.CONFIGURATION, index.get(Configuration.class))
+                    .add(BeanGraph.Kind.COMPONENT, index.get(Component.class))
+                    .add(BeanGraph.Kind.REPOSITORY, index.get(Repository.class))
+                    .add(BeanGraph.Kind.SERVICE, index.get(Service.class))
+                    .add(BeanGraph.Kind.FILTER, index.get(Filter.class))
+                    .add(BeanGraph.Kind.CONTROLLER, index.get(Controller.class));
+            progressBar.update(1, "Application");
+
+            // security package
+            var security = ClassScanner.index(SECURITY_PACKAGE);
+            graph.add(BeanGraph.Kind.FILTER, security.get(Filter.class));
+            progressBar.update(1, "Security");
+
+            // health package
+            var health = ClassScanner.index(HEALTH_PACKAGE);
+            graph.add(BeanGraph.Kind.SERVICE, health.get(Service.class))
+                    .add(BeanGraph.Kind.CONTROLLER, health.get(Controller.class));
+            progressBar.update(1, "Health");
+        });
+
+        profiler.phase("Managed classes", () -> graph.instantiate(ForkJoinPool.commonPool(),
+                (kind, type) -> profiler.bean(type, () -> container.register(kind, type))));
+        progressBar.update(1, "Managed classes");
 
         progressBar.complete();
     }
 
-    /**
-     * Registers classes with the specified annotation with the IoC container.
-     *
-     * @param packageName the package name to scan for classes.
-     * @param annotation the annotation to search for.
-     * @param registrar the class registrar to register the classes with.
-     * @param progressBar the progress bar to update.
-     * @param taskName the name of the task being executed.
-     * @param <T> the type of the annotation.
-     * @throws Exception if an error occurs during class registration.
-     */
-    private static <T> void registerClassesWithAnnotation(String packageName, Class<? extends Annotation> annotation, ClassRegistrar<T> registrar, ProgressBar progressBar, String taskName) throws Exception {
-        List<Class<?>> classes = ClassScanner.getClassesWithAnnotation(packageName, annotation);
-        registrar.register(classes);
-        progressBar.update(1, taskName);
-    }
-
     /**
      * Handles the command-line arguments and sets the environment accordingly.
      *
@@ -120,17 +160,22 @@ public final class Force {
     }
 
     /**
-     * Executes the DDL scripts to create the database schema.
+     * Starts the connection pool and checks it can connect.
      */
-    private static void executeSqlScripts() {
-        if (SimpleConnectionPool.getInstance().testConnection()) {
+    private static void startConnectionPool() {
+        if (ConnectionPool.getInstance().testConnection()) {
             System.out.println("SQL: Connection pool is ready.");
         }
+    }
 
-        SqlExecutor.executeFromFile("/schema.sql");
-        System.out.println("SQL: schema.sql executed.");
-        SqlExecutor.executeFromFile("/data.sql");
-        System.out.println("SQL: data.sql executed.");
+    /**
+     * Executes a SQL script of the classpath, e.g. the DDL scripts to create the database schema.
+     *
+     * @param file the path of the script in the classpath.
+     */
+    private static void executeSqlScript(String file) {
+        SqlExecutor.executeFromFile(file);
+        System.out.println("SQL: " + file.substring(1) + " executed.");
     }
 
     /**
@@ -161,9 +206,4 @@ public final class Force {
         System.out.print("Server Port: " + environment.getServerPort() + ", ");
         System.out.println("Environment: " + (commandLineArgs.getArg("-env") == null ? "default" : commandLineArgs.getArg("-env")));
     }
-
-    @FunctionalInterface
-    private interface ClassRegistrar<T> {
-        void register(List<Class<?>> classes) throws Exception;
-    }
 }
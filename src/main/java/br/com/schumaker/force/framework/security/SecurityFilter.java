@@ -1,38 +1,32 @@
 package br.com.schumaker.force.framework.security;
 
 import br.com.schumaker.force.framework.ioc.annotations.bean.Filter;
-import br.com.schumaker.force.framework.ioc.annotations.controller.Secured;
 import br.com.schumaker.force.framework.exception.ForceSecurityException;
-import br.com.schumaker.force.framework.ioc.IoCContainer;
+import br.com.schumaker.force.framework.web.http.FilterChain;
 import br.com.schumaker.force.framework.web.http.Http;
 import br.com.schumaker.force.framework.web.http.HttpFilter;
 import br.com.schumaker.force.framework.web.http.HttpRequest;
+import br.com.schumaker.force.framework.web.http.HttpResponse;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
  * The SecurityFilter class.
  * This class is responsible for processing the security filter.
+ * It validates the JWT of requests to @Secured endpoints, using the route resolved by the InboundHandler.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 @Filter
 public class SecurityFilter implements HttpFilter {
-    private static final IoCContainer container = IoCContainer.getInstance();
 
     @Override
-    public void doFilter(HttpRequest request) {
-        var routeAndMethodPath = request.getControllerRouteAndMethodPath();
-        String controllerRoute = routeAndMethodPath.first();
-        String methodPath = routeAndMethodPath.second();
+    public HttpResponse doFilter(HttpRequest request, RouteMatch<Endpoint> route, FilterChain chain) {
+        if (route != null) {
+            var security = route.value().getSecured();
 
-        var controller = container.getController(controllerRoute);
-        if (controller != null) {
-            var httpMethod = request.exchange().getRequestMethod();
-            var mappingAndMethodAndParams = controller.getMethod(methodPath, httpMethod);
-            var method = mappingAndMethodAndParams.second();
-
-            if (method.isAnnotationPresent(Secured.class)) {
-                var security = method.getAnnotation(Secured.class);
+            if (security != null) {
                 var token = request.getRequestHeaders().get(JwtManager.JWT_HEADER);
                 try {
                     var claims = JwtManager.validateToken(token);
@@ -44,5 +38,6 @@ public class SecurityFilter implements HttpFilter {
                }
             }
         }
+        return chain.next(request);
     }
 }
@@ -0,0 +1,122 @@
+package br.com.schumaker.force.framework.web;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BoundedExecutor class limits how many tasks of a delegate executor run at once.
+ * Tasks are always handed to the delegate, so the server accept loop never blocks;
+ * each task waits for a permit before running. With virtual threads, waiting only parks the virtual thread.
+ * A task that cannot get a permit within the queue timeout, or is interrupted while waiting, still runs
+ * but is marked as rejected, so the InboundHandler answers its exchange with 503 instead of handling it.
+ *
+ * @see ExecutorMode
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class BoundedExecutor extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private static final ThreadLocal<Boolean> REJECTED = ThreadLocal.withInitial(() -> false);
+    private final Semaphore permits;
+    private final long queueTimeout;
+
+    /**
+     * Constructs a new BoundedExecutor.
+     *
+     * @param delegate the executor that runs the tasks.
+     * @param maxConcurrency the maximum number of tasks running at once.
+     * @param queueTimeout the maximum time in milliseconds a task waits for a permit.
+     */
+    BoundedExecutor(ExecutorService delegate, int maxConcurrency, long queueTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero.");
+        }
+        if (queueTimeout < 0) {
+            throw new IllegalArgumentException("queueTimeout must not be negative.");
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueTimeout = queueTimeout;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(() -> {
+            boolean acquired;
+            boolean interrupted = false;
+            try {
+                acquired = permits.tryAcquire(queueTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                acquired = false;
+                interrupted = true;
+            }
+
+            if (acquired) {
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+                return;
+            }
+
+            // The command still runs, so its exchange is answered and closed, but only as a rejection
+            REJECTED.set(true);
+            try {
+                command.run();
+            } finally {
+                REJECTED.remove();
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks if the task running on the current thread did not get a permit and must be rejected.
+     *
+     * @return true if the current task was rejected, false otherwise.
+     */
+    static boolean isRejected() {
+        return REJECTED.get();
+    }
+
+    /**
+     * Returns the number of tasks that can still start without waiting.
+     *
+     * @return the number of available permits.
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.schumaker.force.framework.web;
+
+import br.com.schumaker.force.framework.ioc.Environment;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The Compression class negotiates the response content coding from the Accept-Encoding request header.
+ * A response is compressed only when compression is enabled, its content type is in the allowlist and the client
+ * accepts gzip or deflate; gzip wins a tie. The minimum size is applied by the CompressionOutputStream,
+ * which only starts compressing once that many bytes are written.
+ *
+ * @see CompressionOutputStream
+ * @see OutboundHandler
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class Compression {
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String VARY = "Vary";
+
+    private final boolean enabled;
+    private final int minSize;
+    private final Set<String> types;
+
+    /**
+     * Constructs a new Compression with the settings of the Environment.
+     */
+    Compression() {
+        this(Environment.getInstance().getServerCompression(),
+                Environment.getInstance().getServerCompressionMinSize(),
+                Environment.getInstance().getServerCompressionTypes());
+    }
+
+    /**
+     * Constructs a new Compression.
+     *
+     * @param enabled whether responses are compressed.
+     * @param minSize the smallest body, in bytes, that is compressed.
+     * @param types the comma separated content types that are compressed.
+     */
+    Compression(boolean enabled, int minSize, String types) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.types = Arrays.stream(types.split(","))
+                .map(it -> it.trim().toLowerCase(Locale.ROOT))
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Negotiates the content coding of a response.
+     * A compressible response gets a Vary: Accept-Encoding header, whatever the client accepts.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param contentType the content type of the response.
+     * @return GZIP, DEFLATE, or null if the response is sent as is.
+     */
+    String negotiate(HttpExchange exchange, String contentType) {
+        if (!enabled || !isCompressible(contentType) || exchange.getResponseHeaders().containsKey(CONTENT_ENCODING)) {
+            return null;
+        }
+
+        exchange.getResponseHeaders().add(VARY, ACCEPT_ENCODING);
+        return negotiate(exchange.getRequestHeaders().getFirst(ACCEPT_ENCODING));
+    }
+
+    /**
+     * Chooses a content coding from an Accept-Encoding header value, honoring the quality values.
+     *
+     * @param acceptEncoding the Accept-Encoding header value, may be null.
+     * @return GZIP, DEFLATE, or null if neither is accepted.
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+
+        float gzip = -1;
+        float deflate = -1;
+        float any = -1;
+        for (var token : acceptEncoding.split(",")) {
+            var parts = token.split(";");
+            var coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            var quality = quality(parts);
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzip = Math.max(gzip, quality);
+                case DEFLATE -> deflate = quality;
+                case "*" -> any = quality;
+                default -> { }
+            }
+        }
+
+        gzip = gzip < 0 ? any : gzip;
+        deflate = deflate < 0 ? any : deflate;
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : null;
+    }
+
+    private static float quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            var parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(parameter.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        int separator = contentType.indexOf(';');
+        var mediaType = (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+        return types.contains(mediaType);
+    }
+
+    int getMinSize() {
+        return minSize;
+    }
+}
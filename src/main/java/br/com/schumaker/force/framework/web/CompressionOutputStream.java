@@ -0,0 +1,207 @@
+package br.com.schumaker.force.framework.web;
+
+import br.com.schumaker.force.framework.web.http.CachedResponse;
+import br.com.schumaker.force.framework.web.http.Http;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * The CompressionOutputStream class compresses a response body with gzip or deflate while it is written.
+ * The first bytes are held back until the minimum size is reached: a smaller body is written as is,
+ * a larger one sets the Content-Encoding header and is compressed into the ThresholdOutputStream,
+ * so the compressed body still gets a Content-Length when it is small and is streamed otherwise.
+ * A strong ETag of the response gets the content coding as a suffix, as the compressed body is another
+ * representation.
+ * Deflaters are native resources, they are pooled and reset instead of being created per response.
+ *
+ * @see Compression
+ * @see ThresholdOutputStream
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class CompressionOutputStream extends OutputStream {
+    private static final int MAX_POOLED_CODECS = 64;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final Queue<Codec> gzipCodecs = new ConcurrentLinkedQueue<>();
+    private static final Queue<Codec> deflateCodecs = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+
+    private final ThresholdOutputStream target;
+    private final HttpExchange exchange;
+    private final String encoding;
+    private final byte[] pending;
+    private int count;
+    private Codec codec;
+    private CRC32 crc;
+    private boolean closed;
+
+    /**
+     * Constructs a new CompressionOutputStream.
+     *
+     * @param target the stream that receives the compressed body.
+     * @param exchange the exchange whose response headers are completed.
+     * @param encoding the content coding, Compression.GZIP or Compression.DEFLATE.
+     * @param minSize the smallest body, in bytes, that is compressed.
+     */
+    CompressionOutputStream(ThresholdOutputStream target, HttpExchange exchange, String encoding, int minSize) {
+        this.target = target;
+        this.exchange = exchange;
+        this.encoding = encoding;
+        this.pending = new byte[Math.max(minSize, 0)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (codec == null) {
+            if (len <= pending.length - count) {
+                System.arraycopy(b, off, pending, count, len);
+                count += len;
+                return;
+            }
+            start();
+        }
+        deflate(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    /**
+     * Finishes the compressed body, or writes the held back bytes as is when the minimum size was not reached,
+     * and closes the target.
+     *
+     * @throws IOException if an error occurs while writing to the target.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (codec == null) {
+                target.write(pending, 0, count);
+            } else {
+                finish();
+            }
+            target.close();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Releases the deflater and aborts the target, nothing is sent.
+     */
+    void abort() {
+        closed = true;
+        release();
+        target.abort();
+    }
+
+    private void start() throws IOException {
+        var headers = exchange.getResponseHeaders();
+        headers.set(Compression.CONTENT_ENCODING, encoding);
+        var etag = headers.getFirst(Http.ETAG);
+        if (etag != null) {
+            headers.set(Http.ETAG, CachedResponse.withCoding(etag, encoding));
+        }
+        codec = acquire(Compression.GZIP.equals(encoding));
+        if (codec.gzip) {
+            crc = new CRC32();
+            target.write(GZIP_HEADER);
+        }
+        deflate(pending, 0, count);
+        count = 0;
+    }
+
+    private void deflate(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+
+        var deflater = codec.deflater;
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            int length = deflater.deflate(codec.buffer, 0, codec.buffer.length, Deflater.NO_FLUSH);
+            if (length > 0) {
+                target.write(codec.buffer, 0, length);
+            }
+        }
+    }
+
+    private void finish() throws IOException {
+        var deflater = codec.deflater;
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(codec.buffer, 0, codec.buffer.length);
+            if (length > 0) {
+                target.write(codec.buffer, 0, length);
+            }
+        }
+
+        if (crc != null) {
+            var trailer = new byte[8];
+            writeInt(trailer, 0, (int) crc.getValue());
+            writeInt(trailer, 4, (int) deflater.getBytesRead());
+            target.write(trailer);
+        }
+    }
+
+    private static void writeInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) value;
+        b[offset + 1] = (byte) (value >> 8);
+        b[offset + 2] = (byte) (value >> 16);
+        b[offset + 3] = (byte) (value >> 24);
+    }
+
+    private void release() {
+        if (codec == null) {
+            return;
+        }
+
+        codec.deflater.reset();
+        if (pooled.incrementAndGet() <= MAX_POOLED_CODECS) {
+            (codec.gzip ? gzipCodecs : deflateCodecs).offer(codec);
+        } else {
+            pooled.decrementAndGet();
+            codec.deflater.end();
+        }
+        codec = null;
+    }
+
+    private static Codec acquire(boolean gzip) {
+        var codec = (gzip ? gzipCodecs : deflateCodecs).poll();
+        if (codec != null) {
+            pooled.decrementAndGet();
+            return codec;
+        }
+        // gzip carries a raw deflate stream between its own header and trailer, deflate is the zlib format
+        return new Codec(new Deflater(Deflater.DEFAULT_COMPRESSION, gzip), new byte[BUFFER_SIZE], gzip);
+    }
+
+    /**
+     * A pooled deflater with its output buffer.
+     */
+    private record Codec(Deflater deflater, byte[] buffer, boolean gzip) {}
+}
@@ -0,0 +1,71 @@
+package br.com.schumaker.force.framework.web;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The ExecutorMode enum represents the executor used by the WebServer to handle requests.
+ * It is selected with the force.server.executor property.
+ *
+ * <ul>
+ *     <li>fixed: a fixed pool of platform threads, the size is set by force.server.threads.</li>
+ *     <li>virtual: one virtual thread per request.</li>
+ *     <li>bounded-virtual: one virtual thread per request, with at most force.server.max.concurrency running at once;
+ *     a request that waits longer than force.server.queue.timeout is answered with 503.</li>
+ * </ul>
+ *
+ * @see WebServer
+ * @see BoundedExecutor
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public enum ExecutorMode {
+    FIXED("fixed"),
+    VIRTUAL("virtual"),
+    BOUNDED_VIRTUAL("bounded-virtual");
+
+    private final String mode;
+
+    ExecutorMode(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Retrieves the ExecutorMode for the specified property value.
+     *
+     * @param mode the property value, e.g. "virtual".
+     * @return the ExecutorMode.
+     * @throws ForceException if the value is not a supported mode.
+     */
+    public static ExecutorMode of(String mode) {
+        for (var value : values()) {
+            if (value.mode.equalsIgnoreCase(mode.trim())) {
+                return value;
+            }
+        }
+        throw new ForceException("Unsupported server executor: " + mode);
+    }
+
+    /**
+     * Creates a new executor for this mode.
+     *
+     * @param threads the number of platform threads, used by the fixed mode.
+     * @param maxConcurrency the maximum number of requests running at once, used by the bounded-virtual mode.
+     * @param queueTimeout the maximum time in milliseconds a request waits to run, used by the bounded-virtual mode.
+     * @return a new ExecutorService.
+     */
+    public ExecutorService newExecutor(int threads, int maxConcurrency, long queueTimeout) {
+        return switch (this) {
+            case FIXED -> Executors.newFixedThreadPool(threads);
+            case VIRTUAL -> Executors.newVirtualThreadPerTaskExecutor();
+            case BOUNDED_VIRTUAL -> new BoundedExecutor(Executors.newVirtualThreadPerTaskExecutor(), maxConcurrency, queueTimeout);
+        };
+    }
+
+    public String getMode() {
+        return mode;
+    }
+}
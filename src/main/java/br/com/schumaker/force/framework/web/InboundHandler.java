@@ -1,8 +1,8 @@
 package br.com.schumaker.force.framework.web;
 
 import br.com.schumaker.force.framework.exception.GlobalExceptionHandler;
+import br.com.schumaker.force.framework.ioc.IoCContainer;
 import br.com.schumaker.force.framework.model.Pair;
-import br.com.schumaker.force.framework.security.SecurityFilter;
 import br.com.schumaker.force.framework.web.handler.DeleteHandler;
 import br.com.schumaker.force.framework.web.handler.GetHandler;
 import br.com.schumaker.force.framework.web.handler.HeaderHandler;
@@ -11,6 +11,7 @@ import br.com.schumaker.force.framework.web.handler.PatchHandler;
 import br.com.schumaker.force.framework.web.handler.PostHandler;
 import br.com.schumaker.force.framework.web.handler.PutHandler;
 import br.com.schumaker.force.framework.web.handler.RequestHandler;
+import br.com.schumaker.force.framework.web.http.FilterChainImpl;
 import br.com.schumaker.force.framework.web.http.Http;
 import br.com.schumaker.force.framework.web.http.HttpFilter;
 import br.com.schumaker.force.framework.web.http.HttpRequest;
@@ -35,18 +36,25 @@ import static br.com.schumaker.force.framework.web.http.Http.HTTP_PUT;
  * The Handler class implements the HttpHandler interface to handle HTTP requests.
  * It supports HTTP_GET, HTTP_POST, HTTP_PUT, HTTP_PATCH, HTTP_DELETE, HTTP_HEADER and HTTP_OPTIONS methods and delegates the request handling to appropriate methods.
  * This class uses an IoC container to retrieve controllers and their methods, and processes the request and response accordingly.
+ * The route is resolved once per request and handed to the filter chain, whose last link is the request handler.
+ * A request rejected by the BoundedExecutor is answered with 503 without being handled.
+ *
+ * @see HttpFilter
+ * @see FilterChainImpl
+ * @see BoundedExecutor
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.2.0
  */
 final class InboundHandler implements HttpHandler {
     private final OutboundHandler outboundHandler = new OutboundHandler();
     private final Map<String, RequestHandler> handlers = new HashMap<>();
-    private final List<HttpFilter> filters = List.of(new SecurityFilter());
+    private final IoCContainer container = IoCContainer.getInstance();
+    private final List<HttpFilter> filters = container.getFilters();
 
     /**
      * Constructs a new InboundHandler instance.
-     * Initializes the request handlers for supported HTTP methods.
+     * Initializes the request handlers for supported HTTP methods and takes the filters registered in the container.
      */
     public InboundHandler() {
         handlers.put(HTTP_GET, new GetHandler());
@@ -65,17 +73,21 @@ final class InboundHandler implements HttpHandler {
      */
     @Override
     public void handle(HttpExchange exchange) {
+        if (BoundedExecutor.isRejected()) {
+            this.handleRejected(exchange);
+            return;
+        }
+
         try {
-            String method = exchange.getRequestMethod();
+            String method = exchange.getRequestMethod().toUpperCase();
             String fullUrl = this.getFullUrl(exchange).first();
             HttpRequest request = new HttpRequest(fullUrl, exchange);
 
-            // TODO: improve filter
-            filters.forEach(filter -> filter.doFilter(request));
-
-            RequestHandler handler = handlers.get(method.toUpperCase());
+            RequestHandler handler = handlers.get(method);
             if (handler != null) {
-                HttpResponse response = handler.processRequest(request);
+                var route = container.getRoute(method, request.getPath());
+                var chain = new FilterChainImpl(filters, route, it -> handler.processRequest(it, route));
+                HttpResponse response = chain.next(request);
                 outboundHandler.processResponse(response);
             } else {
                 this.handleUnsupportedMethod(exchange);
@@ -96,6 +108,19 @@ final class InboundHandler implements HttpHandler {
         outboundHandler.sendResponse(exchange, Http.HTTP_405, response);
     }
 
+    /**
+     * Answers a request rejected by the BoundedExecutor with 503 and closes the exchange.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     */
+    private void handleRejected(HttpExchange exchange) {
+        try {
+            outboundHandler.sendResponse(exchange, Http.HTTP_503, Http.HTTP_503_SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            exchange.close();
+        }
+    }
+
     /**
      * Handles exceptions that occur during request handling.
      *
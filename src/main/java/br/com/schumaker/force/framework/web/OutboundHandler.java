@@ -1,14 +1,19 @@
 package br.com.schumaker.force.framework.web;
 
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.web.http.CachedResponse;
+import br.com.schumaker.force.framework.web.http.HeaderPolicy;
 import br.com.schumaker.force.framework.web.http.Http;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
 import br.com.schumaker.force.framework.web.view.ResponseView;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sun.net.httpserver.HttpExchange;
 
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Optional;
 
 import static br.com.schumaker.force.framework.web.http.Http.APPLICATION_JSON;
 import static br.com.schumaker.force.framework.web.http.Http.CONTENT_TYPE;
@@ -16,12 +21,23 @@ import static br.com.schumaker.force.framework.web.http.Http.CONTENT_TYPE;
 /**
  * The OutboundHandler class.
  * This class is responsible for processing the response and sending it to the client.
+ * JSON bodies are serialized straight into the exchange output stream: bodies up to the
+ * force.server.response.threshold are sent with a Content-Length, larger ones are streamed chunked.
+ * Bodies are compressed with gzip or deflate when the client accepts it, see Compression.
+ * The CORS and default headers come prebuilt from the HeaderPolicy.
+ *
+ * @see ThresholdOutputStream
+ * @see Compression
+ * @see CompressionOutputStream
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.5.0
  */
 final class OutboundHandler {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectWriter objectWriter = new ObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final int threshold = Environment.getInstance().getServerResponseThreshold();
+    private final Compression compression = new Compression();
+    private final HeaderPolicy headerPolicy = HeaderPolicy.getInstance();
 
     /**
      * Processes the response and sends it to the client.
@@ -40,9 +56,10 @@ final class OutboundHandler {
         if (returnType.equals(String.class)) {
             this.sendResponse(exchange, httpCode, contentType, (String) result);
         } else if (returnType.equals(ResponseView.class)) {
-            var resultBody = objectMapper.writeValueAsString(((ResponseView<?>) result).getBody());
             this.processResponseHeaders(exchange, (ResponseView<?>) result);
-            this.sendResponse(exchange, httpCode,contentType, resultBody.equals("null") ? "" : resultBody);
+            this.sendJson(exchange, httpCode, contentType, ((ResponseView<?>) result).getBody());
+        } else if (returnType.equals(CachedResponse.class)) {
+            this.sendCached(exchange, httpCode, contentType, (CachedResponse) result);
         } else {
             this.sendResponse(exchange, httpCode, contentType, result.toString());
         }
@@ -90,19 +107,130 @@ final class OutboundHandler {
      * @throws Exception if an error occurs during response sending.
      */
     public void sendResponse(HttpExchange exchange, int httpCode, String contentType, String response) throws Exception {
-        exchange.getResponseHeaders().add(CONTENT_TYPE, contentType);
-        // TODO: create a way to set the security, and check CORS
-        exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
-        exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, PATCH, HEAD, OPTIONS");
-        exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
-
-        response = Optional.ofNullable(response).orElse("");
-        exchange.sendResponseHeaders(httpCode, response.getBytes().length);
+        this.addHeaders(exchange, contentType);
+
+        var bytes = response == null ? new byte[0] : response.getBytes(StandardCharsets.UTF_8);
+        this.sendBytes(exchange, httpCode, contentType, bytes);
+    }
+
+    /**
+     * Serializes the body as JSON directly into the response.
+     * A null body is sent as an empty response. If serialization fails before any byte is sent,
+     * nothing is written and the exception is propagated, so it can still be answered.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param httpCode the HTTP status code.
+     * @param contentType the content type of the response.
+     * @param body the response body.
+     * @throws Exception if an error occurs during response sending.
+     */
+    public void sendJson(HttpExchange exchange, int httpCode, String contentType, Object body) throws Exception {
+        this.addHeaders(exchange, contentType);
+
+        var os = this.openBody(exchange, httpCode, contentType);
+        try {
+            if (body != null) {
+                objectWriter.writeValue(os, body);
+            }
+        } catch (Exception ex) {
+            abort(os);
+            throw ex;
+        }
+        os.close();
+    }
+
+    /**
+     * Sends a cached response with its ETag. A HTTP 304 is sent without a body, with the ETag of the content
+     * coding the body would be sent in.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param httpCode the HTTP status code.
+     * @param contentType the content type of the response.
+     * @param cached the cached response.
+     * @throws Exception if an error occurs during response sending.
+     */
+    public void sendCached(HttpExchange exchange, int httpCode, String contentType, CachedResponse cached) throws Exception {
+        cached.headers().forEach((k, v) -> exchange.getResponseHeaders().set(k, v));
+        exchange.getResponseHeaders().set(Http.ETAG, cached.etag());
+        this.addHeaders(exchange, contentType);
+
+        if (httpCode == Http.HTTP_304) {
+            var body = cached.body();
+            var encoding = body.length > 0 && body.length >= compression.getMinSize()
+                    ? compression.negotiate(exchange, contentType)
+                    : null;
+            if (encoding != null) {
+                exchange.getResponseHeaders().set(Http.ETAG, CachedResponse.withCoding(cached.etag(), encoding));
+            }
+            exchange.sendResponseHeaders(httpCode, -1);
+            exchange.getResponseBody().close();
+        } else {
+            this.sendBytes(exchange, httpCode, contentType, cached.body());
+        }
+    }
+
+    /**
+     * Sends a body whose bytes are known. A body large enough to be compressed goes through the compression stream,
+     * any other is sent as is with its Content-Length.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param httpCode the HTTP status code.
+     * @param contentType the content type of the response.
+     * @param bytes the response body.
+     * @throws Exception if an error occurs during response sending.
+     */
+    private void sendBytes(HttpExchange exchange, int httpCode, String contentType, byte[] bytes) throws Exception {
+        if (bytes.length > 0 && bytes.length >= compression.getMinSize()) {
+            try (var os = this.openBody(exchange, httpCode, contentType)) {
+                os.write(bytes);
+            }
+            return;
+        }
+
+        exchange.sendResponseHeaders(httpCode, bytes.length == 0 ? -1 : bytes.length);
         try (OutputStream os = exchange.getResponseBody()) {
-            os.write(response.getBytes());
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Opens the response body stream, compressing it if the client accepts a supported content coding.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param httpCode the HTTP status code.
+     * @param contentType the content type of the response.
+     * @return the response body stream, nothing is sent before it is closed or the threshold is exceeded.
+     */
+    private OutputStream openBody(HttpExchange exchange, int httpCode, String contentType) {
+        var body = new ThresholdOutputStream(exchange, httpCode, threshold);
+        var encoding = compression.negotiate(exchange, contentType);
+        return encoding == null ? body : new CompressionOutputStream(body, exchange, encoding, compression.getMinSize());
+    }
+
+    /**
+     * Discards a response body stream opened by openBody.
+     *
+     * @param os the response body stream.
+     */
+    private static void abort(OutputStream os) {
+        if (os instanceof CompressionOutputStream compressed) {
+            compressed.abort();
+        } else if (os instanceof ThresholdOutputStream body) {
+            body.abort();
         }
     }
 
+    /**
+     * Sets the content type and adds the CORS and default headers to the response.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @param contentType the content type of the response.
+     */
+    private void addHeaders(HttpExchange exchange, String contentType) {
+        exchange.getResponseHeaders().set(CONTENT_TYPE, contentType);
+        headerPolicy.apply(exchange);
+    }
+
     /**
      * Sends the response to the client.
      *
@@ -0,0 +1,152 @@
+package br.com.schumaker.force.framework.web;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ThresholdOutputStream class writes a response body to an HttpExchange without knowing its length up front.
+ * Bytes are buffered in a pooled array until the threshold is reached. A body that fits is sent with a fixed
+ * Content-Length when the stream is closed; a larger body switches to the chunked transfer coding and is
+ * streamed to the exchange as it is written.
+ * If writing the body fails, abort releases the buffer without sending anything, so the error can still be answered.
+ *
+ * @see OutboundHandler
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class ThresholdOutputStream extends OutputStream {
+    private static final int MAX_POOLED_BUFFERS = 256;
+    private static final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+
+    private final HttpExchange exchange;
+    private final int httpCode;
+    private byte[] buffer;
+    private int count;
+    private OutputStream body;
+    private boolean closed;
+
+    /**
+     * Constructs a new ThresholdOutputStream.
+     *
+     * @param exchange the exchange to write the response to.
+     * @param httpCode the HTTP status code.
+     * @param threshold the largest body, in bytes, sent with a fixed Content-Length.
+     */
+    ThresholdOutputStream(HttpExchange exchange, int httpCode, int threshold) {
+        this.exchange = exchange;
+        this.httpCode = httpCode;
+        this.buffer = acquire(threshold);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (body == null && count == buffer.length) {
+            startChunked();
+        }
+
+        if (body != null) {
+            body.write(b);
+        } else {
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (body == null && len > buffer.length - count) {
+            startChunked();
+        }
+
+        if (body != null) {
+            body.write(b, off, len);
+        } else {
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (body != null) {
+            body.flush();
+        }
+    }
+
+    /**
+     * Sends the response. A buffered body is sent with its Content-Length, an empty body with no body at all.
+     *
+     * @throws IOException if an error occurs while writing to the exchange.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (body == null) {
+                exchange.sendResponseHeaders(httpCode, count == 0 ? -1 : count);
+                body = exchange.getResponseBody();
+                body.write(buffer, 0, count);
+            }
+            body.close();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Discards the buffered bytes without sending anything.
+     * Bytes already streamed in chunked mode cannot be taken back.
+     */
+    void abort() {
+        closed = true;
+        release();
+    }
+
+    /**
+     * Checks whether the response headers have been sent, i.e. the body is being streamed.
+     *
+     * @return true if the stream switched to the chunked transfer coding.
+     */
+    boolean isCommitted() {
+        return body != null;
+    }
+
+    private void startChunked() throws IOException {
+        exchange.sendResponseHeaders(httpCode, 0);
+        body = exchange.getResponseBody();
+        body.write(buffer, 0, count);
+        count = 0;
+    }
+
+    private void release() {
+        if (buffer != null) {
+            if (pooled.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+                buffers.offer(buffer);
+            } else {
+                pooled.decrementAndGet();
+            }
+            buffer = null;
+        }
+    }
+
+    private static byte[] acquire(int size) {
+        byte[] pooledBuffer;
+        while ((pooledBuffer = buffers.poll()) != null) {
+            pooled.decrementAndGet();
+            if (pooledBuffer.length == size) {
+                return pooledBuffer;
+            }
+        }
+        return new byte[size];
+    }
+}
@@ -1,45 +1,80 @@
 package br.com.schumaker.force.framework.web;
 
-import br.com.schumaker.force.framework.hardware.Machine;
-import com.sun.net.httpserver.HttpServer;
-import java.net.InetSocketAddress;
-import java.util.concurrent.Executors;
+import br.com.schumaker.force.framework.ioc.Environment;
+import br.com.schumaker.force.framework.web.engine.ServerEngine;
+import br.com.schumaker.force.framework.web.engine.ServerOptions;
+
+import java.util.concurrent.ExecutorService;
 
 /**
  * The WebServer class is responsible for creating and starting an HTTP server.
  * It initializes the server with a specified port and context, and sets up a request handler.
- * The server uses a fixed thread pool executor based on the number of processors available on the machine.
+ * The server runs on the engine selected with the force.server.engine property, the JDK HttpServer by default,
+ * and requests are handled by the executor selected with the force.server.executor property.
+ *
+ * @see ExecutorMode
+ * @see ServerEngine
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 public final class WebServer {
-    private final HttpServer server;
+    private final ServerEngine engine;
+    private final ExecutorService executor;
 
     /**
      * Constructs a new WebServer instance with the specified port and context.
-     * Initializes the HTTP server and sets up the request handler.
+     * The executor is created from the environment properties.
      *
      * @param port the port number on which the server will listen.
      * @param context the context path for the server.
      * @throws Exception if an error occurs during server initialization.
      */
     public WebServer(Integer port, String context) throws Exception {
-        server = HttpServer.create(new InetSocketAddress(port), 4096);
-        server.createContext(context, new InboundHandler());
-        server.setExecutor(Executors.newFixedThreadPool(Machine.getNumberProcessors() * 2));
+        this(port, context, newExecutor(Environment.getInstance()));
+    }
+
+    /**
+     * Constructs a new WebServer instance with the specified port, context and executor.
+     * Initializes the server engine and sets up the request handler.
+     *
+     * @param port the port number on which the server will listen.
+     * @param context the context path for the server.
+     * @param executor the executor that handles the requests.
+     * @throws Exception if an error occurs during server initialization.
+     */
+    public WebServer(Integer port, String context, ExecutorService executor) throws Exception {
+        var environment = Environment.getInstance();
+        var options = new ServerOptions(port, context, environment.getServerBacklog(), environment.getServerTcpNoDelay(),
+                environment.getServerMaxBodySize());
+
+        this.executor = executor;
+        this.engine = ServerEngine.of(environment.getServerEngine(), options, new InboundHandler(), executor);
 
         // Register a shutdown hook to stop the server gracefully
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println("Shutting down the server...");
-            server.stop(0);
+            engine.stop(0);
+            this.executor.shutdown();
         }));
     }
 
+    /**
+     * Creates the request executor configured in the environment.
+     *
+     * @param environment the environment.
+     * @return a new ExecutorService.
+     */
+    private static ExecutorService newExecutor(Environment environment) {
+        var mode = ExecutorMode.of(environment.getServerExecutor());
+        return mode.newExecutor(environment.getServerThreads(), environment.getServerMaxConcurrency(),
+                environment.getServerQueueTimeout());
+    }
+
     /**
      * Starts the HTTP server.
      */
     public void start() {
-        server.start();
+        engine.start();
     }
 }
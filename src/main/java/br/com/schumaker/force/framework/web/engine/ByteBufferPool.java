@@ -0,0 +1,73 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ByteBufferPool class keeps a bounded number of direct buffers of the same size for reuse.
+ * Direct buffers are expensive to allocate and are only released by the garbage collector, so connections
+ * borrow a buffer while they have data to read or write and give it back as soon as it is empty.
+ *
+ * @see NioServerEngine
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class ByteBufferPool {
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int bufferSize;
+    private final int maxPooled;
+
+    /**
+     * Constructs a new ByteBufferPool.
+     *
+     * @param bufferSize the capacity of each buffer, in bytes.
+     * @param maxPooled the maximum number of idle buffers kept in the pool.
+     */
+    ByteBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Borrows a cleared buffer, allocating a new one when the pool is empty.
+     *
+     * @return a buffer ready to be written.
+     */
+    ByteBuffer acquire() {
+        var buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool. The buffer is dropped when the pool is full.
+     *
+     * @param buffer the buffer, it must not be used after this call.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize) {
+            return;
+        }
+
+        if (pooled.incrementAndGet() <= maxPooled) {
+            buffers.offer(buffer.clear());
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getPooled() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,228 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.http.Http;
+import com.sun.net.httpserver.Headers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The HttpRequestParser class parses the request line and the headers of an HTTP/1.x request.
+ * The header block is copied once from the read buffer into a reusable array and scanned in place;
+ * Strings are only created for the target, the header names and values, and the standard methods are
+ * matched without allocating. One parser is used per connection, it is not thread safe.
+ *
+ * @see NioServerEngine
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+final class HttpRequestParser {
+    private static final String[] METHODS = {
+            Http.HTTP_GET, Http.HTTP_POST, Http.HTTP_PUT, Http.HTTP_PATCH, Http.HTTP_DELETE, Http.HTTP_HEADER, Http.HTTP_OPTIONS
+    };
+    private static final String HTTP_1_0 = "HTTP/1.0";
+    private static final String HTTP_1_1 = "HTTP/1.1";
+
+    private final int maxHeaderSize;
+    private byte[] scratch = new byte[1024];
+
+    /**
+     * Constructs a new HttpRequestParser.
+     *
+     * @param maxHeaderSize the maximum size of the request line plus the headers, in bytes.
+     */
+    HttpRequestParser(int maxHeaderSize) {
+        this.maxHeaderSize = maxHeaderSize;
+    }
+
+    /**
+     * Parses the request head at the buffer position.
+     * On success the buffer position is moved to the first byte of the body, otherwise it is left untouched.
+     *
+     * @param buffer the buffer, in read mode.
+     * @return the request head, or null if the head is not complete yet.
+     * @throws ForceException with the HTTP status to answer if the request is malformed.
+     */
+    RequestHead parse(ByteBuffer buffer) {
+        int start = buffer.position();
+        int limit = buffer.limit();
+
+        // Empty lines between pipelined requests are ignored (RFC 9112, 2.2).
+        while (start < limit && (buffer.get(start) == '\r' || buffer.get(start) == '\n')) {
+            start++;
+        }
+
+        int length = Math.min(limit - start, maxHeaderSize);
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+
+        int end = indexOfEndOfHeaders(scratch, length);
+        if (end < 0) {
+            if (limit - start >= maxHeaderSize) {
+                throw new ForceException("Request header fields too large.", Http.HTTP_431);
+            }
+            buffer.position(start);
+            return null;
+        }
+
+        var head = parseHead(scratch, end);
+        buffer.position(start + end + 4);
+        return head;
+    }
+
+    private RequestHead parseHead(byte[] bytes, int end) {
+        int lineEnd = indexOf(bytes, 0, end, (byte) '\r');
+        if (lineEnd < 0) {
+            lineEnd = end;
+        }
+
+        int methodEnd = indexOf(bytes, 0, lineEnd, (byte) ' ');
+        int targetEnd = methodEnd < 0 ? -1 : indexOf(bytes, methodEnd + 1, lineEnd, (byte) ' ');
+        if (methodEnd <= 0 || targetEnd <= methodEnd + 1) {
+            throw new ForceException("Malformed request line.", Http.HTTP_400);
+        }
+
+        var method = method(bytes, methodEnd);
+        var target = new String(bytes, methodEnd + 1, targetEnd - methodEnd - 1, StandardCharsets.ISO_8859_1);
+        var version = version(bytes, targetEnd + 1, lineEnd);
+
+        var headers = new Headers();
+        int position = lineEnd + 2;
+        while (position < end) {
+            int headerEnd = indexOf(bytes, position, end, (byte) '\r');
+            if (headerEnd < 0) {
+                headerEnd = end;
+            }
+
+            int colon = indexOf(bytes, position, headerEnd, (byte) ':');
+            if (colon <= position) {
+                throw new ForceException("Malformed header field.", Http.HTTP_400);
+            }
+
+            int valueStart = colon + 1;
+            int valueEnd = headerEnd;
+            while (valueStart < valueEnd && isWhitespace(bytes[valueStart])) {
+                valueStart++;
+            }
+            while (valueEnd > valueStart && isWhitespace(bytes[valueEnd - 1])) {
+                valueEnd--;
+            }
+
+            headers.add(new String(bytes, position, colon - position, StandardCharsets.ISO_8859_1),
+                    new String(bytes, valueStart, valueEnd - valueStart, StandardCharsets.ISO_8859_1));
+            position = headerEnd + 2;
+        }
+
+        return new RequestHead(method, target, version, headers,
+                contentLength(headers), isChunked(headers), isKeepAlive(version, headers), isExpectContinue(headers));
+    }
+
+    private static String method(byte[] bytes, int length) {
+        for (var method : METHODS) {
+            if (method.length() == length && matches(bytes, method)) {
+                return method;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String version(byte[] bytes, int start, int end) {
+        if (end - start == HTTP_1_1.length()) {
+            if (matches(bytes, start, HTTP_1_1)) {
+                return HTTP_1_1;
+            }
+            if (matches(bytes, start, HTTP_1_0)) {
+                return HTTP_1_0;
+            }
+        }
+        throw new ForceException("HTTP version not supported.", Http.HTTP_505);
+    }
+
+    private static long contentLength(Headers headers) {
+        var value = headers.getFirst("Content-Length");
+        if (value == null) {
+            return 0;
+        }
+
+        try {
+            long length = Long.parseLong(value);
+            if (length < 0) {
+                throw new NumberFormatException(value);
+            }
+            return length;
+        } catch (NumberFormatException ex) {
+            throw new ForceException("Invalid Content-Length.", Http.HTTP_400);
+        }
+    }
+
+    private static boolean isChunked(Headers headers) {
+        var value = headers.getFirst("Transfer-Encoding");
+        return value != null && value.toLowerCase().contains("chunked");
+    }
+
+    private static boolean isKeepAlive(String version, Headers headers) {
+        var connection = headers.getFirst("Connection");
+        if (HTTP_1_1.equals(version)) {
+            return connection == null || !connection.toLowerCase().contains("close");
+        }
+        return connection != null && connection.toLowerCase().contains("keep-alive");
+    }
+
+    private static boolean isExpectContinue(Headers headers) {
+        return "100-continue".equalsIgnoreCase(headers.getFirst("Expect"));
+    }
+
+    private static int indexOfEndOfHeaders(byte[] bytes, int length) {
+        for (int i = 0; i + 3 < length; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n' && bytes[i + 2] == '\r' && bytes[i + 3] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(byte[] bytes, String value) {
+        return matches(bytes, 0, value);
+    }
+
+    private static boolean matches(byte[] bytes, int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (bytes[offset + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t';
+    }
+
+    /**
+     * The RequestHead record represents a parsed request line and its headers.
+     *
+     * @param method the request method.
+     * @param target the request target, path and query string.
+     * @param version the protocol version, HTTP/1.0 or HTTP/1.1.
+     * @param headers the request headers.
+     * @param contentLength the value of the Content-Length header, 0 if absent.
+     * @param chunked whether the body uses the chunked transfer coding.
+     * @param keepAlive whether the connection stays open after the response.
+     * @param expectContinue whether the client waits for a 100 Continue before sending the body.
+     */
+    record RequestHead(String method, String target, String version, Headers headers,
+                       long contentLength, boolean chunked, boolean keepAlive, boolean expectContinue) {}
+}
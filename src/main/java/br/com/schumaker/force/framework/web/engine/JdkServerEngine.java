@@ -0,0 +1,54 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The JdkServerEngine class runs the requests on the com.sun.net.httpserver.HttpServer bundled with the JDK.
+ *
+ * @see ServerEngine
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class JdkServerEngine implements ServerEngine {
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private final HttpServer server;
+
+    /**
+     * Constructs a new JdkServerEngine bound to the configured port.
+     *
+     * @param options the server options.
+     * @param handler the handler of every request.
+     * @param executor the executor that runs the handler.
+     * @throws Exception if the server cannot be created.
+     */
+    public JdkServerEngine(ServerOptions options, HttpHandler handler, ExecutorService executor) throws Exception {
+        // The JDK server reads this property once, when the first server is created.
+        if (options.tcpNoDelay() && System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+
+        server = HttpServer.create(new InetSocketAddress(options.port()), options.backlog());
+        server.createContext(options.context(), handler);
+        server.setExecutor(executor);
+    }
+
+    @Override
+    public void start() {
+        server.start();
+    }
+
+    @Override
+    public void stop(int delay) {
+        server.stop(delay);
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+}
@@ -0,0 +1,430 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.http.Http;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The NioConnection class holds the state of one client connection of the NioServerEngine.
+ * Requests are parsed as soon as they arrive, so pipelined requests queue up, and they are dispatched one at a
+ * time: the next request of a connection only reaches the handler once the previous response is queued,
+ * which keeps responses in request order.
+ * Every method runs on the selector thread, except send and respond, which are called by the worker thread.
+ * A streamed response is queued in chunks; the worker waits while too many of them are still unwritten,
+ * so a slow client holds back the handler instead of filling the heap.
+ * A request body is buffered as its bytes arrive, so a Content-Length alone does not reserve any memory.
+ *
+ * @see NioServerEngine
+ * @see NioHttpExchange
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+final class NioConnection {
+    private static final byte[] CONTINUE = "HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int MAX_PIPELINED = 32;
+    private static final byte[] NO_BODY = new byte[0];
+    private static final int MAX_QUEUED_CHUNKS = 4;
+    private static final int CHUNK_OVERHEAD = 16;
+
+    private final NioServerEngine engine;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final HttpRequestParser parser;
+    private final InetSocketAddress localAddress;
+    private final InetSocketAddress remoteAddress;
+    private final Deque<NioHttpExchange> pending = new ArrayDeque<>();
+    private final Deque<Outbound> writes = new ArrayDeque<>();
+    private final ReentrantLock chunkLock = new ReentrantLock();
+    private final Condition chunkWritten = chunkLock.newCondition();
+    private int queuedChunks;
+
+    private ByteBuffer readBuffer;
+    private HttpRequestParser.RequestHead head;
+    private byte[] body;
+    private int bodyLength;
+    private int bodyRead;
+    private boolean inFlight;
+    private boolean readClosed;
+    private boolean closeAfterWrite;
+    private volatile boolean closed;
+    private long lastActive = System.nanoTime();
+
+    NioConnection(NioServerEngine engine, SocketChannel channel, SelectionKey key) throws IOException {
+        this.engine = engine;
+        this.channel = channel;
+        this.key = key;
+        this.parser = new HttpRequestParser(engine.getBufferPool().getBufferSize());
+        this.localAddress = (InetSocketAddress) channel.getLocalAddress();
+        this.remoteAddress = (InetSocketAddress) channel.getRemoteAddress();
+    }
+
+    /**
+     * Reads the available bytes and queues every complete request.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void onRead() throws IOException {
+        if (readBuffer == null) {
+            readBuffer = engine.getBufferPool().acquire();
+        }
+
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            readClosed = true;
+            if (!inFlight && pending.isEmpty() && writes.isEmpty()) {
+                close();
+                return;
+            }
+        }
+        lastActive = System.nanoTime();
+
+        readBuffer.flip();
+        try {
+            parseRequests();
+        } catch (ForceException ex) {
+            rejectRequest(ex.getStatusCode());
+        }
+
+        if (readBuffer.hasRemaining() && !readClosed) {
+            readBuffer.compact();
+        } else {
+            engine.getBufferPool().release(readBuffer);
+            readBuffer = null;
+        }
+
+        dispatchNext();
+        updateInterest();
+    }
+
+    /**
+     * Writes the queued responses.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void onWrite() throws IOException {
+        flush();
+    }
+
+    private void parseRequests() throws IOException {
+        while (!readClosed && readBuffer.hasRemaining()) {
+            if (head == null) {
+                head = parser.parse(readBuffer);
+                if (head == null) {
+                    return;
+                }
+                startBody();
+            }
+
+            if (bodyRead < bodyLength) {
+                readBody();
+                if (bodyRead < bodyLength) {
+                    return;
+                }
+            }
+
+            pending.add(new NioHttpExchange(this, engine.getContext(), head, bodyLength > 0 ? body : null));
+            readClosed = !head.keepAlive();
+            releaseBody();
+        }
+    }
+
+    /**
+     * Copies the available body bytes, growing the body array to what has arrived, at most the Content-Length.
+     */
+    private void readBody() {
+        int length = Math.min(readBuffer.remaining(), bodyLength - bodyRead);
+        if (bodyRead + length > body.length) {
+            int capacity = (int) Math.min(bodyLength, Math.max((long) body.length * 2, bodyRead + length));
+            engine.reserveBody(capacity - body.length);
+            body = Arrays.copyOf(body, capacity);
+        }
+        readBuffer.get(body, bodyRead, length);
+        bodyRead += length;
+    }
+
+    private void releaseBody() {
+        if (body != null) {
+            engine.reserveBody(-body.length);
+        }
+        head = null;
+        body = null;
+        bodyLength = 0;
+        bodyRead = 0;
+    }
+
+    private void startBody() throws IOException {
+        if (head.chunked()) {
+            throw new ForceException("Chunked request bodies are not supported.", Http.HTTP_411);
+        }
+        if (head.contentLength() > engine.getMaxBodySize()) {
+            throw new ForceException("Request body too large.", Http.HTTP_413);
+        }
+
+        bodyRead = 0;
+        bodyLength = (int) head.contentLength();
+        body = NO_BODY;
+        // Only when nothing else is queued, a 100 Continue must not overtake an earlier response.
+        if (bodyLength > 0 && head.expectContinue() && readBuffer.remaining() < bodyLength
+                && !inFlight && pending.isEmpty() && writes.isEmpty()) {
+            channel.write(ByteBuffer.wrap(CONTINUE));
+        }
+    }
+
+    private void rejectRequest(int statusCode) {
+        pending.add(NioHttpExchange.error(this, engine.getContext(), statusCode));
+        readClosed = true;
+        releaseBody();
+        readBuffer.position(readBuffer.limit());
+    }
+
+    /**
+     * Hands the next queued request to the executor, unless a request of this connection is already running.
+     */
+    private void dispatchNext() {
+        if (inFlight || closed || pending.isEmpty()) {
+            return;
+        }
+
+        var exchange = pending.poll();
+        inFlight = true;
+        if (exchange.isError()) {
+            engine.reject(exchange);
+        } else {
+            engine.dispatch(exchange);
+        }
+    }
+
+    /**
+     * Queues a part of a streamed response, the exchange is not completed. Called by the worker thread,
+     * which waits while the connection already has too many unwritten parts.
+     * The bytes are copied, so the caller can reuse its arrays.
+     *
+     * @param head the bytes before the body, e.g. the status line and headers or a chunk size line.
+     * @param body the body buffer.
+     * @param length the number of body bytes to send.
+     * @throws IOException if the connection is closed.
+     */
+    void send(byte[] head, byte[] body, int length) throws IOException {
+        chunkLock.lock();
+        try {
+            while (queuedChunks >= MAX_QUEUED_CHUNKS && !closed) {
+                chunkWritten.await();
+            }
+            if (closed) {
+                throw new IOException("Connection closed.");
+            }
+            queuedChunks++;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending the response.", ex);
+        } finally {
+            chunkLock.unlock();
+        }
+
+        var outbound = Outbound.copyOf(engine.getBufferPool(), head, body, length);
+        engine.execute(() -> {
+            if (closed) {
+                release(outbound);
+                return;
+            }
+
+            writes.add(outbound);
+            try {
+                flush();
+            } catch (IOException ex) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Queues a serialized response. Called by the worker thread when the exchange completes.
+     *
+     * @param head the status line and headers.
+     * @param body the body buffer.
+     * @param length the number of body bytes to send.
+     * @param close whether the connection closes after this response.
+     */
+    void respond(byte[] head, byte[] body, int length, boolean close) {
+        var outbound = Outbound.of(engine.getBufferPool(), head, body, length);
+        engine.execute(() -> {
+            if (closed) {
+                outbound.release(engine.getBufferPool());
+                return;
+            }
+
+            writes.add(outbound);
+            inFlight = false;
+            if (close) {
+                closeAfterWrite = true;
+                pending.clear();
+            }
+
+            try {
+                flush();
+                dispatchNext();
+                updateInterest();
+            } catch (IOException ex) {
+                close();
+            }
+        });
+    }
+
+    private void flush() throws IOException {
+        while (!writes.isEmpty()) {
+            var outbound = writes.peek();
+            outbound.write(channel);
+            if (outbound.hasRemaining()) {
+                updateInterest();
+                return;
+            }
+            release(writes.poll());
+        }
+
+        lastActive = System.nanoTime();
+        if (closeAfterWrite || (readClosed && !inFlight && pending.isEmpty())) {
+            close();
+        } else {
+            updateInterest();
+        }
+    }
+
+    private void updateInterest() {
+        if (closed || !key.isValid()) {
+            return;
+        }
+
+        int ops = 0;
+        if (!readClosed && pending.size() < MAX_PIPELINED) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (!writes.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(ops);
+    }
+
+    /**
+     * Checks whether the connection has been idle for longer than the specified timeout.
+     *
+     * @param now the current System.nanoTime.
+     * @param timeout the idle timeout, in nanoseconds.
+     * @return true if nothing is running or queued and no byte moved since the timeout.
+     */
+    boolean isIdle(long now, long timeout) {
+        return !inFlight && pending.isEmpty() && writes.isEmpty() && now - lastActive > timeout;
+    }
+
+    /**
+     * Closes the connection and gives its buffers back to the pool.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already closed by the peer
+        }
+
+        if (readBuffer != null) {
+            engine.getBufferPool().release(readBuffer);
+            readBuffer = null;
+        }
+        writes.forEach(this::release);
+        writes.clear();
+        pending.clear();
+        releaseBody();
+
+        chunkLock.lock();
+        try {
+            chunkWritten.signalAll();
+        } finally {
+            chunkLock.unlock();
+        }
+    }
+
+    private void release(Outbound outbound) {
+        outbound.release(engine.getBufferPool());
+        if (outbound.chunk()) {
+            chunkLock.lock();
+            try {
+                queuedChunks--;
+                chunkWritten.signal();
+            } finally {
+                chunkLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the largest body part that fits in one pooled buffer with its chunk framing.
+     *
+     * @return the chunk size, in bytes.
+     */
+    int getChunkSize() {
+        return engine.getBufferPool().getBufferSize() - CHUNK_OVERHEAD;
+    }
+
+    InetSocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * A response, or a part of a streamed response, waiting to be written. Small ones are copied into one
+     * pooled direct buffer, large ones are written from the heap arrays.
+     */
+    private record Outbound(ByteBuffer[] buffers, boolean pooled, boolean chunk) {
+
+        static Outbound of(ByteBufferPool pool, byte[] head, byte[] body, int length) {
+            if (head.length + length <= pool.getBufferSize()) {
+                var buffer = pool.acquire().put(head).put(body, 0, length).flip();
+                return new Outbound(new ByteBuffer[]{buffer}, true, false);
+            }
+            return new Outbound(new ByteBuffer[]{ByteBuffer.wrap(head), ByteBuffer.wrap(body, 0, length)}, false, false);
+        }
+
+        static Outbound copyOf(ByteBufferPool pool, byte[] head, byte[] body, int length) {
+            if (head.length + length <= pool.getBufferSize()) {
+                var buffer = pool.acquire().put(head).put(body, 0, length).flip();
+                return new Outbound(new ByteBuffer[]{buffer}, true, true);
+            }
+            var buffer = ByteBuffer.allocate(head.length + length).put(head).put(body, 0, length).flip();
+            return new Outbound(new ByteBuffer[]{buffer}, false, true);
+        }
+
+        void write(SocketChannel channel) throws IOException {
+            channel.write(buffers);
+        }
+
+        boolean hasRemaining() {
+            return buffers[buffers.length - 1].hasRemaining();
+        }
+
+        void release(ByteBufferPool pool) {
+            if (pooled) {
+                pool.release(buffers[0]);
+            }
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.web.http.Http;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The NioHttpExchange class bridges a request parsed by the NioServerEngine to the HttpExchange API,
+ * so the InboundHandler and the RequestHandlers run unchanged on top of it.
+ * A response body that fits in one pooled buffer is sent with a Content-Length when the exchange is closed,
+ * whatever length was given to sendResponseHeaders. A larger body is streamed as it is written: with the given
+ * Content-Length, or with the chunked transfer coding when the length is 0, as the HttpExchange contract says.
+ * Responses are written by the selector thread, in request order.
+ *
+ * @see NioServerEngine
+ * @see NioConnection
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+final class NioHttpExchange extends HttpExchange {
+    private static final byte[] NO_BODY = new byte[0];
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] LAST_CHUNK = "\r\n0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final String[] REASONS = new String[600];
+
+    /*
+     * Reuses the status messages of the Http class as reason phrases, e.g. "404 Not Found".
+     */
+    static {
+        for (var field : Http.class.getFields()) {
+            try {
+                if (field.getType() == String.class && field.get(null) instanceof String value
+                        && value.length() > 4 && Character.isDigit(value.charAt(0)) && value.charAt(3) == ' ') {
+                    REASONS[Integer.parseInt(value.substring(0, 3))] = value.substring(4);
+                }
+            } catch (ReflectiveOperationException | NumberFormatException ignored) {
+                // not a status message
+            }
+        }
+    }
+
+    private final NioConnection connection;
+    private final HttpContext context;
+    private final HttpRequestParser.RequestHead head;
+    private final byte[] body;
+    private final int errorCode;
+    private final Headers responseHeaders = new Headers();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final ResponseBody responseBody = new ResponseBody();
+    private InputStream requestStream;
+    private OutputStream responseStream = responseBody;
+    private int responseCode = -1;
+    private long responseLength;
+    private URI requestUri;
+
+    /**
+     * Constructs a new NioHttpExchange for a parsed request.
+     *
+     * @param connection the connection the request was read from.
+     * @param context the server context.
+     * @param head the request line and headers.
+     * @param body the request body, null if empty.
+     */
+    NioHttpExchange(NioConnection connection, HttpContext context, HttpRequestParser.RequestHead head, byte[] body) {
+        this(connection, context, head, body, 0);
+    }
+
+    private NioHttpExchange(NioConnection connection, HttpContext context, HttpRequestParser.RequestHead head, byte[] body, int errorCode) {
+        this.connection = connection;
+        this.context = context;
+        this.head = head;
+        this.body = body == null ? NO_BODY : body;
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Creates an exchange answered by the engine itself, without calling the handler, and closing the connection.
+     *
+     * @param connection the connection.
+     * @param context the server context.
+     * @param errorCode the HTTP status to answer.
+     * @return a new NioHttpExchange.
+     */
+    static NioHttpExchange error(NioConnection connection, HttpContext context, int errorCode) {
+        var head = new HttpRequestParser.RequestHead(Http.HTTP_GET, "/", "HTTP/1.1", new Headers(), 0, false, false, false);
+        return new NioHttpExchange(connection, context, head, null, errorCode);
+    }
+
+    boolean isError() {
+        return errorCode > 0;
+    }
+
+    int getErrorCode() {
+        return errorCode;
+    }
+
+    boolean isKeepAlive() {
+        return head.keepAlive();
+    }
+
+    @Override
+    public Headers getRequestHeaders() {
+        return head.headers();
+    }
+
+    @Override
+    public Headers getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public URI getRequestURI() {
+        if (requestUri == null) {
+            requestUri = URI.create(head.target());
+        }
+        return requestUri;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return head.method();
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        try {
+            responseStream.close();
+        } catch (IOException ignored) {
+            // the response is still sent below
+        }
+        complete();
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        if (requestStream == null) {
+            requestStream = new ByteArrayInputStream(body);
+        }
+        return requestStream;
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        return responseStream;
+    }
+
+    @Override
+    public void sendResponseHeaders(int responseCode, long responseLength) throws IOException {
+        if (this.responseCode >= 0) {
+            throw new IOException("Response headers already sent.");
+        }
+        this.responseCode = responseCode;
+        this.responseLength = responseLength;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return connection.getRemoteAddress();
+    }
+
+    @Override
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return connection.getLocalAddress();
+    }
+
+    @Override
+    public String getProtocol() {
+        return head.version();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void setStreams(InputStream i, OutputStream o) {
+        if (i != null) {
+            requestStream = i;
+        }
+        if (o != null) {
+            responseStream = o;
+        }
+    }
+
+    @Override
+    public HttpPrincipal getPrincipal() {
+        return null;
+    }
+
+    /**
+     * Serializes the response and hands it to the connection. Only the first call has an effect.
+     * An exchange closed without sendResponseHeaders is answered with HTTP 500.
+     */
+    void complete() {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (responseBody.streaming) {
+            responseBody.finish();
+            return;
+        }
+
+        int code = responseCode < 0 ? Http.HTTP_500 : responseCode;
+        boolean sendBody = hasBody(code);
+        long length = -1;
+        if (!hasNoBodyStatus(code)) {
+            length = isHead() ? Math.max(responseLength, 0) : (sendBody ? responseBody.count : 0);
+        }
+
+        boolean close = !head.keepAlive();
+        connection.respond(head(code, length, false, close), responseBody.buf, sendBody ? responseBody.count : 0, close);
+    }
+
+    private static boolean hasNoBodyStatus(int code) {
+        return code < Http.HTTP_200 || code == Http.HTTP_204 || code == Http.HTTP_304;
+    }
+
+    private boolean isHead() {
+        return Http.HTTP_HEADER.equals(head.method());
+    }
+
+    private boolean hasBody(int code) {
+        return !hasNoBodyStatus(code) && !isHead() && responseLength != -1;
+    }
+
+    /**
+     * Serializes the status line and the headers.
+     *
+     * @param code the HTTP status code.
+     * @param length the Content-Length, omitted when negative.
+     * @param chunked whether the body uses the chunked transfer coding.
+     * @param close whether the connection closes after this response.
+     * @return the status line and headers.
+     */
+    private byte[] head(int code, long length, boolean chunked, boolean close) {
+        var response = new StringBuilder(256)
+                .append(head.version()).append(' ').append(code).append(' ')
+                .append(code < REASONS.length && REASONS[code] != null ? REASONS[code] : "").append("\r\n");
+
+        responseHeaders.forEach((name, values) -> {
+            if (!"Content-Length".equalsIgnoreCase(name) && !"Transfer-Encoding".equalsIgnoreCase(name)
+                    && !"Connection".equalsIgnoreCase(name)) {
+                values.forEach(value -> response.append(name).append(": ").append(value).append("\r\n"));
+            }
+        });
+
+        if (chunked) {
+            response.append("Transfer-Encoding: chunked\r\n");
+        } else if (length >= 0) {
+            response.append("Content-Length: ").append(length).append("\r\n");
+        }
+
+        if (close) {
+            response.append("Connection: close\r\n");
+        } else if (!"HTTP/1.1".equals(head.version())) {
+            response.append("Connection: keep-alive\r\n");
+        }
+        response.append("\r\n");
+
+        return response.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * The response body. It is buffered up to one chunk, then streamed to the connection one chunk at a time;
+     * closing it completes the exchange.
+     */
+    private final class ResponseBody extends OutputStream {
+        private byte[] buf = new byte[256];
+        private int count;
+        private long sent;
+        private boolean streaming;
+        private boolean chunked;
+        private boolean close;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (prepare()) {
+                buf[count++] = (byte) b;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0 && prepare()) {
+                int length = Math.min(len, buf.length - count);
+                System.arraycopy(b, off, buf, count, length);
+                count += length;
+                off += length;
+                len -= length;
+            }
+        }
+
+        /**
+         * Makes room for at least one byte, growing the buffer up to the chunk size and then sending it.
+         *
+         * @return false if the response has no body and the bytes are dropped.
+         * @throws IOException if the response is already sent or the connection is closed.
+         */
+        private boolean prepare() throws IOException {
+            if (completed.get()) {
+                throw new IOException("Response already sent.");
+            }
+            if (responseCode >= 0 && !hasBody(responseCode)) {
+                return false;
+            }
+
+            if (count == buf.length) {
+                if (buf.length < connection.getChunkSize()) {
+                    buf = Arrays.copyOf(buf, Math.min(connection.getChunkSize(), buf.length * 2));
+                } else {
+                    send();
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Sends the buffered bytes, with the response head before the first part.
+         *
+         * @throws IOException if the connection is closed or more bytes than the Content-Length are written.
+         */
+        private void send() throws IOException {
+            if (responseCode < 0) {
+                throw new IOException("Response headers not sent yet.");
+            }
+
+            byte[] prefix;
+            if (!streaming) {
+                streaming = true;
+                chunked = responseLength == 0 && "HTTP/1.1".equals(head.version());
+                close = !head.keepAlive() || responseLength == 0 && !chunked;
+                prefix = head(responseCode, chunked ? -1 : responseLength, chunked, close);
+            } else {
+                // the line break that ends the previous chunk
+                prefix = chunked ? CRLF : NO_BODY;
+            }
+
+            if (chunked) {
+                var size = (Integer.toHexString(count) + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                prefix = Arrays.copyOf(prefix, prefix.length + size.length);
+                System.arraycopy(size, 0, prefix, prefix.length - size.length, size.length);
+            } else if (responseLength > 0 && sent + count > responseLength) {
+                throw new IOException("More bytes written than the response length.");
+            }
+
+            connection.send(prefix, buf, count);
+            sent += count;
+            count = 0;
+        }
+
+        /**
+         * Sends the last part of a streamed response and completes it.
+         */
+        private void finish() {
+            try {
+                if (count > 0) {
+                    send();
+                }
+                if (responseLength > 0 && sent != responseLength) {
+                    close = true;
+                }
+                connection.respond(chunked ? LAST_CHUNK : NO_BODY, NO_BODY, 0, close);
+            } catch (IOException ex) {
+                connection.respond(NO_BODY, NO_BODY, 0, true);
+            }
+        }
+
+        @Override
+        public void close() {
+            complete();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.web.http.Http;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The NioServerEngine class is a non-blocking HTTP/1.1 server built on a single selector thread.
+ * The selector thread accepts connections, reads and parses requests into pooled direct buffers and writes
+ * the responses; the handler runs on the configured executor, one request per connection at a time.
+ * Connections are kept alive and pipelined requests are answered in order.
+ *
+ * <p>
+ * Request bodies must have a Content-Length, the chunked transfer coding is answered with HTTP 411,
+ * and a body over the configured limit is answered with HTTP 413 before it is read.
+ * A body is buffered as it arrives, so an announced Content-Length reserves no memory until its bytes are received.
+ * </p>
+ *
+ * @see ServerEngine
+ * @see NioConnection
+ * @see NioHttpExchange
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public final class NioServerEngine implements ServerEngine {
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 1024;
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+    private static final long SELECT_TIMEOUT = 1000;
+
+    private final ServerOptions options;
+    private final HttpHandler handler;
+    private final ExecutorService executor;
+    private final HttpContext context;
+    private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bodyBytes = new AtomicLong();
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private volatile boolean running;
+    private Thread selectorThread;
+
+    /**
+     * Constructs a new NioServerEngine bound to the configured port.
+     *
+     * @param options the server options.
+     * @param handler the handler of every request.
+     * @param executor the executor that runs the handler.
+     * @throws IOException if the server socket cannot be bound.
+     */
+    public NioServerEngine(ServerOptions options, HttpHandler handler, ExecutorService executor) throws IOException {
+        this.options = options;
+        this.handler = handler;
+        this.executor = executor;
+        this.context = new NioHttpContext(options.context(), handler);
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(new InetSocketAddress(options.port()), options.backlog());
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException | RuntimeException ex) {
+            serverChannel.close();
+            selector.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        selectorThread = Thread.ofPlatform().name("force-nio-selector").start(this::run);
+    }
+
+    @Override
+    public void stop(int delay) {
+        running = false;
+        selector.wakeup();
+        if (selectorThread != null) {
+            try {
+                selectorThread.join(TimeUnit.SECONDS.toMillis(Math.max(delay, 1)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException ex) {
+            return new InetSocketAddress(options.port());
+        }
+    }
+
+    /**
+     * The selector loop.
+     */
+    private void run() {
+        long lastIdleCheck = System.nanoTime();
+        try {
+            while (running) {
+                selector.select(SELECT_TIMEOUT);
+                runTasks();
+
+                var keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    var key = keys.next();
+                    keys.remove();
+                    process(key);
+                }
+
+                long now = System.nanoTime();
+                if (now - lastIdleCheck > TimeUnit.MILLISECONDS.toNanos(SELECT_TIMEOUT)) {
+                    closeIdleConnections(now);
+                    lastIdleCheck = now;
+                }
+            }
+        } catch (IOException ex) {
+            System.err.println("NIO server engine stopped: " + ex.getMessage());
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void process(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        var connection = (NioConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.onRead();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWrite();
+            }
+        } catch (IOException ex) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, options.tcpNoDelay());
+                var key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new NioConnection(this, channel, key));
+            }
+        } catch (IOException ex) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // nothing else to release
+                }
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void closeIdleConnections(long now) {
+        for (var key : selector.keys()) {
+            if (key.attachment() instanceof NioConnection connection && connection.isIdle(now, IDLE_TIMEOUT)) {
+                connection.close();
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (var key : selector.keys()) {
+            if (key.attachment() instanceof NioConnection connection) {
+                connection.close();
+            }
+        }
+
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignored) {
+            // shutting down
+        }
+    }
+
+    /**
+     * Runs a task on the selector thread.
+     *
+     * @param task the task.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Hands an exchange to the executor.
+     *
+     * @param exchange the exchange.
+     */
+    void dispatch(NioHttpExchange exchange) {
+        try {
+            executor.execute(() -> handle(exchange));
+        } catch (RejectedExecutionException ex) {
+            reject(exchange, Http.HTTP_503);
+        }
+    }
+
+    /**
+     * Answers an exchange rejected by the engine.
+     *
+     * @param exchange the exchange.
+     */
+    void reject(NioHttpExchange exchange) {
+        reject(exchange, exchange.getErrorCode());
+    }
+
+    private void reject(NioHttpExchange exchange, int statusCode) {
+        try {
+            exchange.sendResponseHeaders(statusCode, -1);
+        } catch (IOException ignored) {
+            // headers are not sent yet
+        }
+        exchange.complete();
+    }
+
+    private void handle(NioHttpExchange exchange) {
+        try {
+            if (exchange.getRequestURI().getRawPath().startsWith(options.context())) {
+                handler.handle(exchange);
+            } else {
+                exchange.sendResponseHeaders(Http.HTTP_404, -1);
+            }
+        } catch (Throwable ex) {
+            System.err.println("Error handling request: " + ex.getMessage());
+        } finally {
+            exchange.complete();
+        }
+    }
+
+    HttpContext getContext() {
+        return context;
+    }
+
+    ByteBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    long getMaxBodySize() {
+        return options.maxBodySize();
+    }
+
+    /**
+     * Accounts for the memory held by request bodies that are still being read.
+     *
+     * @param bytes the number of bytes allocated, negative when released.
+     */
+    void reserveBody(long bytes) {
+        bodyBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Retrieves the number of bytes held by request bodies that are still being read.
+     *
+     * @return the number of bytes.
+     */
+    long getBodyBytes() {
+        return bodyBytes.get();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The ServerEngine interface represents the HTTP server behind the WebServer.
+ * An engine accepts connections, parses requests and hands each one to an HttpHandler as an HttpExchange,
+ * so the InboundHandler and the RequestHandlers are the same whatever engine is used.
+ * The engine is selected with the force.server.engine property.
+ *
+ * <ul>
+ *     <li>jdk: the com.sun.net.httpserver.HttpServer, see JdkServerEngine.</li>
+ *     <li>nio: a selector based HTTP/1.1 server with keep-alive and pipelining, see NioServerEngine.</li>
+ * </ul>
+ *
+ * @see JdkServerEngine
+ * @see NioServerEngine
+ * @see ServerOptions
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public interface ServerEngine {
+    String JDK = "jdk";
+    String NIO = "nio";
+
+    /**
+     * Creates the engine with the specified name.
+     *
+     * @param name the engine name, jdk or nio.
+     * @param options the server options.
+     * @param handler the handler of every request.
+     * @param executor the executor that runs the handler.
+     * @return a new ServerEngine, bound to the configured port.
+     * @throws Exception if the engine cannot be created.
+     */
+    static ServerEngine of(String name, ServerOptions options, HttpHandler handler, ExecutorService executor) throws Exception {
+        return switch (name.trim().toLowerCase()) {
+            case JDK -> new JdkServerEngine(options, handler, executor);
+            case NIO -> new NioServerEngine(options, handler, executor);
+            default -> throw new ForceException("Unsupported server engine: " + name);
+        };
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    void start();
+
+    /**
+     * Stops the engine, waiting at most the specified delay for exchanges in progress.
+     *
+     * @param delay the maximum time to wait, in seconds.
+     */
+    void stop(int delay);
+
+    /**
+     * Retrieves the address the engine is bound to.
+     *
+     * @return the bound address.
+     */
+    InetSocketAddress getAddress();
+}
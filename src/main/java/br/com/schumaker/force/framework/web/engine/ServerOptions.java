@@ -0,0 +1,31 @@
+package br.com.schumaker.force.framework.web.engine;
+
+/**
+ * The ServerOptions record holds the socket and context settings shared by the server engines.
+ *
+ * @param port the port number on which the server will listen.
+ * @param context the context path for the server.
+ * @param backlog the maximum number of pending connections on the server socket.
+ * @param tcpNoDelay whether TCP_NODELAY is enabled on accepted connections.
+ * @param maxBodySize the largest request body, in bytes, accepted by the server.
+ *
+ * @see ServerEngine
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public record ServerOptions(int port, String context, int backlog, boolean tcpNoDelay, long maxBodySize) {
+    public static final long MAX_BODY_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Constructs a new ServerOptions with the default request body limit.
+     *
+     * @param port the port number on which the server will listen.
+     * @param context the context path for the server.
+     * @param backlog the maximum number of pending connections on the server socket.
+     * @param tcpNoDelay whether TCP_NODELAY is enabled on accepted connections.
+     */
+    public ServerOptions(int port, String context, int backlog, boolean tcpNoDelay) {
+        this(port, context, backlog, tcpNoDelay, MAX_BODY_SIZE);
+    }
+}
@@ -1,128 +1,86 @@
 package br.com.schumaker.force.framework.web.handler;
 
-import br.com.schumaker.force.framework.ioc.annotations.controller.PathVariable;
-import br.com.schumaker.force.framework.ioc.annotations.controller.Payload;
-import br.com.schumaker.force.framework.ioc.annotations.validations.Validate;
-import br.com.schumaker.force.framework.exception.ForceException;
-import br.com.schumaker.force.framework.ioc.IoCContainer;
-import br.com.schumaker.force.framework.model.TypeConverter;
-import br.com.schumaker.force.framework.ioc.reflection.validation.ValidationReflection;
+import br.com.schumaker.force.framework.web.http.CachedResponse;
 import br.com.schumaker.force.framework.web.http.Http;
 import br.com.schumaker.force.framework.web.http.HttpRequest;
-import br.com.schumaker.force.framework.web.http.HttpRequestHeader;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
- * The PutHandler class.
- * This class is responsible for processing HTTP_POST, HTTP_PUT requests.
+ * The AbstractRequestHandler class.
+ * This class is responsible for processing HTTP_GET, HTTP_POST, HTTP_PUT, HTTP_PATCH and HTTP_DELETE requests.
+ * The request is resolved to a compiled endpoint, its arguments are resolved and the controller method is invoked.
+ * Responses of a @Cacheable endpoint are served from its cache while they are fresh, and a request whose
+ * If-None-Match matches the cached ETag is answered with HTTP 304.
+ *
+ * @see Endpoint
+ * @see CachedResponse
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.5.0
  */
 public abstract class AbstractRequestHandler implements RequestHandler {
-    protected static final IoCContainer container = IoCContainer.getInstance();
-    protected static final ObjectMapper objectMapper = new ObjectMapper();
-    protected static final ValidationReflection validationReflection = ValidationReflection.getInstance();
 
     /**
      * Processes the request.
      *
-     * @param request         the request to be processed.
-     * @param httpMethod      the HTTP method to be processed.
-     * @param annotationClass the annotation class to be processed.
+     * @param request the request to be processed.
+     * @param route   the matched route, or null if no route matches.
      * @return the response.
      */
-    protected HttpResponse processRequest(HttpRequest request, String httpMethod, Class<? extends Annotation> annotationClass) {
-        var routeAndMethodPath = request.getControllerRouteAndMethodPath();
-        String controllerRoute = routeAndMethodPath.first();
-        String methodPath = routeAndMethodPath.second();
-
-        var controller = container.getController(controllerRoute);
-        if (controller != null) {
-            var mappingAndMethodAndParams = controller.getMethod(methodPath, httpMethod);
-            var mapping = mappingAndMethodAndParams.first();
-            var method = mappingAndMethodAndParams.second();
-            var methodReturnType = method.getReturnType();
-            var parameters = mappingAndMethodAndParams.third();
-            var arguments = new Object[parameters.size()];
-            var pathVariables = controller.extractPathVariables(mapping, methodPath);
-
-            for (short i = 0; i < parameters.size(); i++) {
-                if (parameters.get(i).isAnnotationPresent(PathVariable.class)) {
-                    arguments[i] = convertToType(pathVariables.get(i), parameters.get(i).getType());
-                    continue;
-                }
-
-                if (parameters.get(i).isAnnotationPresent(Payload.class)) {
-                    validateBody(request, parameters.get(i), i, arguments);
-                    continue;
-                }
-
-                if (parameters.get(i).getType().equals(HttpRequestHeader.class)) {
-                    arguments[i] = new HttpRequestHeader(request.getRequestHeaders());
-                }
-            }
-
-            try {
-                Annotation annotationInstance = method.getAnnotation(annotationClass);
-                Method httpCodeMethod = annotationClass.getMethod("httpCode");
-                Method typeMethod = annotationClass.getMethod("type");
-
-                int httpCode = (int) httpCodeMethod.invoke(annotationInstance);
-                String applicationType = (String) typeMethod.invoke(annotationInstance);
+    protected HttpResponse handle(HttpRequest request, RouteMatch<Endpoint> route) {
+        if (route == null) {
+            return notFound(request);
+        }
 
-                Object result = method.invoke(controller.getInstance(), arguments);
-                return new HttpResponse(methodReturnType, result, httpCode, applicationType, request.exchange());
-            } catch (Exception ex) {
-                throw new ForceException("Error invoking method.", ex);
-            }
-        } else {
-            int httpCode = Http.HTTP_404;
-            String response = "Controller not found.";
-            return new HttpResponse(String.class, response, httpCode, Http.APPLICATION_JSON, request.exchange());
+        var endpoint = route.value();
+        if (endpoint.getCache() != null) {
+            return processCacheable(request, route);
         }
+
+        var arguments = endpoint.resolveArguments(request, route);
+        var result = endpoint.invoke(arguments);
+        endpoint.evictCaches();
+        return new HttpResponse(endpoint.getReturnType(), result, endpoint.getHttpCode(), endpoint.getType(), request.exchange());
     }
 
     /**
-     * Validates the request body.
+     * Processes a request of a @Cacheable endpoint, keyed on the request path, query string and vary headers.
      *
-     * @param request    the request to be validated.
-     * @param parameter  the parameter to be validated.
-     * @param index      the index of the argument.
-     * @param arguments  the arguments to be validated.
+     * @param request the request to be processed.
+     * @param route   the matched route.
+     * @return the response.
      */
-    public static void validateBody(HttpRequest request, Parameter parameter, short index, Object[] arguments) {
-        try {
-            if (parameter.isAnnotationPresent(Validate.class)) {
-                var requestBody = request.readRequestBody();
-                var paramType = parameter.getType();
+    private HttpResponse processCacheable(HttpRequest request, RouteMatch<Endpoint> route) {
+        var endpoint = route.value();
+        var cache = endpoint.getCache();
+        var key = endpoint.getResponseKey(request.exchange());
 
-                Object paramObject = objectMapper.readValue(requestBody, paramType);
-                validationReflection.validate(paramObject);
-                arguments[index] = paramObject;
+        var cached = cache.get(key);
+        if (cached == null) {
+            var result = endpoint.invoke(endpoint.resolveArguments(request, route));
+            cached = CachedResponse.of(result);
+            if (cached == null) {
+                return new HttpResponse(endpoint.getReturnType(), result, endpoint.getHttpCode(), endpoint.getType(), request.exchange());
             }
-        } catch (Exception ex) {
-            throw new ForceException("Error reading request body.", ex);
+            cache.put(key, cached);
         }
+
+        var ifNoneMatch = request.exchange().getRequestHeaders().getFirst(Http.IF_NONE_MATCH);
+        var httpCode = cached.matches(ifNoneMatch) ? Http.HTTP_304 : endpoint.getHttpCode();
+        return new HttpResponse(CachedResponse.class, cached, httpCode, endpoint.getType(), request.exchange());
     }
 
     /**
-     * Converts the parameter to the specified type.
+     * Builds the response for a request that does not match any route.
      *
-     * @param param the parameter to be converted.
-     * @param type  the type to convert to.
-     * @return the converted parameter.
+     * @param request the request.
+     * @return the 404 response.
      */
-    public static Object convertToType(Object param, Class<?> type) {
-        var parser = TypeConverter.typeParsers.get(type);
-        if (parser != null) {
-            return parser.apply((String) param);
-        }
-        return param;
+    public static HttpResponse notFound(HttpRequest request) {
+        int httpCode = Http.HTTP_404;
+        String response = "Route not found.";
+        return new HttpResponse(String.class, response, httpCode, Http.APPLICATION_JSON, request.exchange());
     }
 }
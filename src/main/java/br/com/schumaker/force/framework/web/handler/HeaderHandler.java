@@ -2,13 +2,15 @@ package br.com.schumaker.force.framework.web.handler;
 
 import br.com.schumaker.force.framework.web.http.HttpRequest;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
  * The HeaderHandler class.
  * This class is responsible for processing HTTP_HEADER requests.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class HeaderHandler implements RequestHandler {
 
@@ -16,10 +18,11 @@ public final class HeaderHandler implements RequestHandler {
      * Process the HTTP_HEADER request.
      *
      * @param request the HTTP request.
+     * @param route the matched route, or null.
      * @return the HTTP response.
      */
     @Override
-    public HttpResponse processRequest(HttpRequest request) {
+    public HttpResponse processRequest(HttpRequest request, RouteMatch<Endpoint> route) {
         //TODO: implement
         return null;
     }
@@ -1,26 +1,41 @@
 package br.com.schumaker.force.framework.web.handler;
 
+import br.com.schumaker.force.framework.web.http.HeaderPolicy;
+import br.com.schumaker.force.framework.web.http.Http;
 import br.com.schumaker.force.framework.web.http.HttpRequest;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
  * The OptionsHandler class.
  * This class is responsible for processing HTTP_OPTIONS requests.
+ * CORS preflight requests are answered from the HeaderPolicy without reaching a controller, with an
+ * Access-Control-Max-Age so browsers cache the answer. Other requests go to the @Options method of the route,
+ * if there is one, and are otherwise answered like a preflight.
+ *
+ * @see HeaderPolicy
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.2.0
  */
-public final class OptionsHandler implements RequestHandler {
+public final class OptionsHandler extends AbstractRequestHandler {
+    private final HeaderPolicy headerPolicy = HeaderPolicy.getInstance();
 
     /**
      * Process the HTTP_OPTIONS request.
      *
      * @param request the HTTP request.
+     * @param route the route matched for HTTP_OPTIONS, or null.
      * @return the HTTP response.
      */
     @Override
-    public HttpResponse processRequest(HttpRequest request) {
-        //TODO: implement
-        return null;
+    public HttpResponse processRequest(HttpRequest request, RouteMatch<Endpoint> route) {
+        if (route != null && !HeaderPolicy.isPreflight(request.exchange())) {
+            return handle(request, route);
+        }
+
+        headerPolicy.applyPreflight(request.exchange());
+        return new HttpResponse(String.class, "", Http.HTTP_204, Http.TEXT_PLAIN, request.exchange());
     }
 }
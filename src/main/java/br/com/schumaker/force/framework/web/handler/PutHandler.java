@@ -1,17 +1,16 @@
 package br.com.schumaker.force.framework.web.handler;
 
-import br.com.schumaker.force.framework.ioc.annotations.controller.Put;
 import br.com.schumaker.force.framework.web.http.HttpRequest;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
-
-import static br.com.schumaker.force.framework.web.http.Http.HTTP_PUT;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
  * The PutHandler class.
  * This class is responsible for processing HTTP_PUT requests.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public final class PutHandler extends AbstractRequestHandler {
 
@@ -19,10 +18,11 @@ public final class PutHandler extends AbstractRequestHandler {
      * Process the HTTP_PUT request.
      *
      * @param request the HTTP request.
+     * @param route the route matched for HTTP_PUT, or null.
      * @return the HTTP response.
      */
     @Override
-    public HttpResponse processRequest(HttpRequest request) {
-        return processRequest(request, HTTP_PUT, Put.class);
+    public HttpResponse processRequest(HttpRequest request, RouteMatch<Endpoint> route) {
+        return handle(request, route);
     }
 }
@@ -2,13 +2,16 @@ package br.com.schumaker.force.framework.web.handler;
 
 import br.com.schumaker.force.framework.web.http.HttpRequest;
 import br.com.schumaker.force.framework.web.http.HttpResponse;
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
 
 /**
  * The RequestHandler interface.
  * This interface is used to process the HTTP request and response.
+ * The route is resolved once per request, before the filter chain runs.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 @FunctionalInterface
 public interface RequestHandler {
@@ -17,7 +20,8 @@ public interface RequestHandler {
      * Process the HTTP request.
      *
      * @param request the HTTP request to be processed.
+     * @param route the route matched for the request verb and path, or null if none matches.
      * @return the HTTP response.
      */
-    HttpResponse processRequest(HttpRequest request);
+    HttpResponse processRequest(HttpRequest request, RouteMatch<Endpoint> route);
 }
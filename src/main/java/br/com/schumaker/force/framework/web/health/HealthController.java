@@ -1,16 +1,21 @@
 package br.com.schumaker.force.framework.web.health;
 
+import br.com.schumaker.force.framework.cache.CacheStats;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
 import br.com.schumaker.force.framework.ioc.annotations.controller.Get;
+import br.com.schumaker.force.framework.jdbc.pool.PoolStats;
+import br.com.schumaker.force.framework.run.BootReport;
 import br.com.schumaker.force.framework.web.view.ResponseView;
 
+import java.util.List;
+
 /**
  * Controller class to provide health information about the application.
  *
  * @see HealthService
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 @Controller("/health")
 public class HealthController {
@@ -40,4 +45,44 @@ public class HealthController {
     public ResponseView<HealthInfoDTO> healthInfo() {
         return ResponseView.ok().body(healthService.getHealthInfo()).build();
     }
+
+    /**
+     * Returns the statistics of the response caches.
+     *
+     * @return a list of CacheStats objects, one per cache.
+     */
+    @Get("/cache")
+    public ResponseView<List<CacheStats>> cache() {
+        return ResponseView.ok().body(healthService.getCacheStats()).build();
+    }
+
+    /**
+     * Returns the statistics of the connection pool.
+     *
+     * @return a PoolStats object with the active, idle and waiting gauges.
+     */
+    @Get("/db")
+    public ResponseView<PoolStats> db() {
+        return ResponseView.ok().body(healthService.getDbStats()).build();
+    }
+
+    /**
+     * Returns the statistics of the read replica pools.
+     *
+     * @return a list of PoolStats objects, one per replica.
+     */
+    @Get("/db/replicas")
+    public ResponseView<List<PoolStats>> dbReplicas() {
+        return ResponseView.ok().body(healthService.getDbReplicaStats()).build();
+    }
+
+    /**
+     * Returns the report of the startup.
+     *
+     * @return a BootReport object with the phases and the managed classes, slowest first.
+     */
+    @Get("/boot")
+    public ResponseView<BootReport> boot() {
+        return ResponseView.ok().body(healthService.getBootReport()).build();
+    }
 }
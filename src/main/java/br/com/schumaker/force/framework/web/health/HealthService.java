@@ -1,10 +1,18 @@
 package br.com.schumaker.force.framework.web.health;
 
+import br.com.schumaker.force.framework.cache.CacheRegistry;
+import br.com.schumaker.force.framework.cache.CacheStats;
 import br.com.schumaker.force.framework.hardware.Machine;
 import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.jdbc.pool.ConnectionPool;
+import br.com.schumaker.force.framework.jdbc.pool.PoolRouter;
+import br.com.schumaker.force.framework.jdbc.pool.PoolStats;
+import br.com.schumaker.force.framework.run.BootProfiler;
+import br.com.schumaker.force.framework.run.BootReport;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 
 /**
  * Service class to provide health information about the application.
@@ -12,7 +20,7 @@ import java.math.RoundingMode;
  * @see HealthController
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.4.0
  */
 @Service
 public class HealthService {
@@ -47,6 +55,42 @@ public class HealthService {
         );
     }
 
+    /**
+     * Returns the hit, miss and eviction counters of the response caches.
+     *
+     * @return the statistics of every cache.
+     */
+    public List<CacheStats> getCacheStats() {
+        return CacheRegistry.getInstance().getStats();
+    }
+
+    /**
+     * Returns the gauges and counters of the connection pool.
+     *
+     * @return the statistics of the connection pool.
+     */
+    public PoolStats getDbStats() {
+        return ConnectionPool.getInstance().getStats();
+    }
+
+    /**
+     * Returns the gauges and counters of the read replica pools.
+     *
+     * @return the statistics of every replica pool, empty if there are no replicas.
+     */
+    public List<PoolStats> getDbReplicaStats() {
+        return PoolRouter.getInstance().getReplicas().stream().map(ConnectionPool::getStats).toList();
+    }
+
+    /**
+     * Returns the time, allocations and classes loaded of the startup, per phase and per managed class.
+     *
+     * @return the boot report.
+     */
+    public BootReport getBootReport() {
+        return BootProfiler.getInstance().getReport();
+    }
+
     /**
      * Converts bytes to gigabytes.
      *
@@ -0,0 +1,101 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.view.ResponseView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * This class represents a serialized response kept by the response cache of a @Cacheable endpoint.
+ * The body is serialized once, when the entry is created, and its ETag is derived from the body bytes.
+ * A strong ETag must differ for each content coding, so a compressed response carries the ETag with the coding
+ * as a suffix, e.g. "5d41...-gzip", and If-None-Match accepts the ETag of any coding.
+ *
+ * @see HttpResponse
+ *
+ * @author Hudson Schumaker
+ * @since 1.0.0
+ */
+public record CachedResponse(Map<String, String> headers, byte[] body, String etag) {
+    private static final ObjectWriter objectWriter = new ObjectMapper().writer();
+
+    /**
+     * Serializes a controller result into a CachedResponse.
+     * Only a String or a successful ResponseView can be cached.
+     *
+     * @param result the controller result.
+     * @return a new CachedResponse, or null if the result cannot be cached.
+     */
+    public static CachedResponse of(Object result) {
+        try {
+            if (result instanceof String text) {
+                return of(Map.of(), text.getBytes(StandardCharsets.UTF_8));
+            }
+            if (result instanceof ResponseView<?> view && view.getHttpCode() == Http.HTTP_200) {
+                var body = view.getBody() == null ? new byte[0] : objectWriter.writeValueAsBytes(view.getBody());
+                return of(Map.copyOf(view.getHeaders()), body);
+            }
+            return null;
+        } catch (Exception ex) {
+            throw new ForceException("Error serializing cached response.", ex);
+        }
+    }
+
+    private static CachedResponse of(Map<String, String> headers, byte[] body) throws NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256").digest(body);
+        var etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        return new CachedResponse(headers, body, etag);
+    }
+
+    /**
+     * Checks whether an If-None-Match header matches the ETag of this response, in any content coding.
+     *
+     * @param ifNoneMatch the If-None-Match header value, may be null.
+     * @return true if the client copy is still current.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (var tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || isCodingOf(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a content coding to a strong ETag, a weak ETag is returned as is.
+     *
+     * @param etag the ETag of the uncompressed body, e.g. "5d41".
+     * @param coding the content coding, e.g. gzip.
+     * @return the ETag of the body in that coding, e.g. "5d41-gzip".
+     */
+    public static String withCoding(String etag, String coding) {
+        if (!etag.startsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding + "\"";
+    }
+
+    private boolean isCodingOf(String tag) {
+        var prefix = etag.substring(0, etag.length() - 1) + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            return false;
+        }
+        var coding = tag.substring(prefix.length(), tag.length() - 1);
+        return !coding.isEmpty() && coding.indexOf('"') < 0;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.schumaker.force.framework.web.http;
+
+/**
+ * The FilterChain interface.
+ * It is the rest of the filter chain as seen by an HttpFilter, the last link is the request handler.
+ *
+ * @see HttpFilter
+ * @see FilterChainImpl
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public interface FilterChain {
+
+    /**
+     * Passes the request to the next filter, or to the request handler after the last filter.
+     *
+     * @param request the HttpRequest
+     * @return the response
+     */
+    HttpResponse next(HttpRequest request);
+}
@@ -0,0 +1,45 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The FilterChainImpl class runs the filters of one request in order and then the request handler.
+ * It is created per request, over the filter list built at startup.
+ *
+ * @see FilterChain
+ * @see HttpFilter
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class FilterChainImpl implements FilterChain {
+    private final List<HttpFilter> filters;
+    private final RouteMatch<Endpoint> route;
+    private final Function<HttpRequest, HttpResponse> handler;
+    private int position;
+
+    /**
+     * Constructs a new FilterChainImpl.
+     *
+     * @param filters the filters, in the order they are called.
+     * @param route the matched route, or null if no route matches the request.
+     * @param handler the request handler, called after the last filter.
+     */
+    public FilterChainImpl(List<HttpFilter> filters, RouteMatch<Endpoint> route, Function<HttpRequest, HttpResponse> handler) {
+        this.filters = filters;
+        this.route = route;
+        this.handler = handler;
+    }
+
+    @Override
+    public HttpResponse next(HttpRequest request) {
+        if (position < filters.size()) {
+            return filters.get(position++).doFilter(request, route, this);
+        }
+        return handler.apply(request);
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.ioc.Environment;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The HeaderPolicy class holds the CORS policy and the default response headers.
+ * The force.server.cors.* and force.server.header.* properties are read once, at startup, into two prebuilt
+ * header blocks: one for every response and one for preflight requests.
+ * A header already set on the response, e.g. by the controller, is never replaced.
+ *
+ * <p>
+ * With force.server.cors.origins=* any origin is allowed. With a list of origins, the request Origin is echoed
+ * when it is in the list and the responses vary by Origin.
+ * </p>
+ *
+ * @see HttpExchange
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class HeaderPolicy {
+    public static final String ORIGIN = "Origin";
+    public static final String ALLOW_ORIGIN = "Access-Control-Allow-Origin";
+    public static final String ALLOW_METHODS = "Access-Control-Allow-Methods";
+    public static final String ALLOW_HEADERS = "Access-Control-Allow-Headers";
+    public static final String MAX_AGE = "Access-Control-Max-Age";
+    public static final String REQUEST_METHOD = "Access-Control-Request-Method";
+    private static final String ANY_ORIGIN = "*";
+    private static final HeaderPolicy INSTANCE = of(Environment.getInstance());
+
+    private final Set<String> origins;
+    private final boolean anyOrigin;
+    private final Map<String, String> responseHeaders;
+    private final Map<String, String> preflightHeaders;
+
+    private HeaderPolicy(Set<String> origins, Map<String, String> responseHeaders, Map<String, String> preflightHeaders) {
+        this.origins = origins;
+        this.anyOrigin = origins.contains(ANY_ORIGIN);
+        this.responseHeaders = responseHeaders;
+        this.preflightHeaders = preflightHeaders;
+    }
+
+    public static HeaderPolicy getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Builds the policy from the environment properties.
+     *
+     * @param environment the environment.
+     * @return a new HeaderPolicy.
+     */
+    static HeaderPolicy of(Environment environment) {
+        return of(environment.getServerCorsOrigins(), environment.getServerCorsMethods(), environment.getServerCorsHeaders(),
+                environment.getServerCorsMaxAge(), environment.getServerHeaders());
+    }
+
+    /**
+     * Builds a policy.
+     *
+     * @param origins the comma separated allowed origins, "*" for any.
+     * @param methods the allowed methods.
+     * @param headers the allowed request headers.
+     * @param maxAge how long, in seconds, a preflight response may be cached.
+     * @param defaults the headers added to every response.
+     * @return a new HeaderPolicy.
+     */
+    static HeaderPolicy of(String origins, String methods, String headers, int maxAge, Map<String, String> defaults) {
+        var allowed = Arrays.stream(origins.split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+
+        Map<String, String> response = new LinkedHashMap<>(defaults);
+        if (allowed.contains(ANY_ORIGIN)) {
+            response.put(ALLOW_ORIGIN, ANY_ORIGIN);
+        } else if (!allowed.isEmpty()) {
+            response.put("Vary", ORIGIN);
+        }
+
+        Map<String, String> preflight = new LinkedHashMap<>(response);
+        preflight.put(ALLOW_METHODS, methods);
+        preflight.put(ALLOW_HEADERS, headers);
+        preflight.put(MAX_AGE, String.valueOf(maxAge));
+
+        return new HeaderPolicy(allowed, Map.copyOf(response), Map.copyOf(preflight));
+    }
+
+    /**
+     * Adds the default and CORS headers to a response.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     */
+    public void apply(HttpExchange exchange) {
+        apply(exchange, responseHeaders);
+    }
+
+    /**
+     * Adds the preflight headers, the allowed methods and headers and their max age, to a response.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     */
+    public void applyPreflight(HttpExchange exchange) {
+        apply(exchange, preflightHeaders);
+    }
+
+    /**
+     * Checks whether a request is a CORS preflight request.
+     *
+     * @param exchange the HttpExchange object containing the request and response.
+     * @return true if the request is an OPTIONS with Origin and Access-Control-Request-Method headers.
+     */
+    public static boolean isPreflight(HttpExchange exchange) {
+        var headers = exchange.getRequestHeaders();
+        return Http.HTTP_OPTIONS.equalsIgnoreCase(exchange.getRequestMethod())
+                && headers.containsKey(ORIGIN) && headers.containsKey(REQUEST_METHOD);
+    }
+
+    private void apply(HttpExchange exchange, Map<String, String> block) {
+        var target = exchange.getResponseHeaders();
+        block.forEach((name, value) -> putIfAbsent(target, name, value));
+
+        if (!anyOrigin) {
+            var origin = exchange.getRequestHeaders().getFirst(ORIGIN);
+            if (origin != null && origins.contains(origin)) {
+                putIfAbsent(target, ALLOW_ORIGIN, origin);
+            }
+        }
+    }
+
+    private static void putIfAbsent(Headers target, String name, String value) {
+        if (!target.containsKey(name)) {
+            // a mutable list, the response headers may still be added to
+            List<String> values = new ArrayList<>(1);
+            values.add(value);
+            target.put(name, values);
+        }
+    }
+}
@@ -5,7 +5,7 @@ package br.com.schumaker.force.framework.web.http;
  * It also provides pairs of HTTP status codes and their corresponding messages.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.2.0
  */
 public final class Http {
     // HTTP Methods
@@ -30,6 +30,11 @@ public final class Http {
     public static final String TEXT_CSV = "text/csv";
     public static final String TEXT_YAML = "text/yaml";
 
+    // Headers
+    public static final String CONTENT_LENGTH = "Content-Length";
+    public static final String ETAG = "ETag";
+    public static final String IF_NONE_MATCH = "If-None-Match";
+
     // HTTP Status Codes
     // 1xx Informational
     public static final int HTTP_100 = 100;
@@ -74,6 +79,7 @@ public final class Http {
     public static final int HTTP_417 = 417;
     public static final int HTTP_418 = 418;
     public static final int HTTP_422 = 422;
+    public static final int HTTP_431 = 431;
 
     // 5xx Server Error
     public static final int HTTP_500 = 500;
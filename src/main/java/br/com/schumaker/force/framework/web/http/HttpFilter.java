@@ -1,13 +1,44 @@
 package br.com.schumaker.force.framework.web.http;
 
+import br.com.schumaker.force.framework.web.route.Endpoint;
+import br.com.schumaker.force.framework.web.route.RouteMatch;
+
 /**
  * The HttpFilter interface.
- * It is responsible for filtering the request.
+ * It is responsible for filtering the request before it reaches the controller.
+ * Filters are classes annotated with @Filter, they are instantiated at startup and called in ascending order.
+ * The route is resolved once, before the chain runs, and handed to every filter.
+ *
+ * <p>
+ * A filter can short-circuit the chain by returning its own response, or call the chain
+ * and post-process the response it returns.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Filter(order = 10)
+ * public class TimingFilter implements HttpFilter {
+ *
+ *     @Override
+ *     public HttpResponse doFilter(HttpRequest request, RouteMatch<Endpoint> route, FilterChain chain) {
+ *         long start = System.nanoTime();
+ *         var response = chain.next(request);
+ *         request.exchange().getResponseHeaders().add("X-Elapsed", String.valueOf(System.nanoTime() - start));
+ *         return response;
+ *     }
+ * }
+ * }
+ * </pre>
  *
  * @see HttpRequest
+ * @see FilterChain
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface HttpFilter {
 
@@ -15,6 +46,9 @@ public interface HttpFilter {
      * Do the filter.
      *
      * @param request the HttpRequest
+     * @param route the matched route, or null if no route matches the request
+     * @param chain the rest of the chain, ending with the request handler
+     * @return the response
      */
-    void doFilter(HttpRequest request);
+    HttpResponse doFilter(HttpRequest request, RouteMatch<Endpoint> route, FilterChain chain);
 }
@@ -1,11 +1,11 @@
 package br.com.schumaker.force.framework.web.http;
 
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.Environment;
 import br.com.schumaker.force.framework.model.Pair;
 import com.sun.net.httpserver.HttpExchange;
 
-import java.io.BufferedReader;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -15,6 +15,8 @@ import java.util.Map;
 /**
  * This class represents a Http request.
  * It is a record class.
+ * The request body is read through a LimitedInputStream, a body larger than force.server.max.body.size
+ * is rejected with 413 Payload Too Large.
  *
  * @see HttpResponse
  *
@@ -22,6 +24,7 @@ import java.util.Map;
  * @since 1.0.0
  */
 public record HttpRequest (String fullUrl, HttpExchange exchange) {
+    private static final long MAX_BODY_SIZE = Environment.getInstance().getServerMaxBodySize();
 
     /**
      * Get the controller route and method path.
@@ -36,6 +39,20 @@ public record HttpRequest (String fullUrl, HttpExchange exchange) {
         return new Pair<>(controllerRoute, methodPath);
     }
 
+    /**
+     * Get the request path relative to the server context, without the query string.
+     *
+     * @return the request path.
+     */
+    public String getPath() {
+        var path = exchange.getRequestURI().getRawPath();
+        var context = exchange.getHttpContext().getPath();
+        if (context.length() > 1 && path.startsWith(context)) {
+            return path.substring(context.length());
+        }
+        return path;
+    }
+
     /**
      * Get the request headers.
      *
@@ -47,24 +64,55 @@ public record HttpRequest (String fullUrl, HttpExchange exchange) {
         return headers;
     }
 
+    /**
+     * Get the value of the Content-Length request header.
+     *
+     * @return the declared body length, or -1 if the header is absent or invalid.
+     */
+    public long getContentLength() {
+        var value = exchange.getRequestHeaders().getFirst(Http.CONTENT_LENGTH);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Get the request body as a stream, limited to force.server.max.body.size bytes.
+     * A request whose Content-Length is over the limit is rejected before anything is read.
+     *
+     * @return the request body stream.
+     * @throws ForceException with status 413 if the declared body length is over the limit.
+     */
+    public LimitedInputStream getBody() {
+        if (getContentLength() > MAX_BODY_SIZE) {
+            throw new ForceException("Request body too large.", Http.HTTP_413);
+        }
+        return new LimitedInputStream(exchange.getRequestBody(), MAX_BODY_SIZE);
+    }
+
     /**
      * Reads the request body from the HttpExchange object.
+     * The buffer is presized from the Content-Length header when there is one.
      *
      * @return the request body as a string.
      * @throws Exception if an error occurs during request body reading.
      */
     public String readRequestBody() throws Exception {
-        StringBuilder requestBody = new StringBuilder();
-        try (InputStream is = exchange.getRequestBody();
-             InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-             BufferedReader br = new BufferedReader(isr)) {
-
-            String line;
-            while ((line = br.readLine()) != null) {
-                requestBody.append(line);
+        try (InputStream is = getBody()) {
+            long length = getContentLength();
+            if (length < 0) {
+                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
             }
+
+            var bytes = new byte[(int) length];
+            int read = is.readNBytes(bytes, 0, bytes.length);
+            return new String(bytes, 0, read, StandardCharsets.UTF_8);
         }
-        return requestBody.toString();
     }
 
     /**
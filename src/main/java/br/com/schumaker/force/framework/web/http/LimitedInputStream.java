@@ -0,0 +1,84 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The LimitedInputStream class counts the bytes read from a request body and fails once a limit is passed.
+ * The limit is checked as the body is read, so a client cannot exceed it by omitting or understating
+ * the Content-Length header.
+ *
+ * @see HttpRequest
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class LimitedInputStream extends FilterInputStream {
+    private final long limit;
+    private long count;
+    private boolean exceeded;
+
+    /**
+     * Constructs a new LimitedInputStream.
+     *
+     * @param in the stream to read from.
+     * @param limit the largest number of bytes that may be read.
+     */
+    public LimitedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int length = super.read(b, off, len);
+        if (length > 0) {
+            count(length);
+        }
+        return length;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long length = super.skip(n);
+        if (length > 0) {
+            count(length);
+        }
+        return length;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Checks whether more bytes than the limit were read.
+     * A parser may wrap the exception thrown by this stream, this flag tells the caller the real cause.
+     *
+     * @return true if the limit was passed.
+     */
+    public boolean isExceeded() {
+        return exceeded;
+    }
+
+    private void count(long length) {
+        count += length;
+        if (count > limit) {
+            exceeded = true;
+            throw new ForceException("Request body too large.", Http.HTTP_413);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.web.http.HttpRequest;
+
+import java.util.Map;
+
+/**
+ * The ArgumentResolver interface resolves the value of one controller method parameter.
+ * Resolvers are built once per parameter when the endpoint is compiled, so the request path only calls them.
+ *
+ * @see Endpoint
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ArgumentResolver {
+
+    /**
+     * Resolves the argument for the current request.
+     *
+     * @param request the HTTP request.
+     * @param route the matched route, holding the path variable values.
+     * @param queryParams the parsed query parameters, or null if the endpoint does not declare any.
+     * @return the argument value.
+     */
+    Object resolve(HttpRequest request, RouteMatch<Endpoint> route, Map<String, String> queryParams);
+}
@@ -0,0 +1,378 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.cache.BoundedCache;
+import br.com.schumaker.force.framework.cache.CacheRegistry;
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.controller.CacheEvict;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Cacheable;
+import br.com.schumaker.force.framework.ioc.annotations.controller.PathVariable;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Payload;
+import br.com.schumaker.force.framework.ioc.annotations.controller.QueryParam;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Secured;
+import br.com.schumaker.force.framework.ioc.annotations.validations.Validate;
+import br.com.schumaker.force.framework.ioc.managed.ManagedController;
+import br.com.schumaker.force.framework.ioc.reflection.ControllerReflection;
+import br.com.schumaker.force.framework.ioc.reflection.validation.ValidationReflection;
+import br.com.schumaker.force.framework.model.TypeConverter;
+import br.com.schumaker.force.framework.security.JwtManager;
+import br.com.schumaker.force.framework.web.http.CachedResponse;
+import br.com.schumaker.force.framework.web.http.Http;
+import br.com.schumaker.force.framework.web.http.HttpRequest;
+import br.com.schumaker.force.framework.web.http.HttpRequestHeader;
+import br.com.schumaker.force.framework.web.http.LimitedInputStream;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The Endpoint class is a controller method compiled once, when the controller is registered.
+ * It holds everything the request path needs: the HTTP status code, the content type, one argument resolver
+ * per parameter and a method handle spread over the argument array.
+ * No annotation is read and no reflective call is made while serving a request.
+ * A @Cacheable method gets its response cache here, and a @CacheEvict method the caches it clears. A cacheable
+ * method that reads the request headers must list the ones its response depends on in vary, and a @Secured one
+ * must vary on Authorization, so a caller is never served the response of another.
+ * A @Payload is bound by Jackson straight from the request body stream, an InputStream payload receives the
+ * stream itself.
+ *
+ * @see RouteTrie
+ * @see ArgumentResolver
+ * @see ManagedController
+ * @see CacheRegistry
+ *
+ * @author Hudson Schumaker
+ * @version 1.3.0
+ */
+public final class Endpoint {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ValidationReflection validationReflection = ValidationReflection.getInstance();
+    private static final TypeReference<Map<String, Object>> PATCH_MESSAGE = new TypeReference<>() {};
+    private static final ArgumentResolver NONE = (request, route, queryParams) -> null;
+
+    private final ManagedController controller;
+    private final String mapping;
+    private final Method method;
+    private final int httpCode;
+    private final String type;
+    private final Secured secured;
+    private final ArgumentResolver[] resolvers;
+    private final boolean queryParams;
+    private final MethodHandle invoker;
+    private final BoundedCache<String, CachedResponse> cache;
+    private final String[] vary;
+    private final String[] evicts;
+
+    private Endpoint(ManagedController controller, String mapping, Method method, int httpCode, String type,
+                     ArgumentResolver[] resolvers, boolean queryParams, MethodHandle invoker,
+                     BoundedCache<String, CachedResponse> cache, String[] vary, String[] evicts) {
+        this.controller = controller;
+        this.mapping = mapping;
+        this.method = method;
+        this.httpCode = httpCode;
+        this.type = type;
+        this.secured = method.getAnnotation(Secured.class);
+        this.resolvers = resolvers;
+        this.queryParams = queryParams;
+        this.invoker = invoker;
+        this.cache = cache;
+        this.vary = vary;
+        this.evicts = evicts;
+    }
+
+    /**
+     * Compiles a controller method into an Endpoint.
+     *
+     * @param controller the managed controller that owns the method.
+     * @param verb the HTTP verb.
+     * @param pattern the full route pattern, controller route followed by the method mapping.
+     * @param mapping the method mapping, as declared in the HTTP verb annotation.
+     * @param method the controller method.
+     * @return a new Endpoint instance.
+     * @throws ForceException if the method cannot be compiled, or is a @Cacheable method whose response may
+     * depend on request headers it does not vary on.
+     */
+    public static Endpoint builder(ManagedController controller, String verb, String pattern, String mapping, Method method) {
+        var annotation = ControllerReflection.getMappingAnnotation(method, verb);
+        if (annotation == null) {
+            throw new ForceException("Method " + method.getName() + " is not mapped to " + verb);
+        }
+
+        var httpCode = (int) ControllerReflection.getAnnotationValue(annotation, "httpCode");
+        var type = (String) ControllerReflection.getAnnotationValue(annotation, "type");
+
+        var names = RouteTrie.variableNames(pattern);
+        var parameters = method.getParameters();
+        var resolvers = new ArgumentResolver[parameters.length];
+        boolean queryParams = false;
+        int pathVariableIndex = 0;
+
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            if (parameter.isAnnotationPresent(PathVariable.class)) {
+                var name = parameter.getAnnotation(PathVariable.class).value();
+                resolvers[i] = pathVariable(indexOf(names, name, pathVariableIndex++), parameter.getType());
+            } else if (parameter.isAnnotationPresent(QueryParam.class)) {
+                resolvers[i] = queryParam(parameter.getAnnotation(QueryParam.class), parameter.getType());
+                queryParams = true;
+            } else if (parameter.isAnnotationPresent(Payload.class)) {
+                resolvers[i] = payload(parameter);
+            } else if (parameter.getType().equals(HttpRequestHeader.class)) {
+                resolvers[i] = (request, route, query) -> new HttpRequestHeader(request.getRequestHeaders());
+            } else {
+                resolvers[i] = NONE;
+            }
+        }
+
+        BoundedCache<String, CachedResponse> cache = null;
+        String[] vary = null;
+        var cacheable = method.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            vary = cacheable.vary();
+            checkVary(method, vary);
+            cache = CacheRegistry.getInstance().getOrCreate(controller.getFqn(), cacheKey(mapping),
+                    verb + " " + pattern.replaceAll("/+", "/"), cacheable.maxEntries(), TimeUnit.SECONDS.toMillis(cacheable.ttl()));
+        }
+
+        String[] evicts = null;
+        var cacheEvict = method.getAnnotation(CacheEvict.class);
+        if (cacheEvict != null) {
+            evicts = Arrays.stream(cacheEvict.value()).map(Endpoint::cacheKey).toArray(String[]::new);
+        }
+
+        return new Endpoint(controller, mapping, method, httpCode, type, resolvers, queryParams, invoker(method), cache, vary, evicts);
+    }
+
+    /**
+     * Resolves the controller method arguments for the specified request.
+     *
+     * @param request the HTTP request.
+     * @param route the matched route.
+     * @return the arguments, in declaration order.
+     */
+    public Object[] resolveArguments(HttpRequest request, RouteMatch<Endpoint> route) {
+        var query = queryParams ? request.getQueryParams() : null;
+        var arguments = new Object[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) {
+            arguments[i] = resolvers[i].resolve(request, route, query);
+        }
+        return arguments;
+    }
+
+    /**
+     * Invokes the controller method with the specified arguments.
+     *
+     * @param arguments the arguments, as returned by resolveArguments.
+     * @return the method result, or null for void methods.
+     * @throws ForceException wrapping any exception thrown by the controller method.
+     */
+    public Object invoke(Object[] arguments) {
+        try {
+            return invoker.invokeExact(controller.getInstance(), arguments);
+        } catch (Throwable ex) {
+            throw new ForceException("Error invoking method.", ex);
+        }
+    }
+
+    /**
+     * Builds the key of a response in the cache of a @Cacheable method: the request path and query string,
+     * followed by the values of the vary headers.
+     *
+     * @param exchange the HTTP exchange.
+     * @return the cache key.
+     */
+    public String getResponseKey(HttpExchange exchange) {
+        var uri = exchange.getRequestURI();
+        var key = new StringBuilder(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            key.append('?').append(uri.getRawQuery());
+        }
+        for (var header : vary) {
+            key.append('\n').append(header).append(": ").append(exchange.getRequestHeaders().get(header));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Clears the caches declared by @CacheEvict, if any.
+     */
+    public void evictCaches() {
+        if (evicts != null) {
+            CacheRegistry.getInstance().evict(controller.getFqn(), evicts);
+        }
+    }
+
+    /**
+     * Rejects a @Cacheable method whose response may depend on request headers that are not part of the key.
+     *
+     * @param method the controller method.
+     * @param vary the headers the cached responses vary on.
+     * @throws ForceException if the method reads the request headers without vary, or is @Secured without
+     * varying on Authorization.
+     */
+    private static void checkVary(Method method, String[] vary) {
+        var readsHeaders = Arrays.asList(method.getParameterTypes()).contains(HttpRequestHeader.class);
+        if (readsHeaders && vary.length == 0) {
+            throw new ForceException("The @Cacheable method " + method.getName()
+                    + " reads the request headers, list the ones its response depends on in vary.");
+        }
+        if (method.isAnnotationPresent(Secured.class)
+                && Arrays.stream(vary).noneMatch(JwtManager.JWT_HEADER::equalsIgnoreCase)) {
+            throw new ForceException("The @Cacheable method " + method.getName() + " is @Secured, add "
+                    + JwtManager.JWT_HEADER + " to vary so each caller gets its own response.");
+        }
+    }
+
+    /**
+     * Builds the key of a method cache within its controller group, the mapping without surrounding slashes.
+     *
+     * @param mapping the method mapping.
+     * @return the cache key.
+     */
+    private static String cacheKey(String mapping) {
+        return mapping.replaceAll("^/+|/+$", "");
+    }
+
+    /**
+     * Builds a method handle with the shape (Object instance, Object[] arguments) -> Object.
+     *
+     * @param method the controller method.
+     * @return the method handle.
+     */
+    private static MethodHandle invoker(Method method) {
+        try {
+            method.trySetAccessible();
+            var handle = MethodHandles.lookup().unreflect(method);
+            int arity = method.getParameterCount();
+            return handle.asType(MethodType.genericMethodType(arity + 1)).asSpreader(Object[].class, arity);
+        } catch (IllegalAccessException ex) {
+            throw new ForceException("Cannot access method " + method.getName(), ex);
+        }
+    }
+
+    private static int indexOf(String[] names, String name, int ordinal) {
+        if (!name.isBlank()) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return ordinal;
+    }
+
+    private static ArgumentResolver pathVariable(int index, Class<?> type) {
+        var parser = parser(type);
+        return (request, route, query) -> {
+            var values = route.values();
+            return parser.apply(index < values.length ? values[index] : null);
+        };
+    }
+
+    private static ArgumentResolver queryParam(QueryParam queryParam, Class<?> type) {
+        var parser = parser(type);
+        var name = queryParam.value();
+        var defaultValue = queryParam.defaultValue();
+        var required = queryParam.required();
+        return (request, route, query) -> {
+            String value = query.getOrDefault(name, defaultValue);
+            if (required && value.isEmpty()) {
+                throw new ForceException("Missing required query parameter: " + name);
+            }
+            return parser.apply(value);
+        };
+    }
+
+    private static ArgumentResolver payload(Parameter parameter) {
+        var type = parameter.getType();
+        if (type.equals(InputStream.class)) {
+            return (request, route, query) -> request.getBody();
+        }
+
+        if (type.equals(Map.class)) {
+            return (request, route, query) -> {
+                var body = request.getBody();
+                try (body) {
+                    return objectMapper.readValue(body, PATCH_MESSAGE);
+                } catch (Exception ex) {
+                    throw bodyException(body, "Error reading patch message from request body.", ex);
+                }
+            };
+        }
+
+        var validate = parameter.isAnnotationPresent(Validate.class);
+        var reader = objectMapper.readerFor(type);
+        return (request, route, query) -> {
+            var body = request.getBody();
+            try (body) {
+                Object value = reader.readValue(body);
+                if (validate) {
+                    validationReflection.validate(value);
+                }
+                return value;
+            } catch (Exception ex) {
+                throw bodyException(body, "Error reading request body.", ex);
+            }
+        };
+    }
+
+    private static ForceException bodyException(LimitedInputStream body, String message, Exception ex) {
+        // Jackson may wrap the exception of the stream, the 413 must not become a 500
+        if (body.isExceeded()) {
+            return new ForceException("Request body too large.", Http.HTTP_413);
+        }
+        return new ForceException(message, ex);
+    }
+
+    private static Function<String, Object> parser(Class<?> type) {
+        var parser = TypeConverter.typeParsers.get(type);
+        return parser != null ? parser : value -> value;
+    }
+
+    public ManagedController getController() {
+        return controller;
+    }
+
+    public String getMapping() {
+        return mapping;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Class<?> getReturnType() {
+        return method.getReturnType();
+    }
+
+    public int getHttpCode() {
+        return httpCode;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Secured getSecured() {
+        return secured;
+    }
+
+    /**
+     * Retrieves the response cache of a @Cacheable method.
+     *
+     * @return the cache, or null if the method is not cacheable.
+     */
+    public BoundedCache<String, CachedResponse> getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.schumaker.force.framework.web.route;
+
+/**
+ * The RouteMatch record represents the result of a route lookup.
+ * It holds the value bound to the route and the path variables captured from the request path.
+ *
+ * @param value the value bound to the route.
+ * @param names the path variable names, in the order they appear in the route pattern.
+ * @param values the path variable values, in the same order as the names.
+ * @param <V> the type of the value bound to the route.
+ *
+ * @see RouteTrie
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public record RouteMatch<V>(V value, String[] names, String[] values) {
+
+    /**
+     * Retrieves a path variable by name, falling back to its position when the name is blank or unknown.
+     *
+     * @param name the path variable name.
+     * @param ordinal the position of the path variable in the route pattern.
+     * @return the path variable value, or null if not found.
+     */
+    public String getPathVariable(String name, int ordinal) {
+        if (name != null && !name.isBlank()) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return values[i];
+                }
+            }
+        }
+        return ordinal < values.length ? values[ordinal] : null;
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RouteTrie class is a segment trie used to resolve request paths to their handlers.
+ * Routes are inserted once at startup, and each lookup walks the path a single time, segment by segment,
+ * without regular expressions or String.split.
+ * Static segments take precedence over path variables, e.g. "/product/count" wins over "/product/{id}".
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * RouteTrie<String> trie = new RouteTrie<>();
+ * trie.add("GET", "/product/{id}", "getById");
+ *
+ * RouteMatch<String> match = trie.match("GET", "/product/42");
+ * match.value();                   // "getById"
+ * match.getPathVariable("id", 0);  // "42"
+ * }
+ * </pre>
+ *
+ * @param <V> the type of the value bound to each route.
+ *
+ * @see RouteMatch
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public final class RouteTrie<V> {
+    private final Node<V> root = new Node<>();
+    private int maxDepth;
+
+    /**
+     * Adds a route to the trie.
+     *
+     * @param verb the HTTP verb.
+     * @param pattern the route pattern, path variables are written as {name}.
+     * @param value the value bound to the route.
+     * @throws ForceException if the same verb and pattern are already registered.
+     */
+    public void add(String verb, String pattern, V value) {
+        var node = root;
+        var segments = segments(pattern);
+
+        for (var segment : segments) {
+            if (isPathVariable(segment)) {
+                if (node.variable == null) {
+                    node.variable = new Node<>();
+                }
+                node = node.variable;
+            } else {
+                node = node.children.computeIfAbsent(segment, it -> new Node<>());
+            }
+        }
+
+        var previous = node.leaves.putIfAbsent(verb, new Leaf<>(value, variableNames(pattern)));
+        if (previous != null) {
+            throw new ForceException("Duplicate route: " + verb + " " + pattern);
+        }
+        maxDepth = Math.max(maxDepth, segments.size());
+    }
+
+    /**
+     * Resolves the route for the specified verb and path.
+     * The query string, if present, is ignored.
+     *
+     * @param verb the HTTP verb.
+     * @param path the request path.
+     * @return the match, or null if no route matches.
+     */
+    public RouteMatch<V> match(String verb, String path) {
+        return match(root, verb, path, 0, new String[maxDepth], 0);
+    }
+
+    /**
+     * Walks the trie from the specified node, trying static children before the variable child.
+     *
+     * @param node the current node.
+     * @param verb the HTTP verb.
+     * @param path the request path.
+     * @param start the index where the next segment search starts.
+     * @param variables the captured path variable values.
+     * @param count the number of captured path variables.
+     * @return the match, or null if no route matches.
+     */
+    private RouteMatch<V> match(Node<V> node, String verb, String path, int start, String[] variables, int count) {
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+
+        if (start == end || path.charAt(start) == '?') {
+            var leaf = node.leaves.get(verb);
+            return leaf == null ? null : new RouteMatch<>(leaf.value(), leaf.names(), Arrays.copyOf(variables, count));
+        }
+
+        int next = start;
+        while (next < end && path.charAt(next) != '/' && path.charAt(next) != '?') {
+            next++;
+        }
+
+        var segment = path.substring(start, next);
+        var child = node.children.get(segment);
+        if (child != null) {
+            var match = match(child, verb, path, next, variables, count);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        if (node.variable != null && count < variables.length) {
+            variables[count] = segment;
+            return match(node.variable, verb, path, next, variables, count + 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Retrieves the path variable names of a route pattern, in the order they appear.
+     *
+     * @param pattern the route pattern.
+     * @return the path variable names.
+     */
+    static String[] variableNames(String pattern) {
+        return segments(pattern).stream()
+                .filter(RouteTrie::isPathVariable)
+                .map(it -> it.substring(1, it.length() - 1))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Splits a route pattern into its non-empty segments.
+     * Only used when routes are added, never on the request path.
+     *
+     * @param pattern the route pattern.
+     * @return the list of segments.
+     */
+    private static List<String> segments(String pattern) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++) {
+            if (i == pattern.length() || pattern.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(pattern.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isPathVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static final class Node<V> {
+        private final Map<String, Node<V>> children = new HashMap<>();
+        private final Map<String, Leaf<V>> leaves = new HashMap<>(4);
+        private Node<V> variable;
+    }
+
+    private record Leaf<V>(V value, String[] names) {}
+}
@@ -0,0 +1,22 @@
+package br.com.schumaker.force.framework.web.view;
+
+/**
+ * The CountMode enum.
+ * It defines how the total number of elements of a page is computed.
+ *
+ * <ul>
+ *     <li>EXACT runs a SELECT COUNT(*) on the table.</li>
+ *     <li>ESTIMATED reads the row estimate kept by the database statistics, PostgreSQL pg_class.reltuples or
+ *     MySQL information_schema.tables.table_rows, and counts exactly when there is no estimate.</li>
+ *     <li>NONE does not count, the total is reported as -1.</li>
+ * </ul>
+ *
+ * @see Pageable
+ * @see Page
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public enum CountMode {
+    EXACT, ESTIMATED, NONE
+}
@@ -5,11 +5,13 @@ import java.util.List;
 /**
  * The Page interface.
  * It is responsible for controlling the page operations.
+ * The total is -1 when it was not counted, see CountMode. The next cursor reads the following page
+ * by keyset, it is null on the last page.
  *
  * @param <T> the type of the content.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface Page<T> {
     List<T> getContent();
@@ -19,4 +21,8 @@ public interface Page<T> {
     int getTotalPages();
     boolean hasNext();
     boolean hasPrevious();
+
+    default String getNextCursor() {
+        return null;
+    }
 }
@@ -5,13 +5,15 @@ import java.util.List;
 /**
  * The PageImpl class.
  * It is responsible for controlling the page operations.
+ * A page built from a query knows whether a next page exists and its cursor, with or without a total;
+ * a page built from a total alone computes them from the total.
  *
  * @param <T> the type of the content.
  *
  * @see Page
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class PageImpl<T> implements Page<T> {
     private final List<T> content;
@@ -19,6 +21,8 @@ public class PageImpl<T> implements Page<T> {
     private final int pageSize;
     private final long totalElements;
     private final int totalPages;
+    private final boolean hasNext;
+    private final String nextCursor;
 
     public PageImpl(List<T> content, int pageNumber, int pageSize, long totalElements) {
         this.content = content;
@@ -26,6 +30,28 @@ public class PageImpl<T> implements Page<T> {
         this.pageSize = pageSize;
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / pageSize);
+        this.hasNext = pageNumber < totalPages - 1;
+        this.nextCursor = null;
+    }
+
+    /**
+     * Constructs a page read by a query.
+     *
+     * @param content the elements of the page.
+     * @param pageNumber the page number.
+     * @param pageSize the page size.
+     * @param totalElements the total number of elements, -1 if it was not counted.
+     * @param hasNext true if there are elements after this page.
+     * @param nextCursor the cursor of the next page, or null.
+     */
+    public PageImpl(List<T> content, int pageNumber, int pageSize, long totalElements, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+        this.totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / pageSize);
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 
     @Override
@@ -55,11 +81,16 @@ public class PageImpl<T> implements Page<T> {
 
     @Override
     public boolean hasNext() {
-        return pageNumber < totalPages - 1;
+        return hasNext;
     }
 
     @Override
     public boolean hasPrevious() {
         return pageNumber > 0;
     }
+
+    @Override
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
@@ -13,6 +13,7 @@ import br.com.schumaker.force.framework.jdbc.Sort;
  * <pre>
  * {@code
  * Pageable pageable = new PageRequest(0, 10, new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "name"))));
+ * Pageable next = new PageRequest(0, 10, pageable.sort(), page.getNextCursor(), CountMode.NONE);
  * }
  * </pre>
  *
@@ -21,8 +22,20 @@ import br.com.schumaker.force.framework.jdbc.Sort;
  * @see Sort.Order
  * @see Sort.Direction
  * @see Page
+ * @see CountMode
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
-public record PageRequest(int pageNumber, int pageSize, Sort sort) implements Pageable {}
+public record PageRequest(int pageNumber, int pageSize, Sort sort, String cursor, CountMode countMode) implements Pageable {
+
+    public PageRequest {
+        if (countMode == null) {
+            countMode = CountMode.EXACT;
+        }
+    }
+
+    public PageRequest(int pageNumber, int pageSize, Sort sort) {
+        this(pageNumber, pageSize, sort, null, CountMode.EXACT);
+    }
+}
@@ -5,6 +5,9 @@ import br.com.schumaker.force.framework.jdbc.Sort;
 /**
  * The Pageable interface.
  * It is responsible for pagination.
+ * A page is read by offset, pageNumber * pageSize, or, when a cursor is given, after the sort key of the last
+ * element of the previous page (keyset pagination), which does not slow down on deep pages.
+ * The cursor is the opaque token returned by Page.getNextCursor(), it is only valid with the same sort.
  *
  * <p>
  * Example usage:
@@ -13,6 +16,7 @@ import br.com.schumaker.force.framework.jdbc.Sort;
  * <pre>
  * {@code
  * Pageable pageable = new PageRequest(0, 10, new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "name"))));
+ * Pageable next = new PageRequest(0, 10, pageable.sort(), page.getNextCursor(), CountMode.NONE);
  * }
  * </pre>
  *
@@ -21,12 +25,31 @@ import br.com.schumaker.force.framework.jdbc.Sort;
  * @see Sort.Order
  * @see Sort.Direction
  * @see Page
+ * @see CountMode
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface Pageable {
     int pageNumber();
     int pageSize();
     Sort sort();
+
+    /**
+     * Returns the cursor of the page, the elements after it are read instead of skipping pageNumber pages.
+     *
+     * @return the cursor, or null to read by offset.
+     */
+    default String cursor() {
+        return null;
+    }
+
+    /**
+     * Returns how the total number of elements is computed.
+     *
+     * @return the count mode.
+     */
+    default CountMode countMode() {
+        return CountMode.EXACT;
+    }
 }
@@ -0,0 +1,83 @@
+package br.com.schumaker.force.framework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The ComponentIndexProcessor class.
+ * It is responsible for writing the component index, META-INF/force/components.idx, at build time.
+ * The index lists the binary names of the classes annotated with a framework stereotype, one per line, so the
+ * ClassScanner reads it at startup instead of scanning the classpath.
+ * The processor is compiled apart from the framework, so the stereotypes are referenced by name.
+ * It claims every framework annotation, which no other processor handles, so javac does not report them as unclaimed.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public final class ComponentIndexProcessor extends AbstractProcessor {
+    static final String LOCATION = "META-INF/force/components.idx";
+    static final String ANNOTATIONS = "br.com.schumaker.force.framework.ioc.annotations.*";
+    static final List<String> STEREOTYPES = List.of(
+            "br.com.schumaker.force.framework.ioc.annotations.exception.GlobalExceptionHandler",
+            "br.com.schumaker.force.framework.ioc.annotations.bean.Configuration",
+            "br.com.schumaker.force.framework.ioc.annotations.bean.Component",
+            "br.com.schumaker.force.framework.ioc.annotations.db.Repository",
+            "br.com.schumaker.force.framework.ioc.annotations.bean.Service",
+            "br.com.schumaker.force.framework.ioc.annotations.bean.Filter",
+            "br.com.schumaker.force.framework.ioc.annotations.controller.Controller");
+
+    private final Set<String> components = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ANNOTATIONS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotation : annotations) {
+            if (!STEREOTYPES.contains(annotation.getQualifiedName().toString())) {
+                continue;
+            }
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE) {
+                    components.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !components.isEmpty()) {
+            write();
+        }
+        return true;
+    }
+
+    private void write() {
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", LOCATION).openWriter()) {
+            writer.write("# Generated by ComponentIndexProcessor, do not edit.\n");
+            for (var line : components) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + LOCATION + ": " + ex.getMessage());
+        }
+    }
+}
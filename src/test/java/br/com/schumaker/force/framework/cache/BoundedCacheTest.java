@@ -0,0 +1,119 @@
+package br.com.schumaker.force.framework.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The BoundedCacheTest class.
+ * This class is responsible for testing the BoundedCache class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public class BoundedCacheTest {
+
+    @Test
+    void testGetAndPut() {
+        // Arrange
+        var cache = new BoundedCache<String, String>("test", 10, 60_000);
+
+        // Act
+        cache.put("a", "1");
+
+        // Assert
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        var stats = cache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRatio());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        // Arrange
+        var cache = new BoundedCache<String, String>("test", 2, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // Act
+        cache.put("c", "3");
+
+        // Assert
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getStats().evictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testExpiredEntryIsDropped() {
+        // Arrange
+        var now = new AtomicLong();
+        var cache = new BoundedCache<String, String>("test", 10, 1_000, now::get);
+        cache.put("a", "1");
+
+        // Act
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        var fresh = cache.get("a");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        var expired = cache.get("a");
+
+        // Assert
+        assertEquals("1", fresh);
+        assertNull(expired);
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void testInvalidateAndClear() {
+        // Arrange
+        var cache = new BoundedCache<String, String>("test", 10, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        // Act
+        cache.invalidate("a");
+        var size = cache.size();
+        cache.clear();
+
+        // Assert
+        assertEquals(1, size);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLoadRacingAnInvalidationIsNotCached() {
+        // Arrange
+        var cache = new BoundedCache<String, String>("test", 10, 60_000);
+        var stamp = cache.stamp("a");
+        cache.invalidate("a");
+
+        // Act
+        var cached = cache.putIfUnchanged("a", "old", stamp);
+
+        // Assert
+        assertFalse(cached);
+        assertNull(cache.get("a"));
+        assertTrue(cache.putIfUnchanged("a", "new", cache.stamp("a")));
+        assertEquals("new", cache.get("a"));
+    }
+
+    @Test
+    void testInvalidMaxEntries() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>("test", 0, 60_000));
+    }
+}
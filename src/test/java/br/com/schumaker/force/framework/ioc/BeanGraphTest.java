@@ -0,0 +1,153 @@
+package br.com.schumaker.force.framework.ioc;
+
+import br.com.schumaker.force.app.config.Config;
+import br.com.schumaker.force.app.model.UseInjectedBeans;
+import br.com.schumaker.force.app.service.ProductServiceImpl;
+import br.com.schumaker.force.app.view.Product2ProductDTO;
+import br.com.schumaker.force.app.view.ProductController;
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.managed.ManagedService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The BeanGraphTest class.
+ * This class is responsible for testing the BeanGraph class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class BeanGraphTest {
+
+    static class Pool {
+    }
+
+    static class Cache {
+        Cache(Pool pool) {
+        }
+    }
+
+    static class Warmer {
+        Warmer(Cache cache, Pool pool) {
+        }
+    }
+
+    static class Chicken {
+        Chicken(Egg egg) {
+        }
+    }
+
+    static class Egg {
+        Egg(Chicken chicken) {
+        }
+    }
+
+    public interface Brewer {
+    }
+
+    public static class AleBrewer implements Brewer, Cloneable {
+    }
+
+    public static class LagerBrewer implements Brewer {
+    }
+
+    static class Bottler {
+        Bottler(Brewer brewer, Cloneable cloneable) {
+        }
+    }
+
+    @Test
+    void testClassesAreSortedAfterTheirDependencies() {
+        // Arrange
+        var graph = new BeanGraph().add(BeanGraph.Kind.COMPONENT, List.of(Warmer.class, Cache.class, Pool.class));
+
+        // Act
+        var sorted = graph.sort();
+
+        // Assert
+        assertEquals(List.of(Pool.class, Cache.class, Warmer.class), sorted);
+    }
+
+    @Test
+    void testCycleIsRejected() {
+        // Arrange
+        var graph = new BeanGraph().add(BeanGraph.Kind.COMPONENT, List.of(Pool.class, Chicken.class, Egg.class));
+
+        // Act
+        var ex = assertThrows(ForceException.class, () -> graph.instantiate(Runnable::run, (kind, clazz) -> {}));
+
+        // Assert
+        assertEquals("Dependency cycle between managed classes: " + Chicken.class.getName() + " -> "
+                + Egg.class.getName() + " -> " + Chicken.class.getName(), ex.getMessage());
+    }
+
+    @Test
+    void testEachClassIsCreatedOnceAfterItsDependencies() {
+        // Arrange
+        var graph = new BeanGraph().add(BeanGraph.Kind.COMPONENT, List.of(Warmer.class, Cache.class, Pool.class));
+        List<Class<?>> created = Collections.synchronizedList(new ArrayList<>());
+
+        // Act
+        graph.instantiate(ForkJoinPool.commonPool(), (kind, clazz) -> created.add(clazz));
+
+        // Assert
+        assertEquals(List.of(Pool.class, Cache.class, Warmer.class), created);
+    }
+
+    @Test
+    void testDependenciesResolveThroughInterfacesAndBeanMethods() {
+        // Arrange
+        var graph = new BeanGraph()
+                .add(BeanGraph.Kind.CONFIGURATION, List.of(Config.class))
+                .add(BeanGraph.Kind.COMPONENT, List.of(Product2ProductDTO.class, UseInjectedBeans.class))
+                .add(BeanGraph.Kind.SERVICE, List.of(ProductServiceImpl.class))
+                .add(BeanGraph.Kind.CONTROLLER, List.of(ProductController.class));
+
+        // Act
+        var dependencies = graph.dependencies();
+
+        // Assert
+        assertEquals(List.of(Config.class), List.copyOf(dependencies.get(UseInjectedBeans.class)));
+        assertTrue(dependencies.get(ProductController.class).contains(ProductServiceImpl.class));
+        assertTrue(dependencies.get(ProductController.class).contains(Product2ProductDTO.class));
+    }
+
+    @Test
+    void testInterfaceOfTwoServicesIsRejected() {
+        // Arrange
+        var graph = new BeanGraph()
+                .add(BeanGraph.Kind.SERVICE, List.of(AleBrewer.class, LagerBrewer.class))
+                .add(BeanGraph.Kind.COMPONENT, List.of(Bottler.class));
+
+        // Act
+        var ex = assertThrows(ForceException.class, graph::sort);
+
+        // Assert
+        assertEquals("Ambiguous injection of " + Brewer.class.getName() + ", it is implemented by "
+                + AleBrewer.class.getName() + " and " + LagerBrewer.class.getName() + ".", ex.getMessage());
+    }
+
+    @Test
+    void testJdkInterfacesAreNotProvided() {
+        // Arrange
+        var graph = new BeanGraph()
+                .add(BeanGraph.Kind.SERVICE, List.of(AleBrewer.class))
+                .add(BeanGraph.Kind.COMPONENT, List.of(Bottler.class));
+
+        // Act
+        var dependencies = graph.dependencies();
+
+        // Assert
+        assertEquals(Set.of(AleBrewer.class), dependencies.get(Bottler.class));
+        assertEquals(List.of(Brewer.class), ManagedService.getInterfaces(AleBrewer.class));
+    }
+}
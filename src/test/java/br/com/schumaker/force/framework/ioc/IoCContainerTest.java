@@ -0,0 +1,57 @@
+package br.com.schumaker.force.framework.ioc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The IoCContainerTest class.
+ * This class is responsible for testing the IoCContainer class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class IoCContainerTest {
+
+    public interface Fermenter {
+    }
+
+    public static class OpenFermenter implements Fermenter, Cloneable {
+    }
+
+    public static class ClosedFermenter implements Fermenter {
+    }
+
+    @Test
+    void testServiceIsRegisteredUnderItsApplicationInterfaces() {
+        // Arrange
+        var container = IoCContainer.getInstance();
+
+        // Act
+        container.registerService(List.of(OpenFermenter.class));
+
+        // Assert
+        assertNotNull(container.getService(Fermenter.class.getName()));
+        assertNull(container.getService(Cloneable.class.getName()));
+    }
+
+    @Test
+    void testInterfaceOfTwoServicesIsRejected() {
+        // Arrange
+        var container = IoCContainer.getInstance();
+        container.registerService(List.of(OpenFermenter.class));
+
+        // Act
+        var ex = assertThrows(ForceException.class, () -> container.registerService(List.of(ClosedFermenter.class)));
+
+        // Assert
+        assertEquals("Ambiguous injection of " + Fermenter.class.getName() + ", it is implemented by "
+                + OpenFermenter.class.getName() + " and " + ClosedFermenter.class.getName() + ".", ex.getMessage());
+    }
+}
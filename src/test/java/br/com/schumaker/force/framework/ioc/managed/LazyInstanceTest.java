@@ -0,0 +1,133 @@
+package br.com.schumaker.force.framework.ioc.managed;
+
+import br.com.schumaker.force.framework.ioc.annotations.bean.Component;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Lazy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The LazyInstanceTest class.
+ * This class is responsible for testing the LazyInstance class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class LazyInstanceTest {
+    static final AtomicInteger created = new AtomicInteger();
+
+    @Lazy
+    @Component
+    public static class Report {
+        public Report() {
+            created.incrementAndGet();
+        }
+    }
+
+    @Test
+    void testLazyClassIsCreatedOnFirstUse() {
+        // Arrange
+        created.set(0);
+        var component = ManagedComponent.builder(Report.class);
+
+        // Act
+        var createdAtBuild = component.isCreated();
+        var first = component.getInstance();
+        var second = component.getInstance();
+
+        // Assert
+        assertFalse(createdAtBuild);
+        assertTrue(component.isCreated());
+        assertSame(first, second);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testEagerClassIsCreatedAtOnce() {
+        // Arrange
+        var calls = new AtomicInteger();
+
+        // Act
+        var instance = LazyInstance.of(String.class, () -> "beer" + calls.incrementAndGet());
+
+        // Assert
+        assertTrue(instance.isCreated());
+        assertEquals("beer1", instance.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testConcurrentFirstCallsCreateOnce() throws Exception {
+        // Arrange
+        var calls = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var instance = new LazyInstance<>(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        });
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return instance.get();
+                }, executor));
+            }
+            start.countDown();
+        }
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals(1, results.stream().map(CompletableFuture::join).distinct().count());
+    }
+
+    @Test
+    void testWaitingVirtualThreadsDoNotPinTheirCarriers() throws Exception {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var instance = new LazyInstance<>(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        });
+        int waiters = Runtime.getRuntime().availableProcessors() * 2 + 4;
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < waiters; i++) {
+                results.add(CompletableFuture.supplyAsync(instance::get, executor));
+            }
+            // runs only if the waiting virtual threads left a carrier free
+            var releaser = CompletableFuture.runAsync(release::countDown, executor);
+            try {
+                releaser.get(10, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        // Assert
+        assertEquals(1, results.stream().map(CompletableFuture::join).distinct().count());
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.schumaker.force.framework.ioc.reflection;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.IoCContainer;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Inject;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.ioc.annotations.db.Transactional;
+import br.com.schumaker.force.framework.ioc.managed.ManagedBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ClassReflectionTest class.
+ * This class is responsible for testing the ClassReflection class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class ClassReflectionTest {
+
+    static class Keg {
+    }
+
+    static class Tap {
+        final Keg keg;
+
+        Tap(Keg keg) {
+            this.keg = keg;
+        }
+    }
+
+    static class Glass {
+    }
+
+    static class Bar {
+        Bar(Glass glass) {
+        }
+    }
+
+    static class Pub {
+        @Inject
+        Tap tap;
+    }
+
+    public interface Brewery {
+        void brew();
+    }
+
+    @Service
+    public static class BreweryImpl implements Brewery {
+        @Override
+        @Transactional
+        public void brew() {
+        }
+    }
+
+    static class Taproom {
+        final Brewery brewery;
+
+        Taproom(Brewery brewery) {
+            this.brewery = brewery;
+        }
+    }
+
+    static class Cellar {
+        Cellar(BreweryImpl brewery) {
+        }
+    }
+
+    @Test
+    void testConstructorParameterIsTheBeanInstance() {
+        // Arrange
+        var keg = new Keg();
+        IoCContainer.getInstance().registerBean(ManagedBean.builder(Keg.class, keg));
+
+        // Act
+        var tap = (Tap) ClassReflection.getInstance().instantiate(Tap.class);
+
+        // Assert
+        assertSame(keg, tap.keg);
+    }
+
+    @Test
+    void testUnmanagedConstructorParameterIsRejected() {
+        // Act
+        var ex = assertThrows(ForceException.class, () -> ClassReflection.getInstance().instantiate(Bar.class));
+
+        // Assert
+        assertTrue(ex.getMessage().contains(Glass.class.getName()));
+    }
+
+    @Test
+    void testTransactionalServiceIsInjectedOnlyByItsInterfaces() {
+        // Arrange
+        IoCContainer.getInstance().registerService(List.of(BreweryImpl.class));
+
+        // Act
+        var taproom = (Taproom) ClassReflection.getInstance().instantiate(Taproom.class);
+        var ex = assertThrows(ForceException.class, () -> ClassReflection.getInstance().instantiate(Cellar.class));
+
+        // Assert
+        assertTrue(Proxy.isProxyClass(taproom.brewery.getClass()));
+        assertNull(IoCContainer.getInstance().getService(BreweryImpl.class.getName()));
+        assertTrue(ex.getMessage().contains("inject one of them"));
+    }
+
+    @Test
+    void testInjectFieldIsTheComponentInstance() {
+        // Arrange
+        IoCContainer.getInstance().registerBean(ManagedBean.builder(Keg.class, new Keg()));
+        IoCContainer.getInstance().registerComponent(List.of(Tap.class));
+
+        // Act
+        var pub = (Pub) ClassReflection.getInstance().instantiate(Pub.class);
+
+        // Assert
+        assertSame(IoCContainer.getInstance().getComponent(Tap.class.getName()).getInstance(), pub.tap);
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The CursorTest class.
+ * This class is responsible for testing the Cursor class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class CursorTest {
+    private static final List<String> COLUMNS = List.of("price", "brewed_at", "beer_name", "beer_id");
+
+    @Test
+    void testKeyIsDecodedWithItsTypes() {
+        // Arrange
+        var brewedAt = Timestamp.valueOf(LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+        List<Object> key = Arrays.asList(new BigDecimal("4.50"), brewedAt, null, 42L);
+
+        // Act
+        var token = Cursor.encode(COLUMNS, key);
+        var decoded = Cursor.decode(token, COLUMNS);
+
+        // Assert
+        assertEquals(key, decoded);
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testCursorOfOtherSortIsRejected() {
+        // Arrange
+        var token = Cursor.encode(List.of("beer_name", "beer_id"), List.of("Pilsner", 1L));
+
+        // Act
+        var exception = assertThrows(ForceException.class, () -> Cursor.decode(token, List.of("price", "beer_id")));
+
+        // Assert
+        assertEquals(400, exception.getStatusCode());
+    }
+
+    @Test
+    void testCursorOfOtherDirectionIsRejected() {
+        // Arrange
+        var metadata = EntityMetadata.of(EntityMetadataTest.Beer.class, RdbEnum.MYSQL);
+        var ascending = metadata.getKeyset(new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "name"))));
+        var descending = metadata.getKeyset(new Sort(List.of(new Sort.Order(Sort.Direction.DESC, "name"))));
+        var token = Cursor.encode(ascending.key(), List.of("Pilsner", 1L));
+
+        // Act
+        var exception = assertThrows(ForceException.class, () -> Cursor.decode(token, descending.key()));
+
+        // Assert
+        assertEquals(ascending.columns(), descending.columns());
+        assertEquals(400, exception.getStatusCode());
+        assertEquals(List.of("Pilsner", 1L), Cursor.decode(token, ascending.key()));
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        // Arrange
+        var token = "not a cursor!";
+
+        // Act
+        var exception = assertThrows(ForceException.class, () -> Cursor.decode(token, COLUMNS));
+
+        // Assert
+        assertEquals(400, exception.getStatusCode());
+    }
+}
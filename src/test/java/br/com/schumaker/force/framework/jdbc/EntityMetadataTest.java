@@ -0,0 +1,138 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+import br.com.schumaker.force.framework.ioc.annotations.db.Table;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The EntityMetadataTest class.
+ * This class is responsible for testing the EntityMetadata class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public class EntityMetadataTest {
+
+    @Table("beer")
+    static class Beer {
+        private static final String STYLE = "lager";
+
+        @Pk("beer_id")
+        private Long id;
+
+        @Column("beer_name")
+        private String name;
+
+        @Column
+        private double price;
+    }
+
+    private final EntityMetadata<Beer> metadata = EntityMetadata.of(Beer.class, RdbEnum.MYSQL);
+
+    @Test
+    void testStatementsAreBuiltFromTheMapping() {
+        // Arrange
+        var type = Beer.class;
+
+        // Act
+        var beer = EntityMetadata.of(type, RdbEnum.POSTGRESQL);
+
+        // Assert
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE beer_id = ?", beer.getSelectById());
+        assertEquals("SELECT COUNT(*) FROM beer", beer.getCount());
+        assertEquals("INSERT INTO beer (beer_name, price) VALUES (?, ?)", beer.getInsert());
+        assertEquals("UPDATE beer SET beer_name = ?, price = ? WHERE beer_id = ?", beer.getUpdate());
+        assertEquals("DELETE FROM beer WHERE beer_id = ?", beer.getDeleteById());
+        assertEquals(3, beer.getSelectFields().size());
+    }
+
+    @Test
+    void testPageQueryIsCachedBySort() {
+        // Arrange
+        var sort = new Sort(List.of(new Sort.Order(Sort.Direction.DESC, "name"), new Sort.Order(Sort.Direction.ASC, "beer_id")));
+
+        // Act
+        var first = metadata.getSelectPage(sort);
+        var second = metadata.getSelectPage(new Sort(List.copyOf(sort.orders())));
+
+        // Assert
+        assertEquals("SELECT beer_id, beer_name, price FROM beer ORDER BY beer_name DESC, beer_id ASC LIMIT ? OFFSET ?", first);
+        assertSame(first, second);
+        assertEquals("SELECT beer_id, beer_name, price FROM beer LIMIT ? OFFSET ?", metadata.getSelectPage(null));
+    }
+
+    @Test
+    void testKeysetQuerySeeksAfterTheSortKey() {
+        // Arrange
+        var sort = new Sort(List.of(new Sort.Order(Sort.Direction.DESC, "price")));
+
+        // Act
+        var keyset = metadata.getKeyset(sort);
+
+        // Assert
+        assertEquals(List.of("price", "beer_id"), keyset.columns());
+        assertEquals(List.of(3, 1), keyset.positions());
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE ((price < ?) OR (price = ? AND beer_id > ?))"
+                + " ORDER BY price DESC, beer_id ASC LIMIT ?", keyset.query());
+    }
+
+    @Test
+    void testKeysetQueryOfNullableColumnFollowsTheDialect() {
+        // Arrange
+        var sort = new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "name")));
+        var mysql = metadata.getKeyset(sort);
+        var postgresql = EntityMetadata.of(Beer.class, RdbEnum.POSTGRESQL).getKeyset(sort);
+        List<Object> nullKey = Arrays.asList(null, 7L);
+
+        // Act
+        var mysqlQuery = mysql.query(nullKey);
+        var postgresqlQuery = postgresql.query(nullKey);
+
+        // Assert
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE ((beer_name > ?) OR (beer_name = ? AND beer_id > ?))"
+                + " ORDER BY beer_name ASC, beer_id ASC LIMIT ?", mysql.query(List.of("Pilsner", 7L)));
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE ((beer_name IS NOT NULL) OR (beer_name IS NULL AND beer_id > ?))"
+                + " ORDER BY beer_name ASC, beer_id ASC LIMIT ?", mysqlQuery);
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE ((beer_name > ? OR beer_name IS NULL) OR (beer_name = ? AND beer_id > ?))"
+                + " ORDER BY beer_name ASC, beer_id ASC LIMIT ?", postgresql.query());
+        assertEquals("SELECT beer_id, beer_name, price FROM beer WHERE ((beer_name IS NULL AND beer_id > ?))"
+                + " ORDER BY beer_name ASC, beer_id ASC LIMIT ?", postgresqlQuery);
+    }
+
+    @Test
+    void testKeysetBindsOnlyTheNonNullValues() throws Exception {
+        // Arrange
+        var keyset = EntityMetadata.of(Beer.class, RdbEnum.POSTGRESQL)
+                .getKeyset(new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "name"))));
+        var statement = new FakePreparedStatement();
+
+        // Act
+        int next = keyset.bind(statement.statement(), Arrays.asList(null, 7L));
+
+        // Assert
+        assertEquals(2, next);
+        assertEquals(Map.of(1, 7L), statement.parameters);
+    }
+
+    @Test
+    void testUnknownSortPropertyIsRejected() {
+        // Arrange
+        var sort = new Sort(List.of(new Sort.Order(Sort.Direction.ASC, "price; DROP TABLE beer")));
+
+        // Act
+        var exception = assertThrows(ForceException.class, () -> metadata.getSelectPage(sort));
+
+        // Assert
+        assertEquals(400, exception.getStatusCode());
+    }
+}
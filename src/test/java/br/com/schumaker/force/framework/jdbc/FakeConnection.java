@@ -0,0 +1,127 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The FakeConnection class.
+ * A Connection without a database, it records the calls made by the class under test: the setters, as
+ * setAutoCommit(false), prepare or prepare(keys), commit, rollback and close.
+ * Each prepareStatement returns a new FakePreparedStatement, unless the test answers it; any other method can
+ * be answered too, the others return the default value of their type.
+ *
+ * @see FakePreparedStatement
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class FakeConnection {
+    public final List<String> calls;
+    public final List<FakePreparedStatement> statements = new ArrayList<>();
+    public volatile boolean closed;
+    public boolean autoCommit = true;
+    public int isolation = Connection.TRANSACTION_READ_COMMITTED;
+    private final Map<String, Answer> answers = new HashMap<>();
+    private final Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> invoke(proxy, method, args));
+
+    /**
+     * The answer of a fake to a method call.
+     */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Object[] args) throws Throwable;
+    }
+
+    public FakeConnection() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a new FakeConnection.
+     *
+     * @param calls the list the calls are recorded in, which can be shared by several connections.
+     */
+    public FakeConnection(List<String> calls) {
+        this.calls = calls;
+    }
+
+    public Connection connection() {
+        return connection;
+    }
+
+    /**
+     * Answers the calls of a method, instead of the default behaviour; the call is still recorded.
+     *
+     * @param method the name of the method.
+     * @param answer the answer.
+     * @return this connection.
+     */
+    public FakeConnection answer(String method, Answer answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        var name = method.getName();
+        switch (name) {
+            case "setAutoCommit" -> autoCommit = (Boolean) args[0];
+            case "setTransactionIsolation" -> isolation = (Integer) args[0];
+            case "close" -> closed = true;
+            default -> { }
+        }
+        switch (name) {
+            case "setAutoCommit", "setReadOnly", "setTransactionIsolation" -> calls.add(name + "(" + args[0] + ")");
+            case "prepareStatement" -> calls.add(args.length == 1 ? "prepare" : "prepare(keys)");
+            case "commit", "rollback", "close" -> calls.add(name);
+            default -> { }
+        }
+
+        var answer = answers.get(name);
+        if (answer != null) {
+            return answer.answer(args);
+        }
+        return switch (name) {
+            case "prepareStatement" -> {
+                var statement = new FakePreparedStatement();
+                statements.add(statement);
+                yield statement.statement();
+            }
+            case "isClosed" -> closed;
+            case "isValid" -> !closed;
+            case "getAutoCommit" -> autoCommit;
+            case "getTransactionIsolation" -> isolation;
+            default -> defaultValue(proxy, method, args);
+        };
+    }
+
+    /**
+     * The result of a method the fake does not answer: identity for the Object methods, else the default value
+     * of the return type.
+     */
+    static Object defaultValue(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> method.getDeclaringClass().getSimpleName() + "@" + System.identityHashCode(proxy);
+            default -> {
+                var type = method.getReturnType();
+                if (type == boolean.class) {
+                    yield false;
+                } else if (type == int.class || type == short.class || type == byte.class) {
+                    yield 0;
+                } else if (type == long.class) {
+                    yield 0L;
+                } else if (type == double.class || type == float.class) {
+                    yield 0.0;
+                }
+                yield null;
+            }
+        };
+    }
+}
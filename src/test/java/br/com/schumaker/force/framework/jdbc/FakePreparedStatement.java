@@ -0,0 +1,57 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The FakePreparedStatement class.
+ * A PreparedStatement without a database, it keeps the parameters set by the class under test and whether it
+ * was closed. The executions return the default value of their type unless the test answers them.
+ *
+ * @see FakeConnection
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class FakePreparedStatement {
+    public final Map<Integer, Object> parameters = new HashMap<>();
+    public volatile boolean closed;
+    private final Map<String, FakeConnection.Answer> answers = new HashMap<>();
+    private final PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> invoke(proxy, method, args));
+
+    public PreparedStatement statement() {
+        return statement;
+    }
+
+    /**
+     * Answers the calls of a method, instead of the default behaviour.
+     *
+     * @param method the name of the method.
+     * @param answer the answer.
+     * @return this statement.
+     */
+    public FakePreparedStatement answer(String method, FakeConnection.Answer answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        var name = method.getName();
+        switch (name) {
+            case "setObject" -> parameters.put((Integer) args[0], args[1]);
+            case "close" -> closed = true;
+            default -> { }
+        }
+
+        var answer = answers.get(name);
+        if (answer != null) {
+            return answer.answer(args);
+        }
+        return name.equals("isClosed") ? closed : FakeConnection.defaultValue(proxy, method, args);
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+import br.com.schumaker.force.framework.ioc.annotations.db.Query;
+import br.com.schumaker.force.framework.ioc.annotations.db.Table;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The QueryBuilderTest class.
+ * This class is responsible for testing the QueryBuilder class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class QueryBuilderTest {
+
+    @Table("beer")
+    static class Beer {
+        @Pk("beer_id")
+        private Long id;
+
+        @Column("beer_name")
+        private String name;
+
+        @Column
+        private double price;
+
+        @Column("brewed_at")
+        private String brewedAt;
+    }
+
+    interface BeerRepository {
+        Optional<Beer> findByName(String name);
+
+        List<Beer> findByNameContainingOrPriceBetweenOrderByPriceDescBrewedAtAsc(String name, double min, double max);
+
+        List<Beer> findByBrewedAtIsNotNullAndNameIgnoreCase(String name);
+
+        @Query("SELECT * FROM beer WHERE price > 2? AND beer_name = 1?")
+        List<Beer> findCheaperThan(String name, double price);
+
+        List<Beer> findByColor(String color);
+
+        List<Beer> findByName(String name, String other);
+    }
+
+    private final EntityMetadata<Beer> metadata = EntityMetadata.of(Beer.class, RdbEnum.MYSQL);
+    private final List<Object> bound = new ArrayList<>();
+
+    @Test
+    void testDerivedQueryIsCompiledWithParameters() throws Exception {
+        // Arrange
+        var method = BeerRepository.class.getMethod("findByNameContainingOrPriceBetweenOrderByPriceDescBrewedAtAsc",
+                String.class, double.class, double.class);
+
+        // Act
+        var plan = QueryBuilder.compile(metadata, method);
+        plan.bind(statement(), new Object[]{"ale' OR '1'='1", 2.0, 5.0});
+
+        // Assert
+        assertEquals("SELECT beer_id, beer_name, price, brewed_at FROM beer"
+                + " WHERE beer_name LIKE ? OR price BETWEEN ? AND ? ORDER BY price DESC, brewed_at ASC", plan.getSql());
+        assertEquals(List.of("%ale' OR '1'='1%", 2.0, 5.0), bound);
+    }
+
+    @Test
+    void testOperatorKeywordsAreMatchedByTheLongestSuffix() throws Exception {
+        // Arrange
+        var method = BeerRepository.class.getMethod("findByBrewedAtIsNotNullAndNameIgnoreCase", String.class);
+
+        // Act
+        var plan = QueryBuilder.compile(metadata, method);
+
+        // Assert
+        assertEquals("SELECT beer_id, beer_name, price, brewed_at FROM beer"
+                + " WHERE brewed_at IS NOT NULL AND UPPER(beer_name) = UPPER(?)", plan.getSql());
+    }
+
+    @Test
+    void testNumberedPlaceholdersAreBoundByArgument() throws Exception {
+        // Arrange
+        var method = BeerRepository.class.getMethod("findCheaperThan", String.class, double.class);
+
+        // Act
+        var plan = QueryBuilder.compile(metadata, method);
+        plan.bind(statement(), new Object[]{"Pilsner", 4.5});
+
+        // Assert
+        assertEquals("SELECT * FROM beer WHERE price > ? AND beer_name = ?", plan.getSql());
+        assertEquals(List.of(4.5, "Pilsner"), bound);
+    }
+
+    @Test
+    void testInvalidMethodsAreRejected() throws Exception {
+        // Arrange
+        var unknownProperty = BeerRepository.class.getMethod("findByColor", String.class);
+        var extraArgument = BeerRepository.class.getMethod("findByName", String.class, String.class);
+
+        // Act & Assert
+        assertThrows(ForceException.class, () -> QueryBuilder.compile(metadata, unknownProperty));
+        assertThrows(ForceException.class, () -> QueryBuilder.compile(metadata, extraArgument));
+    }
+
+    private PreparedStatement statement() {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("setObject")) {
+                        bound.add(args[1]);
+                    }
+                    return null;
+                });
+    }
+}
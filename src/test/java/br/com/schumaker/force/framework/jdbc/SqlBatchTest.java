@@ -0,0 +1,86 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.jdbc.mapper.FakeResultSet;
+import org.junit.jupiter.api.Test;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The SqlBatchTest class.
+ * This class is responsible for testing the SqlBatch class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class SqlBatchTest {
+    private final List<String> calls = new ArrayList<>();
+    private final List<Object> batch = new ArrayList<>();
+    private long nextKey = 1;
+    private int failAtBatch = -1;
+    private int batches;
+
+    @Test
+    void testItemsAreSentInChunksWithOneCommitEach() {
+        // Arrange
+        var connection = connection();
+
+        // Act
+        var keys = SqlBatch.execute(connection, "INSERT INTO beer (name) VALUES (?)",
+                List.of("a", "b", "c", "d", "e"), 2, true, (statement, item) -> statement.setObject(1, item));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), keys);
+        assertEquals(List.of("setAutoCommit(false)", "prepare(keys)",
+                "executeBatch[a, b]", "commit", "executeBatch[c, d]", "commit", "executeBatch[e]", "commit",
+                "setAutoCommit(true)"), calls);
+    }
+
+    @Test
+    void testFailedChunkIsRolledBack() {
+        // Arrange
+        var connection = connection();
+        failAtBatch = 2;
+
+        // Act
+        var exception = assertThrows(ForceException.class, () -> SqlBatch.execute(connection,
+                "DELETE FROM beer WHERE id = ?", List.of(1, 2, 3), 2, false,
+                (statement, item) -> statement.setObject(1, item)));
+
+        // Assert
+        assertEquals(BatchUpdateException.class, exception.getCause().getClass());
+        assertEquals(List.of("setAutoCommit(false)", "prepare",
+                "executeBatch[1, 2]", "commit", "executeBatch[3]", "rollback", "setAutoCommit(true)"), calls);
+    }
+
+    private Connection connection() {
+        var statement = statement();
+        return new FakeConnection(calls).answer("prepareStatement", args -> statement).connection();
+    }
+
+    private PreparedStatement statement() {
+        List<Object[]> keys = new ArrayList<>();
+        var statement = new FakePreparedStatement();
+        return statement
+                .answer("addBatch", args -> batch.add(statement.parameters.get(1)))
+                .answer("executeBatch", args -> {
+                    calls.add("executeBatch" + batch);
+                    if (++batches == failAtBatch) {
+                        throw new BatchUpdateException();
+                    }
+                    keys.clear();
+                    batch.forEach(it -> keys.add(new Object[]{nextKey++}));
+                    batch.clear();
+                    return new int[0];
+                })
+                .answer("getGeneratedKeys", args -> FakeResultSet.of(new String[]{"id"}, keys.toArray(new Object[0][])))
+                .statement();
+    }
+}
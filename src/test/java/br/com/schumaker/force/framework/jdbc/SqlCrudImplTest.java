@@ -0,0 +1,61 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.EntityCache;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+import br.com.schumaker.force.framework.ioc.annotations.db.Table;
+import br.com.schumaker.force.framework.jdbc.mapper.FakeResultSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The SqlCrudImplTest class.
+ * This class is responsible for testing the SqlCrudImpl class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class SqlCrudImplTest {
+
+    @Table("stout")
+    @EntityCache
+    public static class Stout {
+        @Pk
+        private Long id;
+
+        @Column
+        private String name;
+    }
+
+    private final SqlCrudImpl<Long, Stout> crud = SqlCrudImpl.create(Long.class, Stout.class);
+    private int queries;
+
+    @Test
+    void testEntityReadWhileItIsDeletedIsNotCached() throws Exception {
+        // Arrange
+        var connection = new FakeConnection();
+        var select = new FakePreparedStatement().answer("executeQuery", args -> {
+            // a delete of the entity commits while its old row is read
+            if (++queries == 1) {
+                crud.deleteById(1L);
+            }
+            return FakeResultSet.of(new String[]{"id", "name"}, new Object[][]{{1L, "old"}});
+        });
+        connection.answer("prepareStatement", args -> ((String) args[0]).startsWith("SELECT")
+                ? select.statement()
+                : new FakePreparedStatement().statement());
+        var transaction = Transaction.begin(connection.connection(), -1, false);
+
+        try {
+            // Act
+            crud.findById(1L);
+            crud.findById(1L);
+
+            // Assert
+            assertEquals(2, queries);
+        } finally {
+            transaction.end();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.schumaker.force.framework.jdbc;
+
+import br.com.schumaker.force.framework.ioc.annotations.db.Transactional;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The TransactionInterceptorTest class.
+ * This class is responsible for testing the TransactionInterceptor class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class TransactionInterceptorTest {
+
+    interface BeerService {
+        boolean transfer();
+
+        void fail();
+
+        void outer();
+
+        boolean plain();
+    }
+
+    static class BeerServiceImpl implements BeerService {
+        BeerService self;
+
+        @Override
+        @Transactional(isolation = Transactional.Isolation.SERIALIZABLE)
+        public boolean transfer() {
+            var first = DbConnection.getConnection();
+            DbConnection.releaseConnection(first);
+            var second = DbConnection.getConnection();
+            DbConnection.releaseConnection(second);
+            return first == second;
+        }
+
+        @Override
+        @Transactional
+        public void fail() {
+            throw new IllegalStateException("out of stock");
+        }
+
+        @Override
+        @Transactional
+        public void outer() {
+            self.transfer();
+        }
+
+        @Override
+        public boolean plain() {
+            return Transaction.current() == null;
+        }
+    }
+
+    private final List<String> calls = new ArrayList<>();
+    private int connections;
+
+    @Test
+    void testCommitOnReturnAndReuseOfTheBoundConnection() {
+        // Arrange
+        var service = proxy(new BeerServiceImpl());
+
+        // Act
+        var sameConnection = service.transfer();
+
+        // Assert
+        assertEquals(List.of("setAutoCommit(false)", "setTransactionIsolation(8)", "commit", "close"), calls);
+        assertTrue(sameConnection);
+        assertNull(Transaction.current());
+    }
+
+    @Test
+    void testRollbackOnThrow() {
+        // Arrange
+        var service = proxy(new BeerServiceImpl());
+
+        // Act
+        var ex = assertThrows(IllegalStateException.class, service::fail);
+
+        // Assert
+        assertEquals("out of stock", ex.getMessage());
+        assertEquals(List.of("setAutoCommit(false)", "rollback", "close"), calls);
+        assertNull(Transaction.current());
+    }
+
+    @Test
+    void testNestedCallJoinsTheTransaction() {
+        // Arrange
+        var target = new BeerServiceImpl();
+        var service = proxy(target);
+        target.self = service;
+
+        // Act
+        service.outer();
+
+        // Assert
+        assertEquals(1, connections);
+        assertEquals(1, calls.stream().filter("commit"::equals).count());
+    }
+
+    @Test
+    void testPlainMethodsRunWithoutTransaction() {
+        // Arrange
+        var service = proxy(new BeerServiceImpl());
+
+        // Act
+        var plain = service.plain();
+
+        // Assert
+        assertTrue(plain);
+        assertEquals(0, connections);
+    }
+
+    private BeerService proxy(BeerServiceImpl target) {
+        return (BeerService) Proxy.newProxyInstance(BeerService.class.getClassLoader(),
+                new Class<?>[]{BeerService.class}, new TransactionInterceptor(target, readOnly -> connect()));
+    }
+
+    private Connection connect() {
+        connections++;
+        return new FakeConnection(calls).connection();
+    }
+}
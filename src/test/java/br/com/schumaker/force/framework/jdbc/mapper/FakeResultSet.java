@@ -0,0 +1,568 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The FakeResultSet class.
+ * A forward only ResultSet over rows held in memory, without a database.
+ * Columns are read by index or by label, as a driver does; the other operations are not supported.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class FakeResultSet implements ResultSet {
+    public int metaDataCalls;
+    private final String[] labels;
+    private final Object[][] rows;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int row = -1;
+    private boolean wasNull;
+
+    private FakeResultSet(String[] labels, Object[][] rows) {
+        this.labels = labels;
+        this.rows = rows;
+        for (int i = 0; i < labels.length; i++) {
+            columns.put(labels[i].toLowerCase(Locale.ROOT), i + 1);
+        }
+    }
+
+    public static FakeResultSet of(String[] labels, Object[][] rows) {
+        return new FakeResultSet(labels, rows);
+    }
+
+    @Override
+    public boolean next() {
+        return ++row < rows.length;
+    }
+
+    @Override
+    public void beforeFirst() {
+        row = -1;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        var index = columns.get(columnLabel.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new SQLException("Column not found: " + columnLabel);
+        }
+        return index;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        metaDataCalls++;
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.length;
+                    case "getColumnLabel", "getColumnName" -> labels[(Integer) args[0] - 1];
+                    default -> throw new SQLException("Not supported: " + method.getName());
+                });
+    }
+
+    @Override
+    public Object getObject(int columnIndex) {
+        var value = rows[row][columnIndex - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) {
+        return type.cast(getObject(columnIndex));
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) {
+        return getObject(columnIndex);
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        var value = getObject(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.longValue() : 0L;
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.intValue() : 0;
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.shortValue() : 0;
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.byteValue() : 0;
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.doubleValue() : 0d;
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? number.floatValue() : 0f;
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        return Boolean.TRUE.equals(getObject(columnIndex));
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) {
+        return getObject(columnIndex) instanceof Number number ? new BigDecimal(number.toString()) : null;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        return (byte[]) getObject(columnIndex);
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public void close() {
+        row = rows.length;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+
+    private static SQLException unsupported() {
+        return new SQLFeatureNotSupportedException("Not supported by FakeResultSet.");
+    }
+
+    // the operations below are not used by the row mappers
+
+    @Override
+    public boolean absolute(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public void afterLast() throws SQLException { throw unsupported(); }
+    @Override
+    public void cancelRowUpdates() throws SQLException { throw unsupported(); }
+    @Override
+    public void clearWarnings() throws SQLException { throw unsupported(); }
+    @Override
+    public void deleteRow() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean first() throws SQLException { throw unsupported(); }
+@Override
+    public Array getArray(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Array getArray(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public InputStream getAsciiStream(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public InputStream getAsciiStream(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(String arg0, int arg1) throws SQLException { throw unsupported(); }
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int arg0, int arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public InputStream getBinaryStream(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public InputStream getBinaryStream(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Blob getBlob(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Blob getBlob(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Reader getCharacterStream(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Reader getCharacterStream(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Clob getClob(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Clob getClob(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public int getConcurrency() throws SQLException { throw unsupported(); }
+    @Override
+    public String getCursorName() throws SQLException { throw unsupported(); }
+    @Override
+    public Date getDate(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Date getDate(String arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public Date getDate(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Date getDate(int arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public int getFetchDirection() throws SQLException { throw unsupported(); }
+    @Override
+    public int getFetchSize() throws SQLException { throw unsupported(); }
+    @Override
+    public int getHoldability() throws SQLException { throw unsupported(); }
+    @Override
+    public Reader getNCharacterStream(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Reader getNCharacterStream(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public NClob getNClob(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public NClob getNClob(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public String getNString(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public String getNString(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Ref getRef(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Ref getRef(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public int getRow() throws SQLException { throw unsupported(); }
+    @Override
+    public RowId getRowId(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public RowId getRowId(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public SQLXML getSQLXML(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public SQLXML getSQLXML(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Statement getStatement() throws SQLException { throw unsupported(); }
+    @Override
+    public Time getTime(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Time getTime(String arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public Time getTime(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Time getTime(int arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public Timestamp getTimestamp(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Timestamp getTimestamp(String arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public Timestamp getTimestamp(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public Timestamp getTimestamp(int arg0, Calendar arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public int getType() throws SQLException { throw unsupported(); }
+    @Override
+    public URL getURL(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public URL getURL(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public SQLWarning getWarnings() throws SQLException { throw unsupported(); }
+    @Override
+    public void insertRow() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean isAfterLast() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean isBeforeFirst() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean isFirst() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean isLast() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean last() throws SQLException { throw unsupported(); }
+    @Override
+    public void moveToCurrentRow() throws SQLException { throw unsupported(); }
+    @Override
+    public void moveToInsertRow() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean previous() throws SQLException { throw unsupported(); }
+    @Override
+    public void refreshRow() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean relative(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public boolean rowDeleted() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean rowInserted() throws SQLException { throw unsupported(); }
+    @Override
+    public boolean rowUpdated() throws SQLException { throw unsupported(); }
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public void setFetchSize(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateArray(String arg0, Array arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateArray(int arg0, Array arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBigDecimal(String arg0, BigDecimal arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBigDecimal(int arg0, BigDecimal arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(String arg0, Blob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(String arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(String arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(int arg0, Blob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(int arg0, InputStream arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBlob(int arg0, InputStream arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBoolean(String arg0, boolean arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBoolean(int arg0, boolean arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateByte(String arg0, byte arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateByte(int arg0, byte arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBytes(String arg0, byte[] arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateBytes(int arg0, byte[] arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(String arg0, Clob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(String arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(String arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(int arg0, Clob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(int arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateClob(int arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateDate(String arg0, Date arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateDate(int arg0, Date arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateDouble(String arg0, double arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateDouble(int arg0, double arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateFloat(String arg0, float arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateFloat(int arg0, float arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateInt(String arg0, int arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateInt(int arg0, int arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateLong(String arg0, long arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateLong(int arg0, long arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNCharacterStream(String arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNCharacterStream(int arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(String arg0, NClob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(String arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(String arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(int arg0, NClob arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(int arg0, Reader arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNClob(int arg0, Reader arg1, long arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNString(String arg0, String arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNString(int arg0, String arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNull(String arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateNull(int arg0) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateObject(String arg0, Object arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateObject(String arg0, Object arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateObject(int arg0, Object arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateObject(int arg0, Object arg1, int arg2) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateRef(String arg0, Ref arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateRef(int arg0, Ref arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateRow() throws SQLException { throw unsupported(); }
+    @Override
+    public void updateRowId(String arg0, RowId arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateRowId(int arg0, RowId arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateSQLXML(String arg0, SQLXML arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateSQLXML(int arg0, SQLXML arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateShort(String arg0, short arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateShort(int arg0, short arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateString(String arg0, String arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateString(int arg0, String arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateTime(String arg0, Time arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateTime(int arg0, Time arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateTimestamp(String arg0, Timestamp arg1) throws SQLException { throw unsupported(); }
+    @Override
+    public void updateTimestamp(int arg0, Timestamp arg1) throws SQLException { throw unsupported(); }
+}
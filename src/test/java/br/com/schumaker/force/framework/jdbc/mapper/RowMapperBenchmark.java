@@ -0,0 +1,92 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+
+/**
+ * The RowMapperBenchmark class.
+ * Micro benchmark comparing the EntityMapper against the reflective mapping loop it replaced,
+ * newInstance() per row and getObject(label) with Field.set() per column.
+ * Both read the same in-memory result set, which finds a column by label with a map lookup as a driver does.
+ * It is not a unit test, run it from the IDE or with: java -cp build/classes/java/main:build/classes/java/test ...
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class RowMapperBenchmark {
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int ROUNDS = 50;
+    private static final String[] LABELS = {"id", "name", "price", "stock", "active", "code"};
+
+    public static class Product {
+        private BigInteger id;
+        private String name;
+        private double price;
+        private int stock;
+        private boolean active;
+        private Long code;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new Object[]{(long) i, "product-" + i, i * 1.5d, i % 100, i % 2 == 0, 1000L + i};
+        }
+        var resultSet = FakeResultSet.of(LABELS, rows);
+        var fields = Product.class.getDeclaredFields();
+
+        run("reflection", () -> {
+            resultSet.beforeFirst();
+            long sink = 0;
+            while (resultSet.next()) {
+                sink += reflective(resultSet, fields).stock;
+            }
+            return sink;
+        });
+
+        run("row mapper", () -> {
+            resultSet.beforeFirst();
+            long sink = 0;
+            var mapper = EntityMapper.of(Product.class).bind(resultSet.getMetaData());
+            while (resultSet.next()) {
+                sink += mapper.map(resultSet).stock;
+            }
+            return sink;
+        });
+    }
+
+    private static Product reflective(ResultSet resultSet, Field[] fields) throws Exception {
+        var instance = Product.class.getDeclaredConstructor().newInstance();
+        for (var field : fields) {
+            field.setAccessible(true);
+            Object value = resultSet.getObject(field.getName());
+
+            if (field.getType().equals(BigInteger.class) && value instanceof Long) {
+                value = BigInteger.valueOf((Long) value);
+            }
+            field.set(instance, value);
+        }
+        return instance;
+    }
+
+    private static void run(String name, Workload workload) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            workload.run();
+        }
+
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += workload.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-12s %8.1f ns/row (sink %d)%n", name, (double) elapsed / ((long) ROUNDS * ROWS), sink);
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        long run() throws Exception;
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.schumaker.force.framework.jdbc.mapper;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.db.Column;
+import br.com.schumaker.force.framework.ioc.annotations.db.Pk;
+import br.com.schumaker.force.framework.ioc.annotations.db.Table;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The RowMapperTest class.
+ * This class is responsible for testing the EntityMapper and ColumnReaders classes.
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public class RowMapperTest {
+
+    @Table("beer")
+    static class Beer {
+        @Pk("beer_id")
+        private BigInteger id;
+
+        @Column("beer_name")
+        private String name;
+
+        @Column
+        private double price;
+
+        @Column
+        private Integer stock;
+
+        @Column
+        private LocalDateTime brewedAt;
+
+        @Column
+        private Style style;
+
+        private Label label = new Label("default");
+    }
+
+    @Table("batch")
+    static class Batch {
+        @Pk
+        private Long id;
+
+        @Column
+        private Timestamp bottledAt;
+    }
+
+    @Table("cellar")
+    static class Cellar {
+        @Pk
+        private Long id;
+
+        private List<String> shelves;
+    }
+
+    enum Style { LAGER, STOUT }
+
+    record Label(String text) {}
+
+    @Test
+    void testColumnsAreMappedByLabelIgnoringCase() throws Exception {
+        // Arrange
+        var brewedAt = LocalDateTime.of(2024, 5, 1, 10, 30);
+        var resultSet = FakeResultSet.of(new String[]{"BEER_ID", "beer_name", "Price", "stock", "brewedAt", "style", "extra"},
+                new Object[][]{{7L, "Pilsner", 4.5d, 12, Timestamp.valueOf(brewedAt), "STOUT", "ignored"}});
+        resultSet.next();
+
+        // Act
+        var beer = EntityMapper.of(Beer.class).map(resultSet);
+
+        // Assert
+        assertEquals(BigInteger.valueOf(7), beer.id);
+        assertEquals("Pilsner", beer.name);
+        assertEquals(4.5d, beer.price);
+        assertEquals(12, beer.stock);
+        assertEquals(brewedAt, beer.brewedAt);
+        assertEquals(Style.STOUT, beer.style);
+        assertEquals("default", beer.label.text());
+    }
+
+    @Test
+    void testNullReadsAsZeroForPrimitiveAndNullForWrapper() throws Exception {
+        // Arrange
+        var resultSet = FakeResultSet.of(new String[]{"beer_id", "price", "stock"}, new Object[][]{{1L, null, null}});
+        resultSet.next();
+
+        // Act
+        var beer = EntityMapper.of(Beer.class).map(resultSet);
+
+        // Assert
+        assertEquals(0d, beer.price);
+        assertNull(beer.stock);
+    }
+
+    @Test
+    void testColumnsAreResolvedOncePerResultSet() throws Exception {
+        // Arrange
+        var resultSet = FakeResultSet.of(new String[]{"beer_id", "beer_name"},
+                new Object[][]{{1L, "Pilsner"}, {2L, "Porter"}, {3L, "Bock"}});
+        var mapper = EntityMapper.of(Beer.class).bind(resultSet.getMetaData());
+
+        // Act
+        var names = new StringBuilder();
+        while (resultSet.next()) {
+            names.append(mapper.map(resultSet).name).append(' ');
+        }
+
+        // Assert
+        assertEquals("Pilsner Porter Bock ", names.toString());
+        assertEquals(1, resultSet.metaDataCalls);
+    }
+
+    @Test
+    void testRowMapperIsCachedByColumnLayout() throws Exception {
+        // Arrange
+        var first = FakeResultSet.of(new String[]{"beer_id", "stock"}, new Object[0][]);
+        var second = FakeResultSet.of(new String[]{"BEER_ID", "STOCK"}, new Object[0][]);
+        var other = FakeResultSet.of(new String[]{"stock", "beer_id"}, new Object[0][]);
+        var mapper = EntityMapper.of(Beer.class);
+
+        // Act
+        var bound = mapper.bind(first.getMetaData());
+
+        // Assert
+        assertSame(bound, mapper.bind(second.getMetaData()));
+        assertNotSame(bound, mapper.bind(other.getMetaData()));
+    }
+
+    @Test
+    void testCopyIsIndependentOfTheSource() throws Exception {
+        // Arrange
+        var resultSet = FakeResultSet.of(new String[]{"beer_id", "beer_name", "stock"}, new Object[][]{{1L, "Pilsner", 12}});
+        resultSet.next();
+        var mapper = EntityMapper.of(Beer.class);
+        var beer = mapper.map(resultSet);
+
+        // Act
+        var copy = mapper.copy(beer);
+        copy.name = "Porter";
+
+        // Assert
+        assertNotSame(beer, copy);
+        assertEquals("Pilsner", beer.name);
+        assertEquals(beer.id, copy.id);
+        assertEquals(12, copy.stock);
+    }
+
+    @Test
+    void testCopyOfTimestampIsIndependentOfTheSource() throws Exception {
+        // Arrange
+        var bottledAt = Timestamp.valueOf("2024-05-01 10:30:00.123456789");
+        var resultSet = FakeResultSet.of(new String[]{"id", "bottledAt"}, new Object[][]{{1L, bottledAt}});
+        resultSet.next();
+        var mapper = EntityMapper.of(Batch.class);
+        var batch = mapper.map(resultSet);
+
+        // Act
+        var copy = mapper.copy(batch);
+        copy.bottledAt.setTime(0);
+
+        // Assert
+        assertNotSame(batch.bottledAt, copy.bottledAt);
+        assertEquals(Timestamp.valueOf("2024-05-01 10:30:00.123456789"), batch.bottledAt);
+        assertEquals(123456789, mapper.copy(batch).bottledAt.getNanos());
+        assertDoesNotThrow(mapper::requireCopyable);
+    }
+
+    @Test
+    void testMutableFieldIsNotCopyable() {
+        // Arrange
+        var mapper = EntityMapper.of(Cellar.class);
+
+        // Act
+        var ex = assertThrows(ForceException.class, mapper::requireCopyable);
+
+        // Assert
+        assertTrue(ex.getMessage().contains("shelves"));
+    }
+
+    @Test
+    void testRegisteredConverterIsUsed() throws Exception {
+        // Arrange
+        ColumnReaders.getInstance().register(String.class, Label.class, Label::new);
+        var resultSet = FakeResultSet.of(new String[]{"label"}, new Object[][]{{"Imperial"}});
+        resultSet.next();
+
+        // Act
+        var beer = EntityMapper.of(Beer.class).map(resultSet);
+
+        // Assert
+        assertEquals("Imperial", beer.label.text());
+    }
+}
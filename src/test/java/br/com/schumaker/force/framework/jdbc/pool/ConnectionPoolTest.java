@@ -0,0 +1,127 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.jdbc.FakeConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ConnectionPoolTest class.
+ * This class is responsible for testing the ConnectionPool class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class ConnectionPoolTest {
+    private final List<FakeConnection> physical = new ArrayList<>();
+    private ConnectionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testReleasedConnectionIsReused() throws Exception {
+        // Arrange
+        pool = new ConnectionPool(config(1, 2, 1000, 0), this::connect);
+
+        // Act
+        var first = pool.getConnection();
+        first.close();
+        var second = pool.getConnection();
+
+        // Assert
+        assertEquals(1, physical.size());
+        assertTrue(first.isClosed());
+        assertFalse(second.isClosed());
+        assertEquals(1, pool.getStats().active());
+        second.close();
+    }
+
+    @Test
+    void testPoolGrowsUpToMaxSizeAndTimesOut() {
+        // Arrange
+        pool = new ConnectionPool(config(0, 2, 50, 0), this::connect);
+
+        // Act
+        pool.getConnection();
+        pool.getConnection();
+        var exception = assertThrows(ForceException.class, pool::getConnection);
+
+        // Assert
+        assertEquals(503, exception.getStatusCode());
+        var stats = pool.getStats();
+        assertEquals(2, stats.total());
+        assertEquals(2, stats.active());
+        assertEquals(1, stats.timeouts());
+    }
+
+    @Test
+    void testBrokenConnectionIsReplaced() throws Exception {
+        // Arrange
+        pool = new ConnectionPool(config(0, 1, 1000, 0), this::connect);
+        var connection = pool.getConnection();
+        physical.get(0).closed = true;
+
+        // Act
+        connection.close();
+        var replacement = pool.getConnection();
+
+        // Assert
+        assertEquals(2, physical.size());
+        assertEquals(1, pool.getStats().removed());
+        replacement.close();
+    }
+
+    @Test
+    void testClosedProxyCannotBeUsed() throws Exception {
+        // Arrange
+        pool = new ConnectionPool(config(0, 1, 1000, 0), this::connect);
+        var connection = pool.getConnection();
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        assertThrows(SQLException.class, connection::getAutoCommit);
+        assertEquals(1, pool.getStats().idle());
+    }
+
+    @Test
+    void testHousekeeperRetiresExpiredConnections() throws Exception {
+        // Arrange
+        pool = new ConnectionPool(config(1, 2, 1000, 1), this::connect);
+        Thread.sleep(5);
+
+        // Act
+        pool.housekeep();
+
+        // Assert
+        assertTrue(physical.get(0).closed);
+        assertEquals(2, physical.size());
+        assertEquals(1, pool.getStats().total());
+    }
+
+    private PoolConfig config(int minIdle, int maxSize, long connectionTimeout, long maxLifetime) {
+        return new PoolConfig("test", "mysql", "jdbc:test", "user", "secret",
+                minIdle, maxSize, connectionTimeout, 0, maxLifetime, 0, 1000, 0, 0);
+    }
+
+    private Connection connect() {
+        var connection = new FakeConnection();
+        physical.add(connection);
+        return connection.connection();
+    }
+}
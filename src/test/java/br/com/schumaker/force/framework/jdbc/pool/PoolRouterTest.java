@@ -0,0 +1,83 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.jdbc.FakeConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The PoolRouterTest class.
+ * This class is responsible for testing the PoolRouter class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class PoolRouterTest {
+    private final List<ConnectionPool> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(ConnectionPool::shutdown);
+    }
+
+    @Test
+    void testReadsGoToThePrimaryWithoutReplicas() {
+        // Arrange
+        var primary = pool("primary");
+        var router = new PoolRouter(primary, List.of(), PoolRouter.Balancing.ROUND_ROBIN);
+
+        // Act
+        router.getReadConnection();
+
+        // Assert
+        assertEquals(1, primary.getActive());
+    }
+
+    @Test
+    void testReadsAreSpreadRoundRobin() {
+        // Arrange
+        var primary = pool("primary");
+        var first = pool("replica-1");
+        var second = pool("replica-2");
+        var router = new PoolRouter(primary, List.of(first, second), PoolRouter.Balancing.of("round-robin"));
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            router.getReadConnection();
+        }
+        router.getConnection();
+
+        // Assert
+        assertEquals(2, first.getActive());
+        assertEquals(2, second.getActive());
+        assertEquals(1, primary.getActive());
+    }
+
+    @Test
+    void testLeastBusyReplicaIsChosen() {
+        // Arrange
+        var first = pool("replica-1");
+        var second = pool("replica-2");
+        var router = new PoolRouter(pool("primary"), List.of(first, second), PoolRouter.Balancing.of("least-busy"));
+        first.getConnection();
+        first.getConnection();
+
+        // Act
+        var chosen = router.nextReplica();
+
+        // Assert
+        assertSame(second, chosen);
+    }
+
+    private ConnectionPool pool(String name) {
+        var config = new PoolConfig(name, "mysql", "jdbc:test", "user", "secret", 0, 4, 1000, 0, 0, 0, 1000, 0, 0);
+        var pool = new ConnectionPool(config, () -> new FakeConnection().connection());
+        pools.add(pool);
+        return pool;
+    }
+}
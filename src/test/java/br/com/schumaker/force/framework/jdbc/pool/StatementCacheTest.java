@@ -0,0 +1,96 @@
+package br.com.schumaker.force.framework.jdbc.pool;
+
+import br.com.schumaker.force.framework.jdbc.FakeConnection;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The StatementCacheTest class.
+ * This class is responsible for testing the StatementCache class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class StatementCacheTest {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final FakeConnection fake = new FakeConnection();
+    private final Connection physical = fake.connection();
+
+    @Test
+    void testClosedStatementIsReused() throws Exception {
+        // Arrange
+        var cache = new StatementCache(2, hits, misses, evictions);
+
+        // Act
+        var first = cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS);
+        first.close();
+        var second = cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS);
+
+        // Assert
+        assertEquals(1, fake.statements.size());
+        assertFalse(fake.statements.get(0).closed);
+        assertEquals(1, hits.sum());
+        assertEquals(1, misses.sum());
+        assertSame(physical, second.getConnection());
+        assertThrows(SQLException.class, first::executeQuery);
+    }
+
+    @Test
+    void testStatementInUseIsNotShared() throws Exception {
+        // Arrange
+        var cache = new StatementCache(2, hits, misses, evictions);
+        var first = cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS);
+
+        // Act
+        var second = cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(2, fake.statements.size());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsClosed() throws Exception {
+        // Arrange
+        var cache = new StatementCache(1, hits, misses, evictions);
+        cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS).close();
+
+        // Act
+        cache.prepare(physical, physical, "SELECT 2", StatementCache.NO_GENERATED_KEYS).close();
+
+        // Assert
+        assertTrue(fake.statements.get(0).closed);
+        assertFalse(fake.statements.get(1).closed);
+        assertEquals(1, evictions.sum());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testChangedStatementIsNotReturned() throws Exception {
+        // Arrange
+        var cache = new StatementCache(2, hits, misses, evictions);
+        var statement = cache.prepare(physical, physical, "SELECT 1", StatementCache.NO_GENERATED_KEYS);
+        statement.setMaxRows(10);
+
+        // Act
+        statement.close();
+        cache.closeAll();
+
+        // Assert
+        assertTrue(fake.statements.get(0).closed);
+        assertEquals(0, cache.size());
+    }
+}
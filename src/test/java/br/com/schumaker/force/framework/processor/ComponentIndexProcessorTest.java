@@ -0,0 +1,58 @@
+package br.com.schumaker.force.framework.processor;
+
+import br.com.schumaker.force.framework.run.ClassIndex;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.RoundEnvironment;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ComponentIndexProcessorTest class.
+ * This class is responsible for testing the ComponentIndexProcessor class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class ComponentIndexProcessorTest {
+
+    @Test
+    void testStereotypesMatchClassIndex() {
+        // Act
+        var expected = ClassIndex.STEREOTYPES.stream().map(Class::getName).toList();
+
+        // Assert
+        assertEquals(expected, ComponentIndexProcessor.STEREOTYPES);
+    }
+
+    @Test
+    void testSupportedAnnotationsCoverStereotypes() {
+        // Arrange
+        var processor = new ComponentIndexProcessor();
+        var prefix = ComponentIndexProcessor.ANNOTATIONS.substring(0, ComponentIndexProcessor.ANNOTATIONS.length() - 1);
+
+        // Act
+        var supported = processor.getSupportedAnnotationTypes();
+
+        // Assert
+        assertEquals(Set.of(ComponentIndexProcessor.ANNOTATIONS), supported);
+        assertTrue(ComponentIndexProcessor.STEREOTYPES.stream().allMatch(it -> it.startsWith(prefix)));
+    }
+
+    @Test
+    void testProcessClaimsAnnotations() {
+        // Arrange
+        var processor = new ComponentIndexProcessor();
+        var roundEnv = (RoundEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RoundEnvironment.class}, (proxy, method, args) -> false);
+
+        // Act
+        var claimed = processor.process(Set.of(), roundEnv);
+
+        // Assert
+        assertTrue(claimed);
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.schumaker.force.framework.run;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The BootProfilerTest class.
+ * This class is responsible for testing the BootProfiler class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class BootProfilerTest {
+
+    @Test
+    void testPhasesAreMeasuredAndSortedSlowestFirst() throws Exception {
+        // Arrange
+        var profiler = new BootProfiler();
+
+        // Act
+        profiler.phase("fast", () -> {});
+        profiler.phase("slow", () -> Thread.sleep(20));
+        profiler.bean(String.class, () -> {});
+        profiler.finish();
+        var report = profiler.getReport();
+
+        // Assert
+        assertEquals(List.of("slow", "fast"), report.phases().stream().map(BootEntry::name).toList());
+        assertTrue(report.phases().getFirst().millis() >= 20);
+        assertEquals(String.class.getName(), report.beans().getFirst().name());
+        assertTrue(report.totalMillis() >= report.phases().getFirst().millis());
+    }
+
+    @Test
+    void testAllocationsAreMeasured() throws Exception {
+        // Arrange
+        var profiler = new BootProfiler();
+        var sink = new Object[1];
+
+        // Act
+        profiler.bean(Object.class, () -> sink[0] = new byte[4 * 1024 * 1024]);
+
+        // Assert
+        var allocated = profiler.getReport().beans().getFirst().allocatedBytes();
+        assertTrue(allocated == -1 || allocated >= 4 * 1024 * 1024);
+    }
+
+    @Test
+    void testFailedPhaseIsMeasured() {
+        // Arrange
+        var profiler = new BootProfiler();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> profiler.phase("schema.sql", () -> {
+            throw new IllegalStateException("no database");
+        }));
+
+        // Assert
+        assertEquals("schema.sql", profiler.getReport().phases().getFirst().name());
+    }
+
+    @Test
+    void testReportIsFormattedAsTable() throws Exception {
+        // Arrange
+        var profiler = new BootProfiler();
+        profiler.phase("Class scan", () -> {});
+
+        // Act
+        var table = BootProfiler.toTable(profiler.getReport());
+
+        // Assert
+        assertTrue(table.startsWith("Boot report: "));
+        assertTrue(table.lines().anyMatch(it -> it.startsWith("Phase") && it.contains("Time (ms)")));
+        assertTrue(table.lines().anyMatch(it -> it.startsWith("Class scan")));
+    }
+}
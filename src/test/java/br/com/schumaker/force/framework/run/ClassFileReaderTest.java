@@ -0,0 +1,102 @@
+package br.com.schumaker.force.framework.run;
+
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.ioc.annotations.db.Transactional;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ClassFileReaderTest class.
+ * This class is responsible for testing the ClassFileReader class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class ClassFileReaderTest {
+    static boolean initialized;
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Meta {
+        int number();
+
+        String text();
+
+        Class<?> type();
+
+        Transactional.Isolation isolation();
+
+        Transactional nested();
+
+        long[] values();
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+    }
+
+    @Invisible
+    @Meta(number = 7, text = "beer", type = String.class, isolation = Transactional.Isolation.SERIALIZABLE,
+            nested = @Transactional(readOnly = true), values = {1L, 2L})
+    @Service
+    static class ManagedBeer {
+        static final long STOCK = 42L;
+        static final double PRICE = 4.5;
+
+        @Meta(number = 1, text = "field", type = int.class, isolation = Transactional.Isolation.DEFAULT,
+                nested = @Transactional, values = {})
+        private String name;
+
+        @Transactional
+        public String getName() {
+            return name;
+        }
+    }
+
+    static class UnmanagedBeer {
+        static {
+            initialized = true;
+        }
+    }
+
+    @Test
+    void testClassAnnotationsAreReadFromTheClassFile() throws Exception {
+        // Arrange
+        try (var classFile = ManagedBeer.class.getResourceAsStream("ClassFileReaderTest$ManagedBeer.class")) {
+
+            // Act
+            var annotations = ClassFileReader.getAnnotations(classFile);
+
+            // Assert
+            assertEquals(List.of(Meta.class.getName(), Service.class.getName()), List.copyOf(annotations));
+        }
+    }
+
+    @Test
+    void testScanDoesNotInitializeUnmanagedClasses() throws Exception {
+        // Act
+        var index = ClassScanner.scan(ClassFileReaderTest.class.getPackageName());
+
+        // Assert
+        assertTrue(index.get(Service.class).contains(ManagedBeer.class));
+        assertFalse(initialized);
+    }
+
+    @Test
+    void testInvalidClassFileIsRejected() {
+        // Arrange
+        var bytes = new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> ClassFileReader.getAnnotations(bytes));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.schumaker.force.framework.run;
+
+import br.com.schumaker.force.app.model.db.ProductRepository;
+import br.com.schumaker.force.app.service.ProductServiceImpl;
+import br.com.schumaker.force.app.view.ProductController;
+import br.com.schumaker.force.app.view.TokenController;
+import br.com.schumaker.force.framework.ioc.annotations.bean.Service;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Get;
+import br.com.schumaker.force.framework.ioc.annotations.db.Repository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ClassIndexTest class.
+ * This class is responsible for testing the ClassIndex class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class ClassIndexTest {
+    private static final String PACKAGE = "br.com.schumaker.force.app";
+    private static final String PATH = PACKAGE.replace('.', '/');
+
+    @Test
+    void testScanBucketsClassesByStereotype() throws Exception {
+        // Act
+        var index = ClassScanner.scan(PACKAGE);
+
+        // Assert
+        assertEquals(Set.of(ProductController.class, TokenController.class), Set.copyOf(index.get(Controller.class)));
+        assertEquals(List.of(ProductServiceImpl.class), index.get(Service.class));
+        assertEquals(List.of(ProductRepository.class), index.get(Repository.class));
+    }
+
+    @Test
+    void testIndexMatchesTheScan() throws Exception {
+        // Arrange
+        var scanned = ClassScanner.scan(PACKAGE);
+
+        // Act
+        var indexed = ClassScanner.index(PACKAGE);
+
+        // Assert
+        for (var stereotype : ClassIndex.STEREOTYPES) {
+            assertEquals(Set.copyOf(scanned.get(stereotype)), Set.copyOf(indexed.get(stereotype)));
+        }
+        assertTrue(indexed.get(Controller.class).stream().allMatch(it -> it.getName().startsWith(PACKAGE + ".")));
+    }
+
+    @Test
+    void testIndexWithoutThePackageFallsBackToTheScan() throws Exception {
+        // Arrange
+        var scanned = ClassScanner.scan(PACKAGE);
+        var root = ClassScanner.getRoot(getClass().getClassLoader().getResource(PATH), PATH);
+        var indexes = Map.of(root, List.of("br.com.schumaker.force.other.BeerController"),
+                "jar:file:/libs/beer.jar!/", List.of(ProductController.class.getName()));
+
+        // Act
+        var indexed = ClassScanner.index(PACKAGE, indexes);
+
+        // Assert
+        for (var stereotype : ClassIndex.STEREOTYPES) {
+            assertEquals(Set.copyOf(scanned.get(stereotype)), Set.copyOf(indexed.get(stereotype)));
+        }
+    }
+
+    @Test
+    void testIndexIsTrustedOnlyForItsRoot() throws Exception {
+        // Arrange
+        var root = ClassScanner.getRoot(getClass().getClassLoader().getResource(PATH), PATH);
+        var indexes = Map.of(root, List.of(ProductController.class.getName()));
+
+        // Act
+        var indexed = ClassScanner.index(PACKAGE, indexes);
+
+        // Assert
+        assertEquals(List.of(ProductController.class), indexed.get(Controller.class));
+        assertTrue(indexed.get(Service.class).isEmpty());
+    }
+
+    @Test
+    void testOnlyStereotypesAreIndexed() {
+        // Arrange
+        var index = new ClassIndex(List.of(ProductController.class, String.class));
+
+        // Act & Assert
+        assertEquals(List.of(ProductController.class), index.get(Controller.class));
+        assertThrows(IllegalArgumentException.class, () -> index.get(Get.class));
+    }
+}
@@ -11,7 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
  * Test class for CommandLineArgs.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class CommandLineArgsTest {
     private CommandLineArgs commandLineArgs;
@@ -52,4 +52,15 @@ public class CommandLineArgsTest {
         // Act & Assert
         assertNull(commandLineArgs.getArg("-port"));
     }
+
+    @Test
+    public void testFlagWithoutValue() {
+        // Arrange
+        String[] args = {"-boot-report", "-env=local"};
+        commandLineArgs.setArgs(args);
+
+        // Act & Assert
+        assertEquals("true", commandLineArgs.getArg(CommandLineArgs.BOOT_REPORT));
+        assertEquals("local", commandLineArgs.getArg("-env"));
+    }
 }
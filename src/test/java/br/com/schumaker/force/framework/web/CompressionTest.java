@@ -0,0 +1,132 @@
+package br.com.schumaker.force.framework.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The CompressionTest class.
+ * This class is responsible for testing the Compression and the CompressionOutputStream classes.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class CompressionTest {
+    private final Compression compression = new Compression(true, 64, "application/json, text/plain");
+
+    @Test
+    void testNegotiateAcceptEncoding() {
+        // Act & Assert
+        assertEquals(Compression.GZIP, Compression.negotiate("gzip, deflate, br"));
+        assertEquals(Compression.DEFLATE, Compression.negotiate("deflate"));
+        assertEquals(Compression.DEFLATE, Compression.negotiate("gzip;q=0.5, deflate;q=0.8"));
+        assertEquals(Compression.GZIP, Compression.negotiate("*"));
+        assertEquals(Compression.DEFLATE, Compression.negotiate("gzip;q=0, *"));
+        assertNull(Compression.negotiate("br, identity"));
+        assertNull(Compression.negotiate(null));
+    }
+
+    @Test
+    void testNegotiateContentType() {
+        // Arrange
+        var json = new FakeHttpExchange();
+        json.requestHeaders.add("Accept-Encoding", "gzip");
+        var image = new FakeHttpExchange();
+        image.requestHeaders.add("Accept-Encoding", "gzip");
+
+        // Act
+        var jsonEncoding = compression.negotiate(json, "application/json; charset=utf-8");
+        var imageEncoding = compression.negotiate(image, "image/png");
+
+        // Assert
+        assertEquals(Compression.GZIP, jsonEncoding);
+        assertEquals("Accept-Encoding", json.responseHeaders.getFirst("Vary"));
+        assertNull(imageEncoding);
+        assertFalse(image.responseHeaders.containsKey("Vary"));
+    }
+
+    @Test
+    void testGzipBody() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var payload = "{\"name\":\"beer\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+        var os = new CompressionOutputStream(new ThresholdOutputStream(exchange, 200, 8192), exchange, Compression.GZIP, 64);
+
+        // Act
+        os.write(payload, 0, 10);
+        os.write(payload, 10, payload.length - 10);
+        os.close();
+
+        // Assert
+        assertEquals("gzip", exchange.responseHeaders.getFirst("Content-Encoding"));
+        assertEquals(exchange.body.size(), exchange.length);
+        assertTrue(exchange.body.size() < payload.length);
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(exchange.body.toByteArray()))) {
+            assertArrayEquals(payload, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testStrongEtagGetsTheContentCoding() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        exchange.responseHeaders.set("ETag", "\"5d41\"");
+        var os = new CompressionOutputStream(new ThresholdOutputStream(exchange, 200, 8192), exchange, Compression.GZIP, 64);
+
+        // Act
+        os.write("{\"name\":\"beer\"}".repeat(100).getBytes(StandardCharsets.UTF_8));
+        os.close();
+
+        // Assert
+        assertEquals("\"5d41-gzip\"", exchange.responseHeaders.getFirst("ETag"));
+    }
+
+    @Test
+    void testDeflateStreamedBody() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var payload = new byte[200_000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i % 251);
+        }
+        var os = new CompressionOutputStream(new ThresholdOutputStream(exchange, 200, 1024), exchange, Compression.DEFLATE, 64);
+
+        // Act
+        for (int i = 0; i < payload.length; i += 1000) {
+            os.write(payload, i, 1000);
+        }
+        os.close();
+
+        // Assert
+        assertEquals("deflate", exchange.responseHeaders.getFirst("Content-Encoding"));
+        assertEquals(0, exchange.length);
+        try (var in = new InflaterInputStream(new ByteArrayInputStream(exchange.body.toByteArray()))) {
+            assertArrayEquals(payload, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testSmallBodyIsNotCompressed() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var os = new CompressionOutputStream(new ThresholdOutputStream(exchange, 200, 8192), exchange, Compression.GZIP, 64);
+
+        // Act
+        os.write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        os.close();
+
+        // Assert
+        assertNull(exchange.responseHeaders.getFirst("Content-Encoding"));
+        assertEquals(8, exchange.length);
+        assertEquals("{\"id\":1}", exchange.body.toString());
+    }
+}
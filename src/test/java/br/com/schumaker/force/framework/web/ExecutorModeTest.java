@@ -0,0 +1,178 @@
+package br.com.schumaker.force.framework.web;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ExecutorModeTest class.
+ * This class is responsible for testing the ExecutorMode enum and the BoundedExecutor class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public class ExecutorModeTest {
+
+    @Test
+    void testOf() {
+        // Act & Assert
+        assertEquals(ExecutorMode.FIXED, ExecutorMode.of("fixed"));
+        assertEquals(ExecutorMode.VIRTUAL, ExecutorMode.of(" Virtual "));
+        assertEquals(ExecutorMode.BOUNDED_VIRTUAL, ExecutorMode.of("bounded-virtual"));
+    }
+
+    @Test
+    void testOfUnsupportedMode() {
+        // Act & Assert
+        assertThrows(ForceException.class, () -> ExecutorMode.of("cached"));
+    }
+
+    @Test
+    void testBoundedVirtualExecutor() {
+        // Arrange & Act
+        var executor = ExecutorMode.BOUNDED_VIRTUAL.newExecutor(1, 4, 1000);
+
+        // Assert
+        assertInstanceOf(BoundedExecutor.class, executor);
+        assertEquals(4, ((BoundedExecutor) executor).availablePermits());
+        executor.shutdown();
+    }
+
+    @Test
+    void testBoundedExecutorLimitsConcurrency() throws Exception {
+        // Arrange
+        var executor = ExecutorMode.BOUNDED_VIRTUAL.newExecutor(1, 2, 10_000);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var done = new CountDownLatch(20);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // Assert
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+        executor.shutdown();
+    }
+
+    @Test
+    void testBoundedExecutorRejectsAfterQueueTimeout() throws Exception {
+        // Arrange
+        var executor = ExecutorMode.BOUNDED_VIRTUAL.newExecutor(1, 1, 10);
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        var rejected = new AtomicBoolean();
+        executor.execute(() -> await(release));
+
+        // Act
+        executor.execute(() -> {
+            rejected.set(BoundedExecutor.isRejected());
+            done.countDown();
+        });
+
+        // Assert
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(rejected.get());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testBoundedExecutorRejectsWhenInterrupted() throws Exception {
+        // Arrange
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        var delegate = Executors.newThreadPerTaskExecutor(task -> {
+            var thread = Thread.ofVirtual().unstarted(task);
+            threads.add(thread);
+            return thread;
+        });
+        var executor = new BoundedExecutor(delegate, 1, 60_000);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        var rejected = new AtomicBoolean();
+        var interrupted = new AtomicBoolean(true);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        executor.execute(() -> {
+            rejected.set(BoundedExecutor.isRejected());
+            interrupted.set(Thread.currentThread().isInterrupted());
+            done.countDown();
+        });
+        // a parked virtual thread reports WAITING, with or without a timeout
+        var waiting = threads.get(1);
+        while (waiting.getState() != Thread.State.WAITING && waiting.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        waiting.interrupt();
+
+        // Assert
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(rejected.get());
+        assertFalse(interrupted.get());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testRejectedRequestIsAnsweredWith503() throws Exception {
+        // Arrange
+        var executor = ExecutorMode.BOUNDED_VIRTUAL.newExecutor(1, 1, 10);
+        var handler = new InboundHandler();
+        var exchange = new FakeHttpExchange();
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+
+        // Act
+        executor.execute(() -> {
+            handler.handle(exchange);
+            done.countDown();
+        });
+
+        // Assert
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(503, exchange.code);
+        assertTrue(exchange.bodyClosed);
+        assertFalse(BoundedExecutor.isRejected());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
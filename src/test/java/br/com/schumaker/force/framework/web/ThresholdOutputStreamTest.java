@@ -0,0 +1,90 @@
+package br.com.schumaker.force.framework.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The ThresholdOutputStreamTest class.
+ * This class is responsible for testing the ThresholdOutputStream class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class ThresholdOutputStreamTest {
+
+    @Test
+    void testSmallBodyIsSentWithContentLength() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var os = new ThresholdOutputStream(exchange, 200, 16);
+
+        // Act
+        os.write("{\"id\":1}".getBytes());
+        os.close();
+
+        // Assert
+        assertEquals(200, exchange.code);
+        assertEquals(8, exchange.length);
+        assertEquals("{\"id\":1}", exchange.body.toString());
+        assertTrue(exchange.bodyClosed);
+    }
+
+    @Test
+    void testLargeBodyIsStreamedChunked() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var os = new ThresholdOutputStream(exchange, 201, 16);
+        var payload = new byte[100];
+        Arrays.fill(payload, (byte) 'a');
+
+        // Act
+        os.write(payload, 0, 10);
+        os.write(payload[10]);
+        assertFalse(os.isCommitted());
+        os.write(payload, 11, 89);
+        os.close();
+
+        // Assert
+        assertEquals(201, exchange.code);
+        assertEquals(0, exchange.length);
+        assertArrayEquals(payload, exchange.body.toByteArray());
+        assertTrue(exchange.bodyClosed);
+    }
+
+    @Test
+    void testEmptyBodyIsSentWithoutBody() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var os = new ThresholdOutputStream(exchange, 204, 16);
+
+        // Act
+        os.close();
+
+        // Assert
+        assertEquals(204, exchange.code);
+        assertEquals(-1, exchange.length);
+        assertEquals(0, exchange.body.size());
+    }
+
+    @Test
+    void testAbortSendsNothing() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        var os = new ThresholdOutputStream(exchange, 200, 16);
+        os.write("{\"id\":".getBytes());
+
+        // Act
+        os.abort();
+        os.close();
+
+        // Assert
+        assertEquals(-1, exchange.code);
+        assertEquals(0, exchange.body.size());
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.http.Http;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The HttpRequestParserTest class.
+ * This class is responsible for testing the HttpRequestParser class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class HttpRequestParserTest {
+    private final HttpRequestParser parser = new HttpRequestParser(1024);
+
+    @Test
+    void testParseRequest() {
+        // Arrange
+        var buffer = buffer("POST /product/1?name=beer HTTP/1.1\r\nHost: localhost\r\nContent-Length: 2\r\nX-Trace:  abc \r\n\r\n{}");
+
+        // Act
+        var head = parser.parse(buffer);
+
+        // Assert
+        assertNotNull(head);
+        assertSame(Http.HTTP_POST, head.method());
+        assertEquals("/product/1?name=beer", head.target());
+        assertEquals("HTTP/1.1", head.version());
+        assertEquals("localhost", head.headers().getFirst("host"));
+        assertEquals("abc", head.headers().getFirst("X-Trace"));
+        assertEquals(2, head.contentLength());
+        assertTrue(head.keepAlive());
+        assertEquals(2, buffer.remaining());
+    }
+
+    @Test
+    void testParsePipelinedRequests() {
+        // Arrange
+        var buffer = buffer("GET /a HTTP/1.1\r\n\r\nGET /b HTTP/1.1\r\nConnection: close\r\n\r\n");
+
+        // Act
+        var first = parser.parse(buffer);
+        var second = parser.parse(buffer);
+
+        // Assert
+        assertEquals("/a", first.target());
+        assertEquals("/b", second.target());
+        assertFalse(second.keepAlive());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testIncompleteHeadLeavesBufferUntouched() {
+        // Arrange
+        var buffer = buffer("GET /a HTTP/1.1\r\nHost: local");
+
+        // Act
+        var head = parser.parse(buffer);
+
+        // Assert
+        assertNull(head);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testHttp10KeepAlive() {
+        // Act
+        var close = parser.parse(buffer("GET / HTTP/1.0\r\n\r\n"));
+        var keepAlive = parser.parse(buffer("GET / HTTP/1.0\r\nConnection: Keep-Alive\r\n\r\n"));
+
+        // Assert
+        assertFalse(close.keepAlive());
+        assertTrue(keepAlive.keepAlive());
+    }
+
+    @Test
+    void testMalformedRequests() {
+        // Act & Assert
+        assertEquals(Http.HTTP_400, statusOf("GARBAGE\r\n\r\n"));
+        assertEquals(Http.HTTP_505, statusOf("GET / HTTP/2.0\r\n\r\n"));
+        assertEquals(Http.HTTP_400, statusOf("GET / HTTP/1.1\r\nContent-Length: -1\r\n\r\n"));
+        assertEquals(Http.HTTP_431, statusOf("GET / HTTP/1.1\r\nX-Big: " + "a".repeat(2048)));
+    }
+
+    private int statusOf(String request) {
+        return assertThrows(ForceException.class, () -> parser.parse(buffer(request))).getStatusCode();
+    }
+
+    private static ByteBuffer buffer(String request) {
+        var bytes = request.getBytes(StandardCharsets.ISO_8859_1);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+}
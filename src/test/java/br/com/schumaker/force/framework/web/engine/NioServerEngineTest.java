@@ -0,0 +1,216 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The NioServerEngineTest class.
+ * This class is responsible for testing the NioServerEngine class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.2.0
+ */
+public class NioServerEngineTest {
+    private static final byte[] STREAMED = new byte[300_000];
+
+    static {
+        for (int i = 0; i < STREAMED.length; i++) {
+            STREAMED[i] = (byte) ('a' + i % 26);
+        }
+    }
+
+    private ExecutorService executor;
+    private NioServerEngine engine;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        HttpHandler handler = exchange -> {
+            if (exchange.getRequestURI().getPath().startsWith("/api/stream")) {
+                stream(exchange);
+                return;
+            }
+            var body = exchange.getRequestBody().readAllBytes();
+            var response = (exchange.getRequestMethod() + " " + exchange.getRequestURI() + " " + body.length)
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, response.length);
+            try (var os = exchange.getResponseBody()) {
+                os.write(response);
+            }
+        };
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        engine = new NioServerEngine(new ServerOptions(0, "/api", 128, true), handler, executor);
+        engine.start();
+        port = engine.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void testHttpClientRequests() throws Exception {
+        // Arrange
+        var client = HttpClient.newHttpClient();
+        var get = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/product/1")).build();
+        var post = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/product"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"beer\"}")).build();
+
+        // Act
+        var getResponse = client.send(get, HttpResponse.BodyHandlers.ofString());
+        var postResponse = client.send(post, HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(200, getResponse.statusCode());
+        assertEquals("GET /api/product/1 0", getResponse.body());
+        assertEquals("POST /api/product 15", postResponse.body());
+    }
+
+    @Test
+    void testPipelinedRequestsAreAnsweredInOrder() throws Exception {
+        // Arrange
+        var requests = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            requests.append("GET /api/").append(i).append(" HTTP/1.1\r\nHost: localhost\r\n\r\n");
+        }
+        requests.append("GET /api/last HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n");
+
+        // Act
+        String responses;
+        try (var socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write(requests.toString().getBytes(StandardCharsets.ISO_8859_1));
+            responses = readAll(socket.getInputStream());
+        }
+
+        // Assert
+        int previous = -1;
+        for (int i = 0; i < 10; i++) {
+            int index = responses.indexOf("GET /api/" + i + " 0");
+            assertTrue(index > previous);
+            previous = index;
+        }
+        assertTrue(responses.indexOf("GET /api/last 0") > previous);
+        assertTrue(responses.contains("Connection: close"));
+    }
+
+    @Test
+    void testOutsideContextAndMalformedRequest() throws Exception {
+        // Act
+        String notFound;
+        String badRequest;
+        try (var socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write("GET /other HTTP/1.1\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            notFound = readAll(socket.getInputStream());
+        }
+        try (var socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write("BROKEN\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            badRequest = readAll(socket.getInputStream());
+        }
+
+        // Assert
+        assertTrue(notFound.startsWith("HTTP/1.1 404 Not Found\r\n"));
+        assertTrue(badRequest.startsWith("HTTP/1.1 400 Bad Request\r\n"));
+    }
+
+    @Test
+    void testContentLengthWithoutBodyReservesNoMemory() throws Exception {
+        // Arrange
+        var request = "POST /api/upload HTTP/1.1\r\nHost: localhost\r\nContent-Length: 9000000\r\n"
+                + "Expect: 100-continue\r\n\r\n";
+        var sockets = new Socket[4];
+
+        try {
+            // Act
+            for (int i = 0; i < sockets.length; i++) {
+                sockets[i] = new Socket("localhost", port);
+                sockets[i].getOutputStream().write(request.getBytes(StandardCharsets.ISO_8859_1));
+                var line = new String(sockets[i].getInputStream().readNBytes(25), StandardCharsets.ISO_8859_1);
+                assertEquals("HTTP/1.1 100 Continue\r\n\r\n", line);
+            }
+            var bodyBytes = engine.getBodyBytes();
+            sockets[0].getOutputStream().write(new byte[1000]);
+            sockets[0].getOutputStream().flush();
+            String other;
+            try (var socket = new Socket("localhost", port)) {
+                socket.getOutputStream().write("GET /api/other HTTP/1.1\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                other = readAll(socket.getInputStream());
+            }
+
+            // Assert
+            assertEquals(0, bodyBytes);
+            assertTrue(engine.getBodyBytes() <= 1000);
+            assertTrue(other.endsWith("GET /api/other 0"));
+        } finally {
+            for (var socket : sockets) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLargeResponsesAreStreamed() throws Exception {
+        // Arrange
+        var client = HttpClient.newHttpClient();
+        var chunked = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stream/chunked")).build();
+        var fixed = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stream/fixed")).build();
+
+        // Act
+        var chunkedResponse = client.send(chunked, HttpResponse.BodyHandlers.ofByteArray());
+        var fixedResponse = client.send(fixed, HttpResponse.BodyHandlers.ofByteArray());
+        String raw;
+        try (var socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write("GET /api/stream/chunked HTTP/1.1\r\nConnection: close\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            raw = readAll(socket.getInputStream());
+        }
+
+        // Assert
+        assertArrayEquals(STREAMED, chunkedResponse.body());
+        assertEquals("chunked", chunkedResponse.headers().firstValue("Transfer-Encoding").orElse(""));
+        assertArrayEquals(STREAMED, fixedResponse.body());
+        assertEquals(String.valueOf(STREAMED.length), fixedResponse.headers().firstValue("Content-Length").orElse(""));
+        assertTrue(raw.contains("Transfer-Encoding: chunked\r\n"));
+        assertTrue(raw.endsWith("\r\n0\r\n\r\n"));
+    }
+
+    private static void stream(HttpExchange exchange) throws IOException {
+        boolean chunked = exchange.getRequestURI().getPath().endsWith("chunked");
+        exchange.sendResponseHeaders(200, chunked ? 0 : STREAMED.length);
+        try (var os = exchange.getResponseBody()) {
+            for (int i = 0; i < STREAMED.length; i += 1000) {
+                os.write(STREAMED, i, Math.min(1000, STREAMED.length - i));
+            }
+        }
+    }
+
+    private static String readAll(InputStream in) throws Exception {
+        var out = new ByteArrayOutputStream();
+        in.transferTo(out);
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.schumaker.force.framework.web.engine;
+
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The ServerEngineLoadHarness class.
+ * Load test comparing the JDK and the NIO server engines with the same handler and executor.
+ * Each client keeps one connection alive and sends requests in batches of the pipeline depth,
+ * a depth of 1 means one request at a time. It prints requests per second and latency percentiles.
+ * It is not a unit test, run it from the IDE with the optional arguments: connections requests depth.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class ServerEngineLoadHarness {
+    private static final byte[] BODY = "{\"id\":1,\"name\":\"beer\",\"price\":9.99}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int depth = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        HttpHandler handler = exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (var os = exchange.getResponseBody()) {
+                os.write(BODY);
+            }
+        };
+
+        for (var name : List.of(ServerEngine.JDK, ServerEngine.NIO)) {
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var engine = ServerEngine.of(name, new ServerOptions(0, "/", 4096, true), handler, executor);
+                engine.start();
+                try {
+                    int port = engine.getAddress().getPort();
+                    run(name + " (warmup)", port, connections, requests / 5, depth);
+                    run(name, port, connections, requests, depth);
+                } finally {
+                    engine.stop(1);
+                }
+            }
+        }
+    }
+
+    private static void run(String name, int port, int connections, int requests, int depth) throws Exception {
+        var latencies = new long[connections * requests];
+        List<Future<?>> clients = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                int offset = c * requests;
+                clients.add(executor.submit(() -> client(port, requests, depth, latencies, offset)));
+            }
+            for (var client : clients) {
+                client.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %10.0f req/s  p50 %7.1fus  p90 %7.1fus  p99 %7.1fus  p99.9 %8.1fus%n",
+                name,
+                latencies.length / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.90),
+                percentile(latencies, 0.99),
+                percentile(latencies, 0.999));
+    }
+
+    private static Void client(int port, int requests, int depth, long[] latencies, int offset) throws IOException {
+        var request = "GET /product/1 HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+        try (var socket = new Socket("localhost", port)) {
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+
+            for (int sent = 0; sent < requests; sent += depth) {
+                int batch = Math.min(depth, requests - sent);
+                long begin = System.nanoTime();
+                for (int i = 0; i < batch; i++) {
+                    out.write(request);
+                }
+                out.flush();
+                for (int i = 0; i < batch; i++) {
+                    readResponse(in);
+                    latencies[offset + sent + i] = System.nanoTime() - begin;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void readResponse(InputStream in) throws IOException {
+        int contentLength = 0;
+        var line = new StringBuilder();
+        while (true) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Connection closed.");
+            }
+            if (b != '\n') {
+                line.append((char) b);
+                continue;
+            }
+
+            var header = line.toString().trim();
+            line.setLength(0);
+            if (header.isEmpty()) {
+                break;
+            }
+            if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Integer.parseInt(header.substring(15).trim());
+            }
+        }
+        in.readNBytes(contentLength);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)));
+        return sorted[index] / 1_000.0;
+    }
+}
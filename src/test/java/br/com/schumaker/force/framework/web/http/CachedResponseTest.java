@@ -0,0 +1,73 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.web.view.ResponseView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The CachedResponseTest class.
+ * This class is responsible for testing the CachedResponse class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class CachedResponseTest {
+
+    @Test
+    void testOfResponseView() {
+        // Arrange
+        ResponseView<Map<String, Integer>> view = ResponseView.ok().body(Map.of("id", 1)).headers("info", "beer").build();
+
+        // Act
+        var cached = CachedResponse.of(view);
+
+        // Assert
+        assertEquals("{\"id\":1}", new String(cached.body()));
+        assertEquals("beer", cached.headers().get("info"));
+        assertEquals(cached.etag(), CachedResponse.of(view).etag());
+        assertNotEquals(cached.etag(), CachedResponse.of("other").etag());
+    }
+
+    @Test
+    void testOfNotCacheable() {
+        // Act & Assert
+        assertNull(CachedResponse.of(ResponseView.notFound().build()));
+        assertNull(CachedResponse.of(42));
+    }
+
+    @Test
+    void testMatches() {
+        // Arrange
+        var cached = CachedResponse.of("hello");
+
+        // Act & Assert
+        assertTrue(cached.matches(cached.etag()));
+        assertTrue(cached.matches("\"other\", W/" + cached.etag()));
+        assertTrue(cached.matches("*"));
+        assertFalse(cached.matches("\"other\""));
+        assertFalse(cached.matches(null));
+    }
+
+    @Test
+    void testMatchesTheEtagOfAContentCoding() {
+        // Arrange
+        var cached = CachedResponse.of("hello");
+
+        // Act
+        var gzip = CachedResponse.withCoding(cached.etag(), "gzip");
+
+        // Assert
+        assertEquals(cached.etag().replaceAll("\"$", "-gzip\""), gzip);
+        assertTrue(cached.matches(gzip));
+        assertTrue(cached.matches("W/" + CachedResponse.withCoding(cached.etag(), "deflate")));
+        assertFalse(cached.matches(cached.etag().replace("\"", "") + "-gzip"));
+        assertEquals("W/\"weak\"", CachedResponse.withCoding("W/\"weak\"", "gzip"));
+    }
+}
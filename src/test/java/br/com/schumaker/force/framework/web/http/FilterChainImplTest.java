@@ -0,0 +1,82 @@
+package br.com.schumaker.force.framework.web.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The FilterChainImplTest class.
+ * This class is responsible for testing the FilterChainImpl class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class FilterChainImplTest {
+    private final HttpRequest request = new HttpRequest("http://localhost:8080/product", null);
+
+    @Test
+    void testFiltersRunInOrderBeforeTheHandler() {
+        // Arrange
+        List<String> calls = new ArrayList<>();
+        HttpFilter first = (request, route, chain) -> {
+            calls.add("first");
+            return chain.next(request);
+        };
+        HttpFilter second = (request, route, chain) -> {
+            calls.add("second");
+            return chain.next(request);
+        };
+        var chain = new FilterChainImpl(List.of(first, second), null, it -> {
+            calls.add("handler");
+            return response(Http.HTTP_200, "ok");
+        });
+
+        // Act
+        var response = chain.next(request);
+
+        // Assert
+        assertEquals(List.of("first", "second", "handler"), calls);
+        assertEquals("ok", response.body());
+    }
+
+    @Test
+    void testFilterShortCircuits() {
+        // Arrange
+        List<String> calls = new ArrayList<>();
+        HttpFilter deny = (request, route, chain) -> response(Http.HTTP_403, "denied");
+        var chain = new FilterChainImpl(List.of(deny), null, it -> {
+            calls.add("handler");
+            return response(Http.HTTP_200, "ok");
+        });
+
+        // Act
+        var response = chain.next(request);
+
+        // Assert
+        assertEquals(Http.HTTP_403, response.httpCode());
+        assertEquals(List.of(), calls);
+    }
+
+    @Test
+    void testFilterWrapsTheResponse() {
+        // Arrange
+        HttpFilter wrap = (request, route, chain) -> {
+            var response = chain.next(request);
+            return response(response.httpCode(), "[" + response.body() + "]");
+        };
+        var chain = new FilterChainImpl(List.of(wrap), null, it -> response(Http.HTTP_200, "ok"));
+
+        // Act
+        var response = chain.next(request);
+
+        // Assert
+        assertEquals("[ok]", response.body());
+    }
+
+    private static HttpResponse response(int httpCode, String body) {
+        return new HttpResponse(String.class, body, httpCode, Http.TEXT_PLAIN, null);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.web.FakeHttpExchange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The HeaderPolicyTest class.
+ * This class is responsible for testing the HeaderPolicy class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class HeaderPolicyTest {
+
+    @Test
+    void testApplyAnyOrigin() {
+        // Arrange
+        var policy = HeaderPolicy.of("*", "GET, POST", "Content-Type", 600, Map.of("X-Content-Type-Options", "nosniff"));
+        var exchange = new FakeHttpExchange();
+        exchange.responseHeaders.set("X-Content-Type-Options", "controller");
+
+        // Act
+        policy.apply(exchange);
+        policy.apply(exchange);
+
+        // Assert
+        assertEquals(List.of("*"), exchange.responseHeaders.get(HeaderPolicy.ALLOW_ORIGIN));
+        assertEquals(List.of("controller"), exchange.responseHeaders.get("X-Content-Type-Options"));
+        assertNull(exchange.responseHeaders.get(HeaderPolicy.ALLOW_METHODS));
+    }
+
+    @Test
+    void testApplyListedOrigin() {
+        // Arrange
+        var policy = HeaderPolicy.of("https://a.com, https://b.com", "GET", "Content-Type", 600, Map.of());
+        var allowed = new FakeHttpExchange();
+        allowed.requestHeaders.set(HeaderPolicy.ORIGIN, "https://b.com");
+        var denied = new FakeHttpExchange();
+        denied.requestHeaders.set(HeaderPolicy.ORIGIN, "https://c.com");
+
+        // Act
+        policy.apply(allowed);
+        policy.apply(denied);
+
+        // Assert
+        assertEquals("https://b.com", allowed.responseHeaders.getFirst(HeaderPolicy.ALLOW_ORIGIN));
+        assertEquals("Origin", allowed.responseHeaders.getFirst("Vary"));
+        assertFalse(denied.responseHeaders.containsKey(HeaderPolicy.ALLOW_ORIGIN));
+    }
+
+    @Test
+    void testApplyPreflight() {
+        // Arrange
+        var policy = HeaderPolicy.of("*", "GET, DELETE", "Content-Type, Authorization", 600, Map.of());
+        var exchange = new FakeHttpExchange();
+        exchange.method = "OPTIONS";
+        exchange.requestHeaders.set(HeaderPolicy.ORIGIN, "https://a.com");
+        exchange.requestHeaders.set(HeaderPolicy.REQUEST_METHOD, "DELETE");
+
+        // Act
+        var preflight = HeaderPolicy.isPreflight(exchange);
+        policy.applyPreflight(exchange);
+
+        // Assert
+        assertTrue(preflight);
+        assertEquals("GET, DELETE", exchange.responseHeaders.getFirst(HeaderPolicy.ALLOW_METHODS));
+        assertEquals("Content-Type, Authorization", exchange.responseHeaders.getFirst(HeaderPolicy.ALLOW_HEADERS));
+        assertEquals("600", exchange.responseHeaders.getFirst(HeaderPolicy.MAX_AGE));
+        assertFalse(HeaderPolicy.isPreflight(new FakeHttpExchange()));
+    }
+}
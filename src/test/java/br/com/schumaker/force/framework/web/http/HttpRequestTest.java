@@ -0,0 +1,64 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.web.FakeHttpExchange;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The HttpRequestTest class.
+ * This class is responsible for testing the HttpRequest class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class HttpRequestTest {
+
+    @Test
+    void testReadRequestBodyKeepsNewLines() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        exchange.requestBody = "{\n  \"name\": \"beer\"\n}".getBytes(StandardCharsets.UTF_8);
+        exchange.requestHeaders.set(Http.CONTENT_LENGTH, String.valueOf(exchange.requestBody.length));
+        var request = new HttpRequest("http://localhost:8080/product", exchange);
+
+        // Act
+        var body = request.readRequestBody();
+
+        // Assert
+        assertEquals("{\n  \"name\": \"beer\"\n}", body);
+    }
+
+    @Test
+    void testReadRequestBodyWithoutContentLength() throws Exception {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        exchange.requestBody = "cerveja gelada".getBytes(StandardCharsets.UTF_8);
+        var request = new HttpRequest("http://localhost:8080/product", exchange);
+
+        // Act
+        var body = request.readRequestBody();
+
+        // Assert
+        assertEquals(-1, request.getContentLength());
+        assertEquals("cerveja gelada", body);
+    }
+
+    @Test
+    void testDeclaredBodyOverLimitIsRejected() {
+        // Arrange
+        var exchange = new FakeHttpExchange();
+        exchange.requestHeaders.set(Http.CONTENT_LENGTH, String.valueOf(Long.MAX_VALUE));
+        var request = new HttpRequest("http://localhost:8080/product", exchange);
+
+        // Act
+        var exception = assertThrows(ForceException.class, request::getBody);
+
+        // Assert
+        assertEquals(Http.HTTP_413, exception.getStatusCode());
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.schumaker.force.framework.web.http;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The LimitedInputStreamTest class.
+ * This class is responsible for testing the LimitedInputStream class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class LimitedInputStreamTest {
+
+    @Test
+    void testBodyWithinLimitIsRead() throws Exception {
+        // Arrange
+        var payload = "{\"id\":1}".getBytes();
+        var is = new LimitedInputStream(new ByteArrayInputStream(payload), payload.length);
+
+        // Act
+        var bytes = is.readAllBytes();
+
+        // Assert
+        assertArrayEquals(payload, bytes);
+        assertFalse(is.isExceeded());
+    }
+
+    @Test
+    void testBodyOverLimitIsRejected() {
+        // Arrange
+        var is = new LimitedInputStream(new ByteArrayInputStream(new byte[100]), 64);
+
+        // Act
+        var exception = assertThrows(ForceException.class, is::readAllBytes);
+
+        // Assert
+        assertEquals(Http.HTTP_413, exception.getStatusCode());
+        assertTrue(is.isExceeded());
+    }
+
+    @Test
+    void testSingleByteReadsAreCounted() throws Exception {
+        // Arrange
+        var is = new LimitedInputStream(new ByteArrayInputStream(new byte[3]), 2);
+
+        // Act
+        is.read();
+        is.read();
+
+        // Assert
+        assertThrows(ForceException.class, is::read);
+        assertTrue(is.isExceeded());
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Cacheable;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Delete;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Get;
+import br.com.schumaker.force.framework.ioc.annotations.controller.PathVariable;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Secured;
+import br.com.schumaker.force.framework.ioc.managed.ManagedController;
+import br.com.schumaker.force.framework.web.FakeHttpExchange;
+import br.com.schumaker.force.framework.web.http.Http;
+import br.com.schumaker.force.framework.web.http.HttpRequestHeader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The EndpointTest class.
+ * This class is responsible for testing the Endpoint class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.1.0
+ */
+public class EndpointTest {
+    private ManagedController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = ManagedController.builder(TestController.class);
+    }
+
+    @Test
+    void testCompilesAnnotationAttributes() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("getById", int.class);
+
+        // Act
+        Endpoint endpoint = Endpoint.builder(controller, "GET", "/test/{id}", "/{id}", method);
+
+        // Assert
+        assertEquals(Http.HTTP_200, endpoint.getHttpCode());
+        assertEquals(Http.APPLICATION_JSON, endpoint.getType());
+        assertEquals(String.class, endpoint.getReturnType());
+        assertNull(endpoint.getSecured());
+    }
+
+    @Test
+    void testResolvesPathVariablesByName() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("getItem", long.class, String.class);
+        Endpoint endpoint = Endpoint.builder(controller, "GET", "/test/{orderId}/item/{itemId}", "/{orderId}/item/{itemId}", method);
+        var match = new RouteMatch<>(endpoint, new String[]{"orderId", "itemId"}, new String[]{"7", "42"});
+
+        // Act
+        Object[] arguments = endpoint.resolveArguments(null, match);
+        Object result = endpoint.invoke(arguments);
+
+        // Assert
+        assertEquals(42L, arguments[0]);
+        assertEquals("7", arguments[1]);
+        assertEquals("7-42", result);
+    }
+
+    @Test
+    void testVoidMethodAndSecured() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("delete", int.class);
+        Endpoint endpoint = Endpoint.builder(controller, "DELETE", "/test/{id}", "/{id}", method);
+        var match = new RouteMatch<>(endpoint, new String[]{"id"}, new String[]{"3"});
+
+        // Act
+        Object result = endpoint.invoke(endpoint.resolveArguments(null, match));
+
+        // Assert
+        assertNull(result);
+        assertNotNull(endpoint.getSecured());
+        assertEquals(Http.HTTP_204, endpoint.getHttpCode());
+    }
+
+    @Test
+    void testControllerExceptionIsWrapped() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("fail");
+        Endpoint endpoint = Endpoint.builder(controller, "GET", "/test/fail", "/fail", method);
+
+        // Act
+        ForceException exception = assertThrows(ForceException.class, () -> endpoint.invoke(new Object[0]));
+
+        // Assert
+        assertSame(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void testMethodNotMappedToVerb() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("fail");
+
+        // Act & Assert
+        assertThrows(ForceException.class, () -> Endpoint.builder(controller, "POST", "/test/fail", "/fail", method));
+    }
+
+    @Test
+    void testCacheableMethodMustVaryOnTheHeadersItReads() throws Exception {
+        // Arrange
+        Method headers = HeaderController.class.getMethod("list", HttpRequestHeader.class);
+        Method secured = HeaderController.class.getMethod("mine");
+
+        // Act
+        var headersException = assertThrows(ForceException.class,
+                () -> Endpoint.builder(controller, "GET", "/header", "", headers));
+        var securedException = assertThrows(ForceException.class,
+                () -> Endpoint.builder(controller, "GET", "/header/mine", "/mine", secured));
+
+        // Assert
+        assertTrue(headersException.getMessage().contains("vary"));
+        assertTrue(securedException.getMessage().contains("Authorization"));
+    }
+
+    @Test
+    void testResponseKeyIncludesTheVaryHeaders() throws Exception {
+        // Arrange
+        Method method = TestController.class.getMethod("agent", HttpRequestHeader.class);
+        Endpoint endpoint = Endpoint.builder(controller, "GET", "/test/agent", "/agent", method);
+        var curl = new FakeHttpExchange();
+        curl.requestHeaders.add("User-Agent", "curl");
+        var browser = new FakeHttpExchange();
+        browser.requestHeaders.add("User-Agent", "firefox");
+
+        // Act
+        var curlKey = endpoint.getResponseKey(curl);
+        var browserKey = endpoint.getResponseKey(browser);
+
+        // Assert
+        assertEquals("/\nUser-Agent: [curl]", curlKey);
+        assertNotEquals(curlKey, browserKey);
+    }
+
+    @Controller("/test")
+    public static class TestController {
+
+        @Get("/agent")
+        @Cacheable(vary = "User-Agent")
+        public String agent(HttpRequestHeader headers) {
+            return headers.headers().get("User-Agent");
+        }
+
+        @Get("/{id}")
+        public String getById(@PathVariable("id") int id) {
+            return String.valueOf(id);
+        }
+
+        @Get("/{orderId}/item/{itemId}")
+        public String getItem(@PathVariable("itemId") long itemId, @PathVariable("orderId") String orderId) {
+            return orderId + "-" + itemId;
+        }
+
+        @Delete("/{id}")
+        @Secured
+        public void delete(@PathVariable("id") int id) {}
+
+        @Get("/fail")
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+
+    @Controller("/header")
+    public static class HeaderController {
+
+        @Get
+        @Cacheable
+        public String list(HttpRequestHeader headers) {
+            return "";
+        }
+
+        @Get("/mine")
+        @Cacheable(vary = "Accept")
+        @Secured
+        public String mine() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.ioc.annotations.controller.Controller;
+import br.com.schumaker.force.framework.ioc.annotations.controller.Get;
+import br.com.schumaker.force.framework.ioc.managed.ManagedController;
+import br.com.schumaker.force.framework.model.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The RouteTrieBenchmark class.
+ * Micro benchmark comparing the route trie against the linear scan done with
+ * ManagedController.pathMatches and ManagedController.extractPathVariables.
+ * It is not a unit test, run it from the IDE or with: java -cp build/classes/java/main:build/classes/java/test ...
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class RouteTrieBenchmark {
+    private static final int CONTROLLERS = 100;
+    private static final String[] MAPPINGS = {"/", "/count", "/{id}", "/name/{name}", "/{id}/items/{itemId}"};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        var managedController = ManagedController.builder(BenchController.class);
+        var trie = new RouteTrie<String>();
+        var controllers = new ArrayList<Pair<String, List<String>>>();
+
+        for (int i = 0; i < CONTROLLERS; i++) {
+            var route = "/resource" + i;
+            controllers.add(new Pair<>(route, List.of(MAPPINGS)));
+            for (var mapping : MAPPINGS) {
+                trie.add("GET", route + mapping, route + mapping);
+            }
+        }
+
+        var paths = new String[CONTROLLERS];
+        for (int i = 0; i < CONTROLLERS; i++) {
+            paths[i] = "/resource" + i + "/" + i + "/items/7?expand=true";
+        }
+
+        run("linear scan", () -> {
+            long sink = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                var path = paths[i % paths.length];
+                var route = path.substring(0, path.indexOf('/', 1));
+                var methodPath = path.substring(route.length());
+                var controller = controllers.stream().filter(it -> it.first().equals(route)).findFirst().orElseThrow();
+                for (var mapping : controller.second()) {
+                    if (managedController.pathMatches(mapping, methodPath)) {
+                        sink += managedController.extractPathVariables(mapping, methodPath.substring(0, methodPath.indexOf('?'))).size();
+                        break;
+                    }
+                }
+            }
+            return sink;
+        });
+
+        run("route trie", () -> {
+            long sink = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += trie.match("GET", paths[i % paths.length]).values().length;
+            }
+            return sink;
+        });
+    }
+
+    private static void run(String name, Workload workload) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            workload.run();
+        }
+
+        long start = System.nanoTime();
+        long sink = workload.run();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-12s %8.1f ns/op (sink %d)%n", name, (double) elapsed / ITERATIONS, sink);
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        long run();
+    }
+
+    @Controller("/bench")
+    public static class BenchController {
+        @Get
+        public String get() {
+            return "";
+        }
+    }
+}
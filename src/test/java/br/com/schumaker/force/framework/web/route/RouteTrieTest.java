@@ -0,0 +1,107 @@
+package br.com.schumaker.force.framework.web.route;
+
+import br.com.schumaker.force.framework.exception.ForceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The RouteTrieTest class.
+ * This class is responsible for testing the RouteTrie class.
+ *
+ * @author Hudson Schumaker
+ * @version 1.0.0
+ */
+public class RouteTrieTest {
+    private RouteTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new RouteTrie<>();
+        trie.add("GET", "/product/", "list");
+        trie.add("GET", "/product/count", "count");
+        trie.add("GET", "/product/{id}", "getById");
+        trie.add("GET", "/product/name/{name}", "getByName");
+        trie.add("DELETE", "/product/{key}", "delete");
+        trie.add("GET", "/order/{orderId}/item/{itemId}", "getItem");
+    }
+
+    @Test
+    void testMatchStaticRoute() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("GET", "/product");
+
+        // Assert
+        assertNotNull(match);
+        assertEquals("list", match.value());
+        assertEquals(0, match.values().length);
+    }
+
+    @Test
+    void testStaticSegmentTakesPrecedence() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("GET", "/product/count");
+
+        // Assert
+        assertEquals("count", match.value());
+    }
+
+    @Test
+    void testMatchPathVariable() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("GET", "/product/42?name=beer");
+
+        // Assert
+        assertEquals("getById", match.value());
+        assertEquals("42", match.getPathVariable("id", 0));
+    }
+
+    @Test
+    void testBacktracksToPathVariable() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("GET", "/product/name");
+
+        // Assert
+        assertEquals("getById", match.value());
+        assertEquals("name", match.getPathVariable("id", 0));
+    }
+
+    @Test
+    void testMatchMultiplePathVariables() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("GET", "/order/7/item/3/");
+
+        // Assert
+        assertEquals("getItem", match.value());
+        assertEquals("3", match.getPathVariable("itemId", 0));
+        assertEquals("7", match.getPathVariable("", 0));
+    }
+
+    @Test
+    void testVariableNamesArePerVerb() {
+        // Arrange & Act
+        RouteMatch<String> match = trie.match("DELETE", "/product/9");
+
+        // Assert
+        assertEquals("delete", match.value());
+        assertEquals("9", match.getPathVariable("key", 0));
+    }
+
+    @Test
+    void testNoMatch() {
+        // Act & Assert
+        assertNull(trie.match("GET", "/invalid"));
+        assertNull(trie.match("PUT", "/product/1"));
+        assertNull(trie.match("GET", "/product/1/2"));
+    }
+
+    @Test
+    void testDuplicateRoute() {
+        // Act & Assert
+        assertThrows(ForceException.class, () -> trie.add("GET", "product/{other}", "duplicate"));
+    }
+}
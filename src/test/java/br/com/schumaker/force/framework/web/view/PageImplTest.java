@@ -6,6 +6,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -13,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * It is responsible for testing the PageImpl class.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class PageImplTest {
 
@@ -71,4 +72,18 @@ public class PageImplTest {
         PageImpl<String> page = new PageImpl<>(List.of(), 0, 10, 25);
         assertFalse(page.hasPrevious());
     }
+
+    @Test
+    void testNextCursorWithoutTotal() {
+        PageImpl<String> page = new PageImpl<>(List.of("item1"), 0, 1, -1, true, "abc");
+        assertTrue(page.hasNext());
+        assertEquals("abc", page.getNextCursor());
+        assertEquals(-1, page.getTotalPages());
+    }
+
+    @Test
+    void testNextCursorIsNullWhenBuiltFromTotal() {
+        PageImpl<String> page = new PageImpl<>(List.of(), 0, 10, 25);
+        assertNull(page.getNextCursor());
+    }
 }
@@ -6,13 +6,14 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * The PageRequestTest class.
  * It is responsible for PageRequest test.
  *
  * @author Hudson Schumaker
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class PageRequestTest {
 
@@ -35,4 +36,18 @@ public class PageRequestTest {
         PageRequest pageRequest = new PageRequest(1, 10, sort);
         assertEquals(sort, pageRequest.sort());
     }
+
+    @Test
+    void testDefaultsToExactCountWithoutCursor() {
+        PageRequest pageRequest = new PageRequest(1, 10, null);
+        assertNull(pageRequest.cursor());
+        assertEquals(CountMode.EXACT, pageRequest.countMode());
+    }
+
+    @Test
+    void testGetCursorAndCountMode() {
+        PageRequest pageRequest = new PageRequest(0, 10, null, "abc", CountMode.NONE);
+        assertEquals("abc", pageRequest.cursor());
+        assertEquals(CountMode.NONE, pageRequest.countMode());
+    }
 }